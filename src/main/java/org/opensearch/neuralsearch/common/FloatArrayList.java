@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.common;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * {@link java.util.List} of {@link Float} backed by a primitive float array. Used to hand out model inference
+ * results through the list based APIs while keeping the vector in primitive form, values are boxed only when accessed.
+ * The list is modifiable and grows like {@link java.util.ArrayList} so it can be written to ingest documents that are
+ * later changed by other processors or scripts. Null elements are not supported.
+ */
+public final class FloatArrayList extends AbstractList<Float> implements RandomAccess {
+    private float[] values;
+    private int size;
+
+    public FloatArrayList(final float[] values) {
+        this.values = Objects.requireNonNull(values, "values cannot be null");
+        this.size = values.length;
+    }
+
+    @Override
+    public Float get(final int index) {
+        Objects.checkIndex(index, size);
+        return values[index];
+    }
+
+    @Override
+    public Float set(final int index, final Float element) {
+        Objects.checkIndex(index, size);
+        float previous = values[index];
+        values[index] = Objects.requireNonNull(element, "element cannot be null");
+        return previous;
+    }
+
+    @Override
+    public void add(final int index, final Float element) {
+        Objects.checkIndex(index, size + 1);
+        float value = Objects.requireNonNull(element, "element cannot be null");
+        modCount++;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(8, size + (size >> 1)));
+        }
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+    }
+
+    @Override
+    public Float remove(final int index) {
+        Objects.checkIndex(index, size);
+        modCount++;
+        float previous = values[index];
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return copy of the backing array trimmed to the list size
+     */
+    public float[] toFloatArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
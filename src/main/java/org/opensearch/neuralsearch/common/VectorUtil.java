@@ -22,10 +22,33 @@ public class VectorUtil {
      * @return array of floats produced from input list
      */
     public static float[] vectorAsListToArray(List<Float> vectorAsList) {
+        if (vectorAsList instanceof FloatArrayList) {
+            return ((FloatArrayList) vectorAsList).toFloatArray();
+        }
         float[] vector = new float[vectorAsList.size()];
         for (int i = 0; i < vectorAsList.size(); i++) {
             vector[i] = vectorAsList.get(i);
         }
         return vector;
     }
+
+    /**
+     * Wraps a vector represented as an array into a modifiable list without copying or boxing the values
+     *
+     * @param vector array of floats
+     * @return {@link List} of {@link Float}'s backed by the input array
+     */
+    public static List<Float> vectorAsArrayBackedList(float[] vector) {
+        return new FloatArrayList(vector);
+    }
+
+    /**
+     * Copies a vector represented as a list into a new modifiable list backed by a primitive array
+     *
+     * @param vectorAsList {@link List} of {@link Float}'s representing the vector
+     * @return {@link List} of {@link Float}'s independent of the input list
+     */
+    public static List<Float> copyOfVector(List<Float> vectorAsList) {
+        return vectorAsArrayBackedList(vectorAsListToArray(vectorAsList));
+    }
 }
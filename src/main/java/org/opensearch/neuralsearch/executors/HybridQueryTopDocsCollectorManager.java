@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.executors;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TopDocs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link HybridQueryTopDocsCollectorManager} is responsible for creating {@link HybridQueryExecutorCollector} instances.
+ * Useful to create {@link HybridQueryExecutorCollector} instances that search single sub-query of hybrid query
+ * using {@link IndexSearcher} and collect its {@link TopDocs}
+ */
+@RequiredArgsConstructor
+public final class HybridQueryTopDocsCollectorManager
+    implements
+        HybridQueryExecutorCollectorManager<HybridQueryExecutorCollector<IndexSearcher, TopDocs>> {
+
+    private @NonNull IndexSearcher searcher;
+
+    /**
+     * Returns new {@link HybridQueryExecutorCollector} to facilitate parallel execution
+     * @return HybridQueryExecutorCollector instance
+     */
+    @Override
+    public HybridQueryExecutorCollector<IndexSearcher, TopDocs> newCollector() {
+        return HybridQueryExecutorCollector.newCollector(searcher);
+    }
+
+    /**
+     * Returns list of {@link TopDocs} collected by collectors. If collector doesn't have any result, null will be
+     * inserted to the result.
+     * This method must be called after collection is finished on all provided collectors.
+     * @param collectors list of collectors
+     * @return list of {@link TopDocs} in order of collectors from input
+     */
+    public List<TopDocs> getTopDocs(List<HybridQueryExecutorCollector<IndexSearcher, TopDocs>> collectors) {
+        List<TopDocs> topDocs = new ArrayList<>();
+        for (HybridQueryExecutorCollector<IndexSearcher, TopDocs> collector : collectors) {
+            Optional<TopDocs> result = collector.getResult();
+            if (result.isPresent()) {
+                topDocs.add(result.get());
+            } else {
+                topDocs.add(null);
+            }
+        }
+        return topDocs;
+    }
+}
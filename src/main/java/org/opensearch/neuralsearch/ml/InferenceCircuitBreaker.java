@@ -0,0 +1,241 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.action.ActionListener;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Per model circuit breaker of predict requests. After a number of consecutive server side failures of a model the breaker
+ * opens and requests to the model fail right away without being sent. Once the open duration passes the breaker lets a
+ * limited number of probe requests through, the first probe result closes the breaker on success or opens it again on
+ * failure. Client side failures such as invalid input or rejections by the request limiter don't count as model failures.
+ */
+@Log4j2
+public class InferenceCircuitBreaker {
+
+    /**
+     * State of the breaker of a model
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private enum Admission {
+        ALLOWED,
+        PROBE,
+        REJECTED
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final int maxHalfOpenProbes;
+    private final LongSupplier nanoTimeSupplier;
+    private final Map<String, ModelBreaker> breakers = new ConcurrentHashMap<>();
+    private final CounterMetric fastFailedRequests = new CounterMetric();
+    private final CounterMetric openedCount = new CounterMetric();
+
+    public InferenceCircuitBreaker(final int failureThreshold, final TimeValue openDuration, final int maxHalfOpenProbes) {
+        this(failureThreshold, openDuration, maxHalfOpenProbes, System::nanoTime);
+    }
+
+    /**
+     * @param failureThreshold number of consecutive failures opening the breaker
+     * @param openDuration time the breaker stays open before probe requests are let through
+     * @param maxHalfOpenProbes maximum number of concurrent probe requests while the breaker is half open
+     * @param nanoTimeSupplier source of the relative time in nanoseconds
+     */
+    public InferenceCircuitBreaker(
+        final int failureThreshold,
+        final TimeValue openDuration,
+        final int maxHalfOpenProbes,
+        final LongSupplier nanoTimeSupplier
+    ) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failure threshold must be positive");
+        }
+        if (maxHalfOpenProbes < 1) {
+            throw new IllegalArgumentException("number of half open probes must be positive");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.nanos();
+        this.maxHalfOpenProbes = maxHalfOpenProbes;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+    }
+
+    /**
+     * Sends the request unless the breaker of the model is open, in that case the listener fails right away with
+     * {@link OpenSearchRejectedExecutionException}
+     *
+     * @param modelId id of the model
+     * @param request sends the predict request, it must complete the listener it's given exactly once
+     * @param listener receives the result of the request
+     * @param <T> type of the response
+     */
+    public <T> void submit(final String modelId, final Consumer<ActionListener<T>> request, final ActionListener<T> listener) {
+        final ModelBreaker breaker = breakers.computeIfAbsent(modelId, key -> new ModelBreaker());
+        final Admission admission = breaker.tryAcquire(modelId);
+        if (admission == Admission.REJECTED) {
+            fastFailedRequests.inc();
+            listener.onFailure(
+                new OpenSearchRejectedExecutionException(
+                    String.format(
+                        Locale.ROOT,
+                        "Rejected inference request to model [%s], circuit breaker is open after [%d] consecutive failures",
+                        modelId,
+                        failureThreshold
+                    )
+                )
+            );
+            return;
+        }
+        final boolean probe = admission == Admission.PROBE;
+        // wrap calls onFailure when the delegate's onResponse throws, and a request throwing after completing its listener
+        // is failed again below, so only the first outcome of the request is recorded
+        final AtomicBoolean outcomeRecorded = new AtomicBoolean(false);
+        final ActionListener<T> recordingListener = ActionListener.wrap(response -> {
+            if (outcomeRecorded.compareAndSet(false, true)) {
+                breaker.onSuccess(probe);
+            }
+            listener.onResponse(response);
+        }, e -> {
+            if (outcomeRecorded.compareAndSet(false, true)) {
+                if (isModelFailure(e)) {
+                    breaker.onFailure(modelId, probe);
+                } else {
+                    breaker.onIgnoredResult(probe);
+                }
+            }
+            listener.onFailure(e);
+        });
+        try {
+            request.accept(recordingListener);
+        } catch (Exception e) {
+            recordingListener.onFailure(e);
+        }
+    }
+
+    /**
+     * @return state of the breaker of the model
+     */
+    public State getState(final String modelId) {
+        final ModelBreaker breaker = breakers.get(modelId);
+        return breaker == null ? State.CLOSED : breaker.state();
+    }
+
+    /**
+     * @return states of breakers of all models that received requests since the node started
+     */
+    public Map<String, State> getStates() {
+        final Map<String, State> states = new HashMap<>();
+        breakers.forEach((modelId, breaker) -> states.put(modelId, breaker.state()));
+        return Collections.unmodifiableMap(states);
+    }
+
+    /**
+     * @return number of requests failed without being sent because the breaker was open
+     */
+    public long getFastFailedCount() {
+        return fastFailedRequests.count();
+    }
+
+    /**
+     * @return number of times breakers of all models opened since the node started
+     */
+    public long getOpenedCount() {
+        return openedCount.count();
+    }
+
+    /**
+     * Only server side failures show that the model is unhealthy, rejections (429) and bad requests (4xx) don't
+     */
+    private static boolean isModelFailure(final Exception e) {
+        return ExceptionsHelper.status(e).getStatus() >= 500;
+    }
+
+    private final class ModelBreaker {
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAtNanos;
+        private int probesInFlight;
+
+        private synchronized Admission tryAcquire(final String modelId) {
+            if (state == State.CLOSED) {
+                return Admission.ALLOWED;
+            }
+            if (state == State.OPEN) {
+                if (nanoTimeSupplier.getAsLong() - openedAtNanos < openDurationNanos) {
+                    return Admission.REJECTED;
+                }
+                log.info("Circuit breaker of model [{}] is half open, sending probe requests", modelId);
+                state = State.HALF_OPEN;
+                probesInFlight = 0;
+            }
+            if (probesInFlight >= maxHalfOpenProbes) {
+                return Admission.REJECTED;
+            }
+            probesInFlight++;
+            return Admission.PROBE;
+        }
+
+        private synchronized void onSuccess(final boolean probe) {
+            if (probe) {
+                probesInFlight--;
+                state = State.CLOSED;
+            }
+            if (state == State.CLOSED) {
+                consecutiveFailures = 0;
+            }
+        }
+
+        private synchronized void onFailure(final String modelId, final boolean probe) {
+            if (probe) {
+                probesInFlight--;
+                if (state == State.HALF_OPEN) {
+                    open(modelId);
+                }
+                return;
+            }
+            if (state == State.CLOSED && ++consecutiveFailures >= failureThreshold) {
+                open(modelId);
+            }
+        }
+
+        private synchronized void onIgnoredResult(final boolean probe) {
+            if (probe) {
+                probesInFlight--;
+            }
+        }
+
+        private void open(final String modelId) {
+            log.warn("Circuit breaker of model [{}] is open for [{}] ms", modelId, TimeUnit.NANOSECONDS.toMillis(openDurationNanos));
+            state = State.OPEN;
+            openedAtNanos = nanoTimeSupplier.getAsLong();
+            consecutiveFailures = 0;
+            openedCount.inc();
+        }
+
+        private synchronized State state() {
+            return state;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Coalesces concurrent single input inference requests for the same model into one batched predict call. Requests are
+ * held until the batch window elapses or the batch reaches its maximum size, whichever happens first, then results are
+ * dispatched back to the listener of each request.
+ */
+@Log4j2
+public class InferenceRequestCoalescer {
+
+    /**
+     * Executes inference for a batch of inputs, listener must receive exactly one result per input in the input order
+     *
+     * @param <T> type of the inference result of a single input
+     */
+    @FunctionalInterface
+    public interface BatchExecutor<T> {
+        void execute(List<String> inputs, ActionListener<List<T>> listener);
+    }
+
+    private final ThreadPool threadPool;
+    @Getter
+    private final TimeValue window;
+    @Getter
+    private final int maxBatchSize;
+    private final Set<String> modelIds;
+    private final Map<BatchKey, PendingBatch<?>> pendingBatches = new ConcurrentHashMap<>();
+
+    public InferenceRequestCoalescer(
+        final ThreadPool threadPool,
+        final TimeValue window,
+        final int maxBatchSize,
+        final Set<String> modelIds
+    ) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "max batch size must be positive, got [%d]", maxBatchSize));
+        }
+        this.threadPool = threadPool;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.modelIds = Set.copyOf(modelIds);
+    }
+
+    /**
+     * @param modelId id of the model
+     * @return true if requests to this model are coalesced
+     */
+    public boolean isEnabled(final String modelId) {
+        return modelIds.contains(modelId);
+    }
+
+    /**
+     * Adds the input to the pending batch of the model
+     *
+     * @param modelId id of the model
+     * @param requestType kind of the caller, ingest and search requests are never batched together so each batch is sent
+     *                    in the lane of its own request type
+     * @param batchType identifies the kind of the request, only requests with the same model and type are batched together
+     * @param input input of the inference
+     * @param batchExecutor executes inference for the whole batch, executor of the request that opens the batch is used
+     * @param listener receives the result of this input
+     * @param <T> type of the inference result of a single input
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void submit(
+        final String modelId,
+        final InferenceRequestLimiter.RequestType requestType,
+        final String batchType,
+        final String input,
+        final BatchExecutor<T> batchExecutor,
+        final ActionListener<T> listener
+    ) {
+        final BatchKey batchKey = new BatchKey(modelId, requestType, batchType);
+        final PendingBatch<T>[] fullBatch = new PendingBatch[1];
+        final AtomicBoolean isNewBatch = new AtomicBoolean(false);
+        final PendingBatch<T> batch = (PendingBatch<T>) pendingBatches.compute(batchKey, (key, existing) -> {
+            PendingBatch<T> pendingBatch = (PendingBatch<T>) existing;
+            if (pendingBatch == null) {
+                pendingBatch = new PendingBatch<>(batchExecutor);
+                isNewBatch.set(true);
+            }
+            pendingBatch.add(input, listener);
+            if (pendingBatch.size() >= maxBatchSize) {
+                // remove the batch from pending ones while holding the key lock, so no more inputs can join it
+                fullBatch[0] = pendingBatch;
+                return null;
+            }
+            return pendingBatch;
+        });
+
+        if (fullBatch[0] != null) {
+            fullBatch[0].execute();
+        } else if (isNewBatch.get()) {
+            threadPool.schedule(() -> flush(batchKey, batch), window, ThreadPool.Names.GENERIC);
+        }
+    }
+
+    private void flush(final BatchKey batchKey, final PendingBatch<?> batch) {
+        // batch might already be sent because it reached max size, in such case it's not pending anymore
+        if (pendingBatches.remove(batchKey, batch)) {
+            batch.execute();
+        }
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class BatchKey {
+        private final String modelId;
+        private final InferenceRequestLimiter.RequestType requestType;
+        private final String batchType;
+    }
+
+    private static final class PendingBatch<T> {
+        private final BatchExecutor<T> batchExecutor;
+        private final List<String> inputs = new ArrayList<>();
+        private final List<ActionListener<T>> listeners = new ArrayList<>();
+
+        private PendingBatch(final BatchExecutor<T> batchExecutor) {
+            this.batchExecutor = batchExecutor;
+        }
+
+        private void add(final String input, final ActionListener<T> listener) {
+            inputs.add(input);
+            listeners.add(listener);
+        }
+
+        private int size() {
+            return inputs.size();
+        }
+
+        private void execute() {
+            log.debug("Sending coalesced inference batch of [{}] inputs", inputs.size());
+            try {
+                batchExecutor.execute(inputs, new ActionListener<>() {
+                    @Override
+                    public void onResponse(final List<T> results) {
+                        PendingBatch.this.onResponse(results);
+                    }
+
+                    @Override
+                    public void onFailure(final Exception e) {
+                        PendingBatch.this.onFailure(e);
+                    }
+                });
+            } catch (Exception e) {
+                onFailure(e);
+            }
+        }
+
+        private void onResponse(final List<T> results) {
+            if (results == null || results.size() != listeners.size()) {
+                onFailure(
+                    new IllegalStateException(
+                        String.format(
+                            Locale.ROOT,
+                            "Unexpected number of results produced for coalesced inference. Expected [%d], but got [%d]",
+                            listeners.size(),
+                            results == null ? 0 : results.size()
+                        )
+                    )
+                );
+                return;
+            }
+            for (int i = 0; i < listeners.size(); i++) {
+                // a failing listener must not affect results delivered to other requests of the batch
+                ActionListener<T> listener = listeners.get(i);
+                try {
+                    listener.onResponse(results.get(i));
+                } catch (Exception e) {
+                    listener.onFailure(e);
+                }
+            }
+        }
+
+        private void onFailure(final Exception e) {
+            for (ActionListener<T> listener : listeners) {
+                listener.onFailure(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.action.ActionListener;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Limits the number of concurrent predict requests sent to each model. Requests above the limit wait in a bounded queue
+ * and are sent when one of the in flight requests completes, requests arriving when the queue is full are rejected.
+ * Queued requests are sent on the given executor, never on the thread completing the previous request, which is often a
+ * transport thread.
+ * Ingest and search requests have separate limits, so an ingest burst cannot take all the capacity of a model away from
+ * search time inference.
+ *
+ * Optionally both request types share a per model limit of in flight requests. Each request type then has its own wait
+ * queue, and capacity freed by a completed request is given to the queues by smooth weighted round robin. Search requests
+ * get a bigger weight so they are sent ahead of queued ingest requests, while ingest requests take the whole capacity when
+ * no search request is waiting.
+ */
+@Log4j2
+public class InferenceRequestLimiter {
+
+    /**
+     * Kind of the caller sending the inference request
+     */
+    public enum RequestType {
+        INGEST,
+        SEARCH
+    }
+
+    /**
+     * Limits of a single request type
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Limits {
+        // 0 means there is no limit of the request type and requests are only limited by the shared limit, if any
+        private final int maxInFlightRequests;
+        private final int maxQueuedRequests;
+        // share of the freed capacity given to queued requests of this type when several types are waiting
+        private final int weight;
+
+        public Limits(final int maxInFlightRequests, final int maxQueuedRequests) {
+            this(maxInFlightRequests, maxQueuedRequests, 1);
+        }
+
+        boolean isUnlimited() {
+            return maxInFlightRequests <= 0;
+        }
+    }
+
+    private final Map<RequestType, Limits> limits;
+    private final int maxSharedInFlightRequests;
+    private final Executor executor;
+    private final Map<String, ModelScheduler> schedulers = new ConcurrentHashMap<>();
+    private final Map<RequestType, CounterMetric> rejectedRequests = new EnumMap<>(RequestType.class);
+
+    public InferenceRequestLimiter(final Limits ingestLimits, final Limits searchLimits, final Executor executor) {
+        this(ingestLimits, searchLimits, 0, executor);
+    }
+
+    /**
+     * @param ingestLimits limits of ingest requests
+     * @param searchLimits limits of search requests
+     * @param maxSharedInFlightRequests maximum number of in flight requests of all types to a single model, 0 means no limit
+     * @param executor sends queued requests once capacity is freed
+     */
+    public InferenceRequestLimiter(
+        final Limits ingestLimits,
+        final Limits searchLimits,
+        final int maxSharedInFlightRequests,
+        final Executor executor
+    ) {
+        this.limits = new EnumMap<>(RequestType.class);
+        this.limits.put(RequestType.INGEST, ingestLimits);
+        this.limits.put(RequestType.SEARCH, searchLimits);
+        this.maxSharedInFlightRequests = maxSharedInFlightRequests;
+        this.executor = executor;
+        for (RequestType requestType : RequestType.values()) {
+            if (limits.get(requestType).getWeight() < 1) {
+                throw new IllegalArgumentException(
+                    String.format(Locale.ROOT, "weight of %s requests must be positive", requestType.name().toLowerCase(Locale.ROOT))
+                );
+            }
+            rejectedRequests.put(requestType, new CounterMetric());
+        }
+    }
+
+    /**
+     * Sends the request right away if the model has capacity left for the request type, otherwise queues or rejects it
+     *
+     * @param modelId id of the model
+     * @param requestType kind of the caller
+     * @param request sends the predict request, it must complete the listener it's given exactly once
+     * @param listener receives the result of the request, or {@link OpenSearchRejectedExecutionException} if it's rejected
+     * @param <T> type of the response
+     */
+    public <T> void submit(
+        final String modelId,
+        final RequestType requestType,
+        final Consumer<ActionListener<T>> request,
+        final ActionListener<T> listener
+    ) {
+        final Limits typeLimits = limits.get(requestType);
+        if (typeLimits.isUnlimited() && maxSharedInFlightRequests <= 0) {
+            request.accept(listener);
+            return;
+        }
+        final ModelScheduler scheduler = schedulers.computeIfAbsent(modelId, key -> new ModelScheduler());
+        final AbstractRunnable task = new AbstractRunnable() {
+            private final ActionListener<T> releasingListener = ActionListener.runAfter(
+                listener,
+                () -> scheduler.onRequestDone(requestType)
+            );
+
+            @Override
+            protected void doRun() {
+                request.accept(releasingListener);
+            }
+
+            @Override
+            public void onFailure(final Exception e) {
+                releasingListener.onFailure(e);
+            }
+        };
+        if (scheduler.tryAcquireOrQueue(requestType, task) == false) {
+            rejectedRequests.get(requestType).inc();
+            log.debug("Rejected {} inference request to model [{}]", requestType, modelId);
+            listener.onFailure(
+                new OpenSearchRejectedExecutionException(
+                    String.format(
+                        Locale.ROOT,
+                        "Rejected %s inference request to model [%s], reached the limit of [%d] in flight and [%d] queued requests",
+                        requestType.name().toLowerCase(Locale.ROOT),
+                        modelId,
+                        typeLimits.isUnlimited() ? maxSharedInFlightRequests : typeLimits.getMaxInFlightRequests(),
+                        typeLimits.getMaxQueuedRequests()
+                    )
+                )
+            );
+        }
+    }
+
+    /**
+     * @return number of requests of the given type rejected since the node started
+     */
+    public long getRejectedCount(final RequestType requestType) {
+        return rejectedRequests.get(requestType).count();
+    }
+
+    /**
+     * @return number of requests of the given type currently sent to the model
+     */
+    public int getInFlightCount(final String modelId, final RequestType requestType) {
+        final ModelScheduler scheduler = schedulers.get(modelId);
+        return scheduler == null ? 0 : scheduler.inFlightCount(requestType);
+    }
+
+    /**
+     * @return number of requests of the given type currently waiting for capacity of the model
+     */
+    public int getQueuedCount(final String modelId, final RequestType requestType) {
+        final ModelScheduler scheduler = schedulers.get(modelId);
+        return scheduler == null ? 0 : scheduler.queuedCount(requestType);
+    }
+
+    /**
+     * In flight counters and wait queues of all request types of a model
+     */
+    private final class ModelScheduler {
+        private final Map<RequestType, Queue<AbstractRunnable>> queues = new EnumMap<>(RequestType.class);
+        private final Map<RequestType, Integer> inFlight = new EnumMap<>(RequestType.class);
+        private final Map<RequestType, Integer> currentWeights = new EnumMap<>(RequestType.class);
+        private int totalInFlight;
+
+        private ModelScheduler() {
+            for (RequestType requestType : RequestType.values()) {
+                queues.put(requestType, new ArrayDeque<>());
+                inFlight.put(requestType, 0);
+                currentWeights.put(requestType, 0);
+            }
+        }
+
+        /**
+         * @return false if the request is rejected
+         */
+        private boolean tryAcquireOrQueue(final RequestType requestType, final AbstractRunnable task) {
+            synchronized (this) {
+                final Queue<AbstractRunnable> queue = queues.get(requestType);
+                // requests of a type are sent in arrival order, so a new request can't overtake queued ones
+                if (queue.isEmpty() == false || canSend(requestType) == false) {
+                    if (queue.size() >= limits.get(requestType).getMaxQueuedRequests()) {
+                        return false;
+                    }
+                    queue.add(task);
+                    return true;
+                }
+                acquire(requestType);
+            }
+            // send outside of the lock, listener of the request may complete on the calling thread
+            task.run();
+            return true;
+        }
+
+        private void onRequestDone(final RequestType requestType) {
+            final List<AbstractRunnable> tasksToSend = new ArrayList<>();
+            synchronized (this) {
+                inFlight.put(requestType, inFlight.get(requestType) - 1);
+                totalInFlight--;
+                AbstractRunnable next;
+                while ((next = pollNext()) != null) {
+                    tasksToSend.add(next);
+                }
+            }
+            // fork instead of running inline, otherwise a request completing on the calling thread would send the next queued
+            // one recursively and a long queue would be drained on the stack of a single transport thread
+            for (AbstractRunnable task : tasksToSend) {
+                try {
+                    executor.execute(task);
+                } catch (Exception e) {
+                    task.onRejection(e);
+                }
+            }
+        }
+
+        /**
+         * Picks the queued request to send next by smooth weighted round robin over request types that have a queued request
+         * and capacity left. Types with nothing to send don't accumulate weight, so capacity isn't reserved for idle types.
+         */
+        private AbstractRunnable pollNext() {
+            RequestType selected = null;
+            int totalWeight = 0;
+            for (RequestType requestType : RequestType.values()) {
+                if (queues.get(requestType).isEmpty() || canSend(requestType) == false) {
+                    continue;
+                }
+                int weight = limits.get(requestType).getWeight();
+                totalWeight += weight;
+                currentWeights.put(requestType, currentWeights.get(requestType) + weight);
+                if (selected == null || currentWeights.get(requestType) > currentWeights.get(selected)) {
+                    selected = requestType;
+                }
+            }
+            if (selected == null) {
+                return null;
+            }
+            currentWeights.put(selected, currentWeights.get(selected) - totalWeight);
+            acquire(selected);
+            return queues.get(selected).poll();
+        }
+
+        private boolean canSend(final RequestType requestType) {
+            final Limits typeLimits = limits.get(requestType);
+            if (typeLimits.isUnlimited() == false && inFlight.get(requestType) >= typeLimits.getMaxInFlightRequests()) {
+                return false;
+            }
+            return maxSharedInFlightRequests <= 0 || totalInFlight < maxSharedInFlightRequests;
+        }
+
+        private void acquire(final RequestType requestType) {
+            inFlight.put(requestType, inFlight.get(requestType) + 1);
+            totalInFlight++;
+        }
+
+        private synchronized int inFlightCount(final RequestType requestType) {
+            return inFlight.get(requestType);
+        }
+
+        private synchronized int queuedCount(final RequestType requestType) {
+            return queues.get(requestType).size();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.hash.MessageDigests;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node level cache for model inference results of query time inputs. Entries are keyed by model id, input text and a hash of
+ * the input image, bounded by memory weight and expired after a period without access.
+ *
+ * @param <V> type of the cached inference result
+ */
+@Log4j2
+public class InferenceResultCache<V> {
+    private static final long KEY_SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(Key.class);
+
+    private final Cache<Key, V> cache;
+
+    /**
+     * @param maxSize maximum memory the cache entries may occupy
+     * @param expireAfterAccess time after the last access an entry is evicted
+     * @param valueWeigher estimates the memory used by a single cached value in bytes
+     */
+    public InferenceResultCache(final ByteSizeValue maxSize, final TimeValue expireAfterAccess, final ToLongFunction<V> valueWeigher) {
+        this.cache = CacheBuilder.<Key, V>builder()
+            .setMaximumWeight(maxSize.getBytes())
+            .setExpireAfterAccess(expireAfterAccess)
+            .weigher((key, value) -> key.ramBytesUsed() + valueWeigher.applyAsLong(value))
+            .build();
+    }
+
+    /**
+     * Returns the cached inference result, or null if there is no entry for the given input
+     *
+     * @param modelId id of the model that produced the result
+     * @param text input text, may be null
+     * @param image input image as base64 string, may be null
+     * @return cached result or null
+     */
+    public V get(final String modelId, final String text, final String image) {
+        return cache.get(Key.of(modelId, text, image));
+    }
+
+    /**
+     * Stores the inference result for the given input
+     *
+     * @param modelId id of the model that produced the result
+     * @param text input text, may be null
+     * @param image input image as base64 string, may be null
+     * @param value inference result
+     */
+    public void put(final String modelId, final String text, final String image, final V value) {
+        if (Objects.isNull(modelId) || Objects.isNull(value)) {
+            return;
+        }
+        cache.put(Key.of(modelId, text, image), value);
+    }
+
+    /**
+     * Drops all entries produced by a model, it must be called when the model is redeployed or undeployed so that stale
+     * results are not served.
+     *
+     * @param modelId id of the model
+     */
+    public void invalidateModel(final String modelId) {
+        List<Key> keysToInvalidate = new ArrayList<>();
+        for (Key key : cache.keys()) {
+            if (key.getModelId().equals(modelId)) {
+                keysToInvalidate.add(key);
+            }
+        }
+        keysToInvalidate.forEach(cache::invalidate);
+        log.debug("Invalidated [{}] cached inference results for model [{}]", keysToInvalidate.size(), modelId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public int count() {
+        return cache.count();
+    }
+
+    public long weight() {
+        return cache.weight();
+    }
+
+    /**
+     * @return hit, miss and eviction counters of the cache
+     */
+    public Cache.CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Cache key, image is stored as a digest so large base64 payloads are not retained in memory
+     */
+    @Getter
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    static final class Key {
+        private final String modelId;
+        private final String text;
+        private final String imageHash;
+
+        static Key of(final String modelId, final String text, final String image) {
+            String imageHash = Objects.isNull(image)
+                ? null
+                : MessageDigests.toHexString(MessageDigests.sha256().digest(image.getBytes(StandardCharsets.UTF_8)));
+            return new Key(modelId, text, imageHash);
+        }
+
+        long ramBytesUsed() {
+            return KEY_SHALLOW_SIZE + sizeOf(modelId) + sizeOf(text) + sizeOf(imageHash);
+        }
+
+        private static long sizeOf(final String value) {
+            return Objects.isNull(value) ? 0 : RamUsageEstimator.sizeOf(value);
+        }
+    }
+}
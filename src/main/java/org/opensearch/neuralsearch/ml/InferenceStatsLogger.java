@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.Objects;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.neuralsearch.processor.SparsePruningStats;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Logs counters of node level inference components, it's scheduled periodically by the plugin when
+ * plugins.neural_search.inference_stats.log_interval is set. Components that are disabled are skipped.
+ */
+@Log4j2
+@AllArgsConstructor
+public class InferenceStatsLogger {
+    private final InferenceResultCache<?> queryEmbeddingCache;
+    private final InferenceResultCache<?> queryTokenCache;
+    private final InferenceRequestLimiter requestLimiter;
+    private final InferenceCircuitBreaker circuitBreaker;
+    private final SparsePruningStats sparsePruningStats;
+
+    /**
+     * Logs current counters of all enabled components
+     */
+    public void logStats() {
+        logCacheStats("query embedding", queryEmbeddingCache);
+        logCacheStats("query token", queryTokenCache);
+        logRequestLimiterStats();
+        logCircuitBreakerStats();
+        logSparsePruningStats();
+    }
+
+    private void logSparsePruningStats() {
+        if (Objects.isNull(sparsePruningStats)) {
+            return;
+        }
+        log.info(
+            "Neural search sparse pruning: [{}] of [{}] features returned by models pruned",
+            sparsePruningStats.getPrunedFeatureCount(),
+            sparsePruningStats.getTotalFeatureCount()
+        );
+    }
+
+    private void logCircuitBreakerStats() {
+        if (Objects.isNull(circuitBreaker)) {
+            return;
+        }
+        log.info(
+            "Neural search inference circuit breaker: opened [{}] times, [{}] requests failed fast, model states {}",
+            circuitBreaker.getOpenedCount(),
+            circuitBreaker.getFastFailedCount(),
+            circuitBreaker.getStates()
+        );
+    }
+
+    private void logRequestLimiterStats() {
+        if (Objects.isNull(requestLimiter)) {
+            return;
+        }
+        log.info(
+            "Neural search inference request limiter: [{}] ingest and [{}] search requests rejected",
+            requestLimiter.getRejectedCount(InferenceRequestLimiter.RequestType.INGEST),
+            requestLimiter.getRejectedCount(InferenceRequestLimiter.RequestType.SEARCH)
+        );
+    }
+
+    private void logCacheStats(final String cacheName, final InferenceResultCache<?> cache) {
+        if (Objects.isNull(cache)) {
+            return;
+        }
+        Cache.CacheStats stats = cache.stats();
+        log.info(
+            "Neural search {} cache: [{}] entries of [{}] bytes, [{}] hits, [{}] misses, [{}] evictions",
+            cacheName,
+            cache.count(),
+            cache.weight(),
+            stats.getHits(),
+            stats.getMisses(),
+            stats.getEvictions()
+        );
+    }
+}
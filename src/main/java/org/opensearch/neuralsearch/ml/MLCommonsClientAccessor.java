@@ -4,11 +4,11 @@
  */
 package org.opensearch.neuralsearch.ml;
 
+import static org.opensearch.neuralsearch.common.VectorUtil.vectorAsArrayBackedList;
 import static org.opensearch.neuralsearch.processor.TextImageEmbeddingProcessor.INPUT_IMAGE;
 import static org.opensearch.neuralsearch.processor.TextImageEmbeddingProcessor.INPUT_TEXT;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -27,19 +27,103 @@ import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.neuralsearch.util.RetryUtil;
+import org.opensearch.neuralsearch.util.TokenWeightUtil;
+import org.opensearch.threadpool.ThreadPool;
 
+import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 /**
  * This class will act as an abstraction on the MLCommons client for accessing the ML Capabilities
  */
-@RequiredArgsConstructor
 @Log4j2
 public class MLCommonsClientAccessor {
     private static final List<String> TARGET_RESPONSE_FILTERS = List.of("sentence_embedding");
+    private static final String TEXT_EMBEDDING_BATCH_TYPE = "text_embedding";
+    private static final String SPARSE_ENCODING_BATCH_TYPE = "sparse_encoding";
     private final MachineLearningNodeClient mlClient;
+    // replaced only right after construction by forRequestType, before the accessor is shared
+    private RequestControls requestControls = new RequestControls();
+    @Getter
+    private InferenceRequestLimiter.RequestType requestType = InferenceRequestLimiter.RequestType.INGEST;
+
+    public MLCommonsClientAccessor(final MachineLearningNodeClient mlClient) {
+        this.mlClient = mlClient;
+    }
+
+    /**
+     * Returns accessor sending requests on behalf of the given kind of caller, it shares the client, coalescer and limiter
+     * with this accessor. Accessor created by the constructor sends ingest requests.
+     *
+     * @param requestType kind of the caller
+     * @return accessor for the request type
+     */
+    public MLCommonsClientAccessor forRequestType(final InferenceRequestLimiter.RequestType requestType) {
+        if (this.requestType == requestType) {
+            return this;
+        }
+        final MLCommonsClientAccessor accessor = new MLCommonsClientAccessor(mlClient);
+        accessor.requestControls = requestControls;
+        accessor.requestType = requestType;
+        return accessor;
+    }
+
+    /**
+     * Enables coalescing of concurrent single input inference requests into batched predict calls
+     *
+     * @param requestCoalescer coalescer of inference requests, null disables coalescing
+     */
+    public void setRequestCoalescer(final InferenceRequestCoalescer requestCoalescer) {
+        requestControls.requestCoalescer = requestCoalescer;
+    }
+
+    /**
+     * Enables per model limits of concurrent predict requests
+     *
+     * @param requestLimiter limiter of inference requests, null disables the limits
+     */
+    public void setRequestLimiter(final InferenceRequestLimiter requestLimiter) {
+        requestControls.requestLimiter = requestLimiter;
+    }
+
+    /**
+     * Delays retries of failed predict requests by exponential backoff with jitter
+     *
+     * @param threadPool thread pool the retries are scheduled on
+     * @param backoffPolicy number of retries and delays between them
+     */
+    public void setRetryBackoff(final ThreadPool threadPool, final RetryUtil.BackoffPolicy backoffPolicy) {
+        requestControls.threadPool = threadPool;
+        requestControls.backoffPolicy = backoffPolicy;
+    }
+
+    /**
+     * Enables per model circuit breakers failing requests to unhealthy models fast
+     *
+     * @param circuitBreaker circuit breaker of inference requests, null disables it
+     */
+    public void setCircuitBreaker(final InferenceCircuitBreaker circuitBreaker) {
+        requestControls.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * @return circuit breaker of inference requests, null if it's disabled
+     */
+    public InferenceCircuitBreaker getCircuitBreaker() {
+        return requestControls.circuitBreaker;
+    }
+
+    /**
+     * Components controlling how requests are sent, they are shared by accessors of all request types
+     */
+    private static final class RequestControls {
+        private volatile InferenceRequestCoalescer requestCoalescer;
+        private volatile InferenceRequestLimiter requestLimiter;
+        private volatile InferenceCircuitBreaker circuitBreaker;
+        private volatile ThreadPool threadPool;
+        private volatile RetryUtil.BackoffPolicy backoffPolicy = RetryUtil.BackoffPolicy.NO_BACKOFF;
+    }
 
     /**
      * Wrapper around {@link #inferenceSentences} that expected a single input text and produces a single floating
@@ -54,6 +138,10 @@ public class MLCommonsClientAccessor {
         @NonNull final String inputText,
         @NonNull final ActionListener<List<Float>> listener
     ) {
+        if (isCoalescingEnabled(modelId)) {
+            coalesceTextEmbeddingRequest(modelId, inputText, listener);
+            return;
+        }
         inferenceSentences(TARGET_RESPONSE_FILTERS, modelId, List.of(inputText), ActionListener.wrap(response -> {
             if (response.size() != 1) {
                 listener.onFailure(
@@ -113,6 +201,10 @@ public class MLCommonsClientAccessor {
         @NonNull final List<String> inputText,
         @NonNull final ActionListener<List<Map<String, ?>>> listener
     ) {
+        if (inputText.size() == 1 && isCoalescingEnabled(modelId)) {
+            coalesceSparseEncodingRequest(modelId, inputText.get(0), listener);
+            return;
+        }
         retryableInferenceSentencesWithMapResult(modelId, inputText, 0, listener);
     }
 
@@ -130,6 +222,11 @@ public class MLCommonsClientAccessor {
         @NonNull final Map<String, String> inputObjects,
         @NonNull final ActionListener<List<Float>> listener
     ) {
+        // text only input produces the same predict request as the single text embedding, so it can join the same batch
+        if (!inputObjects.containsKey(INPUT_IMAGE) && inputObjects.containsKey(INPUT_TEXT) && isCoalescingEnabled(modelId)) {
+            coalesceTextEmbeddingRequest(modelId, inputObjects.get(INPUT_TEXT), listener);
+            return;
+        }
         retryableInferenceSentencesWithSingleVectorResult(TARGET_RESPONSE_FILTERS, modelId, inputObjects, 0, listener);
     }
 
@@ -152,6 +249,62 @@ public class MLCommonsClientAccessor {
         retryableInferenceSimilarityWithVectorResult(modelId, queryText, inputText, 0, listener);
     }
 
+    private boolean isCoalescingEnabled(final String modelId) {
+        final InferenceRequestCoalescer coalescer = requestControls.requestCoalescer;
+        return coalescer != null && coalescer.isEnabled(modelId);
+    }
+
+    private void coalesceTextEmbeddingRequest(final String modelId, final String inputText, final ActionListener<List<Float>> listener) {
+        requestControls.requestCoalescer.submit(
+            modelId,
+            requestType,
+            TEXT_EMBEDDING_BATCH_TYPE,
+            inputText,
+            (inputs, batchListener) -> retryableInferenceSentencesWithVectorResult(
+                TARGET_RESPONSE_FILTERS,
+                modelId,
+                inputs,
+                0,
+                batchListener
+            ),
+            listener
+        );
+    }
+
+    private void coalesceSparseEncodingRequest(
+        final String modelId,
+        final String inputText,
+        final ActionListener<List<Map<String, ?>>> listener
+    ) {
+        requestControls.requestCoalescer.<List<Map<String, ?>>>submit(
+            modelId,
+            requestType,
+            SPARSE_ENCODING_BATCH_TYPE,
+            inputText,
+            (inputs, batchListener) -> retryableInferenceSentencesWithMapResult(
+                modelId,
+                inputs,
+                0,
+                ActionListener.wrap(mapResults -> batchListener.onResponse(splitMapResultPerInput(mapResults)), batchListener::onFailure)
+            ),
+            listener
+        );
+    }
+
+    /**
+     * Depending on the model deployment type, token weights of all inputs are returned in one or in several response objects.
+     * Split them so every input gets a response with its own token weights only, in the format callers expect from
+     * {@link #inferenceSentencesWithMapResult}.
+     */
+    private List<List<Map<String, ?>>> splitMapResultPerInput(final List<Map<String, ?>> mapResults) {
+        final List<Map<String, Float>> tokenWeights = TokenWeightUtil.fetchListOfTokenWeightMap(mapResults);
+        final List<List<Map<String, ?>>> resultPerInput = new ArrayList<>(tokenWeights.size());
+        for (Map<String, Float> tokenWeight : tokenWeights) {
+            resultPerInput.add(List.of(Map.of(TokenWeightUtil.RESPONSE_KEY, List.of(tokenWeight))));
+        }
+        return resultPerInput;
+    }
+
     private void retryableInferenceSentencesWithMapResult(
         final String modelId,
         final List<String> inputText,
@@ -159,13 +312,16 @@ public class MLCommonsClientAccessor {
         final ActionListener<List<Map<String, ?>>> listener
     ) {
         MLInput mlInput = createMLTextInput(null, inputText);
-        mlClient.predict(modelId, mlInput, ActionListener.wrap(mlOutput -> {
+        predict(modelId, mlInput, ActionListener.wrap(mlOutput -> {
             final List<Map<String, ?>> result = buildMapResultFromResponse(mlOutput);
             listener.onResponse(result);
         }, e -> {
-            if (RetryUtil.shouldRetry(e, retryTime)) {
-                final int retryTimeAdd = retryTime + 1;
-                retryableInferenceSentencesWithMapResult(modelId, inputText, retryTimeAdd, listener);
+            if (shouldRetry(e, retryTime)) {
+                scheduleRetry(
+                    retryTime,
+                    () -> retryableInferenceSentencesWithMapResult(modelId, inputText, retryTime + 1, listener),
+                    listener
+                );
             } else {
                 listener.onFailure(e);
             }
@@ -180,13 +336,16 @@ public class MLCommonsClientAccessor {
         final ActionListener<List<List<Float>>> listener
     ) {
         MLInput mlInput = createMLTextInput(targetResponseFilters, inputText);
-        mlClient.predict(modelId, mlInput, ActionListener.wrap(mlOutput -> {
+        predict(modelId, mlInput, ActionListener.wrap(mlOutput -> {
             final List<List<Float>> vector = buildVectorFromResponse(mlOutput);
             listener.onResponse(vector);
         }, e -> {
-            if (RetryUtil.shouldRetry(e, retryTime)) {
-                final int retryTimeAdd = retryTime + 1;
-                retryableInferenceSentencesWithVectorResult(targetResponseFilters, modelId, inputText, retryTimeAdd, listener);
+            if (shouldRetry(e, retryTime)) {
+                scheduleRetry(
+                    retryTime,
+                    () -> retryableInferenceSentencesWithVectorResult(targetResponseFilters, modelId, inputText, retryTime + 1, listener),
+                    listener
+                );
             } else {
                 listener.onFailure(e);
             }
@@ -201,18 +360,52 @@ public class MLCommonsClientAccessor {
         final ActionListener<List<Float>> listener
     ) {
         MLInput mlInput = createMLTextPairsInput(queryText, inputText);
-        mlClient.predict(modelId, mlInput, ActionListener.wrap(mlOutput -> {
+        predict(modelId, mlInput, ActionListener.wrap(mlOutput -> {
             final List<Float> scores = buildVectorFromResponse(mlOutput).stream().map(v -> v.get(0)).collect(Collectors.toList());
             listener.onResponse(scores);
         }, e -> {
-            if (RetryUtil.shouldRetry(e, retryTime)) {
-                retryableInferenceSimilarityWithVectorResult(modelId, queryText, inputText, retryTime + 1, listener);
+            if (shouldRetry(e, retryTime)) {
+                scheduleRetry(
+                    retryTime,
+                    () -> retryableInferenceSimilarityWithVectorResult(modelId, queryText, inputText, retryTime + 1, listener),
+                    listener
+                );
             } else {
                 listener.onFailure(e);
             }
         }));
     }
 
+    private boolean shouldRetry(final Exception e, final int retryTime) {
+        return RetryUtil.shouldRetry(e, retryTime, requestControls.backoffPolicy.getMaxRetries());
+    }
+
+    private void scheduleRetry(final int retryTime, final Runnable retry, final ActionListener<?> listener) {
+        RetryUtil.scheduleRetry(requestControls.threadPool, requestControls.backoffPolicy, retryTime, retry, listener);
+    }
+
+    /**
+     * Sends the predict request through the circuit breaker of the model and the limiter of in flight requests when they
+     * are enabled. Breaker is checked first so requests to an unhealthy model don't wait in the limiter queue.
+     */
+    private void predict(final String modelId, final MLInput mlInput, final ActionListener<MLOutput> listener) {
+        final InferenceCircuitBreaker circuitBreaker = requestControls.circuitBreaker;
+        if (circuitBreaker == null) {
+            predictWithLimits(modelId, mlInput, listener);
+            return;
+        }
+        circuitBreaker.submit(modelId, breakerListener -> predictWithLimits(modelId, mlInput, breakerListener), listener);
+    }
+
+    private void predictWithLimits(final String modelId, final MLInput mlInput, final ActionListener<MLOutput> listener) {
+        final InferenceRequestLimiter limiter = requestControls.requestLimiter;
+        if (limiter == null) {
+            mlClient.predict(modelId, mlInput, listener);
+            return;
+        }
+        limiter.submit(modelId, requestType, predictListener -> mlClient.predict(modelId, mlInput, predictListener), listener);
+    }
+
     private MLInput createMLTextInput(final List<String> targetResponseFilters, List<String> inputText) {
         final ModelResultFilter modelResultFilter = new ModelResultFilter(false, true, targetResponseFilters, null);
         final MLInputDataset inputDataset = new TextDocsInputDataSet(inputText, modelResultFilter);
@@ -225,16 +418,34 @@ public class MLCommonsClientAccessor {
     }
 
     private List<List<Float>> buildVectorFromResponse(MLOutput mlOutput) {
-        final List<List<Float>> vector = new ArrayList<>();
+        final List<float[]> vectors = buildFloatArraysFromResponse(mlOutput);
+        final List<List<Float>> vectorList = new ArrayList<>(vectors.size());
+        for (final float[] vector : vectors) {
+            vectorList.add(vectorAsArrayBackedList(vector));
+        }
+        return vectorList;
+    }
+
+    /**
+     * Parses tensors of the response into primitive arrays, the result lists returned by this accessor are views over these
+     * arrays, so each value is stored once and unboxed for the whole lifetime of the ingest request.
+     */
+    private List<float[]> buildFloatArraysFromResponse(MLOutput mlOutput) {
+        final List<float[]> vectors = new ArrayList<>();
         final ModelTensorOutput modelTensorOutput = (ModelTensorOutput) mlOutput;
         final List<ModelTensors> tensorOutputList = modelTensorOutput.getMlModelOutputs();
         for (final ModelTensors tensors : tensorOutputList) {
             final List<ModelTensor> tensorsList = tensors.getMlModelTensors();
             for (final ModelTensor tensor : tensorsList) {
-                vector.add(Arrays.stream(tensor.getData()).map(value -> (Float) value).collect(Collectors.toList()));
+                final Number[] data = tensor.getData();
+                final float[] vector = new float[data.length];
+                for (int i = 0; i < data.length; i++) {
+                    vector[i] = data[i].floatValue();
+                }
+                vectors.add(vector);
             }
         }
-        return vector;
+        return vectors;
     }
 
     private List<Map<String, ?>> buildMapResultFromResponse(MLOutput mlOutput) {
@@ -268,14 +479,23 @@ public class MLCommonsClientAccessor {
         final ActionListener<List<Float>> listener
     ) {
         MLInput mlInput = createMLMultimodalInput(targetResponseFilters, inputObjects);
-        mlClient.predict(modelId, mlInput, ActionListener.wrap(mlOutput -> {
+        predict(modelId, mlInput, ActionListener.wrap(mlOutput -> {
             final List<Float> vector = buildSingleVectorFromResponse(mlOutput);
             log.debug("Inference Response for input sentence is : {} ", vector);
             listener.onResponse(vector);
         }, e -> {
-            if (RetryUtil.shouldRetry(e, retryTime)) {
-                final int retryTimeAdd = retryTime + 1;
-                retryableInferenceSentencesWithSingleVectorResult(targetResponseFilters, modelId, inputObjects, retryTimeAdd, listener);
+            if (shouldRetry(e, retryTime)) {
+                scheduleRetry(
+                    retryTime,
+                    () -> retryableInferenceSentencesWithSingleVectorResult(
+                        targetResponseFilters,
+                        modelId,
+                        inputObjects,
+                        retryTime + 1,
+                        listener
+                    ),
+                    listener
+                );
             } else {
                 listener.onFailure(e);
             }
@@ -4,21 +4,48 @@
  */
 package org.opensearch.neuralsearch.plugin;
 
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_SEARCH_PARALLEL_SUB_QUERIES_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_BATCHING_MAX_BATCH_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_BATCHING_MODEL_IDS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_BATCHING_WINDOW;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_CIRCUIT_BREAKER_FAILURE_THRESHOLD;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_CIRCUIT_BREAKER_HALF_OPEN_PROBES;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_CIRCUIT_BREAKER_OPEN_DURATION;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_MAX_IN_FLIGHT_REQUESTS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_RETRY_INITIAL_BACKOFF;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_RETRY_MAX_BACKOFF;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_RETRY_MAX_RETRIES;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_STATS_LOG_INTERVAL;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_MAX_IN_FLIGHT_REQUESTS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_MAX_QUEUED_REQUESTS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INGEST_INFERENCE_WEIGHT;
 import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.NEURAL_SEARCH_HYBRID_SEARCH_DISABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_EMBEDDING_CACHE_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_EMBEDDING_CACHE_EXPIRE_AFTER;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_EMBEDDING_CACHE_SIZE;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_TOKEN_CACHE_ENABLED;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_TOKEN_CACHE_EXPIRE_AFTER;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.QUERY_TOKEN_CACHE_SIZE;
 import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.RERANKER_MAX_DOC_FIELDS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.SEARCH_INFERENCE_MAX_IN_FLIGHT_REQUESTS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.SEARCH_INFERENCE_MAX_QUEUED_REQUESTS;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.SEARCH_INFERENCE_WEIGHT;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 
+import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.FeatureFlags;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -27,20 +54,30 @@ import org.opensearch.env.NodeEnvironment;
 import org.opensearch.ingest.Processor;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
+import org.opensearch.neuralsearch.ml.InferenceCircuitBreaker;
+import org.opensearch.neuralsearch.ml.InferenceRequestCoalescer;
+import org.opensearch.neuralsearch.ml.InferenceRequestLimiter;
+import org.opensearch.neuralsearch.ml.InferenceResultCache;
+import org.opensearch.neuralsearch.ml.InferenceStatsLogger;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.NeuralQueryEnricherProcessor;
 import org.opensearch.neuralsearch.processor.NeuralSparseTwoPhaseProcessor;
 import org.opensearch.neuralsearch.processor.NormalizationProcessor;
 import org.opensearch.neuralsearch.processor.NormalizationProcessorWorkflow;
 import org.opensearch.neuralsearch.processor.SparseEncodingProcessor;
+import org.opensearch.neuralsearch.processor.SparsePruningStats;
 import org.opensearch.neuralsearch.processor.TextEmbeddingProcessor;
+import org.opensearch.neuralsearch.processor.TextChunkingEmbeddingProcessor;
 import org.opensearch.neuralsearch.processor.TextChunkingProcessor;
+import org.opensearch.neuralsearch.processor.TextDenseSparseEmbeddingProcessor;
 import org.opensearch.neuralsearch.processor.TextImageEmbeddingProcessor;
 import org.opensearch.neuralsearch.processor.combination.ScoreCombinationFactory;
 import org.opensearch.neuralsearch.processor.combination.ScoreCombiner;
+import org.opensearch.neuralsearch.processor.factory.TextChunkingEmbeddingProcessorFactory;
 import org.opensearch.neuralsearch.processor.factory.TextChunkingProcessorFactory;
 import org.opensearch.neuralsearch.processor.factory.NormalizationProcessorFactory;
 import org.opensearch.neuralsearch.processor.factory.RerankProcessorFactory;
+import org.opensearch.neuralsearch.processor.factory.TextDenseSparseEmbeddingProcessorFactory;
 import org.opensearch.neuralsearch.processor.factory.SparseEncodingProcessorFactory;
 import org.opensearch.neuralsearch.processor.factory.TextEmbeddingProcessorFactory;
 import org.opensearch.neuralsearch.processor.factory.TextImageEmbeddingProcessorFactory;
@@ -53,6 +90,8 @@ import org.opensearch.neuralsearch.query.NeuralSparseQueryBuilder;
 import org.opensearch.neuralsearch.query.ext.RerankSearchExtBuilder;
 import org.opensearch.neuralsearch.search.query.HybridQueryPhaseSearcher;
 import org.opensearch.neuralsearch.util.NeuralSearchClusterUtil;
+import org.opensearch.neuralsearch.util.RetryUtil;
+import org.opensearch.neuralsearch.util.SparseVector;
 import org.opensearch.plugins.ActionPlugin;
 import org.opensearch.plugins.ExtensiblePlugin;
 import org.opensearch.plugins.IngestPlugin;
@@ -77,9 +116,13 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class NeuralSearch extends Plugin implements ActionPlugin, SearchPlugin, IngestPlugin, ExtensiblePlugin, SearchPipelinePlugin {
     private MLCommonsClientAccessor clientAccessor;
+    // shares the client and request controls with clientAccessor, sends requests with the limits of search callers
+    private MLCommonsClientAccessor searchClientAccessor;
     private NormalizationProcessorWorkflow normalizationProcessorWorkflow;
     private final ScoreNormalizationFactory scoreNormalizationFactory = new ScoreNormalizationFactory();
     private final ScoreCombinationFactory scoreCombinationFactory = new ScoreCombinationFactory();
+    // shared by all sparse_encoding processors of the node and logged with the other inference stats
+    private final SparsePruningStats sparsePruningStats = new SparsePruningStats();
 
     @Override
     public Collection<Object> createComponents(
@@ -96,13 +139,119 @@ public class NeuralSearch extends Plugin implements ActionPlugin, SearchPlugin,
         final Supplier<RepositoriesService> repositoriesServiceSupplier
     ) {
         NeuralSearchClusterUtil.instance().initialize(clusterService);
-        NeuralQueryBuilder.initialize(clientAccessor);
-        NeuralSparseQueryBuilder.initialize(clientAccessor);
+        clientAccessor.setRequestCoalescer(createRequestCoalescer(threadPool, clusterService.getSettings()));
+        InferenceRequestLimiter requestLimiter = createRequestLimiter(threadPool, clusterService.getSettings());
+        clientAccessor.setRequestLimiter(requestLimiter);
+        clientAccessor.setRetryBackoff(threadPool, createRetryBackoffPolicy(clusterService.getSettings()));
+        InferenceCircuitBreaker circuitBreaker = createCircuitBreaker(clusterService.getSettings());
+        clientAccessor.setCircuitBreaker(circuitBreaker);
+        InferenceResultCache<float[]> queryEmbeddingCache = createQueryEmbeddingCache(clusterService.getSettings());
+        InferenceResultCache<SparseVector> queryTokenCache = createQueryTokenCache(clusterService.getSettings());
+        NeuralQueryBuilder.initialize(searchClientAccessor, queryEmbeddingCache);
+        NeuralSparseQueryBuilder.initialize(searchClientAccessor, queryTokenCache);
+        InferenceStatsLogger statsLogger = new InferenceStatsLogger(
+            queryEmbeddingCache,
+            queryTokenCache,
+            requestLimiter,
+            circuitBreaker,
+            sparsePruningStats
+        );
+        scheduleInferenceStatsLogging(threadPool, clusterService.getSettings(), statsLogger);
         HybridQueryExecutor.initialize(threadPool);
         normalizationProcessorWorkflow = new NormalizationProcessorWorkflow(new ScoreNormalizer(), new ScoreCombiner());
         return List.of(clientAccessor);
     }
 
+    private void scheduleInferenceStatsLogging(
+        final ThreadPool threadPool,
+        final Settings settings,
+        final InferenceStatsLogger statsLogger
+    ) {
+        TimeValue interval = INFERENCE_STATS_LOG_INTERVAL.get(settings);
+        if (interval.millis() == 0) {
+            return;
+        }
+        threadPool.scheduleWithFixedDelay(statsLogger::logStats, interval, ThreadPool.Names.GENERIC);
+    }
+
+    private InferenceRequestCoalescer createRequestCoalescer(final ThreadPool threadPool, final Settings settings) {
+        List<String> modelIds = INFERENCE_BATCHING_MODEL_IDS.get(settings);
+        if (modelIds.isEmpty()) {
+            return null;
+        }
+        return new InferenceRequestCoalescer(
+            threadPool,
+            INFERENCE_BATCHING_WINDOW.get(settings),
+            INFERENCE_BATCHING_MAX_BATCH_SIZE.get(settings),
+            new HashSet<>(modelIds)
+        );
+    }
+
+    private InferenceRequestLimiter createRequestLimiter(final ThreadPool threadPool, final Settings settings) {
+        InferenceRequestLimiter.Limits ingestLimits = new InferenceRequestLimiter.Limits(
+            INGEST_INFERENCE_MAX_IN_FLIGHT_REQUESTS.get(settings),
+            INGEST_INFERENCE_MAX_QUEUED_REQUESTS.get(settings),
+            INGEST_INFERENCE_WEIGHT.get(settings)
+        );
+        InferenceRequestLimiter.Limits searchLimits = new InferenceRequestLimiter.Limits(
+            SEARCH_INFERENCE_MAX_IN_FLIGHT_REQUESTS.get(settings),
+            SEARCH_INFERENCE_MAX_QUEUED_REQUESTS.get(settings),
+            SEARCH_INFERENCE_WEIGHT.get(settings)
+        );
+        int maxSharedInFlightRequests = INFERENCE_MAX_IN_FLIGHT_REQUESTS.get(settings);
+        if (ingestLimits.getMaxInFlightRequests() == 0 && searchLimits.getMaxInFlightRequests() == 0 && maxSharedInFlightRequests == 0) {
+            return null;
+        }
+        return new InferenceRequestLimiter(
+            ingestLimits,
+            searchLimits,
+            maxSharedInFlightRequests,
+            threadPool.executor(ThreadPool.Names.GENERIC)
+        );
+    }
+
+    private RetryUtil.BackoffPolicy createRetryBackoffPolicy(final Settings settings) {
+        return new RetryUtil.BackoffPolicy(
+            INFERENCE_RETRY_MAX_RETRIES.get(settings),
+            INFERENCE_RETRY_INITIAL_BACKOFF.get(settings),
+            INFERENCE_RETRY_MAX_BACKOFF.get(settings)
+        );
+    }
+
+    private InferenceCircuitBreaker createCircuitBreaker(final Settings settings) {
+        int failureThreshold = INFERENCE_CIRCUIT_BREAKER_FAILURE_THRESHOLD.get(settings);
+        if (failureThreshold == 0) {
+            return null;
+        }
+        return new InferenceCircuitBreaker(
+            failureThreshold,
+            INFERENCE_CIRCUIT_BREAKER_OPEN_DURATION.get(settings),
+            INFERENCE_CIRCUIT_BREAKER_HALF_OPEN_PROBES.get(settings)
+        );
+    }
+
+    private InferenceResultCache<float[]> createQueryEmbeddingCache(final Settings settings) {
+        if (!QUERY_EMBEDDING_CACHE_ENABLED.get(settings)) {
+            return null;
+        }
+        return new InferenceResultCache<float[]>(
+            QUERY_EMBEDDING_CACHE_SIZE.get(settings),
+            QUERY_EMBEDDING_CACHE_EXPIRE_AFTER.get(settings),
+            RamUsageEstimator::sizeOf
+        );
+    }
+
+    private InferenceResultCache<SparseVector> createQueryTokenCache(final Settings settings) {
+        if (!QUERY_TOKEN_CACHE_ENABLED.get(settings)) {
+            return null;
+        }
+        return new InferenceResultCache<>(
+            QUERY_TOKEN_CACHE_SIZE.get(settings),
+            QUERY_TOKEN_CACHE_EXPIRE_AFTER.get(settings),
+            SparseVector::ramBytesUsed
+        );
+    }
+
     @Override
     public List<QuerySpec<?>> getQueries() {
         return Arrays.asList(
@@ -120,15 +269,41 @@ public class NeuralSearch extends Plugin implements ActionPlugin, SearchPlugin,
     @Override
     public Map<String, Processor.Factory> getProcessors(Processor.Parameters parameters) {
         clientAccessor = new MLCommonsClientAccessor(new MachineLearningNodeClient(parameters.client));
+        searchClientAccessor = clientAccessor.forRequestType(InferenceRequestLimiter.RequestType.SEARCH);
         return Map.of(
             TextEmbeddingProcessor.TYPE,
-            new TextEmbeddingProcessorFactory(clientAccessor, parameters.env, parameters.ingestService.getClusterService()),
+            new TextEmbeddingProcessorFactory(
+                clientAccessor,
+                parameters.env,
+                parameters.ingestService.getClusterService(),
+                parameters.client
+            ),
             SparseEncodingProcessor.TYPE,
-            new SparseEncodingProcessorFactory(clientAccessor, parameters.env, parameters.ingestService.getClusterService()),
+            new SparseEncodingProcessorFactory(
+                clientAccessor,
+                parameters.env,
+                parameters.ingestService.getClusterService(),
+                parameters.client,
+                sparsePruningStats
+            ),
             TextImageEmbeddingProcessor.TYPE,
             new TextImageEmbeddingProcessorFactory(clientAccessor, parameters.env, parameters.ingestService.getClusterService()),
+            TextDenseSparseEmbeddingProcessor.TYPE,
+            new TextDenseSparseEmbeddingProcessorFactory(clientAccessor, parameters.env, parameters.ingestService.getClusterService()),
             TextChunkingProcessor.TYPE,
-            new TextChunkingProcessorFactory(parameters.env, parameters.ingestService.getClusterService(), parameters.analysisRegistry)
+            new TextChunkingProcessorFactory(
+                parameters.env,
+                parameters.ingestService.getClusterService(),
+                parameters.analysisRegistry,
+                parameters.genericExecutor
+            ),
+            TextChunkingEmbeddingProcessor.TYPE,
+            new TextChunkingEmbeddingProcessorFactory(
+                clientAccessor,
+                parameters.env,
+                parameters.ingestService.getClusterService(),
+                parameters.analysisRegistry
+            )
         );
     }
 
@@ -160,7 +335,34 @@ public class NeuralSearch extends Plugin implements ActionPlugin, SearchPlugin,
 
     @Override
     public List<Setting<?>> getSettings() {
-        return List.of(NEURAL_SEARCH_HYBRID_SEARCH_DISABLED, RERANKER_MAX_DOC_FIELDS);
+        return List.of(
+            NEURAL_SEARCH_HYBRID_SEARCH_DISABLED,
+            HYBRID_SEARCH_PARALLEL_SUB_QUERIES_ENABLED,
+            RERANKER_MAX_DOC_FIELDS,
+            QUERY_EMBEDDING_CACHE_ENABLED,
+            QUERY_EMBEDDING_CACHE_SIZE,
+            QUERY_EMBEDDING_CACHE_EXPIRE_AFTER,
+            QUERY_TOKEN_CACHE_ENABLED,
+            QUERY_TOKEN_CACHE_SIZE,
+            QUERY_TOKEN_CACHE_EXPIRE_AFTER,
+            INFERENCE_BATCHING_MODEL_IDS,
+            INFERENCE_BATCHING_WINDOW,
+            INFERENCE_BATCHING_MAX_BATCH_SIZE,
+            INGEST_INFERENCE_MAX_IN_FLIGHT_REQUESTS,
+            INGEST_INFERENCE_MAX_QUEUED_REQUESTS,
+            SEARCH_INFERENCE_MAX_IN_FLIGHT_REQUESTS,
+            SEARCH_INFERENCE_MAX_QUEUED_REQUESTS,
+            INFERENCE_MAX_IN_FLIGHT_REQUESTS,
+            INGEST_INFERENCE_WEIGHT,
+            SEARCH_INFERENCE_WEIGHT,
+            INFERENCE_RETRY_MAX_RETRIES,
+            INFERENCE_RETRY_INITIAL_BACKOFF,
+            INFERENCE_RETRY_MAX_BACKOFF,
+            INFERENCE_CIRCUIT_BREAKER_FAILURE_THRESHOLD,
+            INFERENCE_CIRCUIT_BREAKER_OPEN_DURATION,
+            INFERENCE_CIRCUIT_BREAKER_HALF_OPEN_PROBES,
+            INFERENCE_STATS_LOG_INTERVAL
+        );
     }
 
     @Override
@@ -181,7 +383,7 @@ public class NeuralSearch extends Plugin implements ActionPlugin, SearchPlugin,
     ) {
         return Map.of(
             RerankProcessor.TYPE,
-            new RerankProcessorFactory(clientAccessor, parameters.searchPipelineService.getClusterService())
+            new RerankProcessorFactory(searchClientAccessor, parameters.searchPipelineService.getClusterService())
         );
     }
 
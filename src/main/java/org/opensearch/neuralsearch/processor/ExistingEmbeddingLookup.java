@@ -0,0 +1,157 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor;
+
+import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
+import static org.opensearch.ingest.ConfigurationUtils.readBooleanProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.opensearch.action.get.MultiGetItemResponse;
+import org.opensearch.action.get.MultiGetRequest;
+import org.opensearch.client.Client;
+import org.opensearch.common.hash.MurmurHash3;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.index.mapper.IndexFieldMapper;
+import org.opensearch.index.mapper.RoutingFieldMapper;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Looks up the currently indexed version of documents being ingested, so inference results of source fields whose content
+ * didn't change can be copied instead of running the model again. A compact hash of the model id and the source text is
+ * stored next to every inference result in the field named by {@link #sourceHashField(String)}, inference result is reused
+ * only when the stored hash matches the hash of the incoming text.
+ */
+@Log4j2
+public class ExistingEmbeddingLookup {
+    public static final String REUSE_UNCHANGED_EMBEDDINGS_FIELD = "reuse_unchanged_embeddings";
+    private static final String SOURCE_HASH_FIELD_SUFFIX = "_source_hash";
+
+    private final Client client;
+
+    public ExistingEmbeddingLookup(final Client client) {
+        this.client = Objects.requireNonNull(client, "client cannot be null");
+    }
+
+    /**
+     * Creates the lookup if reuse of unchanged inference results is enabled in the processor configuration
+     *
+     * @param processorType type of the processor
+     * @param processorTag tag of the processor
+     * @param config processor configuration
+     * @param client client used to fetch indexed documents
+     * @return lookup, or null if reuse is not enabled
+     */
+    public static ExistingEmbeddingLookup readFromConfig(
+        final String processorType,
+        final String processorTag,
+        final Map<String, Object> config,
+        final Client client
+    ) {
+        boolean enabled = readBooleanProperty(processorType, processorTag, config, REUSE_UNCHANGED_EMBEDDINGS_FIELD, false);
+        if (!enabled) {
+            return null;
+        }
+        if (Objects.isNull(client)) {
+            throw newConfigurationException(
+                processorType,
+                processorTag,
+                REUSE_UNCHANGED_EMBEDDINGS_FIELD,
+                "reuse of unchanged embeddings is not supported by this processor"
+            );
+        }
+        return new ExistingEmbeddingLookup(client);
+    }
+
+    /**
+     * @param targetField field the inference result is written to
+     * @return name of the field storing hash of the source text the inference result was produced from
+     */
+    public static String sourceHashField(final String targetField) {
+        return targetField + SOURCE_HASH_FIELD_SUFFIX;
+    }
+
+    /**
+     * Computes 128 bit murmur3 hash of the model id and the source text, model id is part of the hash so results are not
+     * reused after the processor switches to another model
+     *
+     * @param modelId id of the model
+     * @param text source text
+     * @return hash as hex string
+     */
+    public static String hash(final String modelId, final String text) {
+        byte[] bytes = (modelId + '\u0000' + text).getBytes(StandardCharsets.UTF_8);
+        MurmurHash3.Hash128 hash = MurmurHash3.hash128(bytes, 0, bytes.length, 0, new MurmurHash3.Hash128());
+        return String.format(Locale.ROOT, "%016x%016x", hash.h1, hash.h2);
+    }
+
+    /**
+     * Fetches given fields of the indexed versions of the documents in a single multi get request. Documents without id
+     * are not looked up.
+     *
+     * @param ingestDocuments documents being ingested
+     * @param fields fields to fetch from the source of the indexed documents
+     * @param listener receives source of the indexed version for every ingest document in the same order, null for documents
+     *                 which are not indexed yet or failed to be fetched
+     */
+    public void fetchExistingSources(
+        final List<IngestDocument> ingestDocuments,
+        final List<String> fields,
+        final ActionListener<List<Map<String, Object>>> listener
+    ) {
+        MultiGetRequest multiGetRequest = new MultiGetRequest();
+        List<Integer> requestedDocuments = new ArrayList<>();
+        FetchSourceContext fetchSourceContext = new FetchSourceContext(true, fields.toArray(new String[0]), null);
+        for (int i = 0; i < ingestDocuments.size(); i++) {
+            Map<String, Object> sourceAndMetadata = ingestDocuments.get(i).getSourceAndMetadata();
+            Object id = sourceAndMetadata.get(IdFieldMapper.NAME);
+            Object index = sourceAndMetadata.get(IndexFieldMapper.NAME);
+            if (Objects.isNull(id) || Objects.isNull(index)) {
+                continue;
+            }
+            MultiGetRequest.Item item = new MultiGetRequest.Item(index.toString(), id.toString()).fetchSourceContext(fetchSourceContext);
+            Object routing = sourceAndMetadata.get(RoutingFieldMapper.NAME);
+            if (Objects.nonNull(routing)) {
+                item.routing(routing.toString());
+            }
+            multiGetRequest.add(item);
+            requestedDocuments.add(i);
+        }
+
+        List<Map<String, Object>> existingSources = new ArrayList<>(Collections.nCopies(ingestDocuments.size(), null));
+        if (requestedDocuments.isEmpty()) {
+            listener.onResponse(existingSources);
+            return;
+        }
+        client.multiGet(multiGetRequest, ActionListener.wrap(multiGetResponse -> {
+            MultiGetItemResponse[] responses = multiGetResponse.getResponses();
+            for (int i = 0; i < responses.length; i++) {
+                MultiGetItemResponse response = responses[i];
+                if (response.isFailed()) {
+                    log.debug(
+                        "Failed to fetch existing document [{}] for embedding reuse",
+                        response.getId(),
+                        response.getFailure().getFailure()
+                    );
+                    continue;
+                }
+                if (response.getResponse().isExists()) {
+                    existingSources.set(requestedDocuments.get(i), response.getResponse().getSourceAsMap());
+                }
+            }
+            listener.onResponse(existingSources);
+        }, listener::onFailure));
+    }
+}
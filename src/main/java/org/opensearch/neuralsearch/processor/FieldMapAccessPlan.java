@@ -0,0 +1,177 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Field map of an {@link InferenceProcessor} compiled into a tree of source field accessors. Dotted keys are split and the
+ * nested mappings are resolved once when the processor is created, so reading the source values of a document only walks
+ * the document along the precompiled paths instead of parsing the field map again for every document.
+ *
+ * The values extracted by the plan have the same structure as the process map built by {@link InferenceProcessor}: a
+ * top level entry per field map entry, keyed by the target field for plain fields and by the first segment of the source
+ * path for nested fields.
+ */
+public final class FieldMapAccessPlan {
+
+    private final List<FieldNode> fieldNodes;
+
+    private FieldMapAccessPlan(final List<FieldNode> fieldNodes) {
+        this.fieldNodes = fieldNodes;
+    }
+
+    /**
+     * Compiles the field map into an access plan
+     *
+     * @param fieldMap field map of the processor, keys are source fields, values are target fields or nested field maps
+     * @return immutable access plan
+     */
+    public static FieldMapAccessPlan compile(final Map<String, Object> fieldMap) {
+        List<FieldNode> fieldNodes = new ArrayList<>(fieldMap.size());
+        for (Map.Entry<String, Object> fieldMapEntry : fieldMap.entrySet()) {
+            fieldNodes.add(FieldNode.compile(fieldMapEntry.getKey(), fieldMapEntry.getValue(), true));
+        }
+        return new FieldMapAccessPlan(Collections.unmodifiableList(fieldNodes));
+    }
+
+    /**
+     * Reads the source values of the document
+     *
+     * @param sourceAndMetadataMap source of the document
+     * @return map of target keys to source values
+     */
+    public Map<String, Object> extract(final Map<String, Object> sourceAndMetadataMap) {
+        Map<String, Object> mapWithProcessorKeys = new LinkedHashMap<>();
+        for (FieldNode fieldNode : fieldNodes) {
+            Object sourceValue = sourceAndMetadataMap.get(fieldNode.sourceKey);
+            if (fieldNode.isLeaf()) {
+                mapWithProcessorKeys.put(fieldNode.targetKey, sourceValue);
+            } else {
+                mapWithProcessorKeys.put(fieldNode.sourceKey, fieldNode.extractNested(sourceValue));
+            }
+        }
+        return mapWithProcessorKeys;
+    }
+
+    /**
+     * Reads the value of a single source field mapped by the given target into the tree of results, the target is
+     * compiled without splitting the source key
+     *
+     * @param sourceKey key of the source field in the source map
+     * @param target target field or nested field map
+     * @param sourceMap map holding the source field
+     * @param treeRes map receiving the extracted value
+     */
+    static void extractField(
+        final String sourceKey,
+        final Object target,
+        final Map<String, Object> sourceMap,
+        final Map<String, Object> treeRes
+    ) {
+        if (Objects.isNull(target) || Objects.isNull(sourceMap)) {
+            return;
+        }
+        FieldNode.compile(sourceKey, target, false).extractInto(sourceMap.get(sourceKey), treeRes);
+    }
+
+    /**
+     * Node of the plan. A leaf maps a source field to a target field, a nested node maps a source object, or a list of
+     * source objects, to the nodes of its nested field map.
+     */
+    private static final class FieldNode {
+        private final String sourceKey;
+        // null for nested nodes
+        private final String targetKey;
+        // nested nodes for object source values, with dotted keys split into a path of nodes
+        private final List<FieldNode> objectChildren;
+        // nested nodes for list source values, keys are read as is from every element of the list
+        private final List<FieldNode> listChildren;
+
+        private FieldNode(
+            final String sourceKey,
+            final String targetKey,
+            final List<FieldNode> objectChildren,
+            final List<FieldNode> listChildren
+        ) {
+            this.sourceKey = sourceKey;
+            this.targetKey = targetKey;
+            this.objectChildren = objectChildren;
+            this.listChildren = listChildren;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static FieldNode compile(final String key, final Object target, final boolean splitDottedKey) {
+            String sourceKey = key;
+            Object nodeTarget = target;
+            int nestedDotIndex = splitDottedKey ? key.indexOf('.') : -1;
+            if (nestedDotIndex != -1) {
+                // "a.b.c" -> "b.c" -> target is the same as "a" -> {"b.c" -> target}
+                sourceKey = key.substring(0, nestedDotIndex);
+                nodeTarget = Collections.singletonMap(key.substring(nestedDotIndex + 1), target);
+            }
+            if (nodeTarget instanceof Map == false) {
+                return new FieldNode(sourceKey, String.valueOf(nodeTarget), null, null);
+            }
+            Map<String, Object> nestedFieldMap = (Map<String, Object>) nodeTarget;
+            List<FieldNode> objectChildren = new ArrayList<>(nestedFieldMap.size());
+            List<FieldNode> listChildren = new ArrayList<>(nestedFieldMap.size());
+            for (Map.Entry<String, Object> nestedFieldMapEntry : nestedFieldMap.entrySet()) {
+                if (Objects.isNull(nestedFieldMapEntry.getValue())) {
+                    continue;
+                }
+                objectChildren.add(compile(nestedFieldMapEntry.getKey(), nestedFieldMapEntry.getValue(), true));
+                listChildren.add(compile(nestedFieldMapEntry.getKey(), nestedFieldMapEntry.getValue(), false));
+            }
+            return new FieldNode(sourceKey, null, Collections.unmodifiableList(objectChildren), Collections.unmodifiableList(listChildren));
+        }
+
+        private boolean isLeaf() {
+            return targetKey != null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void extractInto(final Object sourceValue, final Map<String, Object> treeRes) {
+            if (isLeaf()) {
+                treeRes.put(targetKey, sourceValue);
+                return;
+            }
+            Map<String, Object> nested = extractNested(sourceValue);
+            // several dotted keys may share the first segment, their values are merged into the same object
+            Object existing = treeRes.get(sourceKey);
+            if (existing instanceof Map) {
+                ((Map<String, Object>) existing).putAll(nested);
+            } else {
+                treeRes.put(sourceKey, nested);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Map<String, Object> extractNested(final Object sourceValue) {
+            Map<String, Object> nested = new LinkedHashMap<>();
+            if (sourceValue instanceof Map) {
+                Map<String, Object> sourceMap = (Map<String, Object>) sourceValue;
+                for (FieldNode child : objectChildren) {
+                    child.extractInto(sourceMap.get(child.sourceKey), nested);
+                }
+            } else if (sourceValue instanceof List) {
+                List<Map<String, Object>> sourceList = (List<Map<String, Object>>) sourceValue;
+                for (FieldNode child : listChildren) {
+                    List<Object> childValues = new ArrayList<>(sourceList.size());
+                    for (Map<String, Object> element : sourceList) {
+                        childValues.add(element.get(child.sourceKey));
+                    }
+                    child.extractInto(childValues, nested);
+                }
+            }
+            return nested;
+        }
+    }
+}
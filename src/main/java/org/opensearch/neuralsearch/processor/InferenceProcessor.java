@@ -13,12 +13,14 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import lombok.AllArgsConstructor;
@@ -27,6 +29,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.env.Environment;
@@ -35,12 +39,15 @@ import org.opensearch.index.mapper.IndexFieldMapper;
 import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.IngestDocumentWrapper;
+import org.opensearch.neuralsearch.common.FloatArrayList;
+import org.opensearch.neuralsearch.common.VectorUtil;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 
 import lombok.extern.log4j.Log4j2;
+import org.opensearch.neuralsearch.util.IndexSettingsCache;
 import org.opensearch.neuralsearch.util.ProcessorDocumentUtils;
 
 /**
@@ -74,11 +81,23 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
     protected final String modelId;
 
     private final Map<String, Object> fieldMap;
+    // field map compiled once, so source values of documents are read without parsing the field map again
+    private final FieldMapAccessPlan fieldMapAccessPlan;
 
     protected final MLCommonsClientAccessor mlCommonsClientAccessor;
 
-    private final Environment environment;
-    private final ClusterService clusterService;
+    // settings of the indices documents are ingested to, read once per index instead of once per document
+    private final IndexSettingsCache indexSettingsCache;
+
+    private final SubBatchOptions subBatchOptions;
+
+    // null when inference results of unchanged source fields are not reused
+    private final ExistingEmbeddingLookup existingEmbeddingLookup;
+    private final List<String> reusableTargetFields;
+
+    private final CounterMetric inferenceTextCount = new CounterMetric();
+    private final CounterMetric deduplicatedInferenceTextCount = new CounterMetric();
+    private final CounterMetric reusedInferenceResultCount = new CounterMetric();
 
     public InferenceProcessor(
         String tag,
@@ -91,6 +110,36 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         MLCommonsClientAccessor clientAccessor,
         Environment environment,
         ClusterService clusterService
+    ) {
+        this(
+            tag,
+            description,
+            batchSize,
+            type,
+            listTypeNestedMapKey,
+            modelId,
+            fieldMap,
+            clientAccessor,
+            environment,
+            clusterService,
+            SubBatchOptions.DEFAULT,
+            null
+        );
+    }
+
+    public InferenceProcessor(
+        String tag,
+        String description,
+        int batchSize,
+        String type,
+        String listTypeNestedMapKey,
+        String modelId,
+        Map<String, Object> fieldMap,
+        MLCommonsClientAccessor clientAccessor,
+        Environment environment,
+        ClusterService clusterService,
+        SubBatchOptions subBatchOptions,
+        ExistingEmbeddingLookup existingEmbeddingLookup
     ) {
         super(tag, description, batchSize);
         this.type = type;
@@ -99,9 +148,26 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         this.listTypeNestedMapKey = listTypeNestedMapKey;
         this.modelId = modelId;
         this.fieldMap = fieldMap;
+        this.fieldMapAccessPlan = FieldMapAccessPlan.compile(fieldMap);
         this.mlCommonsClientAccessor = clientAccessor;
-        this.environment = environment;
-        this.clusterService = clusterService;
+        this.indexSettingsCache = new IndexSettingsCache(clusterService, environment);
+        this.subBatchOptions = Objects.requireNonNull(subBatchOptions, "sub batch options cannot be null");
+        this.existingEmbeddingLookup = existingEmbeddingLookup;
+        this.reusableTargetFields = getReusableTargetFields(fieldMap);
+    }
+
+    /**
+     * Inference results can be reused only for top level source fields mapped to top level target fields, for such fields
+     * the target key of the process map is the target field name
+     */
+    private static List<String> getReusableTargetFields(Map<String, Object> fieldMap) {
+        List<String> targetFields = new ArrayList<>();
+        for (Map.Entry<String, Object> fieldMapEntry : fieldMap.entrySet()) {
+            if (fieldMapEntry.getKey().indexOf('.') == -1 && fieldMapEntry.getValue() instanceof String) {
+                targetFields.add((String) fieldMapEntry.getValue());
+            }
+        }
+        return targetFields;
     }
 
     private void validateEmbeddingConfiguration(Map<String, Object> fieldMap) {
@@ -142,6 +208,21 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
             List<String> inferenceList = createInferenceList(processMap);
             if (inferenceList.size() == 0) {
                 handler.accept(ingestDocument, null);
+            } else if (existingEmbeddingLookup != null) {
+                IngestDocumentWrapper ingestDocumentWrapper = new IngestDocumentWrapper(0, ingestDocument, null);
+                DataForInference dataForInference = new DataForInference(ingestDocumentWrapper, processMap, inferenceList);
+                reuseUnchangedInferenceResults(List.of(dataForInference), dataForInferences -> {
+                    try {
+                        DataForInference remaining = dataForInferences.get(0);
+                        if (remaining.getInferenceList().isEmpty()) {
+                            handler.accept(ingestDocument, null);
+                        } else {
+                            doExecute(ingestDocument, remaining.getProcessMap(), remaining.getInferenceList(), handler);
+                        }
+                    } catch (Exception e) {
+                        handler.accept(null, e);
+                    }
+                });
             } else {
                 doExecute(ingestDocument, processMap, inferenceList, handler);
             }
@@ -166,65 +247,434 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         }
 
         List<DataForInference> dataForInferences = getDataForInference(ingestDocumentWrappers);
+        if (existingEmbeddingLookup != null) {
+            reuseUnchangedInferenceResults(
+                dataForInferences,
+                remainingDataForInferences -> executeInference(remainingDataForInferences, ingestDocumentWrappers, handler)
+            );
+        } else {
+            executeInference(dataForInferences, ingestDocumentWrappers, handler);
+        }
+    }
+
+    private void executeInference(
+        List<DataForInference> dataForInferences,
+        List<IngestDocumentWrapper> ingestDocumentWrappers,
+        Consumer<List<IngestDocumentWrapper>> handler
+    ) {
         List<String> inferenceList = constructInferenceTexts(dataForInferences);
         if (inferenceList.isEmpty()) {
             handler.accept(ingestDocumentWrappers);
             return;
         }
-        Tuple<List<String>, Map<Integer, Integer>> sortedResult = sortByLengthAndReturnOriginalOrder(inferenceList);
-        inferenceList = sortedResult.v1();
-        Map<Integer, Integer> originalOrder = sortedResult.v2();
-        doBatchExecute(inferenceList, results -> {
-            int startIndex = 0;
-            results = restoreToOriginalOrder(results, originalOrder);
-            for (DataForInference dataForInference : dataForInferences) {
-                if (dataForInference.getIngestDocumentWrapper().getException() != null
-                    || CollectionUtils.isEmpty(dataForInference.getInferenceList())) {
-                    continue;
+        Tuple<List<String>, int[]> deduplicatedResult = deduplicateInferenceTexts(inferenceList);
+        List<String> uniqueInferenceList = deduplicatedResult.v1();
+        int[] uniqueIndexOfTexts = deduplicatedResult.v2();
+        Tuple<List<String>, int[]> sortedResult = sortByLengthAndReturnOriginalOrder(uniqueInferenceList);
+        List<String> sortedInferenceList = sortedResult.v1();
+        int[] originalOrder = sortedResult.v2();
+        List<int[]> subBatches = splitIntoSubBatches(sortedInferenceList);
+        if (subBatches.size() > 1) {
+            executeSubBatches(
+                dataForInferences,
+                sortedInferenceList,
+                originalOrder,
+                uniqueIndexOfTexts,
+                subBatches,
+                () -> handler.accept(ingestDocumentWrappers)
+            );
+            return;
+        }
+        doBatchExecute(sortedInferenceList, results -> {
+            List<?> uniqueResults = restoreToOriginalOrder(results, originalOrder);
+            setResultsToDocuments(dataForInferences, expandToDuplicates(uniqueResults, uniqueIndexOfTexts), null);
+            handler.accept(ingestDocumentWrappers);
+        }, exception -> {
+            setExceptionToDocuments(ingestDocumentWrappers, exception);
+            handler.accept(ingestDocumentWrappers);
+        });
+    }
+
+    /**
+     * Copies inference results of source fields whose content didn't change since the document was indexed, and stores the
+     * hash of every reusable source field next to its inference result. Indexed versions of all documents are fetched in one
+     * request, if the lookup fails all texts are sent for inference.
+     * @param dataForInferences documents with texts to inference
+     * @param onDone receives documents with the texts which still need inference
+     */
+    private void reuseUnchangedInferenceResults(List<DataForInference> dataForInferences, Consumer<List<DataForInference>> onDone) {
+        List<IngestDocument> ingestDocuments = new ArrayList<>(dataForInferences.size());
+        for (DataForInference dataForInference : dataForInferences) {
+            IngestDocument ingestDocument = dataForInference.getIngestDocumentWrapper().getIngestDocument();
+            ingestDocuments.add(ingestDocument);
+            if (!isSentForInference(dataForInference)) {
+                continue;
+            }
+            for (String targetField : reusableTargetFields) {
+                Object sourceValue = dataForInference.getProcessMap().get(targetField);
+                if (sourceValue instanceof String) {
+                    String hash = ExistingEmbeddingLookup.hash(modelId, (String) sourceValue);
+                    ingestDocument.setFieldValue(ExistingEmbeddingLookup.sourceHashField(targetField), hash);
+                }
+            }
+        }
+        if (reusableTargetFields.isEmpty()) {
+            onDone.accept(dataForInferences);
+            return;
+        }
+
+        List<String> fields = new ArrayList<>(reusableTargetFields.size() * 2);
+        for (String targetField : reusableTargetFields) {
+            fields.add(targetField);
+            fields.add(ExistingEmbeddingLookup.sourceHashField(targetField));
+        }
+        existingEmbeddingLookup.fetchExistingSources(ingestDocuments, fields, ActionListener.wrap(existingSources -> {
+            List<DataForInference> remainingDataForInferences = new ArrayList<>(dataForInferences.size());
+            for (int i = 0; i < dataForInferences.size(); ++i) {
+                remainingDataForInferences.add(reuseInferenceResults(dataForInferences.get(i), existingSources.get(i)));
+            }
+            onDone.accept(remainingDataForInferences);
+        }, e -> {
+            log.warn("Failed to fetch existing documents, inference results of unchanged fields are not reused", e);
+            onDone.accept(dataForInferences);
+        }));
+    }
+
+    private DataForInference reuseInferenceResults(DataForInference dataForInference, Map<String, Object> existingSource) {
+        if (existingSource == null || !isSentForInference(dataForInference)) {
+            return dataForInference;
+        }
+        IngestDocument ingestDocument = dataForInference.getIngestDocumentWrapper().getIngestDocument();
+        Map<String, Object> processMap = dataForInference.getProcessMap();
+        boolean reused = false;
+        for (String targetField : reusableTargetFields) {
+            String hashField = ExistingEmbeddingLookup.sourceHashField(targetField);
+            Object existingResult = existingSource.get(targetField);
+            if (!(processMap.get(targetField) instanceof String)
+                || existingResult == null
+                || !Objects.equals(existingSource.get(hashField), ingestDocument.getFieldValue(hashField, String.class, true))) {
+                continue;
+            }
+            ingestDocument.setFieldValue(targetField, existingResult);
+            processMap.remove(targetField);
+            reusedInferenceResultCount.inc();
+            reused = true;
+        }
+        if (!reused) {
+            return dataForInference;
+        }
+        return new DataForInference(dataForInference.getIngestDocumentWrapper(), processMap, createInferenceList(processMap));
+    }
+
+    private boolean isSentForInference(DataForInference dataForInference) {
+        return dataForInference.getIngestDocumentWrapper().getException() == null
+            && !CollectionUtils.isEmpty(dataForInference.getInferenceList());
+    }
+
+    /**
+     * @return number of inference results copied from the indexed version of documents because the source text didn't change
+     */
+    public long getReusedInferenceResultCount() {
+        return reusedInferenceResultCount.count();
+    }
+
+    /**
+     * Collapses identical inference texts, so each distinct text is sent to the model once per batch
+     * @return distinct texts in the order of their first occurrence, and for every input text the index of its distinct text
+     */
+    private Tuple<List<String>, int[]> deduplicateInferenceTexts(List<String> inferenceList) {
+        Map<String, Integer> uniqueIndices = new HashMap<>();
+        List<String> uniqueInferenceList = new ArrayList<>();
+        int[] uniqueIndexOfTexts = new int[inferenceList.size()];
+        for (int i = 0; i < inferenceList.size(); ++i) {
+            String text = inferenceList.get(i);
+            Integer uniqueIndex = uniqueIndices.get(text);
+            if (uniqueIndex == null) {
+                uniqueIndex = uniqueInferenceList.size();
+                uniqueIndices.put(text, uniqueIndex);
+                uniqueInferenceList.add(text);
+            }
+            uniqueIndexOfTexts[i] = uniqueIndex;
+        }
+        int duplicateCount = inferenceList.size() - uniqueInferenceList.size();
+        inferenceTextCount.inc(inferenceList.size());
+        deduplicatedInferenceTextCount.inc(duplicateCount);
+        if (duplicateCount > 0) {
+            log.debug(
+                "Skipped inference of [{}] duplicated texts out of [{}] texts in batch, [{}] of [{}] texts skipped in total by [{}]",
+                duplicateCount,
+                inferenceList.size(),
+                deduplicatedInferenceTextCount.count(),
+                inferenceTextCount.count(),
+                getTag()
+            );
+        }
+        return Tuple.tuple(uniqueInferenceList, uniqueIndexOfTexts);
+    }
+
+    /**
+     * Fans results of distinct texts back out to every position of the input texts. Results are set to different documents,
+     * so repeated mutable results are copied to keep documents independent of each other.
+     */
+    private List<?> expandToDuplicates(List<?> uniqueResults, int[] uniqueIndexOfTexts) {
+        if (hasNoDuplicates(uniqueIndexOfTexts)) {
+            return uniqueResults;
+        }
+        boolean[] used = new boolean[uniqueResults.size()];
+        List<Object> results = new ArrayList<>(uniqueIndexOfTexts.length);
+        for (int uniqueIndex : uniqueIndexOfTexts) {
+            Object result = uniqueResults.get(uniqueIndex);
+            results.add(used[uniqueIndex] ? copyInferenceResult(result) : result);
+            used[uniqueIndex] = true;
+        }
+        return results;
+    }
+
+    private boolean hasNoDuplicates(int[] uniqueIndexOfTexts) {
+        // distinct texts are numbered in the order of their first occurrence, so the mapping is identity without duplicates
+        return uniqueIndexOfTexts.length == 0 || uniqueIndexOfTexts[uniqueIndexOfTexts.length - 1] == uniqueIndexOfTexts.length - 1;
+    }
+
+    /**
+     * Copies an inference result set to more than one document
+     */
+    @SuppressWarnings("unchecked")
+    protected Object copyInferenceResult(Object result) {
+        if (result instanceof FloatArrayList) {
+            return VectorUtil.copyOfVector((FloatArrayList) result);
+        } else if (result instanceof List) {
+            return new ArrayList<>((List<Object>) result);
+        } else if (result instanceof Map) {
+            return new LinkedHashMap<>((Map<String, Object>) result);
+        }
+        return result;
+    }
+
+    /**
+     * @return total number of texts extracted for inference by batch executions of this processor
+     */
+    public long getInferenceTextCount() {
+        return inferenceTextCount.count();
+    }
+
+    /**
+     * @return number of texts not sent to the model by batch executions of this processor because an identical text was in the
+     * same batch
+     */
+    public long getDeduplicatedInferenceTextCount() {
+        return deduplicatedInferenceTextCount.count();
+    }
+
+    /**
+     * Splits the length sorted inference texts into consecutive sub batches bounded by the number of texts and the estimated
+     * number of tokens. A text exceeding the token budget on its own is sent in a dedicated sub batch.
+     * @return list of [start, end) ranges of the sorted inference texts
+     */
+    @VisibleForTesting
+    List<int[]> splitIntoSubBatches(List<String> sortedInferenceList) {
+        List<int[]> subBatches = new ArrayList<>();
+        int start = 0;
+        int textCount = 0;
+        long tokenCount = 0;
+        for (int i = 0; i < sortedInferenceList.size(); ++i) {
+            int textTokenCount = SubBatchOptions.estimateTokenCount(sortedInferenceList.get(i));
+            if (!subBatchOptions.fits(textCount, tokenCount, textTokenCount)) {
+                subBatches.add(new int[] { start, i });
+                start = i;
+                textCount = 0;
+                tokenCount = 0;
+            }
+            textCount++;
+            tokenCount += textTokenCount;
+        }
+        subBatches.add(new int[] { start, sortedInferenceList.size() });
+        return subBatches;
+    }
+
+    /**
+     * Sends the sub batches to the model keeping at most max_concurrent_sub_batches requests in flight. A failed sub batch
+     * only fails the documents owning its texts, results of other documents are still set.
+     */
+    private void executeSubBatches(
+        List<DataForInference> dataForInferences,
+        List<String> sortedInferenceList,
+        int[] originalOrder,
+        int[] uniqueIndexOfTexts,
+        List<int[]> subBatches,
+        Runnable onAllDone
+    ) {
+        log.debug("Splitting [{}] inference texts into [{}] sub batches", sortedInferenceList.size(), subBatches.size());
+        SubBatchExecution execution = new SubBatchExecution(
+            dataForInferences,
+            sortedInferenceList,
+            originalOrder,
+            uniqueIndexOfTexts,
+            subBatches,
+            onAllDone
+        );
+        int initialSubBatches = Math.min(subBatchOptions.getMaxConcurrency(), subBatches.size());
+        for (int i = 0; i < initialSubBatches; ++i) {
+            execution.dispatchNextSubBatch();
+        }
+    }
+
+    /**
+     * State of the sub batches sent for one batch of documents, completion of every sub batch dispatches the next pending one
+     */
+    private final class SubBatchExecution {
+        private final List<DataForInference> dataForInferences;
+        private final List<String> sortedInferenceList;
+        private final int[] originalOrder;
+        private final int[] uniqueIndexOfTexts;
+        private final List<int[]> subBatches;
+        private final Runnable onAllDone;
+        private final Object[] uniqueResults;
+        private final AtomicReferenceArray<Exception> uniqueExceptions;
+        private final AtomicInteger nextSubBatch = new AtomicInteger(0);
+        private final AtomicInteger pendingSubBatches;
+
+        private SubBatchExecution(
+            List<DataForInference> dataForInferences,
+            List<String> sortedInferenceList,
+            int[] originalOrder,
+            int[] uniqueIndexOfTexts,
+            List<int[]> subBatches,
+            Runnable onAllDone
+        ) {
+            this.dataForInferences = dataForInferences;
+            this.sortedInferenceList = sortedInferenceList;
+            this.originalOrder = originalOrder;
+            this.uniqueIndexOfTexts = uniqueIndexOfTexts;
+            this.subBatches = subBatches;
+            this.onAllDone = onAllDone;
+            this.uniqueResults = new Object[sortedInferenceList.size()];
+            this.uniqueExceptions = new AtomicReferenceArray<>(sortedInferenceList.size());
+            this.pendingSubBatches = new AtomicInteger(subBatches.size());
+        }
+
+        private void dispatchNextSubBatch() {
+            int subBatchIndex = nextSubBatch.getAndIncrement();
+            if (subBatchIndex >= subBatches.size()) {
+                return;
+            }
+            int start = subBatches.get(subBatchIndex)[0];
+            int end = subBatches.get(subBatchIndex)[1];
+            doBatchExecute(sortedInferenceList.subList(start, end), subBatchResults -> {
+                if (subBatchResults == null || subBatchResults.size() < end - start) {
+                    failSubBatch(
+                        new IllegalStateException(
+                            String.format(
+                                Locale.ROOT,
+                                "Unexpected number of inference results. Expected [%d], but got [%d]",
+                                end - start,
+                                subBatchResults == null ? 0 : subBatchResults.size()
+                            )
+                        ),
+                        start,
+                        end
+                    );
+                } else {
+                    for (int i = start; i < end; ++i) {
+                        uniqueResults[originalOrder[i]] = subBatchResults.get(i - start);
+                    }
+                }
+                onSubBatchDone();
+            }, exception -> {
+                failSubBatch(exception, start, end);
+                onSubBatchDone();
+            });
+        }
+
+        private void failSubBatch(Exception exception, int start, int end) {
+            for (int i = start; i < end; ++i) {
+                uniqueExceptions.set(originalOrder[i], exception);
+            }
+        }
+
+        private void onSubBatchDone() {
+            dispatchNextSubBatch();
+            // the counter update publishes results written by completed sub batches to the thread finishing the batch
+            if (pendingSubBatches.decrementAndGet() == 0) {
+                List<Exception> textExceptions = new ArrayList<>(uniqueIndexOfTexts.length);
+                for (int uniqueIndex : uniqueIndexOfTexts) {
+                    textExceptions.add(uniqueExceptions.get(uniqueIndex));
                 }
-                List<?> inferenceResults = results.subList(startIndex, startIndex + dataForInference.getInferenceList().size());
-                startIndex += dataForInference.getInferenceList().size();
+                List<?> results = expandToDuplicates(Arrays.asList(uniqueResults), uniqueIndexOfTexts);
+                setResultsToDocuments(dataForInferences, results, textExceptions);
+                onAllDone.run();
+            }
+        }
+    }
+
+    /**
+     * Sets inference results to the documents sent for inference, documents owning a text whose inference failed get the
+     * exception instead
+     * @param results inference results in the order of the inference texts
+     * @param textExceptions inference exceptions in the order of the inference texts, null if no inference failed
+     */
+    private void setResultsToDocuments(List<DataForInference> dataForInferences, List<?> results, List<Exception> textExceptions) {
+        int startIndex = 0;
+        for (DataForInference dataForInference : dataForInferences) {
+            IngestDocumentWrapper ingestDocumentWrapper = dataForInference.getIngestDocumentWrapper();
+            if (ingestDocumentWrapper.getException() != null || CollectionUtils.isEmpty(dataForInference.getInferenceList())) {
+                continue;
+            }
+            int endIndex = startIndex + dataForInference.getInferenceList().size();
+            Exception exception = textExceptions == null
+                ? null
+                : textExceptions.subList(startIndex, endIndex).stream().filter(Objects::nonNull).findFirst().orElse(null);
+            if (exception != null) {
+                ingestDocumentWrapper.update(ingestDocumentWrapper.getIngestDocument(), exception);
+            } else {
                 setVectorFieldsToDocument(
-                    dataForInference.getIngestDocumentWrapper().getIngestDocument(),
+                    ingestDocumentWrapper.getIngestDocument(),
                     dataForInference.getProcessMap(),
-                    inferenceResults
+                    results.subList(startIndex, endIndex)
                 );
             }
-            handler.accept(ingestDocumentWrappers);
-        }, exception -> {
-            for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
-                // The IngestDocumentWrapper might already run into exception and not sent for inference. So here we only
-                // set exception to IngestDocumentWrapper which doesn't have exception before.
-                if (ingestDocumentWrapper.getException() == null) {
-                    ingestDocumentWrapper.update(ingestDocumentWrapper.getIngestDocument(), exception);
-                }
+            startIndex = endIndex;
+        }
+    }
+
+    private void setExceptionToDocuments(List<IngestDocumentWrapper> ingestDocumentWrappers, Exception exception) {
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            // The IngestDocumentWrapper might already run into exception and not sent for inference. So here we only
+            // set exception to IngestDocumentWrapper which doesn't have exception before.
+            if (ingestDocumentWrapper.getException() == null) {
+                ingestDocumentWrapper.update(ingestDocumentWrapper.getIngestDocument(), exception);
             }
-            handler.accept(ingestDocumentWrappers);
-        });
+        }
     }
 
-    private Tuple<List<String>, Map<Integer, Integer>> sortByLengthAndReturnOriginalOrder(List<String> inferenceList) {
-        List<Tuple<Integer, String>> docsWithIndex = new ArrayList<>();
-        for (int i = 0; i < inferenceList.size(); ++i) {
-            docsWithIndex.add(Tuple.tuple(i, inferenceList.get(i)));
+    /**
+     * Sorts the inference texts by length, the returned array maps the position in the sorted list to the position in
+     * the original list
+     */
+    private Tuple<List<String>, int[]> sortByLengthAndReturnOriginalOrder(List<String> inferenceList) {
+        Integer[] sortedIndices = new Integer[inferenceList.size()];
+        for (int i = 0; i < sortedIndices.length; ++i) {
+            sortedIndices[i] = i;
         }
-        docsWithIndex.sort(Comparator.comparingInt(t -> t.v2().length()));
-        List<String> sortedInferenceList = docsWithIndex.stream().map(Tuple::v2).collect(Collectors.toList());
-        Map<Integer, Integer> originalOrderMap = new HashMap<>();
-        for (int i = 0; i < docsWithIndex.size(); ++i) {
-            originalOrderMap.put(i, docsWithIndex.get(i).v1());
+        Arrays.sort(sortedIndices, Comparator.comparingInt(i -> inferenceList.get(i).length()));
+        List<String> sortedInferenceList = new ArrayList<>(sortedIndices.length);
+        int[] originalOrder = new int[sortedIndices.length];
+        for (int i = 0; i < sortedIndices.length; ++i) {
+            sortedInferenceList.add(inferenceList.get(sortedIndices[i]));
+            originalOrder[i] = sortedIndices[i];
         }
-        return Tuple.tuple(sortedInferenceList, originalOrderMap);
+        return Tuple.tuple(sortedInferenceList, originalOrder);
     }
 
-    private List<?> restoreToOriginalOrder(List<?> results, Map<Integer, Integer> originalOrder) {
-        List<Object> sortedResults = Arrays.asList(results.toArray());
+    private List<?> restoreToOriginalOrder(List<?> results, int[] originalOrder) {
+        Object[] sortedResults = new Object[results.size()];
         for (int i = 0; i < results.size(); ++i) {
-            if (!originalOrder.containsKey(i)) continue;
-            int oldIndex = originalOrder.get(i);
-            sortedResults.set(oldIndex, results.get(i));
+            if (i >= originalOrder.length) {
+                sortedResults[i] = results.get(i);
+                continue;
+            }
+            sortedResults[originalOrder[i]] = results.get(i);
         }
-        return sortedResults;
+        return Arrays.asList(sortedResults);
     }
 
     private List<String> constructInferenceTexts(List<DataForInference> dataForInferences) {
@@ -295,55 +745,22 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
 
     @VisibleForTesting
     Map<String, Object> buildMapWithTargetKeys(IngestDocument ingestDocument) {
-        Map<String, Object> sourceAndMetadataMap = ingestDocument.getSourceAndMetadata();
-        Map<String, Object> mapWithProcessorKeys = new LinkedHashMap<>();
-        for (Map.Entry<String, Object> fieldMapEntry : fieldMap.entrySet()) {
-            Pair<String, Object> processedNestedKey = processNestedKey(fieldMapEntry);
-            String originalKey = processedNestedKey.getKey();
-            Object targetKey = processedNestedKey.getValue();
-
-            if (targetKey instanceof Map) {
-                Map<String, Object> treeRes = new LinkedHashMap<>();
-                buildNestedMap(originalKey, targetKey, sourceAndMetadataMap, treeRes);
-                mapWithProcessorKeys.put(originalKey, treeRes.get(originalKey));
-            } else {
-                mapWithProcessorKeys.put(String.valueOf(targetKey), sourceAndMetadataMap.get(originalKey));
-            }
-        }
-        return mapWithProcessorKeys;
+        return buildMapWithTargetKeys(ingestDocument, fieldMapAccessPlan);
+    }
+
+    /**
+     * Maps target keys of the compiled field map to the values of the source fields in the document
+     * @param ingestDocument document to read the source fields from
+     * @param accessPlan field map with the same structure as the field_map of the processor, compiled into an access plan
+     * @return map of target keys to source values
+     */
+    protected Map<String, Object> buildMapWithTargetKeys(IngestDocument ingestDocument, FieldMapAccessPlan accessPlan) {
+        return accessPlan.extract(ingestDocument.getSourceAndMetadata());
     }
 
     @VisibleForTesting
     void buildNestedMap(String parentKey, Object processorKey, Map<String, Object> sourceAndMetadataMap, Map<String, Object> treeRes) {
-        if (Objects.isNull(processorKey) || Objects.isNull(sourceAndMetadataMap)) {
-            return;
-        }
-        if (processorKey instanceof Map) {
-            Map<String, Object> next = new LinkedHashMap<>();
-            if (sourceAndMetadataMap.get(parentKey) instanceof Map) {
-                for (Map.Entry<String, Object> nestedFieldMapEntry : ((Map<String, Object>) processorKey).entrySet()) {
-                    Pair<String, Object> processedNestedKey = processNestedKey(nestedFieldMapEntry);
-                    buildNestedMap(
-                        processedNestedKey.getKey(),
-                        processedNestedKey.getValue(),
-                        (Map<String, Object>) sourceAndMetadataMap.get(parentKey),
-                        next
-                    );
-                }
-            } else if (sourceAndMetadataMap.get(parentKey) instanceof List) {
-                for (Map.Entry<String, Object> nestedFieldMapEntry : ((Map<String, Object>) processorKey).entrySet()) {
-                    List<Map<String, Object>> list = (List<Map<String, Object>>) sourceAndMetadataMap.get(parentKey);
-                    List<Object> listOfStrings = list.stream().map(x -> x.get(nestedFieldMapEntry.getKey())).collect(Collectors.toList());
-                    Map<String, Object> map = new LinkedHashMap<>();
-                    map.put(nestedFieldMapEntry.getKey(), listOfStrings);
-                    buildNestedMap(nestedFieldMapEntry.getKey(), nestedFieldMapEntry.getValue(), map, next);
-                }
-            }
-            treeRes.merge(parentKey, next, REMAPPING_FUNCTION);
-        } else {
-            String key = String.valueOf(processorKey);
-            treeRes.put(key, sourceAndMetadataMap.get(parentKey));
-        }
+        FieldMapAccessPlan.extractField(parentKey, processorKey, sourceAndMetadataMap, treeRes);
     }
 
     /**
@@ -373,23 +790,46 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
             FIELD_MAP_FIELD,
             sourceAndMetadataMap,
             fieldMap,
-            indexName,
-            clusterService,
-            environment,
+            indexSettingsCache.getMappingDepthLimit(indexName),
             false
         );
     }
 
     protected void setVectorFieldsToDocument(IngestDocument ingestDocument, Map<String, Object> processorMap, List<?> results) {
+        setVectorFieldsToDocument(ingestDocument, processorMap, results, listTypeNestedMapKey);
+    }
+
+    /**
+     * Writes inference results to the target fields of the process map
+     * @param ingestDocument document to write the results to
+     * @param processorMap map of target keys to source values
+     * @param results inference results in the order of the texts extracted from the process map
+     * @param listTypeNestedMapKey key of the result in the objects created for list type source fields
+     */
+    protected void setVectorFieldsToDocument(
+        IngestDocument ingestDocument,
+        Map<String, Object> processorMap,
+        List<?> results,
+        String listTypeNestedMapKey
+    ) {
         Objects.requireNonNull(results, "embedding failed, inference returns null result!");
         log.debug("Model inference result fetched, starting build vector output!");
-        Map<String, Object> nlpResult = buildNLPResult(processorMap, results, ingestDocument.getSourceAndMetadata());
+        Map<String, Object> nlpResult = buildNLPResult(processorMap, results, ingestDocument.getSourceAndMetadata(), listTypeNestedMapKey);
         nlpResult.forEach(ingestDocument::setFieldValue);
     }
 
-    @SuppressWarnings({ "unchecked" })
     @VisibleForTesting
     Map<String, Object> buildNLPResult(Map<String, Object> processorMap, List<?> results, Map<String, Object> sourceAndMetadataMap) {
+        return buildNLPResult(processorMap, results, sourceAndMetadataMap, listTypeNestedMapKey);
+    }
+
+    @SuppressWarnings({ "unchecked" })
+    private Map<String, Object> buildNLPResult(
+        Map<String, Object> processorMap,
+        List<?> results,
+        Map<String, Object> sourceAndMetadataMap,
+        String listTypeNestedMapKey
+    ) {
         IndexWrapper indexWrapper = new IndexWrapper(0);
         Map<String, Object> result = new LinkedHashMap<>();
         for (Map.Entry<String, Object> knnMapEntry : processorMap.entrySet()) {
@@ -399,9 +839,9 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
             if (sourceValue instanceof String) {
                 result.put(knnKey, results.get(indexWrapper.index++));
             } else if (sourceValue instanceof List) {
-                result.put(knnKey, buildNLPResultForListType((List<String>) sourceValue, results, indexWrapper));
+                result.put(knnKey, buildNLPResultForListType((List<String>) sourceValue, results, indexWrapper, listTypeNestedMapKey));
             } else if (sourceValue instanceof Map) {
-                putNLPResultToSourceMapForMapType(knnKey, sourceValue, results, indexWrapper, sourceAndMetadataMap);
+                putNLPResultToSourceMapForMapType(knnKey, sourceValue, results, indexWrapper, sourceAndMetadataMap, listTypeNestedMapKey);
             }
         }
         return result;
@@ -413,7 +853,8 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         Object sourceValue,
         List<?> results,
         IndexWrapper indexWrapper,
-        Map<String, Object> sourceAndMetadataMap
+        Map<String, Object> sourceAndMetadataMap,
+        String listTypeNestedMapKey
     ) {
         if (processorKey == null || sourceAndMetadataMap == null || sourceValue == null) return;
         if (sourceValue instanceof Map) {
@@ -441,7 +882,8 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
                         processedNestedKey.getValue(),
                         results,
                         indexWrapper,
-                        sourceMap
+                        sourceMap,
+                        listTypeNestedMapKey
                     );
                 }
             }
@@ -450,13 +892,18 @@ public abstract class InferenceProcessor extends AbstractBatchingProcessor {
         } else if (sourceValue instanceof List) {
             sourceAndMetadataMap.merge(
                 processorKey,
-                buildNLPResultForListType((List<String>) sourceValue, results, indexWrapper),
+                buildNLPResultForListType((List<String>) sourceValue, results, indexWrapper, listTypeNestedMapKey),
                 REMAPPING_FUNCTION
             );
         }
     }
 
-    private List<Map<String, Object>> buildNLPResultForListType(List<String> sourceValue, List<?> results, IndexWrapper indexWrapper) {
+    private List<Map<String, Object>> buildNLPResultForListType(
+        List<String> sourceValue,
+        List<?> results,
+        IndexWrapper indexWrapper,
+        String listTypeNestedMapKey
+    ) {
         List<Map<String, Object>> keyToResult = new ArrayList<>();
         IntStream.range(0, sourceValue.size())
             .forEachOrdered(x -> keyToResult.add(ImmutableMap.of(listTypeNestedMapKey, results.get(indexWrapper.index++))));
@@ -14,6 +14,7 @@ import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.neuralsearch.query.NeuralSparseQueryBuilder;
+import org.opensearch.neuralsearch.util.SparseVector;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.pipeline.AbstractProcessor;
 import org.opensearch.search.pipeline.Processor;
@@ -21,11 +22,10 @@ import org.opensearch.search.pipeline.SearchRequestProcessor;
 import org.opensearch.search.rescore.QueryRescorerBuilder;
 import org.opensearch.search.rescore.RescorerBuilder;
 
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * A SearchRequestProcessor to generate two-phase NeuralSparseQueryBuilder,
@@ -131,27 +131,37 @@ public class NeuralSparseTwoPhaseProcessor extends AbstractProcessor implements
         if (Objects.isNull(queryTokens)) {
             throw new IllegalArgumentException("Query tokens cannot be null or empty.");
         }
-        float max = 0f;
-        for (Float value : queryTokens.values()) {
-            max = Math.max(value, max);
-        }
-        float threshold = max * thresholdRatio;
+        SparseVector sparseVector = SparseVector.fromModelOutput(queryTokens);
+        boolean[] highScore = markFeaturesAtLeastRatioedMaxWeight(sparseVector, thresholdRatio);
 
-        Map<Boolean, Map<String, Float>> queryTokensByScore = queryTokens.entrySet()
-            .stream()
-            .collect(
-                Collectors.partitioningBy(entry -> entry.getValue() >= threshold, Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
-            );
+        Map<String, Float> highScoreTokens = new HashMap<>();
+        Map<String, Float> lowScoreTokens = new HashMap<>();
+        for (int i = 0; i < highScore.length; i++) {
+            Map<String, Float> tokens = highScore[i] ? highScoreTokens : lowScoreTokens;
+            tokens.put(sparseVector.getToken(i), sparseVector.getWeight(i));
+        }
+        return Tuple.tuple(highScoreTokens, lowScoreTokens);
+    }
 
-        Map<String, Float> highScoreTokens = queryTokensByScore.get(Boolean.TRUE);
-        Map<String, Float> lowScoreTokens = queryTokensByScore.get(Boolean.FALSE);
-        if (Objects.isNull(highScoreTokens)) {
-            highScoreTokens = Collections.emptyMap();
+    /**
+     * Marks the features with weight at least thresholdRatio times the max weight of the vector. Weights are read from the
+     * vector arrays without boxing. Used to split query tokens here and by max_ratio pruning of {@link SparsePruningOptions}.
+     *
+     * @param sparseVector sparse vector
+     * @param thresholdRatio ratio of the max weight used as threshold
+     * @return flag for every feature of the vector, in the order of the features
+     */
+    public static boolean[] markFeaturesAtLeastRatioedMaxWeight(final SparseVector sparseVector, final float thresholdRatio) {
+        float max = 0f;
+        for (int i = 0; i < sparseVector.size(); i++) {
+            max = Math.max(sparseVector.getWeight(i), max);
         }
-        if (Objects.isNull(lowScoreTokens)) {
-            lowScoreTokens = Collections.emptyMap();
+        float threshold = max * thresholdRatio;
+        boolean[] atLeastThreshold = new boolean[sparseVector.size()];
+        for (int i = 0; i < atLeastThreshold.length; i++) {
+            atLeastThreshold[i] = sparseVector.getWeight(i) >= threshold;
         }
-        return Tuple.tuple(highScoreTokens, lowScoreTokens);
+        return atLeastThreshold;
     }
 
     private QueryBuilder getNestedQueryBuilderFromNeuralSparseQueryBuilderMap(
@@ -4,6 +4,7 @@
  */
 package org.opensearch.neuralsearch.processor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
@@ -14,6 +15,7 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.env.Environment;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.util.SparseVector;
 import org.opensearch.neuralsearch.util.TokenWeightUtil;
 
 import lombok.extern.log4j.Log4j2;
@@ -21,6 +23,8 @@ import lombok.extern.log4j.Log4j2;
 /**
  * This processor is used for user input data text sparse encoding processing, model_id can be used to indicate which model user use,
  * and field_map can be used to indicate which fields needs text embedding and the corresponding keys for the sparse encoding results.
+ * Sparse vectors are pruned according to prune_type and prune_ratio before they are written to the document, see
+ * {@link SparsePruningOptions}.
  */
 @Log4j2
 public final class SparseEncodingProcessor extends InferenceProcessor {
@@ -28,6 +32,37 @@ public final class SparseEncodingProcessor extends InferenceProcessor {
     public static final String TYPE = "sparse_encoding";
     public static final String LIST_TYPE_NESTED_MAP_KEY = "sparse_encoding";
 
+    private final SparsePruningOptions pruningOptions;
+    private final SparsePruningStats pruningStats;
+
+    public SparseEncodingProcessor(
+        String tag,
+        String description,
+        int batchSize,
+        String modelId,
+        Map<String, Object> fieldMap,
+        MLCommonsClientAccessor clientAccessor,
+        Environment environment,
+        ClusterService clusterService,
+        SubBatchOptions subBatchOptions,
+        ExistingEmbeddingLookup existingEmbeddingLookup
+    ) {
+        this(
+            tag,
+            description,
+            batchSize,
+            modelId,
+            fieldMap,
+            clientAccessor,
+            environment,
+            clusterService,
+            subBatchOptions,
+            existingEmbeddingLookup,
+            SparsePruningOptions.NONE,
+            new SparsePruningStats()
+        );
+    }
+
     public SparseEncodingProcessor(
         String tag,
         String description,
@@ -36,9 +71,28 @@ public final class SparseEncodingProcessor extends InferenceProcessor {
         Map<String, Object> fieldMap,
         MLCommonsClientAccessor clientAccessor,
         Environment environment,
-        ClusterService clusterService
+        ClusterService clusterService,
+        SubBatchOptions subBatchOptions,
+        ExistingEmbeddingLookup existingEmbeddingLookup,
+        SparsePruningOptions pruningOptions,
+        SparsePruningStats pruningStats
     ) {
-        super(tag, description, batchSize, TYPE, LIST_TYPE_NESTED_MAP_KEY, modelId, fieldMap, clientAccessor, environment, clusterService);
+        super(
+            tag,
+            description,
+            batchSize,
+            TYPE,
+            LIST_TYPE_NESTED_MAP_KEY,
+            modelId,
+            fieldMap,
+            clientAccessor,
+            environment,
+            clusterService,
+            subBatchOptions,
+            existingEmbeddingLookup
+        );
+        this.pruningOptions = pruningOptions;
+        this.pruningStats = pruningStats;
     }
 
     @Override
@@ -49,7 +103,7 @@ public final class SparseEncodingProcessor extends InferenceProcessor {
         BiConsumer<IngestDocument, Exception> handler
     ) {
         mlCommonsClientAccessor.inferenceSentencesWithMapResult(this.modelId, inferenceList, ActionListener.wrap(resultMaps -> {
-            setVectorFieldsToDocument(ingestDocument, ProcessMap, TokenWeightUtil.fetchListOfTokenWeightMap(resultMaps));
+            setVectorFieldsToDocument(ingestDocument, ProcessMap, toPrunedTokenWeights(resultMaps));
             handler.accept(ingestDocument, null);
         }, e -> { handler.accept(null, e); }));
     }
@@ -59,7 +113,30 @@ public final class SparseEncodingProcessor extends InferenceProcessor {
         mlCommonsClientAccessor.inferenceSentencesWithMapResult(
             this.modelId,
             inferenceList,
-            ActionListener.wrap(resultMaps -> handler.accept(TokenWeightUtil.fetchListOfTokenWeightMap(resultMaps)), onException)
+            ActionListener.wrap(resultMaps -> handler.accept(toPrunedTokenWeights(resultMaps)), onException)
         );
     }
+
+    /**
+     * Parses the sparse vectors returned by the model, prunes them and counts the removed features in the node level
+     * {@link SparsePruningStats}. Vectors are pruned on their token and weight arrays and written to documents as modifiable
+     * maps, later processors and scripts may change them.
+     */
+    private List<Map<String, Float>> toPrunedTokenWeights(final List<Map<String, ?>> resultMaps) {
+        if (!pruningOptions.isEnabled()) {
+            return TokenWeightUtil.fetchListOfModifiableTokenWeightMap(resultMaps);
+        }
+        List<SparseVector> sparseVectors = TokenWeightUtil.fetchListOfSparseVectors(resultMaps);
+        List<Map<String, Float>> prunedList = new ArrayList<>(sparseVectors.size());
+        long total = 0;
+        long kept = 0;
+        for (SparseVector sparseVector : sparseVectors) {
+            SparseVector pruned = pruningOptions.prune(sparseVector);
+            total += sparseVector.size();
+            kept += pruned.size();
+            prunedList.add(pruned.toMap());
+        }
+        pruningStats.add(total, total - kept);
+        return prunedList;
+    }
 }
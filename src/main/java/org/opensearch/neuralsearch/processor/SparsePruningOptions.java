@@ -0,0 +1,225 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor;
+
+import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
+import static org.opensearch.ingest.ConfigurationUtils.readObject;
+import static org.opensearch.ingest.ConfigurationUtils.readOptionalStringProperty;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.opensearch.neuralsearch.util.SparseVector;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Options controlling how sparse vectors returned by the model are pruned before they are written to the document by
+ * {@link SparseEncodingProcessor}. Models return hundreds of features with weights close to zero for every text, they add
+ * little to the relevance but make postings lists longer and feature queries slower.
+ *
+ * Supported prune types, prune_ratio is the parameter of the type:
+ * 1. top_k: keeps the prune_ratio features with the highest weights
+ * 2. max_ratio: keeps features with weight at least prune_ratio times the max weight
+ * 3. abs_value: keeps features with weight at least prune_ratio
+ * 4. alpha_mass: keeps the highest weighted features until their sum reaches prune_ratio of the total weight
+ */
+@Getter
+@AllArgsConstructor
+public final class SparsePruningOptions {
+    public static final String PRUNE_TYPE_FIELD = "prune_type";
+    public static final String PRUNE_RATIO_FIELD = "prune_ratio";
+
+    public static final SparsePruningOptions NONE = new SparsePruningOptions(PruneType.NONE, 0f);
+
+    /**
+     * Type of pruning applied to sparse vectors
+     */
+    public enum PruneType {
+        NONE,
+        TOP_K,
+        MAX_RATIO,
+        ABS_VALUE,
+        ALPHA_MASS;
+
+        /**
+         * @return name of the prune type in the processor configuration
+         */
+        public String getValue() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * @param value name of the prune type in the processor configuration
+         * @return prune type
+         */
+        public static PruneType fromString(final String value) {
+            for (PruneType pruneType : values()) {
+                if (pruneType.getValue().equals(value)) {
+                    return pruneType;
+                }
+            }
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "Unknown prune type [%s]", value));
+        }
+    }
+
+    private final PruneType pruneType;
+    private final float pruneRatio;
+
+    /**
+     * Reads pruning options from the processor configuration, vectors aren't pruned if prune_type is missing
+     *
+     * @param processorType type of the processor
+     * @param processorTag tag of the processor
+     * @param config processor configuration
+     * @return parsed options
+     */
+    public static SparsePruningOptions readFromConfig(
+        final String processorType,
+        final String processorTag,
+        final Map<String, Object> config
+    ) {
+        String pruneTypeValue = readOptionalStringProperty(processorType, processorTag, config, PRUNE_TYPE_FIELD);
+        PruneType pruneType;
+        try {
+            pruneType = Objects.isNull(pruneTypeValue) ? PruneType.NONE : PruneType.fromString(pruneTypeValue);
+        } catch (IllegalArgumentException e) {
+            throw newConfigurationException(processorType, processorTag, PRUNE_TYPE_FIELD, e.getMessage());
+        }
+        if (pruneType == PruneType.NONE) {
+            if (config.containsKey(PRUNE_RATIO_FIELD)) {
+                throw newConfigurationException(processorType, processorTag, PRUNE_RATIO_FIELD, "requires a prune_type");
+            }
+            return NONE;
+        }
+        Object pruneRatioValue = readObject(processorType, processorTag, config, PRUNE_RATIO_FIELD);
+        float pruneRatio;
+        try {
+            pruneRatio = Float.parseFloat(pruneRatioValue.toString());
+        } catch (NumberFormatException e) {
+            throw newConfigurationException(processorType, processorTag, PRUNE_RATIO_FIELD, "must be a number");
+        }
+        if (!isValidRatio(pruneType, pruneRatio)) {
+            throw newConfigurationException(
+                processorType,
+                processorTag,
+                PRUNE_RATIO_FIELD,
+                String.format(Locale.ROOT, "is not valid for prune type [%s]", pruneType.getValue())
+            );
+        }
+        return new SparsePruningOptions(pruneType, pruneRatio);
+    }
+
+    private static boolean isValidRatio(final PruneType pruneType, final float pruneRatio) {
+        switch (pruneType) {
+            case TOP_K:
+                return pruneRatio >= 1 && pruneRatio == Math.rint(pruneRatio);
+            case MAX_RATIO:
+            case ALPHA_MASS:
+                return pruneRatio >= 0 && pruneRatio < 1;
+            case ABS_VALUE:
+                return pruneRatio >= 0;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * @return true if sparse vectors are pruned
+     */
+    public boolean isEnabled() {
+        return pruneType != PruneType.NONE;
+    }
+
+    /**
+     * Prunes a sparse vector, weights are read from the vector arrays without boxing
+     *
+     * @param sparseVector sparse vector returned by the model
+     * @return the sparse vector itself if pruning is disabled or keeps all features, otherwise a new vector with the kept features
+     */
+    public SparseVector prune(final SparseVector sparseVector) {
+        switch (pruneType) {
+            case TOP_K:
+                return retainTopK(sparseVector, (int) pruneRatio, sortedWeights(sparseVector));
+            case MAX_RATIO:
+                // same threshold as the two-phase search processor uses to split query tokens
+                return sparseVector.retain(NeuralSparseTwoPhaseProcessor.markFeaturesAtLeastRatioedMaxWeight(sparseVector, pruneRatio));
+            case ABS_VALUE:
+                return retainAtLeast(sparseVector, pruneRatio);
+            case ALPHA_MASS:
+                float[] sortedWeights = sortedWeights(sparseVector);
+                return retainTopK(sparseVector, countTopWeightsWithinMass(sortedWeights, pruneRatio), sortedWeights);
+            default:
+                return sparseVector;
+        }
+    }
+
+    private static SparseVector retainAtLeast(final SparseVector sparseVector, final float threshold) {
+        boolean[] keep = new boolean[sparseVector.size()];
+        for (int i = 0; i < keep.length; i++) {
+            keep[i] = sparseVector.getWeight(i) >= threshold;
+        }
+        return sparseVector.retain(keep);
+    }
+
+    /**
+     * Keeps the k highest weights, features tied with the k-th highest weight are kept in token order until k features are kept
+     */
+    private static SparseVector retainTopK(final SparseVector sparseVector, final int k, final float[] sortedWeights) {
+        if (sparseVector.size() <= k) {
+            return sparseVector;
+        }
+        float threshold = sortedWeights[sortedWeights.length - k];
+        int tiesToKeep = k;
+        for (int i = 0; i < sparseVector.size(); i++) {
+            if (sparseVector.getWeight(i) > threshold) {
+                tiesToKeep--;
+            }
+        }
+        boolean[] keep = new boolean[sparseVector.size()];
+        for (int i = 0; i < keep.length; i++) {
+            float weight = sparseVector.getWeight(i);
+            if (weight > threshold) {
+                keep[i] = true;
+            } else if (weight == threshold && tiesToKeep > 0) {
+                keep[i] = true;
+                tiesToKeep--;
+            }
+        }
+        return sparseVector.retain(keep);
+    }
+
+    /**
+     * @return number of the highest weights whose sum reaches alpha of the total weight
+     */
+    private static int countTopWeightsWithinMass(final float[] sortedWeights, final float alpha) {
+        double totalWeight = 0;
+        for (float weight : sortedWeights) {
+            totalWeight += weight;
+        }
+        int count = 0;
+        double keptWeight = 0;
+        for (int i = sortedWeights.length - 1; i >= 0 && keptWeight < alpha * totalWeight; i--) {
+            keptWeight += sortedWeights[i];
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return weights of the vector in ascending order
+     */
+    private static float[] sortedWeights(final SparseVector sparseVector) {
+        float[] weights = new float[sparseVector.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = sparseVector.getWeight(i);
+        }
+        Arrays.sort(weights);
+        return weights;
+    }
+}
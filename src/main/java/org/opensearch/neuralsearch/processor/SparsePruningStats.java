@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Node level counters of sparse features returned by models and removed by pruning in {@link SparseEncodingProcessor}.
+ * One instance is shared by all sparse_encoding processors of the node, so counters survive pipeline updates, and it's
+ * logged periodically by {@link org.opensearch.neuralsearch.ml.InferenceStatsLogger}.
+ */
+public final class SparsePruningStats {
+    private final LongAdder totalFeatureCount = new LongAdder();
+    private final LongAdder prunedFeatureCount = new LongAdder();
+
+    /**
+     * @param totalCount number of features returned by the model
+     * @param prunedCount number of those features removed by pruning
+     */
+    public void add(final long totalCount, final long prunedCount) {
+        totalFeatureCount.add(totalCount);
+        prunedFeatureCount.add(prunedCount);
+    }
+
+    /**
+     * @return number of features returned by the model for pruned texts since the node started
+     */
+    public long getTotalFeatureCount() {
+        return totalFeatureCount.sum();
+    }
+
+    /**
+     * @return number of features removed by pruning since the node started
+     */
+    public long getPrunedFeatureCount() {
+        return prunedFeatureCount.sum();
+    }
+}
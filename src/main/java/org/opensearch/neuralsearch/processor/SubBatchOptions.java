@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor;
+
+import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
+import static org.opensearch.ingest.ConfigurationUtils.readIntProperty;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Options controlling how the texts of a batch of documents are split into predict requests by {@link InferenceProcessor}.
+ * The texts are split into sub batches bounded by the number of texts and the estimated number of tokens, sub batches are
+ * sent to the model concurrently, at most maxConcurrency of them in flight at a time.
+ */
+@Getter
+@AllArgsConstructor
+public final class SubBatchOptions {
+    public static final String MAX_TEXTS_FIELD = "sub_batch_max_texts";
+    public static final String MAX_TOKENS_FIELD = "sub_batch_max_tokens";
+    public static final String MAX_CONCURRENCY_FIELD = "max_concurrent_sub_batches";
+
+    // 0 means there is no limit, so by default all texts of a batch are sent in one predict request
+    private static final int DEFAULT_MAX_TEXTS = 0;
+    private static final int DEFAULT_MAX_TOKENS = 0;
+    private static final int DEFAULT_MAX_CONCURRENCY = 1;
+
+    public static final SubBatchOptions DEFAULT = new SubBatchOptions(DEFAULT_MAX_TEXTS, DEFAULT_MAX_TOKENS, DEFAULT_MAX_CONCURRENCY);
+
+    // a rough estimation for subword tokenizers, which produce a token per ~4 characters of english text on average
+    private static final int CHARS_PER_TOKEN = 4;
+
+    private final int maxTexts;
+    private final int maxTokens;
+    private final int maxConcurrency;
+
+    /**
+     * Reads sub batch options from the processor configuration, missing options get default values
+     *
+     * @param processorType type of the processor
+     * @param processorTag tag of the processor
+     * @param config processor configuration
+     * @return parsed options
+     */
+    public static SubBatchOptions readFromConfig(final String processorType, final String processorTag, final Map<String, Object> config) {
+        int maxTexts = readIntProperty(processorType, processorTag, config, MAX_TEXTS_FIELD, DEFAULT_MAX_TEXTS);
+        int maxTokens = readIntProperty(processorType, processorTag, config, MAX_TOKENS_FIELD, DEFAULT_MAX_TOKENS);
+        int maxConcurrency = readMaxConcurrencyFromConfig(processorType, processorTag, config, DEFAULT_MAX_CONCURRENCY);
+        if (maxTexts < 0) {
+            throw newConfigurationException(processorType, processorTag, MAX_TEXTS_FIELD, "must be a non-negative integer");
+        }
+        if (maxTokens < 0) {
+            throw newConfigurationException(processorType, processorTag, MAX_TOKENS_FIELD, "must be a non-negative integer");
+        }
+        return new SubBatchOptions(maxTexts, maxTokens, maxConcurrency);
+    }
+
+    /**
+     * Reads only the maximum number of concurrent predict requests, for processors that send a single input per request
+     *
+     * @param processorType type of the processor
+     * @param processorTag tag of the processor
+     * @param config processor configuration
+     * @param defaultMaxConcurrency value used when the option is missing
+     * @return maximum number of concurrent predict requests of a batch
+     */
+    public static int readMaxConcurrencyFromConfig(
+        final String processorType,
+        final String processorTag,
+        final Map<String, Object> config,
+        final int defaultMaxConcurrency
+    ) {
+        int maxConcurrency = readIntProperty(processorType, processorTag, config, MAX_CONCURRENCY_FIELD, defaultMaxConcurrency);
+        if (maxConcurrency < 1) {
+            throw newConfigurationException(processorType, processorTag, MAX_CONCURRENCY_FIELD, "must be a positive integer");
+        }
+        return maxConcurrency;
+    }
+
+    /**
+     * Estimates number of model tokens in the text without running the model tokenizer
+     *
+     * @param text input text
+     * @return estimated number of tokens, at least 1
+     */
+    public static int estimateTokenCount(final String text) {
+        return Math.max(1, (text.length() + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN);
+    }
+
+    /**
+     * Checks if another text can be added to a sub batch
+     *
+     * @param textCount number of texts already in the sub batch
+     * @param tokenCount estimated number of tokens already in the sub batch
+     * @param textTokenCount estimated number of tokens of the text to add
+     * @return true if the text fits into the sub batch, an empty sub batch always accepts a text
+     */
+    boolean fits(final int textCount, final long tokenCount, final int textTokenCount) {
+        if (textCount == 0) {
+            return true;
+        }
+        if (maxTexts > 0 && textCount >= maxTexts) {
+            return false;
+        }
+        return maxTokens <= 0 || tokenCount + textTokenCount <= maxTokens;
+    }
+}
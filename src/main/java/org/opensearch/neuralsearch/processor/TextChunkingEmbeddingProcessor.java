@@ -0,0 +1,349 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.StringUtils;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.env.Environment;
+import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.index.mapper.IndexFieldMapper;
+import org.opensearch.ingest.AbstractProcessor;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.processor.chunker.Chunker;
+import org.opensearch.neuralsearch.processor.chunker.FixedTokenLengthChunker;
+import org.opensearch.neuralsearch.util.IndexSettingsCache;
+
+import lombok.extern.log4j.Log4j2;
+
+import static org.opensearch.neuralsearch.processor.chunker.Chunker.CHUNK_STRING_COUNT_FIELD;
+import static org.opensearch.neuralsearch.processor.chunker.Chunker.DISABLED_MAX_CHUNK_LIMIT;
+import static org.opensearch.neuralsearch.processor.chunker.Chunker.MAX_CHUNK_LIMIT_FIELD;
+import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseInteger;
+
+/**
+ * This processor chunks text fields and embeds the chunks in one step. Passages produced by the chunking algorithm are
+ * collected into inference batches of inference_batch_size passages, and a batch is sent to the model as soon as it's
+ * full, so inference of the first passages runs while the rest of the document is still being chunked. At most
+ * max_concurrent_batches batches of a document are in flight, further full batches wait until one of them completes. The document
+ * doesn't hold a separate list of passages between chunking and embedding, every passage is written once into a chunk
+ * object of the target field and gets its embedding when the response of its batch arrives.
+ *
+ * field_map maps top level source fields, a string or a list of strings, to target fields. A target field is a list of
+ * objects with the passage in "text" and its embedding in "knn".
+ */
+@Log4j2
+public final class TextChunkingEmbeddingProcessor extends AbstractProcessor {
+
+    public static final String TYPE = "text_chunking_embedding";
+    public static final String MODEL_ID_FIELD = "model_id";
+    public static final String FIELD_MAP_FIELD = "field_map";
+    public static final String ALGORITHM_FIELD = TextChunkingProcessor.ALGORITHM_FIELD;
+    public static final String INFERENCE_BATCH_SIZE_FIELD = "inference_batch_size";
+    public static final int DEFAULT_INFERENCE_BATCH_SIZE = 16;
+    public static final String MAX_CONCURRENT_BATCHES_FIELD = "max_concurrent_batches";
+    public static final int DEFAULT_MAX_CONCURRENT_BATCHES = 4;
+    public static final String CHUNK_TEXT_FIELD = "text";
+    public static final String CHUNK_EMBEDDING_FIELD = TextEmbeddingProcessor.LIST_TYPE_NESTED_MAP_KEY;
+
+    private final String modelId;
+    private final Map<String, String> fieldMap;
+    private final int inferenceBatchSize;
+    private final int maxConcurrentBatches;
+    private final int maxChunkLimit;
+    private final Chunker chunker;
+    private final MLCommonsClientAccessor mlCommonsClientAccessor;
+    private final IndexSettingsCache indexSettingsCache;
+
+    public TextChunkingEmbeddingProcessor(
+        final String tag,
+        final String description,
+        final String modelId,
+        final Map<String, String> fieldMap,
+        final Map<String, Object> algorithmMap,
+        final int inferenceBatchSize,
+        final int maxConcurrentBatches,
+        final MLCommonsClientAccessor mlCommonsClientAccessor,
+        final Environment environment,
+        final ClusterService clusterService,
+        final AnalysisRegistry analysisRegistry
+    ) {
+        super(tag, description);
+        if (StringUtils.isBlank(modelId)) {
+            throw new IllegalArgumentException("model_id is null or empty, cannot process it");
+        }
+        if (Objects.isNull(fieldMap) || fieldMap.isEmpty()) {
+            throw new IllegalArgumentException("Unable to create the processor as field_map has invalid key or value");
+        }
+        if (inferenceBatchSize < 1) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "Parameter [%s] must be a positive integer", INFERENCE_BATCH_SIZE_FIELD)
+            );
+        }
+        if (maxConcurrentBatches < 1) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "Parameter [%s] must be a positive integer", MAX_CONCURRENT_BATCHES_FIELD)
+            );
+        }
+        this.modelId = modelId;
+        this.fieldMap = fieldMap;
+        this.inferenceBatchSize = inferenceBatchSize;
+        this.maxConcurrentBatches = maxConcurrentBatches;
+        this.mlCommonsClientAccessor = mlCommonsClientAccessor;
+        this.indexSettingsCache = new IndexSettingsCache(clusterService, environment);
+        TextChunkingProcessor.ChunkingAlgorithm chunkingAlgorithm = TextChunkingProcessor.parseAlgorithmMap(
+            TYPE,
+            algorithmMap,
+            analysisRegistry,
+            environment
+        );
+        this.chunker = chunkingAlgorithm.getChunker();
+        this.maxChunkLimit = chunkingAlgorithm.getMaxChunkLimit();
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    /**
+     * Inference is asynchronous, the processor only runs through {@link #execute(IngestDocument, BiConsumer)}
+     * @param ingestDocument {@link IngestDocument} which is the document passed to processor.
+     * @return the document unchanged
+     */
+    @Override
+    public IngestDocument execute(final IngestDocument ingestDocument) {
+        return ingestDocument;
+    }
+
+    /**
+     * Chunks the source fields and sends every full batch of passages to the model while chunking continues. The handler
+     * is called once, after the responses of all batches are written to the document, or with the first failure.
+     * @param ingestDocument {@link IngestDocument} which is the document passed to processor.
+     * @param handler {@link BiConsumer} which is the handler which can be used after the inference task is done.
+     */
+    @Override
+    public void execute(final IngestDocument ingestDocument, final BiConsumer<IngestDocument, Exception> handler) {
+        BatchedEmbedding batchedEmbedding = new BatchedEmbedding(ingestDocument, handler);
+        try {
+            Map<String, Object> sourceAndMetadataMap = ingestDocument.getSourceAndMetadata();
+            Map<String, List<String>> contentsByTargetField = readSourceFields(sourceAndMetadataMap);
+            String indexName = sourceAndMetadataMap.get(IndexFieldMapper.NAME).toString();
+            // fixed token length algorithm needs runtime parameter max_token_count for tokenization
+            Map<String, Object> runtimeParameters = new HashMap<>();
+            runtimeParameters.put(FixedTokenLengthChunker.MAX_TOKEN_COUNT_FIELD, indexSettingsCache.getMaxTokenCount(indexName));
+            runtimeParameters.put(MAX_CHUNK_LIMIT_FIELD, maxChunkLimit);
+            runtimeParameters.put(CHUNK_STRING_COUNT_FIELD, contentsByTargetField.values().stream().mapToInt(List::size).sum());
+            for (Map.Entry<String, List<String>> entry : contentsByTargetField.entrySet()) {
+                List<Map<String, Object>> chunkObjects = new ArrayList<>();
+                sourceAndMetadataMap.put(entry.getKey(), chunkObjects);
+                for (String content : entry.getValue()) {
+                    chunkString(content, runtimeParameters, passage -> batchedEmbedding.add(passage, chunkObjects));
+                }
+            }
+            batchedEmbedding.finishChunking();
+        } catch (Exception e) {
+            batchedEmbedding.fail(e);
+        }
+    }
+
+    /**
+     * Reads and validates all source fields before any passage is sent to the model, keyed by target field. Empty strings
+     * are skipped, missing source fields produce an empty list of chunks.
+     */
+    private Map<String, List<String>> readSourceFields(final Map<String, Object> sourceAndMetadataMap) {
+        Map<String, List<String>> contentsByTargetField = new HashMap<>();
+        for (Map.Entry<String, String> fieldMapEntry : fieldMap.entrySet()) {
+            Object sourceValue = sourceAndMetadataMap.get(fieldMapEntry.getKey());
+            List<String> contents = new ArrayList<>();
+            if (sourceValue instanceof String) {
+                addIfNotEmpty((String) sourceValue, contents);
+            } else if (sourceValue instanceof List) {
+                for (Object element : (List<?>) sourceValue) {
+                    if (!(element instanceof String)) {
+                        throw invalidSourceField(fieldMapEntry.getKey());
+                    }
+                    addIfNotEmpty((String) element, contents);
+                }
+            } else if (Objects.nonNull(sourceValue)) {
+                throw invalidSourceField(fieldMapEntry.getKey());
+            }
+            contentsByTargetField.put(fieldMapEntry.getValue(), contents);
+        }
+        return contentsByTargetField;
+    }
+
+    private static void addIfNotEmpty(final String content, final List<String> contents) {
+        if (StringUtils.isNotEmpty(content)) {
+            contents.add(content);
+        }
+    }
+
+    private static IllegalArgumentException invalidSourceField(final String sourceField) {
+        return new IllegalArgumentException(
+            String.format(Locale.ROOT, "field [%s] is neither string nor list of strings, cannot process it", sourceField)
+        );
+    }
+
+    /**
+     * Chunk the content into the passage consumer and update the runtime max_chunk_limit
+     */
+    private void chunkString(
+        final String content,
+        final Map<String, Object> runtimeParameters,
+        final Consumer<String> passageConsumer
+    ) {
+        int chunkCount = chunker.chunk(content, runtimeParameters, passageConsumer);
+        // update chunk_string_count for each string
+        int chunkStringCount = parseInteger(runtimeParameters, CHUNK_STRING_COUNT_FIELD);
+        runtimeParameters.put(CHUNK_STRING_COUNT_FIELD, chunkStringCount - 1);
+        // update runtime max_chunk_limit if not disabled
+        int runtimeMaxChunkLimit = parseInteger(runtimeParameters, MAX_CHUNK_LIMIT_FIELD);
+        if (runtimeMaxChunkLimit != DISABLED_MAX_CHUNK_LIMIT) {
+            runtimeParameters.put(MAX_CHUNK_LIMIT_FIELD, runtimeMaxChunkLimit - chunkCount);
+        }
+    }
+
+    /**
+     * Inference batches of a document. Batches are sent as they fill up, the chunking phase counts as one more pending
+     * part, so the handler is called only after chunking is done and every batch has its response. Full batches beyond
+     * max_concurrent_batches in flight are queued and sent one by one as responses of earlier batches arrive.
+     */
+    private final class BatchedEmbedding {
+        private final IngestDocument ingestDocument;
+        private final BiConsumer<IngestDocument, Exception> handler;
+        private final AtomicInteger pendingParts = new AtomicInteger(1);
+        private final AtomicBoolean completed = new AtomicBoolean(false);
+        private List<String> batchPassages = new ArrayList<>(inferenceBatchSize);
+        private List<Map<String, Object>> batchChunkObjects = new ArrayList<>(inferenceBatchSize);
+        // guarded by this, batches are queued by the chunking thread and dequeued by the threads of the responses
+        private final Deque<Batch> queuedBatches = new ArrayDeque<>();
+        private int inFlightBatches;
+
+        private BatchedEmbedding(final IngestDocument ingestDocument, final BiConsumer<IngestDocument, Exception> handler) {
+            this.ingestDocument = ingestDocument;
+            this.handler = handler;
+        }
+
+        private void add(final String passage, final List<Map<String, Object>> chunkObjects) {
+            Map<String, Object> chunkObject = new HashMap<>(4);
+            chunkObject.put(CHUNK_TEXT_FIELD, passage);
+            chunkObjects.add(chunkObject);
+            batchPassages.add(passage);
+            batchChunkObjects.add(chunkObject);
+            if (batchPassages.size() >= inferenceBatchSize) {
+                sendBatch();
+            }
+        }
+
+        private void finishChunking() {
+            if (!batchPassages.isEmpty()) {
+                sendBatch();
+            }
+            onPartDone();
+        }
+
+        private void sendBatch() {
+            if (completed.get()) {
+                // the document already failed, no need to embed the remaining passages
+                throw new IllegalStateException("inference of a previous batch failed");
+            }
+            Batch batch = new Batch(batchPassages, batchChunkObjects);
+            batchPassages = new ArrayList<>(inferenceBatchSize);
+            batchChunkObjects = new ArrayList<>(inferenceBatchSize);
+            pendingParts.incrementAndGet();
+            synchronized (this) {
+                if (inFlightBatches >= maxConcurrentBatches) {
+                    queuedBatches.add(batch);
+                    return;
+                }
+                inFlightBatches++;
+            }
+            send(batch);
+        }
+
+        private void send(final Batch batch) {
+            List<Map<String, Object>> chunkObjects = batch.chunkObjects;
+            mlCommonsClientAccessor.inferenceSentences(modelId, batch.passages, ActionListener.wrap(vectors -> {
+                if (vectors.size() != chunkObjects.size()) {
+                    fail(
+                        new IllegalStateException(
+                            String.format(
+                                Locale.ROOT,
+                                "model [%s] returned %d embeddings for %d passages",
+                                modelId,
+                                vectors.size(),
+                                chunkObjects.size()
+                            )
+                        )
+                    );
+                    return;
+                }
+                for (int i = 0; i < vectors.size(); i++) {
+                    chunkObjects.get(i).put(CHUNK_EMBEDDING_FIELD, vectors.get(i));
+                }
+                sendNextQueuedBatch();
+                onPartDone();
+            }, this::fail));
+        }
+
+        private void sendNextQueuedBatch() {
+            Batch nextBatch;
+            synchronized (this) {
+                nextBatch = queuedBatches.poll();
+                if (nextBatch == null) {
+                    inFlightBatches--;
+                    return;
+                }
+            }
+            if (completed.get()) {
+                // the document already failed, queued batches are dropped
+                return;
+            }
+            send(nextBatch);
+        }
+
+        private void onPartDone() {
+            if (pendingParts.decrementAndGet() == 0 && completed.compareAndSet(false, true)) {
+                handler.accept(ingestDocument, null);
+            }
+        }
+
+        private void fail(final Exception e) {
+            if (completed.compareAndSet(false, true)) {
+                handler.accept(null, e);
+            } else {
+                log.debug("Ignoring failure of document already completed by [{}] processor", TYPE, e);
+            }
+        }
+    }
+
+    /**
+     * Passages of an inference batch and the chunk objects receiving their embeddings
+     */
+    private static final class Batch {
+        private final List<String> passages;
+        private final List<Map<String, Object>> chunkObjects;
+
+        private Batch(final List<String> passages, final List<Map<String, Object>> chunkObjects) {
+            this.passages = passages;
+            this.chunkObjects = chunkObjects;
+        }
+    }
+}
@@ -11,21 +11,28 @@ import java.util.Locale;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
-import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.env.Environment;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.index.analysis.AnalysisRegistry;
-import org.opensearch.index.IndexSettings;
-import org.opensearch.ingest.AbstractProcessor;
+import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.neuralsearch.processor.chunker.Chunker;
 import org.opensearch.index.mapper.IndexFieldMapper;
 import org.opensearch.neuralsearch.processor.chunker.ChunkerFactory;
 import org.opensearch.neuralsearch.processor.chunker.FixedTokenLengthChunker;
+import org.opensearch.neuralsearch.processor.chunker.ModelTokenLengthChunker;
+import org.opensearch.neuralsearch.util.IndexSettingsCache;
 import org.opensearch.neuralsearch.util.ProcessorDocumentUtils;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
 import static org.opensearch.neuralsearch.processor.chunker.Chunker.MAX_CHUNK_LIMIT_FIELD;
 import static org.opensearch.neuralsearch.processor.chunker.Chunker.DEFAULT_MAX_CHUNK_LIMIT;
 import static org.opensearch.neuralsearch.processor.chunker.Chunker.DISABLED_MAX_CHUNK_LIMIT;
@@ -39,8 +46,11 @@ import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterPars
  * The processor needs two fields: algorithm and field_map,
  * where algorithm defines chunking algorithm and parameters,
  * and field_map specifies which fields needs chunking and the corresponding keys for the chunking results.
+ * In bulk requests documents of a batch are chunked together, up to max_concurrent_documents of them in parallel, so a
+ * large document doesn't hold back chunking of the other documents of the batch.
  */
-public final class TextChunkingProcessor extends AbstractProcessor {
+@Log4j2
+public final class TextChunkingProcessor extends AbstractBatchingProcessor {
 
     public static final String TYPE = "text_chunking";
     public static final String FIELD_MAP_FIELD = "field_map";
@@ -48,32 +58,46 @@ public final class TextChunkingProcessor extends AbstractProcessor {
     private static final String DEFAULT_ALGORITHM = FixedTokenLengthChunker.ALGORITHM_NAME;
     public static final String IGNORE_MISSING = "ignore_missing";
     public static final boolean DEFAULT_IGNORE_MISSING = false;
+    public static final String MAX_CONCURRENT_DOCUMENTS_FIELD = "max_concurrent_documents";
+    // documents of a batch are chunked one after another on the calling thread by default
+    public static final int DEFAULT_MAX_CONCURRENT_DOCUMENTS = 1;
 
-    private int maxChunkLimit;
-    private Chunker chunker;
+    private final int maxChunkLimit;
+    private final Chunker chunker;
     private final Map<String, Object> fieldMap;
     private final boolean ignoreMissing;
-    private final ClusterService clusterService;
-    private final AnalysisRegistry analysisRegistry;
-    private final Environment environment;
+    private final IndexSettingsCache indexSettingsCache;
+    private final int maxConcurrentDocuments;
+    // runs chunking of documents in parallel with the calling thread, null if documents are only chunked on the calling thread
+    private final Consumer<Runnable> executor;
 
     public TextChunkingProcessor(
         final String tag,
         final String description,
+        final int batchSize,
         final Map<String, Object> fieldMap,
         final Map<String, Object> algorithmMap,
         final boolean ignoreMissing,
+        final int maxConcurrentDocuments,
         final Environment environment,
         final ClusterService clusterService,
-        final AnalysisRegistry analysisRegistry
+        final AnalysisRegistry analysisRegistry,
+        final Consumer<Runnable> executor
     ) {
-        super(tag, description);
+        super(tag, description, batchSize);
+        if (maxConcurrentDocuments < 1) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "Parameter [%s] must be a positive integer", MAX_CONCURRENT_DOCUMENTS_FIELD)
+            );
+        }
         this.fieldMap = fieldMap;
         this.ignoreMissing = ignoreMissing;
-        this.environment = environment;
-        this.clusterService = clusterService;
-        this.analysisRegistry = analysisRegistry;
-        parseAlgorithmMap(algorithmMap);
+        this.maxConcurrentDocuments = maxConcurrentDocuments;
+        this.indexSettingsCache = new IndexSettingsCache(clusterService, environment);
+        this.executor = executor;
+        ChunkingAlgorithm chunkingAlgorithm = parseAlgorithmMap(TYPE, algorithmMap, analysisRegistry, environment);
+        this.chunker = chunkingAlgorithm.getChunker();
+        this.maxChunkLimit = chunkingAlgorithm.getMaxChunkLimit();
     }
 
     public String getType() {
@@ -85,11 +109,30 @@ public final class TextChunkingProcessor extends AbstractProcessor {
         return !ignoreMissing || Objects.nonNull(chunkObject);
     }
 
+    /**
+     * Parses the algorithm parameter of a chunking processor into the chunker and the processor level max_chunk_limit
+     *
+     * @param processorType type of the processor, used in error messages
+     * @param algorithmMap algorithm parameter of the processor, empty for the default algorithm
+     * @param analysisRegistry analysis registry used by the fixed token length algorithm for tokenization
+     * @param environment environment of the node, the model token length algorithm reads the vocabulary from its config directory
+     * @return chunker and max chunk limit
+     */
     @SuppressWarnings("unchecked")
-    private void parseAlgorithmMap(final Map<String, Object> algorithmMap) {
+    static ChunkingAlgorithm parseAlgorithmMap(
+        final String processorType,
+        final Map<String, Object> algorithmMap,
+        final AnalysisRegistry analysisRegistry,
+        final Environment environment
+    ) {
         if (algorithmMap.size() > 1) {
             throw new IllegalArgumentException(
-                String.format(Locale.ROOT, "Unable to create %s processor as [%s] contains multiple algorithms", TYPE, ALGORITHM_FIELD)
+                String.format(
+                    Locale.ROOT,
+                    "Unable to create %s processor as [%s] contains multiple algorithms",
+                    processorType,
+                    ALGORITHM_FIELD
+                )
             );
         }
 
@@ -107,7 +150,7 @@ public final class TextChunkingProcessor extends AbstractProcessor {
                     String.format(
                         Locale.ROOT,
                         "Unable to create %s processor as parameters for [%s] algorithm must be an object",
-                        TYPE,
+                        processorType,
                         algorithmKey
                     )
                 );
@@ -126,7 +169,7 @@ public final class TextChunkingProcessor extends AbstractProcessor {
         }
         Map<String, Object> chunkerParameters = (Map<String, Object>) algorithmValue;
         // parse processor level max chunk limit
-        this.maxChunkLimit = parseIntegerWithDefault(chunkerParameters, MAX_CHUNK_LIMIT_FIELD, DEFAULT_MAX_CHUNK_LIMIT);
+        int maxChunkLimit = parseIntegerWithDefault(chunkerParameters, MAX_CHUNK_LIMIT_FIELD, DEFAULT_MAX_CHUNK_LIMIT);
         if (maxChunkLimit <= 0 && maxChunkLimit != DISABLED_MAX_CHUNK_LIMIT) {
             throw new IllegalArgumentException(
                 String.format(
@@ -139,7 +182,19 @@ public final class TextChunkingProcessor extends AbstractProcessor {
         }
         // fixed token length algorithm needs analysis registry for tokenization
         chunkerParameters.put(FixedTokenLengthChunker.ANALYSIS_REGISTRY_FIELD, analysisRegistry);
-        this.chunker = ChunkerFactory.create(algorithmKey, chunkerParameters);
+        // model token length algorithm resolves the vocabulary file in the config directory, fixed token length algorithm the tokenizer
+        chunkerParameters.put(ModelTokenLengthChunker.ENVIRONMENT_FIELD, environment);
+        return new ChunkingAlgorithm(ChunkerFactory.create(algorithmKey, chunkerParameters), maxChunkLimit);
+    }
+
+    /**
+     * Chunker and processor level max chunk limit parsed from the algorithm parameter
+     */
+    @Getter
+    @AllArgsConstructor
+    static final class ChunkingAlgorithm {
+        private final Chunker chunker;
+        private final int maxChunkLimit;
     }
 
     @SuppressWarnings("unchecked")
@@ -156,43 +211,119 @@ public final class TextChunkingProcessor extends AbstractProcessor {
         return true;
     }
 
-    private int getMaxTokenCount(final Map<String, Object> sourceAndMetadataMap) {
-        int defaultMaxTokenCount = IndexSettings.MAX_TOKEN_COUNT_SETTING.get(environment.settings());
-        String indexName = sourceAndMetadataMap.get(IndexFieldMapper.NAME).toString();
-        IndexMetadata indexMetadata = clusterService.state().metadata().index(indexName);
-        if (Objects.isNull(indexMetadata)) {
-            return defaultMaxTokenCount;
-        }
-        // if the index is specified in the metadata, read maxTokenCount from the index setting
-        return IndexSettings.MAX_TOKEN_COUNT_SETTING.get(indexMetadata.getSettings());
-    }
-
     /**
      * This method will be invoked by PipelineService to perform chunking and then write back chunking results to the document.
      * @param ingestDocument {@link IngestDocument} which is the document passed to processor.
      */
     @Override
     public IngestDocument execute(final IngestDocument ingestDocument) {
+        String indexName = ingestDocument.getSourceAndMetadata().get(IndexFieldMapper.NAME).toString();
+        chunkDocument(ingestDocument, indexSettingsCache.getMappingDepthLimit(indexName), indexSettingsCache.getMaxTokenCount(indexName));
+        return ingestDocument;
+    }
+
+    /**
+     * Chunks documents of a batch. Index settings are looked up once per index of the batch, then documents are chunked by
+     * up to max_concurrent_documents workers: the calling thread and workers on the executor. Each worker takes the next
+     * document once it's done with the previous one, so a large document keeps only one worker busy. Failure of a document
+     * is set to its wrapper and doesn't affect other documents.
+     */
+    @Override
+    public void subBatchExecute(
+        final List<IngestDocumentWrapper> ingestDocumentWrappers,
+        final Consumer<List<IngestDocumentWrapper>> handler
+    ) {
+        if (ingestDocumentWrappers.isEmpty()) {
+            handler.accept(ingestDocumentWrappers);
+            return;
+        }
+        Map<String, IndexLimits> indexLimits = new HashMap<>();
+        List<Runnable> tasks = new ArrayList<>(ingestDocumentWrappers.size());
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            IngestDocument ingestDocument = ingestDocumentWrapper.getIngestDocument();
+            try {
+                String indexName = ingestDocument.getSourceAndMetadata().get(IndexFieldMapper.NAME).toString();
+                IndexLimits limits = indexLimits.computeIfAbsent(
+                    indexName,
+                    key -> new IndexLimits(indexSettingsCache.getMappingDepthLimit(key), indexSettingsCache.getMaxTokenCount(key))
+                );
+                tasks.add(() -> {
+                    try {
+                        chunkDocument(ingestDocument, limits.mappingDepthLimit, limits.maxTokenCount);
+                    } catch (Exception e) {
+                        ingestDocumentWrapper.update(ingestDocument, e);
+                    }
+                });
+            } catch (Exception e) {
+                ingestDocumentWrapper.update(ingestDocument, e);
+            }
+        }
+        int workers = Objects.isNull(executor) ? 1 : Math.min(maxConcurrentDocuments, tasks.size());
+        new ParallelChunking(tasks, workers, () -> handler.accept(ingestDocumentWrappers)).start();
+    }
+
+    private void chunkDocument(final IngestDocument ingestDocument, final long mappingDepthLimit, final int maxTokenCount) {
         Map<String, Object> sourceAndMetadataMap = ingestDocument.getSourceAndMetadata();
-        String indexName = sourceAndMetadataMap.get(IndexFieldMapper.NAME).toString();
-        ProcessorDocumentUtils.validateMapTypeValue(
-            FIELD_MAP_FIELD,
-            sourceAndMetadataMap,
-            fieldMap,
-            indexName,
-            clusterService,
-            environment,
-            true
-        );
+        ProcessorDocumentUtils.validateMapTypeValue(FIELD_MAP_FIELD, sourceAndMetadataMap, fieldMap, mappingDepthLimit, true);
         // fixed token length algorithm needs runtime parameter max_token_count for tokenization
         Map<String, Object> runtimeParameters = new HashMap<>();
-        int maxTokenCount = getMaxTokenCount(sourceAndMetadataMap);
         int chunkStringCount = getChunkStringCountFromMap(sourceAndMetadataMap, fieldMap);
         runtimeParameters.put(FixedTokenLengthChunker.MAX_TOKEN_COUNT_FIELD, maxTokenCount);
         runtimeParameters.put(MAX_CHUNK_LIMIT_FIELD, maxChunkLimit);
         runtimeParameters.put(CHUNK_STRING_COUNT_FIELD, chunkStringCount);
         chunkMapType(sourceAndMetadataMap, fieldMap, runtimeParameters);
-        return ingestDocument;
+    }
+
+    @AllArgsConstructor
+    private static final class IndexLimits {
+        private final long mappingDepthLimit;
+        private final int maxTokenCount;
+    }
+
+    /**
+     * Runs chunking tasks of a batch with a bounded number of workers and calls the completion callback once, after the
+     * last task is done
+     */
+    private final class ParallelChunking {
+        private final List<Runnable> tasks;
+        private final int workers;
+        private final Runnable onAllDone;
+        private final AtomicInteger nextTask = new AtomicInteger(0);
+        private final AtomicInteger runningWorkers;
+
+        private ParallelChunking(final List<Runnable> tasks, final int workers, final Runnable onAllDone) {
+            this.tasks = tasks;
+            this.workers = Math.max(1, workers);
+            this.onAllDone = onAllDone;
+            this.runningWorkers = new AtomicInteger(this.workers);
+        }
+
+        private void start() {
+            for (int i = 1; i < workers; i++) {
+                try {
+                    executor.accept(this::runWorker);
+                } catch (Exception e) {
+                    // tasks left by the worker that couldn't be started are taken by the other workers
+                    log.debug("Failed to start chunking worker, chunking on the remaining workers", e);
+                    onWorkerDone();
+                }
+            }
+            runWorker();
+        }
+
+        private void runWorker() {
+            int taskIndex;
+            while ((taskIndex = nextTask.getAndIncrement()) < tasks.size()) {
+                tasks.get(taskIndex).run();
+            }
+            onWorkerDone();
+        }
+
+        private void onWorkerDone() {
+            if (runningWorkers.decrementAndGet() == 0) {
+                onAllDone.run();
+            }
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,256 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.StringUtils;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.env.Environment;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.util.TokenWeightUtil;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * This processor produces both dense text embeddings and sparse encodings of the same source fields. Texts are extracted from
+ * the document once, then the dense and the sparse model are called concurrently, so the latency of the processor is the
+ * latency of the slower model instead of the sum of both. field_map defines the targets of the dense embeddings, and
+ * sparse_field_map the targets of the sparse encodings, both must map the same source fields.
+ */
+@Log4j2
+public final class TextDenseSparseEmbeddingProcessor extends InferenceProcessor {
+
+    public static final String TYPE = "text_dense_sparse_embedding";
+    public static final String DENSE_MODEL_ID_FIELD = "dense_model_id";
+    public static final String SPARSE_MODEL_ID_FIELD = "sparse_model_id";
+    public static final String SPARSE_FIELD_MAP_FIELD = "sparse_field_map";
+
+    private final String sparseModelId;
+    // sparse field map with entries in the order of the field map, so texts extracted with both maps come in the same order
+    private final FieldMapAccessPlan sparseFieldMapAccessPlan;
+
+    public TextDenseSparseEmbeddingProcessor(
+        String tag,
+        String description,
+        int batchSize,
+        String denseModelId,
+        String sparseModelId,
+        Map<String, Object> fieldMap,
+        Map<String, Object> sparseFieldMap,
+        MLCommonsClientAccessor clientAccessor,
+        Environment environment,
+        ClusterService clusterService,
+        SubBatchOptions subBatchOptions
+    ) {
+        super(
+            tag,
+            description,
+            batchSize,
+            TYPE,
+            TextEmbeddingProcessor.LIST_TYPE_NESTED_MAP_KEY,
+            denseModelId,
+            fieldMap,
+            clientAccessor,
+            environment,
+            clusterService,
+            subBatchOptions,
+            null
+        );
+        if (StringUtils.isBlank(sparseModelId)) {
+            throw new IllegalArgumentException("sparse_model_id is null or empty, cannot process it");
+        }
+        this.sparseModelId = sparseModelId;
+        this.sparseFieldMapAccessPlan = FieldMapAccessPlan.compile(alignFieldMap(fieldMap, sparseFieldMap));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> alignFieldMap(Map<String, Object> fieldMap, Map<String, Object> sparseFieldMap) {
+        if (sparseFieldMap == null || !sparseFieldMap.keySet().equals(fieldMap.keySet())) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "Unable to create the processor as %s must map the same fields as field_map",
+                    SPARSE_FIELD_MAP_FIELD
+                )
+            );
+        }
+        Map<String, Object> alignedFieldMap = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> fieldMapEntry : fieldMap.entrySet()) {
+            Object targetKey = fieldMapEntry.getValue();
+            Object sparseTargetKey = sparseFieldMap.get(fieldMapEntry.getKey());
+            if (targetKey instanceof Map && sparseTargetKey instanceof Map) {
+                alignedFieldMap.put(
+                    fieldMapEntry.getKey(),
+                    alignFieldMap((Map<String, Object>) targetKey, (Map<String, Object>) sparseTargetKey)
+                );
+            } else if (targetKey instanceof String
+                && sparseTargetKey instanceof String
+                && StringUtils.isNotBlank((String) sparseTargetKey)) {
+                alignedFieldMap.put(fieldMapEntry.getKey(), sparseTargetKey);
+            } else {
+                throw new IllegalArgumentException(
+                    String.format(
+                        Locale.ROOT,
+                        "Unable to create the processor as %s has invalid value for field [%s]",
+                        SPARSE_FIELD_MAP_FIELD,
+                        fieldMapEntry.getKey()
+                    )
+                );
+            }
+        }
+        return alignedFieldMap;
+    }
+
+    @Override
+    public void doExecute(
+        IngestDocument ingestDocument,
+        Map<String, Object> ProcessMap,
+        List<String> inferenceList,
+        BiConsumer<IngestDocument, Exception> handler
+    ) {
+        doBatchExecute(inferenceList, results -> {
+            try {
+                setVectorFieldsToDocument(ingestDocument, ProcessMap, results);
+            } catch (Exception e) {
+                handler.accept(null, e);
+                return;
+            }
+            handler.accept(ingestDocument, null);
+        }, e -> handler.accept(null, e));
+    }
+
+    /**
+     * Sends the texts to the dense and the sparse model at the same time, results of both are combined per text once both
+     * models respond. If either model fails, all texts fail.
+     */
+    @Override
+    public void doBatchExecute(List<String> inferenceList, Consumer<List<?>> handler, Consumer<Exception> onException) {
+        AtomicReference<List<?>> denseResults = new AtomicReference<>();
+        AtomicReference<List<?>> sparseResults = new AtomicReference<>();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        AtomicInteger pendingModels = new AtomicInteger(2);
+        Runnable onModelDone = () -> {
+            if (pendingModels.decrementAndGet() != 0) {
+                return;
+            }
+            if (failure.get() != null) {
+                onException.accept(failure.get());
+                return;
+            }
+            List<DenseSparseResult> results;
+            try {
+                results = combineResults(inferenceList.size(), denseResults.get(), sparseResults.get());
+            } catch (Exception e) {
+                onException.accept(e);
+                return;
+            }
+            handler.accept(results);
+        };
+        Consumer<Exception> onModelFailure = e -> {
+            if (!failure.compareAndSet(null, e)) {
+                failure.get().addSuppressed(e);
+            }
+        };
+
+        ActionListener<List<List<Float>>> denseListener = ActionListener.runAfter(
+            ActionListener.wrap(denseResults::set, onModelFailure::accept),
+            onModelDone
+        );
+        ActionListener<List<Map<String, ?>>> sparseListener = ActionListener.runAfter(
+            ActionListener.wrap(
+                resultMaps -> sparseResults.set(TokenWeightUtil.fetchListOfModifiableTokenWeightMap(resultMaps)),
+                onModelFailure::accept
+            ),
+            onModelDone
+        );
+        try {
+            mlCommonsClientAccessor.inferenceSentences(this.modelId, inferenceList, denseListener);
+        } catch (Exception e) {
+            denseListener.onFailure(e);
+        }
+        try {
+            mlCommonsClientAccessor.inferenceSentencesWithMapResult(this.sparseModelId, inferenceList, sparseListener);
+        } catch (Exception e) {
+            sparseListener.onFailure(e);
+        }
+    }
+
+    private List<DenseSparseResult> combineResults(int textCount, List<?> denseResults, List<?> sparseResults) {
+        if (denseResults == null || sparseResults == null || denseResults.size() != textCount || sparseResults.size() != textCount) {
+            throw new IllegalStateException(
+                String.format(
+                    Locale.ROOT,
+                    "Unexpected number of inference results, expected [%d] dense and sparse results but got [%d] and [%d]",
+                    textCount,
+                    denseResults == null ? 0 : denseResults.size(),
+                    sparseResults == null ? 0 : sparseResults.size()
+                )
+            );
+        }
+        List<DenseSparseResult> results = new ArrayList<>(textCount);
+        for (int i = 0; i < textCount; i++) {
+            results.add(new DenseSparseResult(denseResults.get(i), sparseResults.get(i)));
+        }
+        return results;
+    }
+
+    /**
+     * Writes dense results to the targets of field_map and sparse results to the targets of sparse_field_map
+     */
+    @Override
+    protected void setVectorFieldsToDocument(IngestDocument ingestDocument, Map<String, Object> processorMap, List<?> results) {
+        List<Object> denseResults = new ArrayList<>(results.size());
+        List<Object> sparseResults = new ArrayList<>(results.size());
+        for (Object result : results) {
+            DenseSparseResult denseSparseResult = (DenseSparseResult) result;
+            denseResults.add(denseSparseResult.getDense());
+            sparseResults.add(denseSparseResult.getSparse());
+        }
+        // built before the dense results are written, so it reads the same source values the texts were extracted from
+        Map<String, Object> sparseProcessorMap = buildMapWithTargetKeys(ingestDocument, sparseFieldMapAccessPlan);
+        super.setVectorFieldsToDocument(ingestDocument, processorMap, denseResults, TextEmbeddingProcessor.LIST_TYPE_NESTED_MAP_KEY);
+        super.setVectorFieldsToDocument(
+            ingestDocument,
+            sparseProcessorMap,
+            sparseResults,
+            SparseEncodingProcessor.LIST_TYPE_NESTED_MAP_KEY
+        );
+    }
+
+    @Override
+    protected Object copyInferenceResult(Object result) {
+        if (result instanceof DenseSparseResult) {
+            DenseSparseResult denseSparseResult = (DenseSparseResult) result;
+            return new DenseSparseResult(
+                super.copyInferenceResult(denseSparseResult.getDense()),
+                super.copyInferenceResult(denseSparseResult.getSparse())
+            );
+        }
+        return super.copyInferenceResult(result);
+    }
+
+    /**
+     * Dense and sparse inference result of a single text
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class DenseSparseResult {
+        private final Object dense;
+        private final Object sparse;
+    }
+}
@@ -35,9 +35,24 @@ public final class TextEmbeddingProcessor extends InferenceProcessor {
         Map<String, Object> fieldMap,
         MLCommonsClientAccessor clientAccessor,
         Environment environment,
-        ClusterService clusterService
+        ClusterService clusterService,
+        SubBatchOptions subBatchOptions,
+        ExistingEmbeddingLookup existingEmbeddingLookup
     ) {
-        super(tag, description, batchSize, TYPE, LIST_TYPE_NESTED_MAP_KEY, modelId, fieldMap, clientAccessor, environment, clusterService);
+        super(
+            tag,
+            description,
+            batchSize,
+            TYPE,
+            LIST_TYPE_NESTED_MAP_KEY,
+            modelId,
+            fieldMap,
+            clientAccessor,
+            environment,
+            clusterService,
+            subBatchOptions,
+            existingEmbeddingLookup
+        );
     }
 
     @Override
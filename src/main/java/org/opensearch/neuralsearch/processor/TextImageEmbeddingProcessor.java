@@ -4,6 +4,8 @@
  */
 package org.opensearch.neuralsearch.processor;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -11,20 +13,26 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.env.Environment;
 import org.opensearch.index.mapper.IndexFieldMapper;
-import org.opensearch.ingest.AbstractProcessor;
+import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
+import org.opensearch.neuralsearch.common.VectorUtil;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 
 import com.google.common.annotations.VisibleForTesting;
 
 import lombok.extern.log4j.Log4j2;
+import org.opensearch.neuralsearch.util.IndexSettingsCache;
 import org.opensearch.neuralsearch.util.ProcessorDocumentUtils;
 
 /**
@@ -32,7 +40,7 @@ import org.opensearch.neuralsearch.util.ProcessorDocumentUtils;
  * and field_map can be used to indicate which fields needs embedding and the corresponding keys for the embedding results.
  */
 @Log4j2
-public class TextImageEmbeddingProcessor extends AbstractProcessor {
+public class TextImageEmbeddingProcessor extends AbstractBatchingProcessor {
 
     public static final String TYPE = "text_image_embedding";
     public static final String MODEL_ID_FIELD = "model_id";
@@ -50,20 +58,26 @@ public class TextImageEmbeddingProcessor extends AbstractProcessor {
 
     private final MLCommonsClientAccessor mlCommonsClientAccessor;
 
-    private final Environment environment;
-    private final ClusterService clusterService;
+    private final IndexSettingsCache indexSettingsCache;
+
+    // maximum number of predict requests of a batch in flight at a time
+    private final int maxConcurrentRequests;
+    // false once the model returned a single vector for several texts of one request, see sendTextOnlyRequest
+    private volatile boolean combineTextOnlyInputs = true;
 
     public TextImageEmbeddingProcessor(
         final String tag,
         final String description,
+        final int batchSize,
         final String modelId,
         final String embedding,
         final Map<String, String> fieldMap,
         final MLCommonsClientAccessor clientAccessor,
         final Environment environment,
-        final ClusterService clusterService
+        final ClusterService clusterService,
+        final int maxConcurrentRequests
     ) {
-        super(tag, description);
+        super(tag, description, batchSize);
         if (StringUtils.isBlank(modelId)) throw new IllegalArgumentException("model_id is null or empty, can not process it");
         validateEmbeddingConfiguration(fieldMap);
 
@@ -71,8 +85,8 @@ public class TextImageEmbeddingProcessor extends AbstractProcessor {
         this.embedding = embedding;
         this.fieldMap = fieldMap;
         this.mlCommonsClientAccessor = clientAccessor;
-        this.environment = environment;
-        this.clusterService = clusterService;
+        this.indexSettingsCache = new IndexSettingsCache(clusterService, environment);
+        this.maxConcurrentRequests = maxConcurrentRequests;
     }
 
     private void validateEmbeddingConfiguration(final Map<String, String> fieldMap) {
@@ -124,6 +138,180 @@ public class TextImageEmbeddingProcessor extends AbstractProcessor {
 
     }
 
+    /**
+     * Distinct text only inputs of the batch are sent to the model in one predict request. Multimodal models take a single
+     * text and image pair per predict request, so every distinct input with an image is sent in its own request. Documents
+     * with identical input share the request. Requests of the batch are sent concurrently, at most max_concurrent_sub_batches
+     * of them at a time when the option is set. Failure of a document doesn't fail other documents.
+     * @param ingestDocumentWrappers documents of the sub batch
+     * @param handler receives the documents once inference of all of them is done
+     */
+    @Override
+    public void subBatchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        if (CollectionUtils.isEmpty(ingestDocumentWrappers)) {
+            handler.accept(Collections.emptyList());
+            return;
+        }
+
+        Map<String, List<IngestDocumentWrapper>> documentsByText = new LinkedHashMap<>();
+        Map<Map<String, String>, List<IngestDocumentWrapper>> documentsByMultimodalInput = new LinkedHashMap<>();
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            if (ingestDocumentWrapper.getException() != null) {
+                continue;
+            }
+            try {
+                IngestDocument ingestDocument = ingestDocumentWrapper.getIngestDocument();
+                validateEmbeddingFieldsValue(ingestDocument);
+                Map<String, String> inferenceMap = createInferences(buildMapWithKnnKeyAndOriginalValue(ingestDocument));
+                if (isTextOnly(inferenceMap)) {
+                    documentsByText.computeIfAbsent(inferenceMap.get(INPUT_TEXT), key -> new ArrayList<>()).add(ingestDocumentWrapper);
+                } else if (!inferenceMap.isEmpty()) {
+                    documentsByMultimodalInput.computeIfAbsent(inferenceMap, key -> new ArrayList<>()).add(ingestDocumentWrapper);
+                }
+            } catch (Exception e) {
+                ingestDocumentWrapper.update(ingestDocumentWrapper.getIngestDocument(), e);
+            }
+        }
+
+        List<Consumer<Runnable>> requests = new ArrayList<>();
+        if (!documentsByText.isEmpty()) {
+            requests.add(onDone -> sendTextOnlyRequest(documentsByText, onDone));
+        }
+        for (Map.Entry<Map<String, String>, List<IngestDocumentWrapper>> entry : documentsByMultimodalInput.entrySet()) {
+            requests.add(onDone -> sendSingleInputRequest(entry.getKey(), entry.getValue(), onDone));
+        }
+        sendRequests(requests, () -> handler.accept(ingestDocumentWrappers));
+    }
+
+    /**
+     * Sends requests with at most maxConcurrentRequests of them in flight, completion of a request sends the next pending one
+     * @param requests requests to send, each of them runs the given callback exactly once when it's done
+     * @param onAllDone called once all requests are done
+     */
+    private void sendRequests(final List<Consumer<Runnable>> requests, final Runnable onAllDone) {
+        if (requests.isEmpty()) {
+            onAllDone.run();
+            return;
+        }
+        AtomicInteger nextRequest = new AtomicInteger(0);
+        AtomicInteger pendingRequests = new AtomicInteger(requests.size());
+        Runnable onRequestDone = () -> {
+            if (pendingRequests.decrementAndGet() == 0) {
+                onAllDone.run();
+            }
+        };
+        int initialRequests = Math.min(maxConcurrentRequests, requests.size());
+        for (int i = 0; i < initialRequests; ++i) {
+            dispatchNextRequest(requests, nextRequest, onRequestDone);
+        }
+    }
+
+    private void dispatchNextRequest(
+        final List<Consumer<Runnable>> requests,
+        final AtomicInteger nextRequest,
+        final Runnable onRequestDone
+    ) {
+        int requestIndex = nextRequest.getAndIncrement();
+        if (requestIndex >= requests.size()) {
+            return;
+        }
+        requests.get(requestIndex).accept(() -> {
+            dispatchNextRequest(requests, nextRequest, onRequestDone);
+            onRequestDone.run();
+        });
+    }
+
+    /**
+     * Sends all distinct texts in one request. Some multimodal connectors read the second text of a request as the image and
+     * return a single vector, in such case the texts are sent one by one and later batches of this processor don't combine
+     * texts anymore.
+     */
+    private void sendTextOnlyRequest(final Map<String, List<IngestDocumentWrapper>> documentsByText, final Runnable onDone) {
+        if (documentsByText.size() == 1 || !combineTextOnlyInputs) {
+            sendTextsOneByOne(documentsByText, onDone);
+            return;
+        }
+        List<String> texts = new ArrayList<>(documentsByText.keySet());
+        ActionListener<List<List<Float>>> listener = ActionListener.wrap(vectors -> {
+            if (vectors == null || vectors.size() != texts.size()) {
+                log.debug(
+                    "Model [{}] returned [{}] vectors for [{}] texts, sending texts of text_image_embedding one by one",
+                    modelId,
+                    vectors == null ? 0 : vectors.size(),
+                    texts.size()
+                );
+                combineTextOnlyInputs = false;
+                sendTextsOneByOne(documentsByText, onDone);
+                return;
+            }
+            try {
+                for (int i = 0; i < texts.size(); i++) {
+                    setVectorFieldsToDocuments(documentsByText.get(texts.get(i)), vectors.get(i));
+                }
+            } finally {
+                onDone.run();
+            }
+        }, e -> {
+            try {
+                documentsByText.values().forEach(documents -> setExceptionToDocuments(documents, e));
+            } finally {
+                onDone.run();
+            }
+        });
+        try {
+            mlCommonsClientAccessor.inferenceSentences(this.modelId, texts, listener);
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    private void sendTextsOneByOne(final Map<String, List<IngestDocumentWrapper>> documentsByText, final Runnable onDone) {
+        List<Consumer<Runnable>> requests = new ArrayList<>(documentsByText.size());
+        for (Map.Entry<String, List<IngestDocumentWrapper>> entry : documentsByText.entrySet()) {
+            Map<String, String> inferenceMap = Map.of(INPUT_TEXT, entry.getKey());
+            requests.add(onTextDone -> sendSingleInputRequest(inferenceMap, entry.getValue(), onTextDone));
+        }
+        sendRequests(requests, onDone);
+    }
+
+    private void sendSingleInputRequest(
+        final Map<String, String> inferenceMap,
+        final List<IngestDocumentWrapper> documents,
+        final Runnable onDone
+    ) {
+        ActionListener<List<Float>> listener = ActionListener.runAfter(
+            ActionListener.wrap(vectors -> setVectorFieldsToDocuments(documents, vectors), e -> setExceptionToDocuments(documents, e)),
+            onDone::run
+        );
+        try {
+            mlCommonsClientAccessor.inferenceSentences(this.modelId, inferenceMap, listener);
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    private static boolean isTextOnly(final Map<String, String> inferenceMap) {
+        return inferenceMap.size() == 1 && inferenceMap.containsKey(INPUT_TEXT);
+    }
+
+    private void setVectorFieldsToDocuments(final List<IngestDocumentWrapper> ingestDocumentWrappers, final List<Float> vectors) {
+        for (int i = 0; i < ingestDocumentWrappers.size(); i++) {
+            IngestDocumentWrapper ingestDocumentWrapper = ingestDocumentWrappers.get(i);
+            try {
+                // documents with the same input get their own copy, so a later processor changing one doesn't change others
+                setVectorFieldsToDocument(ingestDocumentWrapper.getIngestDocument(), i == 0 ? vectors : VectorUtil.copyOfVector(vectors));
+            } catch (Exception e) {
+                ingestDocumentWrapper.update(ingestDocumentWrapper.getIngestDocument(), e);
+            }
+        }
+    }
+
+    private void setExceptionToDocuments(final List<IngestDocumentWrapper> ingestDocumentWrappers, final Exception exception) {
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            ingestDocumentWrapper.update(ingestDocumentWrapper.getIngestDocument(), exception);
+        }
+    }
+
     private void setVectorFieldsToDocument(final IngestDocument ingestDocument, final List<Float> vectors) {
         Objects.requireNonNull(vectors, "embedding failed, inference returns null result!");
         log.debug("Text embedding result fetched, starting build vector output!");
@@ -177,9 +365,7 @@ public class TextImageEmbeddingProcessor extends AbstractProcessor {
             FIELD_MAP_FIELD,
             sourceAndMetadataMap,
             fieldMap,
-            indexName,
-            clusterService,
-            environment,
+            indexSettingsCache.getMappingDepthLimit(indexName),
             false
         );
     }
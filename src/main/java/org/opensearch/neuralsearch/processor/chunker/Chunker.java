@@ -6,6 +6,7 @@ package org.opensearch.neuralsearch.processor.chunker;
 
 import java.util.Map;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * The interface for all chunking algorithms.
@@ -35,6 +36,22 @@ public interface Chunker {
      */
     List<String> chunk(String content, Map<String, Object> runtimeParameters);
 
+    /**
+     * Chunk the input string according to parameters and pass each chunked passage to the consumer in order. Algorithms
+     * that produce passages one by one pass them as soon as they are produced, so callers can process passages while
+     * the rest of the content is being chunked.
+     *
+     * @param content input string
+     * @param runtimeParameters a map containing runtime parameters for chunking algorithms
+     * @param passageConsumer receives the chunked passages
+     * @return number of chunked passages
+     */
+    default int chunk(String content, Map<String, Object> runtimeParameters, Consumer<String> passageConsumer) {
+        List<String> passages = chunk(content, runtimeParameters);
+        passages.forEach(passageConsumer);
+        return passages.size();
+    }
+
     /**
      * Checks whether the chunking results would exceed the max chunk limit after adding a passage
      * If exceeds, then return true
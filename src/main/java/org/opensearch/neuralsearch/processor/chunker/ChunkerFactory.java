@@ -22,7 +22,9 @@ public final class ChunkerFactory {
         FixedTokenLengthChunker.ALGORITHM_NAME,
         FixedTokenLengthChunker::new,
         DelimiterChunker.ALGORITHM_NAME,
-        DelimiterChunker::new
+        DelimiterChunker::new,
+        ModelTokenLengthChunker.ALGORITHM_NAME,
+        ModelTokenLengthChunker::new
     );
 
     public static Set<String> CHUNKER_ALGORITHMS = CHUNKERS_CONSTRUCTORS.keySet();
@@ -133,4 +133,27 @@ public final class ChunkerParameterParser {
         }
         return parseDouble(parameters, fieldName);
     }
+
+    /**
+     * Parse boolean type parameter.
+     * Return default value if the parameter is missing.
+     * Throw IllegalArgumentException if parameter is not a boolean.
+     */
+    public static boolean parseBooleanWithDefault(
+        final Map<String, Object> parameters,
+        final String fieldName,
+        final boolean defaultValue
+    ) {
+        if (!parameters.containsKey(fieldName)) {
+            // all boolean parameters are optional
+            return defaultValue;
+        }
+        String fieldValueString = parameters.get(fieldName).toString();
+        if (!"true".equals(fieldValueString) && !"false".equals(fieldValueString)) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "Parameter [%s] must be of %s type", fieldName, Boolean.class.getName())
+            );
+        }
+        return Boolean.parseBoolean(fieldValueString);
+    }
 }
@@ -7,6 +7,7 @@ package org.opensearch.neuralsearch.processor.chunker;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.function.Consumer;
 
 import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseInteger;
 import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseStringWithDefault;
@@ -51,28 +52,45 @@ public final class DelimiterChunker implements Chunker {
      */
     @Override
     public List<String> chunk(final String content, final Map<String, Object> runtimeParameters) {
+        List<String> chunkResult = new ArrayList<>();
+        chunk(content, runtimeParameters, chunkResult::add);
+        return chunkResult;
+    }
+
+    /**
+     * Passes the chunked passages for delimiter algorithm to the consumer one by one, as they are produced
+     *
+     * @param content input string
+     * @param runtimeParameters same runtime parameters as {@link #chunk(String, Map)}
+     * @param passageConsumer receives the passages in order
+     * @return number of passages
+     */
+    @Override
+    public int chunk(final String content, final Map<String, Object> runtimeParameters, final Consumer<String> passageConsumer) {
         int runtimeMaxChunkLimit = parseInteger(runtimeParameters, MAX_CHUNK_LIMIT_FIELD);
         int chunkStringCount = parseInteger(runtimeParameters, CHUNK_STRING_COUNT_FIELD);
 
-        List<String> chunkResult = new ArrayList<>();
+        int chunkCount = 0;
         int start = 0, end;
         int nextDelimiterPosition = content.indexOf(delimiter);
 
         while (nextDelimiterPosition != -1) {
-            if (Chunker.checkRunTimeMaxChunkLimit(chunkResult.size(), runtimeMaxChunkLimit, chunkStringCount)) {
+            if (Chunker.checkRunTimeMaxChunkLimit(chunkCount, runtimeMaxChunkLimit, chunkStringCount)) {
                 break;
             }
             end = nextDelimiterPosition + delimiter.length();
-            chunkResult.add(content.substring(start, end));
+            passageConsumer.accept(content.substring(start, end));
+            chunkCount++;
             start = end;
             nextDelimiterPosition = content.indexOf(delimiter, start);
         }
 
         // add the rest content into the chunk result
         if (start < content.length()) {
-            chunkResult.add(content.substring(start));
+            passageConsumer.accept(content.substring(start));
+            chunkCount++;
         }
 
-        return chunkResult;
+        return chunkCount;
     }
 }
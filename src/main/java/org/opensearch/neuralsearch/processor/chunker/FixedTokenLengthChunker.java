@@ -4,16 +4,22 @@
  */
 package org.opensearch.neuralsearch.processor.chunker;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.Locale;
 import java.util.Map;
 import java.util.List;
 import java.util.Set;
 import java.util.ArrayList;
+import java.util.function.Consumer;
 
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.apache.lucene.util.ArrayUtil;
+import org.opensearch.env.Environment;
 import org.opensearch.index.analysis.AnalysisRegistry;
-import org.opensearch.action.admin.indices.analyze.AnalyzeAction;
-import org.opensearch.action.admin.indices.analyze.AnalyzeAction.AnalyzeToken;
-import static org.opensearch.action.admin.indices.analyze.TransportAnalyzeAction.analyze;
+import org.opensearch.index.analysis.TokenizerFactory;
+import org.opensearch.indices.analysis.AnalysisModule;
 import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseInteger;
 import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseStringWithDefault;
 import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseDoubleWithDefault;
@@ -56,10 +62,14 @@ public final class FixedTokenLengthChunker implements Chunker {
     private String tokenizer;
     private double overlapRate;
     private final AnalysisRegistry analysisRegistry;
+    private final Environment environment;
+    // factory of the configured tokenizer, owned by the analysis registry, so the chunker holds nothing that needs closing
+    private volatile TokenizerFactory tokenizerFactory;
 
     public FixedTokenLengthChunker(final Map<String, Object> parameters) {
         parseParameters(parameters);
         this.analysisRegistry = (AnalysisRegistry) parameters.get(ANALYSIS_REGISTRY_FIELD);
+        this.environment = (Environment) parameters.get(ModelTokenLengthChunker.ENVIRONMENT_FIELD);
     }
 
     /**
@@ -118,53 +128,126 @@ public final class FixedTokenLengthChunker implements Chunker {
      */
     @Override
     public List<String> chunk(final String content, final Map<String, Object> runtimeParameters) {
+        List<String> chunkResult = new ArrayList<>();
+        chunk(content, runtimeParameters, chunkResult::add);
+        return chunkResult;
+    }
+
+    /**
+     * Passes the chunked passages for fixed token length algorithm to the consumer one by one, as they are produced.
+     * Throw IllegalArgumentException when runtime parameters are invalid.
+     *
+     * @param content input string
+     * @param runtimeParameters same runtime parameters as {@link #chunk(String, Map)}
+     * @param passageConsumer receives the passages in order
+     * @return number of passages
+     */
+    @Override
+    public int chunk(final String content, final Map<String, Object> runtimeParameters, final Consumer<String> passageConsumer) {
         int maxTokenCount = parseInteger(runtimeParameters, MAX_TOKEN_COUNT_FIELD);
         int runtimeMaxChunkLimit = parseInteger(runtimeParameters, MAX_CHUNK_LIMIT_FIELD);
         int chunkStringCount = parseInteger(runtimeParameters, CHUNK_STRING_COUNT_FIELD);
 
-        List<AnalyzeToken> tokens = tokenize(content, tokenizer, maxTokenCount);
-        List<String> chunkResult = new ArrayList<>();
+        TokenOffsets tokens = tokenize(content, maxTokenCount);
+        int chunkCount = 0;
 
         int startTokenIndex = 0;
         int startContentPosition, endContentPosition;
         int overlapTokenNumber = (int) Math.floor(tokenLimit * overlapRate);
 
-        while (startTokenIndex < tokens.size()) {
+        while (startTokenIndex < tokens.size) {
             if (startTokenIndex == 0) {
                 // include all characters till the start if no previous passage
                 startContentPosition = 0;
             } else {
-                startContentPosition = tokens.get(startTokenIndex).getStartOffset();
+                startContentPosition = tokens.startOffsets[startTokenIndex];
             }
-            if (Chunker.checkRunTimeMaxChunkLimit(chunkResult.size(), runtimeMaxChunkLimit, chunkStringCount)) {
+            if (Chunker.checkRunTimeMaxChunkLimit(chunkCount, runtimeMaxChunkLimit, chunkStringCount)) {
                 // include all characters till the end if exceeds max chunk limit
-                chunkResult.add(content.substring(startContentPosition));
+                passageConsumer.accept(content.substring(startContentPosition));
+                chunkCount++;
                 break;
             }
-            if (startTokenIndex + tokenLimit >= tokens.size()) {
+            if (startTokenIndex + tokenLimit >= tokens.size) {
                 // include all characters till the end if no next passage
                 endContentPosition = content.length();
-                chunkResult.add(content.substring(startContentPosition, endContentPosition));
+                passageConsumer.accept(content.substring(startContentPosition, endContentPosition));
+                chunkCount++;
                 break;
             } else {
                 // include gap characters between two passages
-                endContentPosition = tokens.get(startTokenIndex + tokenLimit).getStartOffset();
-                chunkResult.add(content.substring(startContentPosition, endContentPosition));
+                endContentPosition = tokens.startOffsets[startTokenIndex + tokenLimit];
+                passageConsumer.accept(content.substring(startContentPosition, endContentPosition));
+                chunkCount++;
             }
             startTokenIndex += tokenLimit - overlapTokenNumber;
         }
-        return chunkResult;
+        return chunkCount;
     }
 
-    private List<AnalyzeToken> tokenize(final String content, final String tokenizer, final int maxTokenCount) {
-        AnalyzeAction.Request analyzeRequest = new AnalyzeAction.Request();
-        analyzeRequest.text(content);
-        analyzeRequest.tokenizer(tokenizer);
+    /**
+     * Tokenizes the content with the configured tokenizer. Only start offsets of the tokens are needed for chunking, so the
+     * token stream is read directly instead of building analyze tokens with terms, types and attributes. A tokenizer is
+     * created per content and closed right after, which is cheap compared to the analyzer the analyze action builds.
+     */
+    private TokenOffsets tokenize(final String content, final int maxTokenCount) {
         try {
-            AnalyzeAction.Response analyzeResponse = analyze(analyzeRequest, analysisRegistry, null, maxTokenCount);
-            return analyzeResponse.getTokens();
+            TokenOffsets tokenOffsets = new TokenOffsets();
+            try (Tokenizer tokenStream = getTokenizerFactory().create()) {
+                tokenStream.setReader(new StringReader(content));
+                OffsetAttribute offsetAttribute = tokenStream.addAttribute(OffsetAttribute.class);
+                tokenStream.reset();
+                while (tokenStream.incrementToken()) {
+                    if (tokenOffsets.size >= maxTokenCount) {
+                        throw new IllegalStateException(
+                            String.format(
+                                Locale.ROOT,
+                                "The number of tokens produced by calling _analyze has exceeded the allowed maximum of [%d]."
+                                    + " This limit can be set by changing the [index.analyze.max_token_count] index level setting.",
+                                maxTokenCount
+                            )
+                        );
+                    }
+                    tokenOffsets.add(offsetAttribute.startOffset());
+                }
+                tokenStream.end();
+            }
+            return tokenOffsets;
         } catch (Exception e) {
             throw new IllegalStateException(String.format(Locale.ROOT, "analyzer %s throws exception: %s", tokenizer, e.getMessage()), e);
         }
     }
+
+    private TokenizerFactory getTokenizerFactory() throws IOException {
+        TokenizerFactory resolvedTokenizerFactory = tokenizerFactory;
+        if (resolvedTokenizerFactory == null) {
+            synchronized (this) {
+                if (tokenizerFactory == null) {
+                    // same global tokenizer the analyze action resolves for a request without index
+                    AnalysisModule.AnalysisProvider<TokenizerFactory> provider = analysisRegistry.getTokenizerProvider(tokenizer);
+                    if (provider == null) {
+                        throw new IllegalArgumentException("failed to find global tokenizer under [" + tokenizer + "]");
+                    }
+                    tokenizerFactory = provider.get(environment, tokenizer);
+                }
+                resolvedTokenizerFactory = tokenizerFactory;
+            }
+        }
+        return resolvedTokenizerFactory;
+    }
+
+    /**
+     * Start offsets of the tokens of a content
+     */
+    private static final class TokenOffsets {
+        private int[] startOffsets = new int[64];
+        private int size;
+
+        private void add(final int startOffset) {
+            if (size == startOffsets.length) {
+                startOffsets = ArrayUtil.grow(startOffsets, size + 1);
+            }
+            startOffsets[size++] = startOffset;
+        }
+    }
 }
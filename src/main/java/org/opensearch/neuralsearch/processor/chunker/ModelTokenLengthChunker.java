@@ -0,0 +1,213 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.chunker;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.opensearch.env.Environment;
+
+import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseBooleanWithDefault;
+import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseDoubleWithDefault;
+import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseInteger;
+import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseIntegerWithDefault;
+import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parsePositiveIntegerWithDefault;
+import static org.opensearch.neuralsearch.processor.chunker.ChunkerParameterParser.parseString;
+
+/**
+ * The implementation {@link Chunker} for model token length algorithm. Passages are packed up to the max sequence length
+ * of the embedding model, counted in the word pieces of the model vocabulary instead of the words of an OpenSearch
+ * tokenizer, so the model neither truncates passages nor gets passages much shorter than it accepts. Passages end at
+ * word boundaries, only a single word longer than the limit is split between passages.
+ */
+public final class ModelTokenLengthChunker implements Chunker {
+
+    public static final String ALGORITHM_NAME = "model_token_length";
+
+    // field name for each parameter
+    public static final String ENVIRONMENT_FIELD = "environment";
+    public static final String VOCABULARY_FILE_FIELD = "vocabulary_file";
+    public static final String MAX_SEQUENCE_LENGTH_FIELD = "max_sequence_length";
+    public static final String SPECIAL_TOKEN_COUNT_FIELD = "special_token_count";
+    public static final String LOWER_CASE_FIELD = "lower_case";
+    public static final String OVERLAP_RATE_FIELD = FixedTokenLengthChunker.OVERLAP_RATE_FIELD;
+    public static final String MAX_TOKEN_COUNT_FIELD = FixedTokenLengthChunker.MAX_TOKEN_COUNT_FIELD;
+
+    // default values for each non-runtime parameter
+    private static final int DEFAULT_MAX_SEQUENCE_LENGTH = 512;
+    // [CLS] and [SEP] tokens added by BERT style models to every passage
+    private static final int DEFAULT_SPECIAL_TOKEN_COUNT = 2;
+    private static final boolean DEFAULT_LOWER_CASE = true;
+    private static final double DEFAULT_OVERLAP_RATE = 0.0;
+
+    // parameter restrictions
+    private static final double OVERLAP_RATE_LOWER_BOUND = 0.0;
+    private static final double OVERLAP_RATE_UPPER_BOUND = 0.5;
+
+    // parameter value
+    private int tokenLimit;
+    private double overlapRate;
+    private WordPieceTokenizer tokenizer;
+
+    public ModelTokenLengthChunker(final Map<String, Object> parameters) {
+        parseParameters(parameters);
+    }
+
+    /**
+     * Parse the parameters for model token length algorithm.
+     * Throw IllegalArgumentException when parameters are invalid.
+     *
+     * @param parameters a map with non-runtime parameters as the following:
+     * 1. vocabulary_file: WordPiece vocabulary file of the model, relative to the config directory of the node
+     * 2. max_sequence_length: max number of tokens the model accepts for a passage
+     * 3. special_token_count: number of special tokens the model adds to every passage
+     * 4. lower_case: whether the model is uncased, text is lower cased and accents are stripped before lookup
+     * 5. overlap_rate: the overlapping degree for each chunked passage, indicating how many token comes from the previous passage
+     * Here are requirements for non-runtime parameters:
+     * 1. vocabulary_file must be an existing file in the config directory
+     * 2. max_sequence_length must be a positive integer
+     * 3. special_token_count must be non-negative and less than max_sequence_length
+     * 4. overlap_rate must be within range [0, 0.5]
+     */
+    @Override
+    public void parseParameters(Map<String, Object> parameters) {
+        int maxSequenceLength = parsePositiveIntegerWithDefault(parameters, MAX_SEQUENCE_LENGTH_FIELD, DEFAULT_MAX_SEQUENCE_LENGTH);
+        int specialTokenCount = parseIntegerWithDefault(parameters, SPECIAL_TOKEN_COUNT_FIELD, DEFAULT_SPECIAL_TOKEN_COUNT);
+        if (specialTokenCount < 0 || specialTokenCount >= maxSequenceLength) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "Parameter [%s] must be non-negative and less than [%s]",
+                    SPECIAL_TOKEN_COUNT_FIELD,
+                    MAX_SEQUENCE_LENGTH_FIELD
+                )
+            );
+        }
+        this.tokenLimit = maxSequenceLength - specialTokenCount;
+        this.overlapRate = parseDoubleWithDefault(parameters, OVERLAP_RATE_FIELD, DEFAULT_OVERLAP_RATE);
+        if (overlapRate < OVERLAP_RATE_LOWER_BOUND || overlapRate > OVERLAP_RATE_UPPER_BOUND) {
+            throw new IllegalArgumentException(
+                String.format(
+                    Locale.ROOT,
+                    "Parameter [%s] must be between %s and %s",
+                    OVERLAP_RATE_FIELD,
+                    OVERLAP_RATE_LOWER_BOUND,
+                    OVERLAP_RATE_UPPER_BOUND
+                )
+            );
+        }
+        boolean lowerCase = parseBooleanWithDefault(parameters, LOWER_CASE_FIELD, DEFAULT_LOWER_CASE);
+        Path vocabularyFile = resolveVocabularyFile(parameters);
+        this.tokenizer = WordPieceTokenizer.forVocabularyFile(vocabularyFile, lowerCase);
+    }
+
+    private static Path resolveVocabularyFile(final Map<String, Object> parameters) {
+        String vocabularyFile = parseString(parameters, VOCABULARY_FILE_FIELD);
+        Environment environment = (Environment) parameters.get(ENVIRONMENT_FIELD);
+        if (Objects.isNull(environment) || Objects.isNull(environment.configDir())) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "Unable to resolve [%s] without the config directory of the node", VOCABULARY_FILE_FIELD)
+            );
+        }
+        Path configDir = environment.configDir().toAbsolutePath().normalize();
+        Path resolved = configDir.resolve(vocabularyFile).normalize();
+        if (!resolved.startsWith(configDir) || !Files.isRegularFile(resolved)) {
+            throw new IllegalArgumentException(
+                String.format(Locale.ROOT, "Parameter [%s] must be an existing file in the config directory", VOCABULARY_FILE_FIELD)
+            );
+        }
+        return resolved;
+    }
+
+    /**
+     * Return the chunked passages for model token length algorithm.
+     * Throw IllegalArgumentException when runtime parameters are invalid.
+     *
+     * @param content input string
+     * @param runtimeParameters a map for runtime parameters, containing the following runtime parameters:
+     * 1. max_token_count the max number of word pieces of the content
+     * 2. max_chunk_limit field level max chunk limit
+     * 3. chunk_string_count number of non-empty strings (including itself) which need to be chunked later
+     */
+    @Override
+    public List<String> chunk(final String content, final Map<String, Object> runtimeParameters) {
+        List<String> chunkResult = new ArrayList<>();
+        chunk(content, runtimeParameters, chunkResult::add);
+        return chunkResult;
+    }
+
+    /**
+     * Passes the chunked passages for model token length algorithm to the consumer one by one, as they are produced.
+     * Throw IllegalArgumentException when runtime parameters are invalid.
+     *
+     * @param content input string
+     * @param runtimeParameters same runtime parameters as {@link #chunk(String, Map)}
+     * @param passageConsumer receives the passages in order
+     * @return number of passages
+     */
+    @Override
+    public int chunk(final String content, final Map<String, Object> runtimeParameters, final Consumer<String> passageConsumer) {
+        int maxTokenCount = parseInteger(runtimeParameters, MAX_TOKEN_COUNT_FIELD);
+        int runtimeMaxChunkLimit = parseInteger(runtimeParameters, MAX_CHUNK_LIMIT_FIELD);
+        int chunkStringCount = parseInteger(runtimeParameters, CHUNK_STRING_COUNT_FIELD);
+
+        WordPieceTokenizer.WordPieces pieces = tokenizer.tokenize(content, maxTokenCount);
+        int chunkCount = 0;
+        int overlapTokenNumber = (int) Math.floor(tokenLimit * overlapRate);
+
+        int startTokenIndex = 0;
+        while (startTokenIndex < pieces.size()) {
+            // include all characters till the start if no previous passage
+            int startContentPosition = startTokenIndex == 0 ? 0 : pieces.startOffset(startTokenIndex);
+            if (Chunker.checkRunTimeMaxChunkLimit(chunkCount, runtimeMaxChunkLimit, chunkStringCount)
+                || startTokenIndex + tokenLimit >= pieces.size()) {
+                // include all characters till the end if exceeds max chunk limit or no next passage
+                passageConsumer.accept(content.substring(startContentPosition));
+                chunkCount++;
+                break;
+            }
+            int endTokenIndex = endAtWordStart(pieces, startTokenIndex, startTokenIndex + tokenLimit);
+            // include gap characters between two passages
+            passageConsumer.accept(content.substring(startContentPosition, pieces.startOffset(endTokenIndex)));
+            chunkCount++;
+            startTokenIndex = nextStartTokenIndex(pieces, startTokenIndex, endTokenIndex, overlapTokenNumber);
+        }
+        return chunkCount;
+    }
+
+    /**
+     * Moves the end of a passage back to the start of the word it falls into, unless the passage is a single word
+     */
+    private static int endAtWordStart(final WordPieceTokenizer.WordPieces pieces, final int startTokenIndex, final int endTokenIndex) {
+        for (int index = endTokenIndex; index > startTokenIndex; index--) {
+            if (pieces.isWordStart(index)) {
+                return index;
+            }
+        }
+        return endTokenIndex;
+    }
+
+    /**
+     * Start of the next passage, overlapping the previous passage by up to overlapTokenNumber tokens of whole words
+     */
+    private static int nextStartTokenIndex(
+        final WordPieceTokenizer.WordPieces pieces,
+        final int startTokenIndex,
+        final int endTokenIndex,
+        final int overlapTokenNumber
+    ) {
+        int nextStartTokenIndex = Math.max(startTokenIndex + 1, endTokenIndex - overlapTokenNumber);
+        while (nextStartTokenIndex < endTokenIndex && !pieces.isWordStart(nextStartTokenIndex)) {
+            nextStartTokenIndex++;
+        }
+        return nextStartTokenIndex;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.chunker;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.lucene.util.ArrayUtil;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * WordPiece tokenizer of BERT style text embedding models, built from the vocabulary file of the model. Text is split
+ * into words on whitespace and punctuation, CJK characters are words of their own, then every word is split into the
+ * longest pieces found in the vocabulary. Only the number of pieces and their start offsets in the original text are
+ * produced, which is what chunking needs to pack passages up to the max sequence length of the model.
+ *
+ * Vocabularies are loaded once per node and file, and shared by all chunkers using the same file. Changes of a loaded
+ * vocabulary file are picked up after a node restart.
+ */
+@Log4j2
+final class WordPieceTokenizer {
+
+    private static final String CONTINUATION_PREFIX = "##";
+    // words longer than this are a single unknown token, same as the reference BERT tokenizer
+    private static final int MAX_WORD_LENGTH = 100;
+    private static final Map<Path, Set<String>> VOCABULARIES = new ConcurrentHashMap<>();
+
+    private final Set<String> vocabulary;
+    private final boolean lowerCase;
+
+    WordPieceTokenizer(final Set<String> vocabulary, final boolean lowerCase) {
+        this.vocabulary = vocabulary;
+        this.lowerCase = lowerCase;
+    }
+
+    /**
+     * Returns the tokenizer for a vocabulary file with one piece per line, the file is read on first use only
+     *
+     * @param vocabularyFile absolute path of the vocabulary file
+     * @param lowerCase whether text is lower cased and accents are stripped before lookup, as for uncased models
+     */
+    static WordPieceTokenizer forVocabularyFile(final Path vocabularyFile, final boolean lowerCase) {
+        return new WordPieceTokenizer(VOCABULARIES.computeIfAbsent(vocabularyFile.normalize(), WordPieceTokenizer::load), lowerCase);
+    }
+
+    private static Set<String> load(final Path vocabularyFile) {
+        Set<String> vocabulary = new HashSet<>();
+        try (BufferedReader reader = Files.newBufferedReader(vocabularyFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String piece = line.strip();
+                if (!piece.isEmpty()) {
+                    vocabulary.add(piece);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format(Locale.ROOT, "failed to read vocabulary file [%s]", vocabularyFile), e);
+        }
+        if (vocabulary.isEmpty()) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT, "vocabulary file [%s] is empty", vocabularyFile));
+        }
+        log.info("Loaded {} word pieces from vocabulary file [{}]", vocabulary.size(), vocabularyFile);
+        return Set.copyOf(vocabulary);
+    }
+
+    /**
+     * Tokenizes the content into word pieces
+     *
+     * @param content input string
+     * @param maxTokenCount max number of pieces, tokenizing fails when the content has more
+     * @return pieces of the content
+     */
+    WordPieces tokenize(final String content, final int maxTokenCount) {
+        WordPieces wordPieces = new WordPieces();
+        // normalized characters of the current word and the offset of each of them in the content
+        StringBuilder word = new StringBuilder();
+        int[] wordOffsets = new int[16];
+        int offset = 0;
+        while (offset < content.length()) {
+            int codePoint = content.codePointAt(offset);
+            int charCount = Character.charCount(codePoint);
+            if (Character.isWhitespace(codePoint) || Character.isISOControl(codePoint) || codePoint == 0xFFFD) {
+                addWord(word, wordOffsets, wordPieces, maxTokenCount);
+            } else if (isPunctuation(codePoint) || isCjk(codePoint)) {
+                addWord(word, wordOffsets, wordPieces, maxTokenCount);
+                wordOffsets = appendNormalized(codePoint, offset, word, wordOffsets);
+                addWord(word, wordOffsets, wordPieces, maxTokenCount);
+            } else {
+                wordOffsets = appendNormalized(codePoint, offset, word, wordOffsets);
+            }
+            offset += charCount;
+        }
+        addWord(word, wordOffsets, wordPieces, maxTokenCount);
+        return wordPieces;
+    }
+
+    private int[] appendNormalized(final int codePoint, final int offset, final StringBuilder word, final int[] wordOffsets) {
+        String normalized = new String(Character.toChars(codePoint));
+        if (lowerCase) {
+            normalized = Normalizer.normalize(normalized.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        }
+        int[] offsets = wordOffsets;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (lowerCase && Character.getType(c) == Character.NON_SPACING_MARK) {
+                // accents are stripped for uncased models
+                continue;
+            }
+            if (word.length() == offsets.length) {
+                offsets = ArrayUtil.grow(offsets, word.length() + 1);
+            }
+            offsets[word.length()] = offset;
+            word.append(c);
+        }
+        return offsets;
+    }
+
+    private void addWord(final StringBuilder word, final int[] wordOffsets, final WordPieces wordPieces, final int maxTokenCount) {
+        if (word.length() == 0) {
+            return;
+        }
+        String text = word.toString();
+        word.setLength(0);
+        if (text.codePointCount(0, text.length()) > MAX_WORD_LENGTH) {
+            wordPieces.add(wordOffsets[0], true, maxTokenCount);
+            return;
+        }
+        int start = 0;
+        int pieceCount = 0;
+        while (start < text.length()) {
+            int end = text.length();
+            while (end > start && !isInVocabulary(text, start, end)) {
+                end--;
+            }
+            if (end == start) {
+                // a part of the word isn't in the vocabulary, the whole word is a single unknown token
+                wordPieces.truncate(wordPieces.size() - pieceCount);
+                wordPieces.add(wordOffsets[0], true, maxTokenCount);
+                return;
+            }
+            wordPieces.add(wordOffsets[start], start == 0, maxTokenCount);
+            pieceCount++;
+            start = end;
+        }
+    }
+
+    private boolean isInVocabulary(final String word, final int start, final int end) {
+        // pieces after the first one of a word are prefixed in the vocabulary
+        return vocabulary.contains(start == 0 ? word.substring(0, end) : CONTINUATION_PREFIX + word.substring(start, end));
+    }
+
+    private static boolean isPunctuation(final int codePoint) {
+        // ASCII symbols are treated as punctuation, same as the reference BERT tokenizer
+        if ((codePoint >= 33 && codePoint <= 47) || (codePoint >= 58 && codePoint <= 64)) {
+            return true;
+        }
+        if ((codePoint >= 91 && codePoint <= 96) || (codePoint >= 123 && codePoint <= 126)) {
+            return true;
+        }
+        switch (Character.getType(codePoint)) {
+            case Character.CONNECTOR_PUNCTUATION:
+            case Character.DASH_PUNCTUATION:
+            case Character.START_PUNCTUATION:
+            case Character.END_PUNCTUATION:
+            case Character.INITIAL_QUOTE_PUNCTUATION:
+            case Character.FINAL_QUOTE_PUNCTUATION:
+            case Character.OTHER_PUNCTUATION:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isCjk(final int codePoint) {
+        return (codePoint >= 0x4E00 && codePoint <= 0x9FFF)
+            || (codePoint >= 0x3400 && codePoint <= 0x4DBF)
+            || (codePoint >= 0x20000 && codePoint <= 0x2A6DF)
+            || (codePoint >= 0x2A700 && codePoint <= 0x2B73F)
+            || (codePoint >= 0x2B740 && codePoint <= 0x2B81F)
+            || (codePoint >= 0x2B820 && codePoint <= 0x2CEAF)
+            || (codePoint >= 0xF900 && codePoint <= 0xFAFF)
+            || (codePoint >= 0x2F800 && codePoint <= 0x2FA1F);
+    }
+
+    /**
+     * Start offsets of the word pieces of a content, and whether a piece starts a word
+     */
+    static final class WordPieces {
+        private int[] startOffsets = new int[64];
+        private boolean[] wordStarts = new boolean[64];
+        private int size;
+
+        private void add(final int startOffset, final boolean wordStart, final int maxTokenCount) {
+            if (size >= maxTokenCount) {
+                throw new IllegalStateException(
+                    String.format(
+                        Locale.ROOT,
+                        "The number of tokens produced by the model vocabulary has exceeded the allowed maximum of [%d]."
+                            + " This limit can be set by changing the [index.analyze.max_token_count] index level setting.",
+                        maxTokenCount
+                    )
+                );
+            }
+            if (size == startOffsets.length) {
+                startOffsets = ArrayUtil.grow(startOffsets, size + 1);
+                wordStarts = Arrays.copyOf(wordStarts, startOffsets.length);
+            }
+            startOffsets[size] = startOffset;
+            wordStarts[size] = wordStart;
+            size++;
+        }
+
+        private void truncate(final int newSize) {
+            size = newSize;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int startOffset(final int index) {
+            return startOffsets[index];
+        }
+
+        boolean isWordStart(final int index) {
+            return wordStarts[index];
+        }
+    }
+}
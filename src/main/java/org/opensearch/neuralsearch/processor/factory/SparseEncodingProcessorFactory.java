@@ -12,11 +12,16 @@ import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.FIELD
 
 import java.util.Map;
 
+import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.env.Environment;
 import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.SparseEncodingProcessor;
+import org.opensearch.neuralsearch.processor.SparsePruningOptions;
+import org.opensearch.neuralsearch.processor.SparsePruningStats;
+import org.opensearch.neuralsearch.processor.SubBatchOptions;
+import org.opensearch.neuralsearch.processor.ExistingEmbeddingLookup;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -28,12 +33,35 @@ public class SparseEncodingProcessorFactory extends AbstractBatchingProcessor.Fa
     private final MLCommonsClientAccessor clientAccessor;
     private final Environment environment;
     private final ClusterService clusterService;
+    private final Client client;
+    private final SparsePruningStats pruningStats;
 
     public SparseEncodingProcessorFactory(MLCommonsClientAccessor clientAccessor, Environment environment, ClusterService clusterService) {
+        this(clientAccessor, environment, clusterService, null);
+    }
+
+    public SparseEncodingProcessorFactory(
+        MLCommonsClientAccessor clientAccessor,
+        Environment environment,
+        ClusterService clusterService,
+        Client client
+    ) {
+        this(clientAccessor, environment, clusterService, client, new SparsePruningStats());
+    }
+
+    public SparseEncodingProcessorFactory(
+        MLCommonsClientAccessor clientAccessor,
+        Environment environment,
+        ClusterService clusterService,
+        Client client,
+        SparsePruningStats pruningStats
+    ) {
         super(TYPE);
         this.clientAccessor = clientAccessor;
         this.environment = environment;
         this.clusterService = clusterService;
+        this.client = client;
+        this.pruningStats = pruningStats;
     }
 
     @Override
@@ -41,6 +69,22 @@ public class SparseEncodingProcessorFactory extends AbstractBatchingProcessor.Fa
         String modelId = readStringProperty(TYPE, tag, config, MODEL_ID_FIELD);
         Map<String, Object> fieldMap = readMap(TYPE, tag, config, FIELD_MAP_FIELD);
 
-        return new SparseEncodingProcessor(tag, description, batchSize, modelId, fieldMap, clientAccessor, environment, clusterService);
+        SubBatchOptions subBatchOptions = SubBatchOptions.readFromConfig(TYPE, tag, config);
+        ExistingEmbeddingLookup existingEmbeddingLookup = ExistingEmbeddingLookup.readFromConfig(TYPE, tag, config, client);
+        SparsePruningOptions pruningOptions = SparsePruningOptions.readFromConfig(TYPE, tag, config);
+        return new SparseEncodingProcessor(
+            tag,
+            description,
+            batchSize,
+            modelId,
+            fieldMap,
+            clientAccessor,
+            environment,
+            clusterService,
+            subBatchOptions,
+            existingEmbeddingLookup,
+            pruningOptions,
+            pruningStats
+        );
     }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.factory;
+
+import static org.opensearch.ingest.ConfigurationUtils.readIntProperty;
+import static org.opensearch.ingest.ConfigurationUtils.readMap;
+import static org.opensearch.ingest.ConfigurationUtils.readOptionalMap;
+import static org.opensearch.ingest.ConfigurationUtils.readStringProperty;
+import static org.opensearch.neuralsearch.processor.TextChunkingEmbeddingProcessor.ALGORITHM_FIELD;
+import static org.opensearch.neuralsearch.processor.TextChunkingEmbeddingProcessor.DEFAULT_INFERENCE_BATCH_SIZE;
+import static org.opensearch.neuralsearch.processor.TextChunkingEmbeddingProcessor.DEFAULT_MAX_CONCURRENT_BATCHES;
+import static org.opensearch.neuralsearch.processor.TextChunkingEmbeddingProcessor.FIELD_MAP_FIELD;
+import static org.opensearch.neuralsearch.processor.TextChunkingEmbeddingProcessor.INFERENCE_BATCH_SIZE_FIELD;
+import static org.opensearch.neuralsearch.processor.TextChunkingEmbeddingProcessor.MAX_CONCURRENT_BATCHES_FIELD;
+import static org.opensearch.neuralsearch.processor.TextChunkingEmbeddingProcessor.MODEL_ID_FIELD;
+import static org.opensearch.neuralsearch.processor.TextChunkingEmbeddingProcessor.TYPE;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.env.Environment;
+import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.ingest.Processor;
+import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.processor.TextChunkingEmbeddingProcessor;
+
+/**
+ * Factory for text chunking embedding ingest processor for ingestion pipeline. Instantiates processor based on user
+ * provided input, which includes:
+ * 1. model_id: text embedding model
+ * 2. field_map: the source fields and the target fields receiving the chunks with their embeddings
+ * 3. algorithm: optional chunking algorithm and its parameters, same as for the text_chunking processor
+ * 4. inference_batch_size: optional number of passages sent to the model in one request
+ * 5. max_concurrent_batches: optional number of requests of a document in flight at the same time
+ */
+public class TextChunkingEmbeddingProcessorFactory implements Processor.Factory {
+
+    private final MLCommonsClientAccessor clientAccessor;
+    private final Environment environment;
+    private final ClusterService clusterService;
+    private final AnalysisRegistry analysisRegistry;
+
+    public TextChunkingEmbeddingProcessorFactory(
+        final MLCommonsClientAccessor clientAccessor,
+        final Environment environment,
+        final ClusterService clusterService,
+        final AnalysisRegistry analysisRegistry
+    ) {
+        this.clientAccessor = clientAccessor;
+        this.environment = environment;
+        this.clusterService = clusterService;
+        this.analysisRegistry = analysisRegistry;
+    }
+
+    @Override
+    public TextChunkingEmbeddingProcessor create(
+        final Map<String, Processor.Factory> registry,
+        final String processorTag,
+        final String description,
+        final Map<String, Object> config
+    ) throws Exception {
+        String modelId = readStringProperty(TYPE, processorTag, config, MODEL_ID_FIELD);
+        Map<String, String> fieldMap = readMap(TYPE, processorTag, config, FIELD_MAP_FIELD);
+        Map<String, Object> algorithmMap = readOptionalMap(TYPE, processorTag, config, ALGORITHM_FIELD);
+        int inferenceBatchSize = readIntProperty(TYPE, processorTag, config, INFERENCE_BATCH_SIZE_FIELD, DEFAULT_INFERENCE_BATCH_SIZE);
+        int maxConcurrentBatches = readIntProperty(
+            TYPE,
+            processorTag,
+            config,
+            MAX_CONCURRENT_BATCHES_FIELD,
+            DEFAULT_MAX_CONCURRENT_BATCHES
+        );
+        return new TextChunkingEmbeddingProcessor(
+            processorTag,
+            description,
+            modelId,
+            fieldMap,
+            Objects.isNull(algorithmMap) ? new HashMap<>() : algorithmMap,
+            inferenceBatchSize,
+            maxConcurrentBatches,
+            clientAccessor,
+            environment,
+            clusterService,
+            analysisRegistry
+        );
+    }
+}
@@ -5,10 +5,12 @@
 package org.opensearch.neuralsearch.processor.factory;
 
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.env.Environment;
 import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.ingest.Processor;
 import org.opensearch.neuralsearch.processor.TextChunkingProcessor;
 import static org.opensearch.neuralsearch.processor.TextChunkingProcessor.TYPE;
@@ -16,16 +18,20 @@ import static org.opensearch.neuralsearch.processor.TextChunkingProcessor.FIELD_
 import static org.opensearch.neuralsearch.processor.TextChunkingProcessor.ALGORITHM_FIELD;
 import static org.opensearch.neuralsearch.processor.TextChunkingProcessor.IGNORE_MISSING;
 import static org.opensearch.neuralsearch.processor.TextChunkingProcessor.DEFAULT_IGNORE_MISSING;
+import static org.opensearch.neuralsearch.processor.TextChunkingProcessor.MAX_CONCURRENT_DOCUMENTS_FIELD;
+import static org.opensearch.neuralsearch.processor.TextChunkingProcessor.DEFAULT_MAX_CONCURRENT_DOCUMENTS;
 import static org.opensearch.ingest.ConfigurationUtils.readMap;
 import static org.opensearch.ingest.ConfigurationUtils.readBooleanProperty;
+import static org.opensearch.ingest.ConfigurationUtils.readIntProperty;
 
 /**
  * Factory for chunking ingest processor for ingestion pipeline.
  * Instantiates processor based on user provided input, which includes:
  * 1. field_map: the input and output fields specified by the user
  * 2. algorithm: chunking algorithm and its parameters
+ * 3. max_concurrent_documents: optional number of documents of a batch chunked in parallel
  */
-public class TextChunkingProcessorFactory implements Processor.Factory {
+public class TextChunkingProcessorFactory extends AbstractBatchingProcessor.Factory {
 
     private final Environment environment;
 
@@ -33,10 +39,26 @@ public class TextChunkingProcessorFactory implements Processor.Factory {
 
     private final AnalysisRegistry analysisRegistry;
 
+    private final Consumer<Runnable> executor;
+
     public TextChunkingProcessorFactory(Environment environment, ClusterService clusterService, AnalysisRegistry analysisRegistry) {
+        this(environment, clusterService, analysisRegistry, null);
+    }
+
+    /**
+     * @param executor runs chunking of documents in parallel, if null documents are only chunked on the calling thread
+     */
+    public TextChunkingProcessorFactory(
+        Environment environment,
+        ClusterService clusterService,
+        AnalysisRegistry analysisRegistry,
+        Consumer<Runnable> executor
+    ) {
+        super(TYPE);
         this.environment = environment;
         this.clusterService = clusterService;
         this.analysisRegistry = analysisRegistry;
+        this.executor = executor;
     }
 
     @Override
@@ -46,18 +68,27 @@ public class TextChunkingProcessorFactory implements Processor.Factory {
         String description,
         Map<String, Object> config
     ) throws Exception {
-        Map<String, Object> fieldMap = readMap(TYPE, processorTag, config, FIELD_MAP_FIELD);
-        Map<String, Object> algorithmMap = readMap(TYPE, processorTag, config, ALGORITHM_FIELD);
-        boolean ignoreMissing = readBooleanProperty(TYPE, processorTag, config, IGNORE_MISSING, DEFAULT_IGNORE_MISSING);
+        return (TextChunkingProcessor) super.create(registry, processorTag, description, config);
+    }
+
+    @Override
+    protected AbstractBatchingProcessor newProcessor(String tag, String description, int batchSize, Map<String, Object> config) {
+        Map<String, Object> fieldMap = readMap(TYPE, tag, config, FIELD_MAP_FIELD);
+        Map<String, Object> algorithmMap = readMap(TYPE, tag, config, ALGORITHM_FIELD);
+        boolean ignoreMissing = readBooleanProperty(TYPE, tag, config, IGNORE_MISSING, DEFAULT_IGNORE_MISSING);
+        int maxConcurrentDocuments = readIntProperty(TYPE, tag, config, MAX_CONCURRENT_DOCUMENTS_FIELD, DEFAULT_MAX_CONCURRENT_DOCUMENTS);
         return new TextChunkingProcessor(
-            processorTag,
+            tag,
             description,
+            batchSize,
             fieldMap,
             algorithmMap,
             ignoreMissing,
+            maxConcurrentDocuments,
             environment,
             clusterService,
-            analysisRegistry
+            analysisRegistry,
+            executor
         );
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.factory;
+
+import static org.opensearch.ingest.ConfigurationUtils.readMap;
+import static org.opensearch.ingest.ConfigurationUtils.readStringProperty;
+import static org.opensearch.neuralsearch.processor.TextDenseSparseEmbeddingProcessor.DENSE_MODEL_ID_FIELD;
+import static org.opensearch.neuralsearch.processor.TextDenseSparseEmbeddingProcessor.FIELD_MAP_FIELD;
+import static org.opensearch.neuralsearch.processor.TextDenseSparseEmbeddingProcessor.SPARSE_FIELD_MAP_FIELD;
+import static org.opensearch.neuralsearch.processor.TextDenseSparseEmbeddingProcessor.SPARSE_MODEL_ID_FIELD;
+import static org.opensearch.neuralsearch.processor.TextDenseSparseEmbeddingProcessor.TYPE;
+
+import java.util.Map;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.env.Environment;
+import org.opensearch.ingest.AbstractBatchingProcessor;
+import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.processor.SubBatchOptions;
+import org.opensearch.neuralsearch.processor.TextDenseSparseEmbeddingProcessor;
+
+/**
+ * Factory for the ingest processor producing both dense text embeddings and sparse encodings. Instantiates processor based on
+ * user provided input.
+ */
+public final class TextDenseSparseEmbeddingProcessorFactory extends AbstractBatchingProcessor.Factory {
+
+    private final MLCommonsClientAccessor clientAccessor;
+
+    private final Environment environment;
+
+    private final ClusterService clusterService;
+
+    public TextDenseSparseEmbeddingProcessorFactory(
+        final MLCommonsClientAccessor clientAccessor,
+        final Environment environment,
+        final ClusterService clusterService
+    ) {
+        super(TYPE);
+        this.clientAccessor = clientAccessor;
+        this.environment = environment;
+        this.clusterService = clusterService;
+    }
+
+    @Override
+    protected AbstractBatchingProcessor newProcessor(String tag, String description, int batchSize, Map<String, Object> config) {
+        String denseModelId = readStringProperty(TYPE, tag, config, DENSE_MODEL_ID_FIELD);
+        String sparseModelId = readStringProperty(TYPE, tag, config, SPARSE_MODEL_ID_FIELD);
+        Map<String, Object> fieldMap = readMap(TYPE, tag, config, FIELD_MAP_FIELD);
+        Map<String, Object> sparseFieldMap = readMap(TYPE, tag, config, SPARSE_FIELD_MAP_FIELD);
+        SubBatchOptions subBatchOptions = SubBatchOptions.readFromConfig(TYPE, tag, config);
+        return new TextDenseSparseEmbeddingProcessor(
+            tag,
+            description,
+            batchSize,
+            denseModelId,
+            sparseModelId,
+            fieldMap,
+            sparseFieldMap,
+            clientAccessor,
+            environment,
+            clusterService,
+            subBatchOptions
+        );
+    }
+}
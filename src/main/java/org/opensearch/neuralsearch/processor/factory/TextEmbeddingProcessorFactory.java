@@ -12,11 +12,14 @@ import static org.opensearch.neuralsearch.processor.TextEmbeddingProcessor.FIELD
 
 import java.util.Map;
 
+import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.env.Environment;
 import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.TextEmbeddingProcessor;
+import org.opensearch.neuralsearch.processor.SubBatchOptions;
+import org.opensearch.neuralsearch.processor.ExistingEmbeddingLookup;
 
 /**
  * Factory for text embedding ingest processor for ingestion pipeline. Instantiates processor based on user provided input.
@@ -29,21 +32,46 @@ public final class TextEmbeddingProcessorFactory extends AbstractBatchingProcess
 
     private final ClusterService clusterService;
 
+    private final Client client;
+
     public TextEmbeddingProcessorFactory(
         final MLCommonsClientAccessor clientAccessor,
         final Environment environment,
         final ClusterService clusterService
+    ) {
+        this(clientAccessor, environment, clusterService, null);
+    }
+
+    public TextEmbeddingProcessorFactory(
+        final MLCommonsClientAccessor clientAccessor,
+        final Environment environment,
+        final ClusterService clusterService,
+        final Client client
     ) {
         super(TYPE);
         this.clientAccessor = clientAccessor;
         this.environment = environment;
         this.clusterService = clusterService;
+        this.client = client;
     }
 
     @Override
     protected AbstractBatchingProcessor newProcessor(String tag, String description, int batchSize, Map<String, Object> config) {
         String modelId = readStringProperty(TYPE, tag, config, MODEL_ID_FIELD);
         Map<String, Object> filedMap = readMap(TYPE, tag, config, FIELD_MAP_FIELD);
-        return new TextEmbeddingProcessor(tag, description, batchSize, modelId, filedMap, clientAccessor, environment, clusterService);
+        SubBatchOptions subBatchOptions = SubBatchOptions.readFromConfig(TYPE, tag, config);
+        ExistingEmbeddingLookup existingEmbeddingLookup = ExistingEmbeddingLookup.readFromConfig(TYPE, tag, config, client);
+        return new TextEmbeddingProcessor(
+            tag,
+            description,
+            batchSize,
+            modelId,
+            filedMap,
+            clientAccessor,
+            environment,
+            clusterService,
+            subBatchOptions,
+            existingEmbeddingLookup
+        );
     }
 }
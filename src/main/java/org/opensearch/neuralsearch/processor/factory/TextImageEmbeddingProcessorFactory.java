@@ -15,28 +15,49 @@ import java.util.Map;
 
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.env.Environment;
-import org.opensearch.ingest.Processor;
+import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.processor.SubBatchOptions;
 import org.opensearch.neuralsearch.processor.TextImageEmbeddingProcessor;
 
-import lombok.AllArgsConstructor;
-
 /**
  * Factory for text_image embedding ingest processor for ingestion pipeline. Instantiates processor based on user provided input.
  */
-@AllArgsConstructor
-public class TextImageEmbeddingProcessorFactory implements Processor.Factory {
+public class TextImageEmbeddingProcessorFactory extends AbstractBatchingProcessor.Factory {
 
     private final MLCommonsClientAccessor clientAccessor;
     private final Environment environment;
     private final ClusterService clusterService;
 
+    public TextImageEmbeddingProcessorFactory(
+        final MLCommonsClientAccessor clientAccessor,
+        final Environment environment,
+        final ClusterService clusterService
+    ) {
+        super(TYPE);
+        this.clientAccessor = clientAccessor;
+        this.environment = environment;
+        this.clusterService = clusterService;
+    }
+
     @Override
-    public Processor create(Map<String, Processor.Factory> processorFactories, String tag, String description, Map<String, Object> config)
-        throws Exception {
+    protected AbstractBatchingProcessor newProcessor(String tag, String description, int batchSize, Map<String, Object> config) {
         String modelId = readStringProperty(TYPE, tag, config, MODEL_ID_FIELD);
         String embedding = readStringProperty(TYPE, tag, config, EMBEDDING_FIELD);
         Map<String, String> filedMap = readMap(TYPE, tag, config, FIELD_MAP_FIELD);
-        return new TextImageEmbeddingProcessor(tag, description, modelId, embedding, filedMap, clientAccessor, environment, clusterService);
+        // requests of a batch aren't limited unless configured, like documents processed one by one
+        int maxConcurrentRequests = SubBatchOptions.readMaxConcurrencyFromConfig(TYPE, tag, config, Integer.MAX_VALUE);
+        return new TextImageEmbeddingProcessor(
+            tag,
+            description,
+            batchSize,
+            modelId,
+            embedding,
+            filedMap,
+            clientAccessor,
+            environment,
+            clusterService,
+            maxConcurrentRequests
+        );
     }
 }
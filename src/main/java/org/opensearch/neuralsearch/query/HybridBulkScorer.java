@@ -0,0 +1,202 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TwoPhaseIterator;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+
+/**
+ * Bulk scorer for hybrid query that scores windows of documents at a time. For every window of doc ids each sub-scorer
+ * iterates over its own matches and stores their scores in the buckets of its sub-query, then the matching documents of
+ * the window are passed to the collector in order of doc id. Unlike {@link HybridQueryScorer} there is no priority queue
+ * of sub-scorers to maintain for every document, which is the main cost of disjunctions of a few sub-queries with many
+ * matches. Implementation inspired by
+ * <a href="https://github.com/apache/lucene/blob/branch_9_12/lucene/core/src/java/org/apache/lucene/search/BooleanScorer.java">BooleanScorer</a>
+ */
+public final class HybridBulkScorer extends BulkScorer {
+
+    static final int WINDOW_SIZE = 1 << 11;
+
+    private final Scorer[] subScorers;
+    private final DocIdSetIterator[] approximations;
+    private final TwoPhaseIterator[] twoPhases;
+    // current doc of every sub-query, NO_MORE_DOCS if sub-query has no matches
+    private final int[] docs;
+    // score of every sub-query for every document of the current window, 0.0 if sub-query doesn't match the document
+    private final float[][] windowScores;
+    // documents of the current window matched by at least one sub-query
+    private final FixedBitSet windowMatches = new FixedBitSet(WINDOW_SIZE);
+    private final HybridWindowScorable scorable = new HybridWindowScorable();
+    private final boolean needsScores;
+    private final ScoreMode scoreMode;
+    private final long cost;
+
+    /**
+     * @param subScorers scorers of sub-queries in order of sub-queries in hybrid query, null if sub-query has no matches
+     * @param scoreMode score mode the sub-scorers have been created with
+     */
+    HybridBulkScorer(final List<Scorer> subScorers, final ScoreMode scoreMode) {
+        int numOfSubQueries = subScorers.size();
+        this.subScorers = subScorers.toArray(new Scorer[0]);
+        this.approximations = new DocIdSetIterator[numOfSubQueries];
+        this.twoPhases = new TwoPhaseIterator[numOfSubQueries];
+        this.docs = new int[numOfSubQueries];
+        this.windowScores = new float[numOfSubQueries][WINDOW_SIZE];
+        long cost = 0;
+        for (int i = 0; i < numOfSubQueries; i++) {
+            Scorer scorer = this.subScorers[i];
+            if (Objects.isNull(scorer)) {
+                docs[i] = DocIdSetIterator.NO_MORE_DOCS;
+                continue;
+            }
+            docs[i] = -1;
+            twoPhases[i] = scorer.twoPhaseIterator();
+            approximations[i] = Objects.isNull(twoPhases[i]) ? scorer.iterator() : twoPhases[i].approximation();
+            cost += approximations[i].cost();
+        }
+        this.cost = cost;
+        this.scoreMode = scoreMode;
+        this.needsScores = scoreMode.needsScores();
+    }
+
+    @Override
+    public int score(final LeafCollector collector, final Bits acceptDocs, final int min, final int max) throws IOException {
+        collector.setScorer(scorable);
+        int windowMin = advance(min);
+        while (windowMin < max) {
+            int windowMax = (int) Math.min((long) windowMin + WINDOW_SIZE, max);
+            scoreWindow(collector, acceptDocs, windowMin, windowMax);
+            windowMin = nextCandidate();
+        }
+        return windowMin;
+    }
+
+    /**
+     * Moves all sub-queries to their first match on or after target
+     * @return first doc id matched by any sub-query
+     */
+    private int advance(final int target) throws IOException {
+        for (int i = 0; i < approximations.length; i++) {
+            if (docs[i] < target) {
+                docs[i] = approximations[i].advance(target);
+            }
+        }
+        return nextCandidate();
+    }
+
+    private int nextCandidate() {
+        int candidate = DocIdSetIterator.NO_MORE_DOCS;
+        for (int doc : docs) {
+            candidate = Math.min(candidate, doc);
+        }
+        return candidate;
+    }
+
+    private void scoreWindow(final LeafCollector collector, final Bits acceptDocs, final int windowMin, final int windowMax)
+        throws IOException {
+        // each sub-query fills its buckets for the window independently of others
+        for (int i = 0; i < approximations.length; i++) {
+            if (docs[i] >= windowMax) {
+                continue;
+            }
+            DocIdSetIterator approximation = approximations[i];
+            TwoPhaseIterator twoPhase = twoPhases[i];
+            float[] scores = windowScores[i];
+            int doc = docs[i];
+            for (; doc < windowMax; doc = approximation.nextDoc()) {
+                if ((Objects.nonNull(acceptDocs) && acceptDocs.get(doc) == false)
+                    || (Objects.nonNull(twoPhase) && twoPhase.matches() == false)) {
+                    continue;
+                }
+                int windowDoc = doc - windowMin;
+                windowMatches.set(windowDoc);
+                if (needsScores) {
+                    scores[windowDoc] = subScorers[i].score();
+                }
+            }
+            docs[i] = doc;
+        }
+
+        int windowLength = windowMax - windowMin;
+        for (int windowDoc = windowMatches.nextSetBit(0); windowDoc < windowLength; windowDoc = nextWindowMatch(windowDoc)) {
+            scorable.windowMin = windowMin;
+            scorable.windowDoc = windowDoc;
+            collector.collect(windowMin + windowDoc);
+            for (float[] scores : windowScores) {
+                scores[windowDoc] = 0.0f;
+            }
+        }
+        windowMatches.clear(0, windowLength);
+    }
+
+    private int nextWindowMatch(final int windowDoc) {
+        return windowDoc + 1 < WINDOW_SIZE ? windowMatches.nextSetBit(windowDoc + 1) : DocIdSetIterator.NO_MORE_DOCS;
+    }
+
+    @Override
+    public long cost() {
+        return cost;
+    }
+
+    /**
+     * Scorable passed to the collector, gives scores of the document of the window that is being collected
+     */
+    final class HybridWindowScorable extends Scorable implements HybridScorable {
+        private int windowMin;
+        private int windowDoc;
+
+        /**
+         * Returns the combined score of the current document, which is a sum of all scores from sub-queries
+         * @return combined total score of all sub-scores
+         */
+        @Override
+        public float score() {
+            float totalScore = 0.0f;
+            for (float[] scores : windowScores) {
+                totalScore += scores[windowDoc];
+            }
+            return totalScore;
+        }
+
+        @Override
+        public int docID() {
+            return windowMin + windowDoc;
+        }
+
+        @Override
+        public float[] hybridScores(final float[] reuse) {
+            float[] hybridScores = Objects.nonNull(reuse) && reuse.length == windowScores.length ? reuse : new float[windowScores.length];
+            for (int i = 0; i < windowScores.length; i++) {
+                hybridScores[i] = windowScores[i][windowDoc];
+            }
+            return hybridScores;
+        }
+
+        /**
+         * Sub-scorers iterate independently, so a sub-scorer starts skipping documents from the next window
+         */
+        @Override
+        public void setSubQueryMinCompetitiveScore(final int subQueryIndex, final float minScore) throws IOException {
+            if (scoreMode != ScoreMode.TOP_SCORES) {
+                return;
+            }
+            Scorer scorer = subScorers[subQueryIndex];
+            if (Objects.nonNull(scorer)) {
+                scorer.setMinCompetitiveScore(minScore);
+            }
+        }
+    }
+}
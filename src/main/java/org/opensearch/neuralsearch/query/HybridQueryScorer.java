@@ -7,9 +7,7 @@ package org.opensearch.neuralsearch.query;
 import com.google.common.annotations.VisibleForTesting;
 import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
-import org.apache.lucene.search.DisiPriorityQueue;
 import org.apache.lucene.search.DisiWrapper;
-import org.apache.lucene.search.DisjunctionDISIApproximation;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
@@ -20,6 +18,7 @@ import org.opensearch.neuralsearch.search.HybridDisiWrapper;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -31,18 +30,19 @@ import java.util.Objects;
  * corresponds to order of sub-queries in an input Hybrid query.
  */
 @Log4j2
-public class HybridQueryScorer extends Scorer {
+public class HybridQueryScorer extends Scorer implements HybridScorable {
 
     // score for each of sub-query in this hybrid query
     @Getter
     private final List<Scorer> subScorers;
 
-    private final DisiPriorityQueue subScorersPQ;
+    private final HybridSubScorersQueue subScorersPQ;
 
     private final DocIdSetIterator approximation;
     private final HybridScoreBlockBoundaryPropagator disjunctionBlockPropagator;
     private final TwoPhase twoPhase;
     private final int numSubqueries;
+    private final ScoreMode scoreMode;
 
     public HybridQueryScorer(final Weight weight, final List<Scorer> subScorers) throws IOException {
         this(weight, subScorers, ScoreMode.TOP_SCORES);
@@ -52,6 +52,7 @@ public class HybridQueryScorer extends Scorer {
         super(weight);
         this.subScorers = Collections.unmodifiableList(subScorers);
         this.numSubqueries = subScorers.size();
+        this.scoreMode = scoreMode;
         this.subScorersPQ = initializeSubScorersPQ();
         boolean needsScores = scoreMode != ScoreMode.COMPLETE_NO_SCORES;
 
@@ -170,6 +171,26 @@ public class HybridQueryScorer extends Scorer {
         }
     }
 
+    /**
+     * Set the minimum competitive score of a single sub-query. Collector ranks results of every sub-query in a separate queue,
+     * so a document scoring below the bottom of the full queue of a sub-query isn't needed for that sub-query and its scorer
+     * can skip it, e.g. whole blocks of postings based on impacts. Document is still collected if it's competitive for
+     * any other sub-query. Ignored unless scorer has been created for top scores, other collectors may need all matches.
+     * @param subQueryIndex index of the sub-query in the hybrid query
+     * @param minScore minimum score for a document to be competitive in the results of the sub-query
+     * @throws IOException
+     */
+    @Override
+    public void setSubQueryMinCompetitiveScore(final int subQueryIndex, final float minScore) throws IOException {
+        if (scoreMode != ScoreMode.TOP_SCORES) {
+            return;
+        }
+        Scorer scorer = subScorers.get(subQueryIndex);
+        if (Objects.nonNull(scorer)) {
+            scorer.setMinCompetitiveScore(minScore);
+        }
+    }
+
     /**
      * Returns the doc ID that is currently being scored.
      * @return document id
@@ -179,16 +200,24 @@ public class HybridQueryScorer extends Scorer {
         if (subScorersPQ.size() == 0) {
             return DocIdSetIterator.NO_MORE_DOCS;
         }
-        return subScorersPQ.top().doc;
+        return subScorersPQ.docID();
     }
 
     /**
      * Return array of scores per sub-query for doc id that is defined by current iterator position
+     * @param reuse array to fill with scores, new array is allocated if it's null or of different length
      * @return
      * @throws IOException
      */
-    public float[] hybridScores() throws IOException {
-        float[] scores = new float[numSubqueries];
+    @Override
+    public float[] hybridScores(final float[] reuse) throws IOException {
+        float[] scores;
+        if (Objects.nonNull(reuse) && reuse.length == numSubqueries) {
+            scores = reuse;
+            Arrays.fill(scores, 0.0f);
+        } else {
+            scores = new float[numSubqueries];
+        }
         // retrieves sub-matches using DisjunctionDisiScorer's two-phase iteration process.
         // while the two-phase iterator can efficiently skip blocks of document IDs during matching,
         // the DisiWrapper (obtained from subScorersPQ.topList()) ensures sequential document ID iteration.
@@ -207,19 +236,19 @@ public class HybridQueryScorer extends Scorer {
         return scores;
     }
 
-    private DisiPriorityQueue initializeSubScorersPQ() {
+    private HybridSubScorersQueue initializeSubScorersPQ() {
         Objects.requireNonNull(subScorers, "should not be null");
         // we need to count this way in order to include all identical sub-queries
-        DisiPriorityQueue subScorersPQ = new DisiPriorityQueue(numSubqueries);
+        List<HybridDisiWrapper> disiWrappers = new ArrayList<>(numSubqueries);
         for (int idx = 0; idx < numSubqueries; idx++) {
             Scorer scorer = subScorers.get(idx);
             if (scorer == null) {
                 continue;
             }
             final HybridDisiWrapper disiWrapper = new HybridDisiWrapper(scorer, idx);
-            subScorersPQ.add(disiWrapper);
+            disiWrappers.add(disiWrapper);
         }
-        return subScorersPQ;
+        return HybridSubScorersQueue.create(disiWrappers);
     }
 
     @Override
@@ -244,10 +273,10 @@ public class HybridQueryScorer extends Scorer {
         DisiWrapper verifiedMatches;
         // priority queue of approximations on the current doc that have not been verified yet
         final PriorityQueue<DisiWrapper> unverifiedMatches;
-        DisiPriorityQueue subScorers;
+        HybridSubScorersQueue subScorers;
         boolean needsScores;
 
-        private TwoPhase(DocIdSetIterator approximation, float matchCost, DisiPriorityQueue subScorers, boolean needsScores) {
+        private TwoPhase(DocIdSetIterator approximation, float matchCost, HybridSubScorersQueue subScorers, boolean needsScores) {
             super(approximation);
             this.matchCost = matchCost;
             this.subScorers = subScorers;
@@ -323,10 +352,10 @@ public class HybridQueryScorer extends Scorer {
      */
     static class HybridSubqueriesDISIApproximation extends DocIdSetIterator {
         final DocIdSetIterator docIdSetIterator;
-        final DisiPriorityQueue subIterators;
+        final HybridSubScorersQueue subIterators;
 
-        public HybridSubqueriesDISIApproximation(final DisiPriorityQueue subIterators) {
-            docIdSetIterator = new DisjunctionDISIApproximation(subIterators);
+        HybridSubqueriesDISIApproximation(final HybridSubScorersQueue subIterators) {
+            docIdSetIterator = subIterators;
             this.subIterators = subIterators;
         }
 
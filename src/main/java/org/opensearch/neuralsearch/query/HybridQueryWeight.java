@@ -13,6 +13,7 @@ import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.BulkScorer;
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Matches;
@@ -79,6 +80,10 @@ public final class HybridQueryWeight extends Weight {
      */
     @Override
     public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+        return hybridScorerSupplier(context);
+    }
+
+    private HybridScorerSupplier hybridScorerSupplier(LeafReaderContext context) throws IOException {
         HybridQueryScoreSupplierCollectorManager manager = new HybridQueryScoreSupplierCollectorManager(context);
         List<Callable<Void>> scoreSupplierTasks = new ArrayList<>();
         List<HybridQueryExecutorCollector<LeafReaderContext, ScorerSupplier>> collectors = new ArrayList<>();
@@ -95,6 +100,28 @@ public final class HybridQueryWeight extends Weight {
         return new HybridScorerSupplier(scorerSuppliers, this, scoreMode);
     }
 
+    /**
+     * Returns {@link HybridBulkScorer} that scores windows of documents at a time when more than one sub-query has
+     * matches in the segment, otherwise falls back to scoring documents one by one with {@link HybridQueryScorer}
+     *
+     * @param context the {@link LeafReaderContext} for which to return the {@link BulkScorer}
+     * @return bulk scorer of hybrid query, null if there are no matches in any sub-query
+     * @throws IOException
+     */
+    @Override
+    public BulkScorer bulkScorer(LeafReaderContext context) throws IOException {
+        HybridScorerSupplier supplier = hybridScorerSupplier(context);
+        if (supplier == null) {
+            return null;
+        }
+        supplier.setTopLevelScoringClause();
+        List<Scorer> subScorers = supplier.getSubScorers(Long.MAX_VALUE);
+        if (subScorers.stream().filter(Objects::nonNull).count() < 2) {
+            return new DefaultBulkScorer(new HybridQueryScorer(this, subScorers, scoreMode));
+        }
+        return new HybridBulkScorer(subScorers, scoreMode);
+    }
+
     private Void addScoreSupplier(Weight weight, HybridQueryExecutorCollector<LeafReaderContext, ScorerSupplier> collector) {
         collector.collect(leafReaderContext -> {
             try {
@@ -161,6 +188,10 @@ public final class HybridQueryWeight extends Weight {
 
         @Override
         public Scorer get(long leadCost) throws IOException {
+            return new HybridQueryScorer(weight, getSubScorers(leadCost), scoreMode);
+        }
+
+        List<Scorer> getSubScorers(long leadCost) throws IOException {
             List<Scorer> tScorers = new ArrayList<>();
             for (ScorerSupplier ss : scorerSuppliers) {
                 if (Objects.nonNull(ss)) {
@@ -169,7 +200,7 @@ public final class HybridQueryWeight extends Weight {
                     tScorers.add(null);
                 }
             }
-            return new HybridQueryScorer(weight, tScorers, scoreMode);
+            return tScorers;
         }
 
         @Override
@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import java.io.IOException;
+
+/**
+ * Scorable of hybrid query that gives collectors the score of each sub-query for the current document. Implemented by
+ * {@link HybridQueryScorer} for doc-at-a-time scoring and by the scorable of {@link HybridBulkScorer} for scoring windows
+ * of documents. Implementations must be {@link org.apache.lucene.search.Scorable}s, collectors pass them to sort comparators.
+ */
+public interface HybridScorable {
+
+    /**
+     * Return array of scores per sub-query for the current document, score is 0.0 if sub-query doesn't match the document.
+     * Order in array of scores corresponds to order of sub-queries in hybrid query
+     * @return scores of sub-queries
+     * @throws IOException
+     */
+    default float[] hybridScores() throws IOException {
+        return hybridScores(null);
+    }
+
+    /**
+     * Fill array of scores per sub-query for the current document, so collectors don't allocate an array for every document.
+     * Score is 0.0 if sub-query doesn't match the document
+     * @param reuse array to fill with scores, new array is allocated if it's null or its length isn't the number of sub-queries
+     * @return array with scores of sub-queries, reuse array if it has been filled
+     * @throws IOException
+     */
+    float[] hybridScores(float[] reuse) throws IOException;
+
+    /**
+     * Set the minimum competitive score of a single sub-query, documents scoring less for that sub-query may be skipped
+     * @param subQueryIndex index of the sub-query in the hybrid query
+     * @param minScore minimum score for a document to be competitive in the results of the sub-query
+     * @throws IOException
+     */
+    void setSubQueryMinCompetitiveScore(int subQueryIndex, float minScore) throws IOException;
+}
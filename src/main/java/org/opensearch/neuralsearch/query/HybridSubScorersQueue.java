@@ -0,0 +1,178 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.lucene.search.DisiPriorityQueue;
+import org.apache.lucene.search.DisiWrapper;
+import org.apache.lucene.search.DisjunctionDISIApproximation;
+import org.apache.lucene.search.DocIdSetIterator;
+
+import static org.opensearch.neuralsearch.query.HybridQueryBuilder.MAX_NUMBER_OF_SUB_QUERIES;
+
+/**
+ * Disjunction of approximations of hybrid query sub-scorers that keeps track of sub-scorers positioned on the current
+ * doc id. Sub-scorers are iterated in a flat array for the number of sub-queries hybrid query allows, scanning at most
+ * {@link HybridQueryBuilder#MAX_NUMBER_OF_SUB_QUERIES} doc ids is cheaper than maintaining a heap on every advance.
+ * A {@link DisiPriorityQueue} is used for more sub-scorers.
+ */
+abstract class HybridSubScorersQueue extends DocIdSetIterator implements Iterable<DisiWrapper> {
+
+    /**
+     * Creates the queue for sub-scorers
+     * @param subScorers wrappers of sub-scorers that have matches in the segment
+     * @return array backed queue for up to {@link HybridQueryBuilder#MAX_NUMBER_OF_SUB_QUERIES} sub-scorers, heap otherwise
+     */
+    static HybridSubScorersQueue create(final List<? extends DisiWrapper> subScorers) {
+        if (subScorers.size() <= MAX_NUMBER_OF_SUB_QUERIES) {
+            return new ArrayQueue(subScorers);
+        }
+        return new HeapQueue(subScorers);
+    }
+
+    /**
+     * @return number of sub-scorers in the queue
+     */
+    abstract int size();
+
+    /**
+     * @return linked list of sub-scorers positioned on the current doc id, null if there are no sub-scorers
+     */
+    abstract DisiWrapper topList();
+
+    /**
+     * Flat array of sub-scorers, the current doc id is the minimum of their doc ids
+     */
+    static final class ArrayQueue extends HybridSubScorersQueue {
+        private final DisiWrapper[] subScorers;
+        private final long cost;
+        private int doc;
+
+        ArrayQueue(final List<? extends DisiWrapper> subScorers) {
+            this.subScorers = subScorers.toArray(new DisiWrapper[0]);
+            long cost = 0;
+            int doc = NO_MORE_DOCS;
+            for (DisiWrapper subScorer : this.subScorers) {
+                cost += subScorer.cost;
+                doc = Math.min(doc, subScorer.doc);
+            }
+            this.cost = cost;
+            this.doc = doc;
+        }
+
+        @Override
+        int size() {
+            return subScorers.length;
+        }
+
+        @Override
+        DisiWrapper topList() {
+            DisiWrapper list = null;
+            for (int i = subScorers.length - 1; i >= 0; i--) {
+                DisiWrapper subScorer = subScorers[i];
+                if (subScorer.doc == doc) {
+                    subScorer.next = list;
+                    list = subScorer;
+                }
+            }
+            return list;
+        }
+
+        @Override
+        public int docID() {
+            return doc;
+        }
+
+        @Override
+        public int nextDoc() throws IOException {
+            int current = doc;
+            int next = NO_MORE_DOCS;
+            for (DisiWrapper subScorer : subScorers) {
+                if (subScorer.doc == current) {
+                    subScorer.doc = subScorer.approximation.nextDoc();
+                }
+                next = Math.min(next, subScorer.doc);
+            }
+            return doc = next;
+        }
+
+        @Override
+        public int advance(final int target) throws IOException {
+            int next = NO_MORE_DOCS;
+            for (DisiWrapper subScorer : subScorers) {
+                if (subScorer.doc < target) {
+                    subScorer.doc = subScorer.approximation.advance(target);
+                }
+                next = Math.min(next, subScorer.doc);
+            }
+            return doc = next;
+        }
+
+        @Override
+        public long cost() {
+            return cost;
+        }
+
+        @Override
+        public Iterator<DisiWrapper> iterator() {
+            return Arrays.asList(subScorers).iterator();
+        }
+    }
+
+    /**
+     * Sub-scorers ordered by their doc ids in a heap
+     */
+    static final class HeapQueue extends HybridSubScorersQueue {
+        private final DisiPriorityQueue subScorers;
+        private final DocIdSetIterator approximation;
+
+        HeapQueue(final List<? extends DisiWrapper> subScorers) {
+            this.subScorers = new DisiPriorityQueue(subScorers.size());
+            for (DisiWrapper subScorer : subScorers) {
+                this.subScorers.add(subScorer);
+            }
+            this.approximation = new DisjunctionDISIApproximation(this.subScorers);
+        }
+
+        @Override
+        int size() {
+            return subScorers.size();
+        }
+
+        @Override
+        DisiWrapper topList() {
+            return subScorers.topList();
+        }
+
+        @Override
+        public int docID() {
+            return approximation.docID();
+        }
+
+        @Override
+        public int nextDoc() throws IOException {
+            return approximation.nextDoc();
+        }
+
+        @Override
+        public int advance(final int target) throws IOException {
+            return approximation.advance(target);
+        }
+
+        @Override
+        public long cost() {
+            return approximation.cost();
+        }
+
+        @Override
+        public Iterator<DisiWrapper> iterator() {
+            return subScorers.iterator();
+        }
+    }
+}
@@ -44,6 +44,7 @@ import org.opensearch.knn.index.query.parser.MethodParametersParser;
 import org.opensearch.knn.index.query.parser.RescoreParser;
 import org.opensearch.knn.index.query.rescore.RescoreContext;
 import org.opensearch.neuralsearch.common.MinClusterVersionUtil;
+import org.opensearch.neuralsearch.ml.InferenceResultCache;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -87,8 +88,21 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
 
     private static MLCommonsClientAccessor ML_CLIENT;
 
+    private static InferenceResultCache<float[]> EMBEDDING_CACHE;
+
     public static void initialize(MLCommonsClientAccessor mlClient) {
+        initialize(mlClient, null);
+    }
+
+    /**
+     * Initializes the builder with ML client and optional cache of query embeddings
+     *
+     * @param mlClient accessor used for the model inference
+     * @param embeddingCache cache of query embeddings, null disables caching
+     */
+    public static void initialize(MLCommonsClientAccessor mlClient, InferenceResultCache<float[]> embeddingCache) {
         NeuralQueryBuilder.ML_CLIENT = mlClient;
+        NeuralQueryBuilder.EMBEDDING_CACHE = embeddingCache;
     }
 
     private String fieldName;
@@ -324,6 +338,15 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
                 .build();
         }
 
+        if (Objects.nonNull(EMBEDDING_CACHE)) {
+            float[] cachedVector = EMBEDDING_CACHE.get(modelId(), queryText(), queryImage());
+            if (Objects.nonNull(cachedVector)) {
+                // copy so the cached instance can't be modified by the consumers of the query vector
+                float[] vector = cachedVector.clone();
+                return copyWithVectorSupplier(() -> vector);
+            }
+        }
+
         SetOnce<float[]> vectorSetOnce = new SetOnce<>();
         Map<String, String> inferenceInput = new HashMap<>();
         if (StringUtils.isNotBlank(queryText())) {
@@ -334,10 +357,25 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
         }
         queryRewriteContext.registerAsyncAction(
             ((client, actionListener) -> ML_CLIENT.inferenceSentences(modelId(), inferenceInput, ActionListener.wrap(floatList -> {
-                vectorSetOnce.set(vectorAsListToArray(floatList));
+                float[] vector = vectorAsListToArray(floatList);
+                if (Objects.nonNull(EMBEDDING_CACHE)) {
+                    EMBEDDING_CACHE.put(modelId(), queryText(), queryImage(), vector.clone());
+                }
+                vectorSetOnce.set(vector);
                 actionListener.onResponse(null);
-            }, actionListener::onFailure)))
+            }, e -> {
+                // failed inference usually means the model is being undeployed or redeployed, results cached for the
+                // previous deployment should not be served any more
+                if (Objects.nonNull(EMBEDDING_CACHE) && Objects.nonNull(modelId())) {
+                    EMBEDDING_CACHE.invalidateModel(modelId());
+                }
+                actionListener.onFailure(e);
+            })))
         );
+        return copyWithVectorSupplier(vectorSetOnce::get);
+    }
+
+    private NeuralQueryBuilder copyWithVectorSupplier(final Supplier<float[]> supplier) {
         return new NeuralQueryBuilder(
             fieldName(),
             queryText(),
@@ -346,7 +384,7 @@ public class NeuralQueryBuilder extends AbstractQueryBuilder<NeuralQueryBuilder>
             k(),
             maxDistance(),
             minScore(),
-            vectorSetOnce::get,
+            supplier,
             filter(),
             methodParameters(),
             rescoreContext()
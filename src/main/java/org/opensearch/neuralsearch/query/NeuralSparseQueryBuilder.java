@@ -36,8 +36,10 @@ import org.opensearch.index.query.AbstractQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.neuralsearch.ml.InferenceResultCache;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.util.NeuralSearchClusterUtil;
+import org.opensearch.neuralsearch.util.SparseVector;
 import org.opensearch.neuralsearch.util.TokenWeightUtil;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -93,8 +95,21 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
 
     private static final Version MINIMAL_SUPPORTED_VERSION_DEFAULT_MODEL_ID = Version.V_2_13_0;
 
+    private static InferenceResultCache<SparseVector> QUERY_TOKEN_CACHE;
+
     public static void initialize(MLCommonsClientAccessor mlClient) {
+        initialize(mlClient, null);
+    }
+
+    /**
+     * Initializes the builder with ML client and optional cache of query tokens
+     *
+     * @param mlClient accessor used for the model inference
+     * @param queryTokenCache cache of query tokens, null disables caching
+     */
+    public static void initialize(MLCommonsClientAccessor mlClient, InferenceResultCache<SparseVector> queryTokenCache) {
         NeuralSparseQueryBuilder.ML_CLIENT = mlClient;
+        NeuralSparseQueryBuilder.QUERY_TOKEN_CACHE = queryTokenCache;
     }
 
     /**
@@ -324,7 +339,12 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
         }
         validateForRewrite(queryText, modelId);
         SetOnce<Map<String, Float>> queryTokensSetOnce = new SetOnce<>();
-        queryRewriteContext.registerAsyncAction(getModelInferenceAsync(queryTokensSetOnce));
+        SparseVector cachedQueryTokens = Objects.isNull(QUERY_TOKEN_CACHE) ? null : QUERY_TOKEN_CACHE.get(modelId, queryText, null);
+        if (Objects.nonNull(cachedQueryTokens)) {
+            setQueryTokens(queryTokensSetOnce, cachedQueryTokens.asMap());
+        } else {
+            queryRewriteContext.registerAsyncAction(getModelInferenceAsync(queryTokensSetOnce));
+        }
         return new NeuralSparseQueryBuilder().fieldName(fieldName)
             .queryText(queryText)
             .modelId(modelId)
@@ -344,22 +364,36 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
             modelId(),
             List.of(queryText),
             ActionListener.wrap(mapResultList -> {
-                Map<String, Float> queryTokens = TokenWeightUtil.fetchListOfTokenWeightMap(mapResultList).get(0);
-                if (Objects.nonNull(twoPhaseSharedQueryToken)) {
-                    Tuple<Map<String, Float>, Map<String, Float>> splitQueryTokens = splitQueryTokensByRatioedMaxScoreAsThreshold(
-                        queryTokens,
-                        twoPhasePruneRatio
-                    );
-                    setOnce.set(splitQueryTokens.v1());
-                    twoPhaseSharedQueryToken = splitQueryTokens.v2();
-                } else {
-                    setOnce.set(queryTokens);
+                SparseVector queryTokens = TokenWeightUtil.fetchListOfSparseVectors(mapResultList).get(0);
+                if (Objects.nonNull(QUERY_TOKEN_CACHE)) {
+                    QUERY_TOKEN_CACHE.put(modelId(), queryText, null, queryTokens);
                 }
+                setQueryTokens(setOnce, queryTokens.asMap());
                 actionListener.onResponse(null);
-            }, actionListener::onFailure)
+            }, e -> {
+                // failed inference usually means the model is being undeployed or redeployed, results cached for the
+                // previous deployment should not be served any more
+                if (Objects.nonNull(QUERY_TOKEN_CACHE)) {
+                    QUERY_TOKEN_CACHE.invalidateModel(modelId());
+                }
+                actionListener.onFailure(e);
+            })
         ));
     }
 
+    private void setQueryTokens(final SetOnce<Map<String, Float>> setOnce, final Map<String, Float> queryTokens) {
+        if (Objects.nonNull(twoPhaseSharedQueryToken)) {
+            Tuple<Map<String, Float>, Map<String, Float>> splitQueryTokens = splitQueryTokensByRatioedMaxScoreAsThreshold(
+                queryTokens,
+                twoPhasePruneRatio
+            );
+            setOnce.set(splitQueryTokens.v1());
+            twoPhaseSharedQueryToken = splitQueryTokens.v2();
+        } else {
+            setOnce.set(queryTokens);
+        }
+    }
+
     @Override
     protected Query doToQuery(QueryShardContext context) throws IOException {
         final MappedFieldType ft = context.fieldMapper(fieldName);
@@ -369,6 +403,17 @@ public class NeuralSparseQueryBuilder extends AbstractQueryBuilder<NeuralSparseQ
             throw new IllegalArgumentException("Query tokens cannot be null.");
         }
         BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        if (queryTokens instanceof SparseVector.TokenWeightMap) {
+            // tokens returned by the model are read from the sparse vector without boxing the weights
+            SparseVector sparseVector = ((SparseVector.TokenWeightMap) queryTokens).getSparseVector();
+            for (int i = 0; i < sparseVector.size(); i++) {
+                builder.add(
+                    FeatureField.newLinearQuery(fieldName, sparseVector.getToken(i), sparseVector.getWeight(i)),
+                    BooleanClause.Occur.SHOULD
+                );
+            }
+            return builder.build();
+        }
         for (Map.Entry<String, Float> entry : queryTokens.entrySet()) {
             builder.add(FeatureField.newLinearQuery(fieldName, entry.getKey(), entry.getValue()), BooleanClause.Occur.SHOULD);
         }
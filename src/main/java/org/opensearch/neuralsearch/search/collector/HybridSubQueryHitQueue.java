@@ -0,0 +1,124 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.collector;
+
+import org.apache.lucene.search.HitQueue;
+import org.apache.lucene.search.ScoreDoc;
+
+/**
+ * Queue of top hits of a single sub-query of hybrid query, ordered same as {@link HitQueue}: hit with the lowest score
+ * is on top, among hits with equal scores the one with greater doc id is lower. Doc ids and scores are kept in parallel
+ * arrays of a binary min heap, so collecting a hit doesn't allocate, {@link ScoreDoc}s are created only for results.
+ */
+final class HybridSubQueryHitQueue {
+    private final int maxSize;
+    // heap is 1-based, same as in Lucene PriorityQueue, children of element i are 2i and 2i+1
+    private final int[] docs;
+    private final float[] scores;
+    private int size;
+
+    HybridSubQueryHitQueue(final int maxSize) {
+        this.maxSize = maxSize;
+        this.docs = new int[maxSize + 1];
+        this.scores = new float[maxSize + 1];
+    }
+
+    /**
+     * Adds hit to the queue if queue isn't full, otherwise replaces the lowest hit if new hit is competitive
+     * @param doc doc id of the hit
+     * @param score score of the hit
+     * @return true if hit has been added to the queue
+     */
+    boolean insertWithOverflow(final int doc, final float score) {
+        if (size < maxSize) {
+            size++;
+            docs[size] = doc;
+            scores[size] = score;
+            upHeap(size);
+            return true;
+        }
+        if (size > 0 && lessThan(docs[1], scores[1], doc, score)) {
+            docs[1] = doc;
+            scores[1] = score;
+            downHeap(1);
+            return true;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isFull() {
+        return size > 0 && size == maxSize;
+    }
+
+    /**
+     * @return score of the lowest hit in the queue, queue must not be empty
+     */
+    float topScore() {
+        return scores[1];
+    }
+
+    /**
+     * Removes the lowest hit from the queue, queue must not be empty
+     * @return the lowest hit
+     */
+    ScoreDoc pop() {
+        ScoreDoc scoreDoc = new ScoreDoc(docs[1], scores[1]);
+        docs[1] = docs[size];
+        scores[1] = scores[size];
+        size--;
+        downHeap(1);
+        return scoreDoc;
+    }
+
+    private static boolean lessThan(final int docA, final float scoreA, final int docB, final float scoreB) {
+        if (scoreA == scoreB) {
+            return docA > docB;
+        }
+        return scoreA < scoreB;
+    }
+
+    private void upHeap(final int origPos) {
+        int i = origPos;
+        int doc = docs[i];
+        float score = scores[i];
+        int j = i >>> 1;
+        while (j > 0 && lessThan(doc, score, docs[j], scores[j])) {
+            docs[i] = docs[j];
+            scores[i] = scores[j];
+            i = j;
+            j = j >>> 1;
+        }
+        docs[i] = doc;
+        scores[i] = score;
+    }
+
+    private void downHeap(final int origPos) {
+        int i = origPos;
+        int doc = docs[i];
+        float score = scores[i];
+        int j = smallerChild(i);
+        while (j <= size && lessThan(docs[j], scores[j], doc, score)) {
+            docs[i] = docs[j];
+            scores[i] = scores[j];
+            i = j;
+            j = smallerChild(i);
+        }
+        docs[i] = doc;
+        scores[i] = score;
+    }
+
+    private int smallerChild(final int i) {
+        int j = i << 1;
+        int k = j + 1;
+        if (k <= size && lessThan(docs[k], scores[k], docs[j], scores[j])) {
+            return k;
+        }
+        return j;
+    }
+}
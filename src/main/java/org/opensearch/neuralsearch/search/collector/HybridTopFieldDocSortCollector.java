@@ -27,7 +27,7 @@ import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.util.PriorityQueue;
-import org.opensearch.neuralsearch.query.HybridQueryScorer;
+import org.opensearch.neuralsearch.query.HybridScorable;
 import org.opensearch.common.Nullable;
 import org.opensearch.neuralsearch.search.HitsThresholdChecker;
 import org.opensearch.neuralsearch.search.lucene.MultiLeafFieldComparator;
@@ -122,7 +122,9 @@ public abstract class HybridTopFieldDocSortCollector implements HybridSearchColl
     }
 
     protected abstract class HybridTopDocSortLeafCollector implements LeafCollector {
-        protected HybridQueryScorer compoundQueryScorer;
+        protected HybridScorable compoundQueryScorer;
+        // scores of sub-queries for the document being collected, reused for all documents of the segment
+        protected float[] subScoresByQuery;
         private boolean collectedAllCompetitiveHits = false;
 
         /**
@@ -139,28 +141,28 @@ public abstract class HybridTopFieldDocSortCollector implements HybridSearchColl
 
         @Override
         public void setScorer(final Scorable scorer) throws IOException {
-            if (scorer instanceof HybridQueryScorer) {
-                log.debug("passed scorer is of type HybridQueryScorer, saving it for collecting documents and scores");
-                compoundQueryScorer = (HybridQueryScorer) scorer;
+            if (scorer instanceof HybridScorable) {
+                log.debug("passed scorer is of type HybridScorable, saving it for collecting documents and scores");
+                compoundQueryScorer = (HybridScorable) scorer;
             } else {
                 compoundQueryScorer = getHybridQueryScorer(scorer);
                 if (Objects.isNull(compoundQueryScorer)) {
                     log.error(
-                        String.format(Locale.ROOT, "cannot find scorer of type HybridQueryScorer in a hierarchy of scorer %s", scorer)
+                        String.format(Locale.ROOT, "cannot find scorer of type HybridScorable in a hierarchy of scorer %s", scorer)
                     );
                 }
             }
         }
 
-        private HybridQueryScorer getHybridQueryScorer(final Scorable scorer) throws IOException {
+        private HybridScorable getHybridQueryScorer(final Scorable scorer) throws IOException {
             if (scorer == null) {
                 return null;
             }
-            if (scorer instanceof HybridQueryScorer) {
-                return (HybridQueryScorer) scorer;
+            if (scorer instanceof HybridScorable) {
+                return (HybridScorable) scorer;
             }
             for (Scorable.ChildScorable childScorable : scorer.getChildren()) {
-                HybridQueryScorer hybridQueryScorer = getHybridQueryScorer(childScorable.child);
+                HybridScorable hybridQueryScorer = getHybridQueryScorer(childScorable.child);
                 if (Objects.nonNull(hybridQueryScorer)) {
                     log.debug(
                         String.format(
@@ -297,7 +299,8 @@ public abstract class HybridTopFieldDocSortCollector implements HybridSearchColl
                 reverseMul = 1;
                 comparators[subQueryNumber] = new MultiLeafFieldComparator(leafFieldComparators, reverseMuls);
             }
-            comparators[subQueryNumber].setScorer(compoundQueryScorer);
+            // all implementations of hybrid scorable are scorables
+            comparators[subQueryNumber].setScorer((Scorable) compoundQueryScorer);
         }
 
         private void setAfterFieldValueInFieldCompartor(int subQueryNumber) {
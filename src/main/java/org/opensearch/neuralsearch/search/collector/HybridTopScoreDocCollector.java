@@ -12,17 +12,15 @@ import java.util.Objects;
 
 import lombok.Getter;
 import org.apache.lucene.index.LeafReaderContext;
-import org.apache.lucene.search.HitQueue;
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
-import org.apache.lucene.util.PriorityQueue;
 
 import lombok.extern.log4j.Log4j2;
-import org.opensearch.neuralsearch.query.HybridQueryScorer;
+import org.opensearch.neuralsearch.query.HybridScorable;
 import org.opensearch.neuralsearch.search.HitsThresholdChecker;
 
 /**
@@ -38,7 +36,11 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
     private int totalHits;
     private int[] collectedHitsPerSubQuery;
     private final int numOfHits;
-    private PriorityQueue<ScoreDoc>[] compoundScores;
+    private HybridSubQueryHitQueue[] compoundScores;
+    // scores of sub-queries for the document being collected, reused for all documents
+    private float[] subScoresByQuery;
+    // min competitive score passed to the scorer of each sub-query, 0 until the queue of the sub-query gets full
+    private float[] minCompetitiveScores;
     @Getter
     private float maxScore = 0.0f;
 
@@ -52,32 +54,40 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
         docBase = context.docBase;
 
         return new LeafCollector() {
-            HybridQueryScorer compoundQueryScorer;
+            HybridScorable compoundQueryScorer;
 
             @Override
             public void setScorer(Scorable scorer) throws IOException {
-                if (scorer instanceof HybridQueryScorer) {
-                    log.debug("passed scorer is of type HybridQueryScorer, saving it for collecting documents and scores");
-                    compoundQueryScorer = (HybridQueryScorer) scorer;
+                if (scorer instanceof HybridScorable) {
+                    log.debug("passed scorer is of type HybridScorable, saving it for collecting documents and scores");
+                    compoundQueryScorer = (HybridScorable) scorer;
                 } else {
                     compoundQueryScorer = getHybridQueryScorer(scorer);
                     if (Objects.isNull(compoundQueryScorer)) {
                         log.error(
-                            String.format(Locale.ROOT, "cannot find scorer of type HybridQueryScorer in a hierarchy of scorer %s", scorer)
+                            String.format(Locale.ROOT, "cannot find scorer of type HybridScorable in a hierarchy of scorer %s", scorer)
                         );
                     }
                 }
+                if (Objects.nonNull(compoundQueryScorer) && Objects.nonNull(minCompetitiveScores)) {
+                    // pass thresholds reached in previous segments to the scorer of this segment
+                    for (int i = 0; i < minCompetitiveScores.length; i++) {
+                        if (minCompetitiveScores[i] > 0) {
+                            compoundQueryScorer.setSubQueryMinCompetitiveScore(i, minCompetitiveScores[i]);
+                        }
+                    }
+                }
             }
 
-            private HybridQueryScorer getHybridQueryScorer(final Scorable scorer) throws IOException {
+            private HybridScorable getHybridQueryScorer(final Scorable scorer) throws IOException {
                 if (scorer == null) {
                     return null;
                 }
-                if (scorer instanceof HybridQueryScorer) {
-                    return (HybridQueryScorer) scorer;
+                if (scorer instanceof HybridScorable) {
+                    return (HybridScorable) scorer;
                 }
                 for (Scorable.ChildScorable childScorable : scorer.getChildren()) {
-                    HybridQueryScorer hybridQueryScorer = getHybridQueryScorer(childScorable.child);
+                    HybridScorable hybridQueryScorer = getHybridQueryScorer(childScorable.child);
                     if (Objects.nonNull(hybridQueryScorer)) {
                         log.debug(
                             String.format(
@@ -97,14 +107,15 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
                 if (Objects.isNull(compoundQueryScorer)) {
                     throw new IllegalArgumentException("scorers are null for all sub-queries in hybrid query");
                 }
-                float[] subScoresByQuery = compoundQueryScorer.hybridScores();
+                subScoresByQuery = compoundQueryScorer.hybridScores(subScoresByQuery);
                 // iterate over results for each query
                 if (compoundScores == null) {
-                    compoundScores = new PriorityQueue[subScoresByQuery.length];
+                    compoundScores = new HybridSubQueryHitQueue[subScoresByQuery.length];
                     for (int i = 0; i < subScoresByQuery.length; i++) {
-                        compoundScores[i] = new HitQueue(numOfHits, false);
+                        compoundScores[i] = new HybridSubQueryHitQueue(numOfHits);
                     }
                     collectedHitsPerSubQuery = new int[subScoresByQuery.length];
+                    minCompetitiveScores = new float[subScoresByQuery.length];
                 }
                 // Increment total hit count which represents unique doc found on the shard
                 totalHits++;
@@ -124,12 +135,35 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
                         totalHitsRelation = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
                     }
                     collectedHitsPerSubQuery[i]++;
-                    PriorityQueue<ScoreDoc> pq = compoundScores[i];
-                    ScoreDoc currentDoc = new ScoreDoc(doc + docBase, score);
-                    maxScore = Math.max(currentDoc.score, maxScore);
+                    maxScore = Math.max(score, maxScore);
                     // this way we're inserting into heap and do nothing else unless we reach the capacity
                     // after that we pull out the lowest score element on each insert
-                    pq.insertWithOverflow(currentDoc);
+                    if (compoundScores[i].insertWithOverflow(doc + docBase, score)) {
+                        updateMinCompetitiveScore(i);
+                    }
+                }
+            }
+
+            /**
+             * Raise the min competitive score of a sub-query to the bottom of its queue once the queue is full, so the scorer
+             * of the sub-query can skip documents that cannot make it to the queue. Thresholds are set per sub-query because
+             * every sub-query keeps its own top hits, a document competitive for one sub-query isn't necessarily competitive
+             * for another one. Documents aren't skipped before the total hits threshold is reached, to keep hit count exact.
+             */
+            private void updateMinCompetitiveScore(final int subQueryIndex) throws IOException {
+                if (!hitsThresholdChecker.isThresholdReached()) {
+                    return;
+                }
+                HybridSubQueryHitQueue pq = compoundScores[subQueryIndex];
+                if (!pq.isFull()) {
+                    return;
+                }
+                // docs collected later have greater doc ids and lose ties, only scores above the bottom of the queue compete
+                float minScore = Math.nextUp(pq.topScore());
+                if (minScore > minCompetitiveScores[subQueryIndex]) {
+                    compoundQueryScorer.setSubQueryMinCompetitiveScore(subQueryIndex, minScore);
+                    minCompetitiveScores[subQueryIndex] = minScore;
+                    totalHitsRelation = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
                 }
             }
         };
@@ -162,7 +196,7 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
         return topDocs;
     }
 
-    private TopDocs topDocsPerQuery(int start, int howMany, PriorityQueue<ScoreDoc> pq, int totalHits) {
+    private TopDocs topDocsPerQuery(int start, int howMany, HybridSubQueryHitQueue pq, int totalHits) {
         if (howMany < 0) {
             throw new IllegalArgumentException(
                 String.format(Locale.ROOT, "Number of hits requested must be greater than 0 but value was %d", howMany)
@@ -188,7 +222,7 @@ public class HybridTopScoreDocCollector implements HybridSearchCollector {
         return new TopDocs(new TotalHits(totalHits, totalHitsRelation), results);
     }
 
-    protected void populateResults(ScoreDoc[] results, int howMany, PriorityQueue<ScoreDoc> pq) {
+    private void populateResults(ScoreDoc[] results, int howMany, HybridSubQueryHitQueue pq) {
         for (int i = howMany - 1; i >= 0 && pq.size() > 0; i--) {
             // adding to array if index is within [0..array_length - 1]
             if (i < results.length) {
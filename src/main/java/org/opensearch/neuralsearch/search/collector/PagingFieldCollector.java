@@ -36,7 +36,7 @@ public final class PagingFieldCollector extends HybridTopFieldDocSortCollector {
                 if (Objects.isNull(compoundQueryScorer)) {
                     throw new IllegalArgumentException("scorers are null for all sub-queries in hybrid query");
                 }
-                float[] subScoresByQuery = compoundQueryScorer.hybridScores();
+                subScoresByQuery = compoundQueryScorer.hybridScores(subScoresByQuery);
                 initializePriorityQueuesWithComparators(context, subScoresByQuery.length);
                 incrementTotalHitCount();
                 for (int i = 0; i < subScoresByQuery.length; i++) {
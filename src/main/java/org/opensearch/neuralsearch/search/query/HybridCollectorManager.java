@@ -160,6 +160,48 @@ public abstract class HybridCollectorManager implements CollectorManager<Collect
         return reduceSearchResults(getSearchResults(hybridSearchCollectors));
     }
 
+    /**
+     * Reduce top docs of sub-queries that have been searched independently of each other into the same format specific for
+     * hybrid search query as results of hybrid query collectors. Matches of sub-queries aren't counted together, so total hits
+     * is exact only if at most one sub-query has matches, otherwise it's the largest number of hits of a sub-query as lower bound
+     * @param subQueriesTopDocs top docs of every sub-query in order of sub-queries in hybrid query, null if sub-query has no results
+     * @return search results that can be reduced be the caller
+     */
+    public ReduceableSearchResult reduceSubQueriesTopDocs(final List<TopDocs> subQueriesTopDocs) {
+        if (sortAndFormats != null) {
+            throw new IllegalStateException("cannot reduce top docs of sub-queries of hybrid search query with sort criteria");
+        }
+        float maxScore = 0.0f;
+        for (TopDocs topDocs : subQueriesTopDocs) {
+            if (Objects.nonNull(topDocs) && Objects.nonNull(topDocs.scoreDocs) && topDocs.scoreDocs.length > 0) {
+                // first top doc for each sub-query has the max score because top docs are sorted by score desc
+                maxScore = Math.max(maxScore, topDocs.scoreDocs[0].score);
+            }
+        }
+        List<TopDocs> topDocs = shouldRescore() ? rescore(subQueriesTopDocs) : subQueriesTopDocs;
+        TopDocs finalTopDocs = getNewTopDocs(getSubQueriesTotalHits(subQueriesTopDocs), topDocs);
+        TopDocsAndMaxScore topDocsAndMaxScore = new TopDocsAndMaxScore(finalTopDocs, calculateMaxScore(topDocs, maxScore));
+        return (QuerySearchResult result) -> reduceCollectorResults(result, topDocsAndMaxScore, null);
+    }
+
+    private TotalHits getSubQueriesTotalHits(final List<TopDocs> subQueriesTopDocs) {
+        TotalHits totalHits = new TotalHits(0, Relation.EQUAL_TO);
+        int numOfSubQueriesWithHits = 0;
+        for (TopDocs topDocs : subQueriesTopDocs) {
+            if (Objects.isNull(topDocs) || topDocs.totalHits.value == 0) {
+                continue;
+            }
+            numOfSubQueriesWithHits++;
+            if (topDocs.totalHits.value > totalHits.value) {
+                totalHits = topDocs.totalHits;
+            }
+        }
+        if (numOfSubQueriesWithHits > 1) {
+            return new TotalHits(totalHits.value, Relation.GREATER_THAN_OR_EQUAL_TO);
+        }
+        return totalHits;
+    }
+
     private List<ReduceableSearchResult> getSearchResults(final List<HybridSearchCollector> hybridSearchCollectors) {
         List<ReduceableSearchResult> results = new ArrayList<>();
         DocValueFormat[] docValueFormats = getSortValueFormats(sortAndFormats);
@@ -5,8 +5,11 @@
 package org.opensearch.neuralsearch.search.query;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -14,9 +17,15 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollectorManager;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.neuralsearch.executors.HybridQueryExecutor;
+import org.opensearch.neuralsearch.executors.HybridQueryExecutorCollector;
+import org.opensearch.neuralsearch.executors.HybridQueryTopDocsCollectorManager;
 import org.opensearch.neuralsearch.query.HybridQuery;
 import org.opensearch.search.aggregations.AggregationProcessor;
 import org.opensearch.search.internal.ContextIndexSearcher;
@@ -29,6 +38,7 @@ import org.opensearch.search.query.QueryPhaseSearcherWrapper;
 
 import lombok.extern.log4j.Log4j2;
 
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.HYBRID_SEARCH_PARALLEL_SUB_QUERIES_ENABLED;
 import static org.opensearch.neuralsearch.util.HybridQueryUtil.hasAliasFilter;
 import static org.opensearch.neuralsearch.util.HybridQueryUtil.hasNestedFieldOrNestedDocs;
 import static org.opensearch.neuralsearch.util.HybridQueryUtil.isHybridQuery;
@@ -65,6 +75,11 @@ public class HybridQueryPhaseSearcher extends QueryPhaseSearcherWrapper {
                 throw new IllegalArgumentException("In the current OpenSearch version pagination is not supported with hybrid query");
             }
             Query hybridQuery = extractHybridQuery(searchContext, query);
+            if (shouldSearchSubQueriesInParallel(searchContext, searcher, hybridQuery, hasFilterCollector, hasTimeout)) {
+                searchSubQueriesInParallel(searchContext, searcher, (HybridQuery) hybridQuery);
+                // rescore is applied to results of every sub-query in collector manager
+                return false;
+            }
             QueryPhaseSearcher queryPhaseSearcher = getQueryPhaseSearcher(searchContext);
             queryPhaseSearcher.searchWith(searchContext, searcher, hybridQuery, collectors, hasFilterCollector, hasTimeout);
             // we decide on rescore later in collector manager
@@ -78,6 +93,79 @@ public class HybridQueryPhaseSearcher extends QueryPhaseSearcherWrapper {
             : defaultQueryPhaseSearcherWithEmptyCollectorContext;
     }
 
+    /**
+     * Sub-queries are searched in parallel only if it's enabled for the index and the request needs nothing but top hits of
+     * every sub-query. Requests with aggregations, sorting, post filter, min score, terminate after, timeout, profiling or exact
+     * total hits are executed by the standard hybrid query searcher that iterates matches of all sub-queries together
+     */
+    private boolean shouldSearchSubQueriesInParallel(
+        final SearchContext searchContext,
+        final ContextIndexSearcher searcher,
+        final Query query,
+        final boolean hasFilterCollector,
+        final boolean hasTimeout
+    ) {
+        return query instanceof HybridQuery
+            && hasFilterCollector == false
+            && hasTimeout == false
+            && Objects.isNull(searchContext.aggregations())
+            && Objects.isNull(searchContext.sort())
+            && Objects.isNull(searchContext.searchAfter())
+            && Objects.isNull(searchContext.getProfilers())
+            && searchContext.terminateAfter() == SearchContext.DEFAULT_TERMINATE_AFTER
+            && searchContext.trackTotalHitsUpTo() != SearchContext.TRACK_TOTAL_HITS_ACCURATE
+            && getNumberOfHits(searchContext, searcher) > 0
+            && HYBRID_SEARCH_PARALLEL_SUB_QUERIES_ENABLED.get(searchContext.mapperService().getIndexSettings().getSettings());
+    }
+
+    /**
+     * Search every sub-query of hybrid query as a separate top-k search in a thread pool of hybrid query executor. This way
+     * each sub-query uses its own scorer and skips non-competitive documents based on its own top hits. Top docs of sub-queries
+     * are reduced to the format of hybrid query results by the collector manager of hybrid query
+     */
+    private void searchSubQueriesInParallel(final SearchContext searchContext, final ContextIndexSearcher searcher, final HybridQuery query)
+        throws IOException {
+        final int numHits = getNumberOfHits(searchContext, searcher);
+        final int totalHitsThreshold = Math.max(numHits, searchContext.trackTotalHitsUpTo());
+        final HybridQueryTopDocsCollectorManager manager = new HybridQueryTopDocsCollectorManager(searcher);
+        final List<Callable<Void>> subQuerySearchTasks = new ArrayList<>();
+        final List<HybridQueryExecutorCollector<IndexSearcher, TopDocs>> collectors = new ArrayList<>();
+        for (Query subQuery : query.getSubQueries()) {
+            final HybridQueryExecutorCollector<IndexSearcher, TopDocs> collector = manager.newCollector();
+            collectors.add(collector);
+            subQuerySearchTasks.add(() -> searchSubQuery(subQuery, numHits, totalHitsThreshold, collector));
+        }
+        HybridQueryExecutor.getExecutor().invokeAll(subQuerySearchTasks);
+
+        HybridCollectorManager collectorManager = (HybridCollectorManager) searchContext.queryCollectorManagers()
+            .get(HybridCollectorManager.class);
+        if (Objects.isNull(collectorManager)) {
+            throw new IllegalStateException("cannot collect results of hybrid search query, collector manager is not registered");
+        }
+        collectorManager.reduceSubQueriesTopDocs(manager.getTopDocs(collectors)).reduce(searchContext.queryResult());
+    }
+
+    private Void searchSubQuery(
+        final Query subQuery,
+        final int numHits,
+        final int totalHitsThreshold,
+        final HybridQueryExecutorCollector<IndexSearcher, TopDocs> collector
+    ) {
+        collector.collect(indexSearcher -> {
+            try {
+                return indexSearcher.search(subQuery, new TopScoreDocCollectorManager(numHits, null, totalHitsThreshold));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        return null;
+    }
+
+    private int getNumberOfHits(final SearchContext searchContext, final ContextIndexSearcher searcher) {
+        final int totalNumDocs = Math.max(0, searcher.getIndexReader().numDocs());
+        return Math.min(searchContext.from() + searchContext.size(), totalNumDocs);
+    }
+
     private static boolean isWrappedHybridQuery(final Query query) {
         return query instanceof BooleanQuery
             && ((BooleanQuery) query).clauses().stream().anyMatch(clauseQuery -> clauseQuery.getQuery() instanceof HybridQuery);
@@ -4,7 +4,13 @@
  */
 package org.opensearch.neuralsearch.settings;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -26,6 +32,17 @@ public final class NeuralSearchSettings {
         Setting.Property.NodeScope
     );
 
+    /**
+     * Index level flag that enables searching sub-queries of hybrid query in parallel, each sub-query as a separate top-k search.
+     * Total hits are a lower bound when more than one sub-query has matches, as matches of sub-queries aren't counted together
+     */
+    public static final Setting<Boolean> HYBRID_SEARCH_PARALLEL_SUB_QUERIES_ENABLED = Setting.boolSetting(
+        "index.neural_search.hybrid_search.parallel_sub_queries.enabled",
+        false,
+        Setting.Property.IndexScope,
+        Setting.Property.Dynamic
+    );
+
     /**
      * Limits the number of document fields that can be passed to the reranker.
      */
@@ -34,4 +51,231 @@ public final class NeuralSearchSettings {
         50,
         Setting.Property.NodeScope
     );
+
+    /**
+     * Enables node level caching of query embeddings produced for "neural" queries
+     */
+    public static final Setting<Boolean> QUERY_EMBEDDING_CACHE_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.query_embedding_cache.enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum memory used by cached query embeddings, either an absolute size or a percentage of the heap
+     */
+    public static final Setting<ByteSizeValue> QUERY_EMBEDDING_CACHE_SIZE = Setting.memorySizeSetting(
+        "plugins.neural_search.query_embedding_cache.size",
+        "1%",
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Cached query embedding is evicted when it is not accessed for this period of time
+     */
+    public static final Setting<TimeValue> QUERY_EMBEDDING_CACHE_EXPIRE_AFTER = Setting.positiveTimeSetting(
+        "plugins.neural_search.query_embedding_cache.expire_after",
+        TimeValue.timeValueMinutes(60),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Enables node level caching of query tokens produced for "neural_sparse" queries
+     */
+    public static final Setting<Boolean> QUERY_TOKEN_CACHE_ENABLED = Setting.boolSetting(
+        "plugins.neural_search.query_token_cache.enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum memory used by cached query tokens, either an absolute size or a percentage of the heap
+     */
+    public static final Setting<ByteSizeValue> QUERY_TOKEN_CACHE_SIZE = Setting.memorySizeSetting(
+        "plugins.neural_search.query_token_cache.size",
+        "1%",
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Cached query tokens are evicted when they are not accessed for this period of time
+     */
+    public static final Setting<TimeValue> QUERY_TOKEN_CACHE_EXPIRE_AFTER = Setting.positiveTimeSetting(
+        "plugins.neural_search.query_token_cache.expire_after",
+        TimeValue.timeValueMinutes(60),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Interval of logging counters of node level inference components like query caches, zero disables the logging
+     */
+    public static final Setting<TimeValue> INFERENCE_STATS_LOG_INTERVAL = Setting.timeSetting(
+        "plugins.neural_search.inference_stats.log_interval",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Models for which concurrent single input inference requests, e.g. from query rewrites, are coalesced into batched
+     * predict calls. Only models that embed every input of a batch independently should be listed here.
+     */
+    public static final Setting<List<String>> INFERENCE_BATCHING_MODEL_IDS = Setting.listSetting(
+        "plugins.neural_search.inference_batching.model_ids",
+        Collections.emptyList(),
+        Function.identity(),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum time a coalesced inference request waits for other requests to join the batch
+     */
+    public static final Setting<TimeValue> INFERENCE_BATCHING_WINDOW = Setting.timeSetting(
+        "plugins.neural_search.inference_batching.window",
+        TimeValue.timeValueMillis(2),
+        TimeValue.timeValueMillis(1),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum number of inputs in a coalesced inference batch, the batch is sent once it's full without waiting for the window
+     */
+    public static final Setting<Integer> INFERENCE_BATCHING_MAX_BATCH_SIZE = Setting.intSetting(
+        "plugins.neural_search.inference_batching.max_batch_size",
+        32,
+        1,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum number of concurrent ingest time predict requests sent to a single model, 0 disables the limit
+     */
+    public static final Setting<Integer> INGEST_INFERENCE_MAX_IN_FLIGHT_REQUESTS = Setting.intSetting(
+        "plugins.neural_search.inference_limits.ingest.max_in_flight_requests",
+        0,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum number of ingest time predict requests waiting for capacity of a single model, further requests are rejected
+     */
+    public static final Setting<Integer> INGEST_INFERENCE_MAX_QUEUED_REQUESTS = Setting.intSetting(
+        "plugins.neural_search.inference_limits.ingest.max_queued_requests",
+        1000,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum number of concurrent search time predict requests sent to a single model, 0 disables the limit
+     */
+    public static final Setting<Integer> SEARCH_INFERENCE_MAX_IN_FLIGHT_REQUESTS = Setting.intSetting(
+        "plugins.neural_search.inference_limits.search.max_in_flight_requests",
+        0,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum number of search time predict requests waiting for capacity of a single model, further requests are rejected
+     */
+    public static final Setting<Integer> SEARCH_INFERENCE_MAX_QUEUED_REQUESTS = Setting.intSetting(
+        "plugins.neural_search.inference_limits.search.max_queued_requests",
+        1000,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum number of concurrent predict requests of all types sent to a single model, 0 disables the limit. Capacity freed
+     * by completed requests is shared between queued search and ingest requests according to their weights.
+     */
+    public static final Setting<Integer> INFERENCE_MAX_IN_FLIGHT_REQUESTS = Setting.intSetting(
+        "plugins.neural_search.inference_limits.max_in_flight_requests",
+        0,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Share of the freed model capacity given to queued ingest time predict requests while search requests are also waiting
+     */
+    public static final Setting<Integer> INGEST_INFERENCE_WEIGHT = Setting.intSetting(
+        "plugins.neural_search.inference_limits.ingest.weight",
+        1,
+        1,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Share of the freed model capacity given to queued search time predict requests while ingest requests are also waiting
+     */
+    public static final Setting<Integer> SEARCH_INFERENCE_WEIGHT = Setting.intSetting(
+        "plugins.neural_search.inference_limits.search.weight",
+        4,
+        1,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum number of retries of a predict request failed because the node running the model got disconnected
+     */
+    public static final Setting<Integer> INFERENCE_RETRY_MAX_RETRIES = Setting.intSetting(
+        "plugins.neural_search.inference_retry.max_retries",
+        3,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Delay before the first retry of a failed predict request, every next retry waits twice as long up to the max backoff
+     */
+    public static final Setting<TimeValue> INFERENCE_RETRY_INITIAL_BACKOFF = Setting.timeSetting(
+        "plugins.neural_search.inference_retry.initial_backoff",
+        TimeValue.timeValueMillis(50),
+        TimeValue.ZERO,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum delay before a retry of a failed predict request
+     */
+    public static final Setting<TimeValue> INFERENCE_RETRY_MAX_BACKOFF = Setting.timeSetting(
+        "plugins.neural_search.inference_retry.max_backoff",
+        TimeValue.timeValueSeconds(2),
+        TimeValue.ZERO,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Number of consecutive failed predict requests to a model opening its circuit breaker, 0 disables the breaker. Disabled by
+     * default, so failures of existing pipelines are not changed unless the breaker is configured.
+     */
+    public static final Setting<Integer> INFERENCE_CIRCUIT_BREAKER_FAILURE_THRESHOLD = Setting.intSetting(
+        "plugins.neural_search.inference_circuit_breaker.failure_threshold",
+        0,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Time the circuit breaker of a model stays open before probe requests are sent to the model
+     */
+    public static final Setting<TimeValue> INFERENCE_CIRCUIT_BREAKER_OPEN_DURATION = Setting.timeSetting(
+        "plugins.neural_search.inference_circuit_breaker.open_duration",
+        TimeValue.timeValueSeconds(30),
+        TimeValue.timeValueMillis(1),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Maximum number of concurrent probe requests sent to a model while its circuit breaker is half open
+     */
+    public static final Setting<Integer> INFERENCE_CIRCUIT_BREAKER_HALF_OPEN_PROBES = Setting.intSetting(
+        "plugins.neural_search.inference_circuit_breaker.half_open_probes",
+        1,
+        1,
+        Setting.Property.NodeScope
+    );
 }
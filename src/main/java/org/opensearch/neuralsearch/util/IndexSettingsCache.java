@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.util;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.env.Environment;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.mapper.MapperService;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Cache of index settings read by ingest processors for every document, keyed by index name. Documents of a bulk request
+ * mostly go to the same index, so the settings are read from the cluster state once instead of for every document.
+ * Entries are valid while the index settings generation of {@link NeuralSearchClusterUtil} stays the same, it changes when
+ * an index is created, deleted or updates its settings. Settings of indices that don't exist yet are the node defaults.
+ */
+public class IndexSettingsCache {
+
+    // the cache is dropped when it grows above this number of indices, so it stays small on clusters with many indices
+    private static final int MAX_CACHED_INDICES = 1000;
+
+    private final ClusterService clusterService;
+    private final Environment environment;
+    private final Map<String, CachedIndexSettings> cache = new ConcurrentHashMap<>();
+
+    public IndexSettingsCache(final ClusterService clusterService, final Environment environment) {
+        this.clusterService = clusterService;
+        this.environment = environment;
+    }
+
+    /**
+     * @param indexName name of the index
+     * @return value of index.max_token_count of the index
+     */
+    public int getMaxTokenCount(final String indexName) {
+        return get(indexName).getMaxTokenCount();
+    }
+
+    /**
+     * @param indexName name of the index
+     * @return value of index.mapping.depth.limit of the index
+     */
+    public long getMappingDepthLimit(final String indexName) {
+        return get(indexName).getMappingDepthLimit();
+    }
+
+    private CachedIndexSettings get(final String indexName) {
+        // generation is read before the cluster state, so settings read from a state older than the generation get reloaded
+        long generation = NeuralSearchClusterUtil.instance().getIndexSettingsGeneration();
+        CachedIndexSettings cachedIndexSettings = cache.get(indexName);
+        if (cachedIndexSettings != null && cachedIndexSettings.getGeneration() == generation) {
+            return cachedIndexSettings;
+        }
+        if (cache.size() >= MAX_CACHED_INDICES) {
+            cache.clear();
+        }
+        cachedIndexSettings = load(indexName, generation);
+        cache.put(indexName, cachedIndexSettings);
+        return cachedIndexSettings;
+    }
+
+    private CachedIndexSettings load(final String indexName, final long generation) {
+        IndexMetadata indexMetadata = clusterService.state().metadata().index(indexName);
+        Settings settings = Objects.isNull(indexMetadata) ? environment.settings() : indexMetadata.getSettings();
+        return new CachedIndexSettings(
+            generation,
+            IndexSettings.MAX_TOKEN_COUNT_SETTING.get(settings),
+            MapperService.INDEX_MAPPING_DEPTH_LIMIT_SETTING.get(settings)
+        );
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class CachedIndexSettings {
+        private final long generation;
+        private final int maxTokenCount;
+        private final long mappingDepthLimit;
+    }
+}
@@ -4,7 +4,13 @@
  */
 package org.opensearch.neuralsearch.util;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.opensearch.Version;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
 
 import lombok.AccessLevel;
@@ -16,8 +22,10 @@ import lombok.extern.log4j.Log4j2;
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @Log4j2
-public class NeuralSearchClusterUtil {
+public class NeuralSearchClusterUtil implements ClusterStateListener {
     private ClusterService clusterService;
+    // incremented whenever an index is created, deleted or changes its settings, caches of index settings compare it
+    private final AtomicLong indexSettingsGeneration = new AtomicLong();
 
     private static NeuralSearchClusterUtil instance;
 
@@ -38,6 +46,7 @@ public class NeuralSearchClusterUtil {
      */
     public void initialize(final ClusterService clusterService) {
         this.clusterService = clusterService;
+        clusterService.addListener(this);
     }
 
     /**
@@ -48,4 +57,36 @@ public class NeuralSearchClusterUtil {
         return this.clusterService.state().getNodes().getMinNodeVersion();
     }
 
+    /**
+     * Return generation of index settings, it changes after any index is created, deleted or updates its settings. Values
+     * read from index settings while the generation stays the same are still valid.
+     * @return current generation of index settings
+     */
+    public long getIndexSettingsGeneration() {
+        return indexSettingsGeneration.get();
+    }
+
+    @Override
+    public void clusterChanged(final ClusterChangedEvent event) {
+        if (event.metadataChanged() == false) {
+            return;
+        }
+        if (haveIndexSettingsChanged(event.previousState().metadata(), event.state().metadata())) {
+            indexSettingsGeneration.incrementAndGet();
+        }
+    }
+
+    private static boolean haveIndexSettingsChanged(final Metadata previousMetadata, final Metadata currentMetadata) {
+        if (previousMetadata.indices().size() != currentMetadata.indices().size()) {
+            return true;
+        }
+        for (IndexMetadata indexMetadata : currentMetadata) {
+            IndexMetadata previousIndexMetadata = previousMetadata.index(indexMetadata.getIndex());
+            if (previousIndexMetadata == null || previousIndexMetadata.getSettingsVersion() != indexMetadata.getSettingsVersion()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
@@ -45,7 +45,31 @@ public class ProcessorDocumentUtils {
         final Environment environment,
         final boolean allowEmpty
     ) {
-        validateMapTypeValue(sourceKey, sourceValue, fieldMap, 1, indexName, clusterService, environment, allowEmpty);
+        Settings settings = Optional.ofNullable(clusterService.state().metadata().index(indexName))
+            .map(IndexMetadata::getSettings)
+            .orElse(environment.settings());
+        validateMapTypeValue(sourceKey, sourceValue, fieldMap, MapperService.INDEX_MAPPING_DEPTH_LIMIT_SETTING.get(settings), allowEmpty);
+    }
+
+    /**
+     * Validates a map type value recursively up to the given depth, same as
+     * {@link #validateMapTypeValue(String, Map, Object, String, ClusterService, Environment, boolean)} but with the depth
+     * limit of the index already resolved, e.g. from {@link IndexSettingsCache}.
+     *
+     * @param  sourceKey    the key of the source map being validated, the first level is always the "field_map" key.
+     * @param  sourceValue  the source map being validated, the first level is always the sourceAndMetadataMap.
+     * @param  fieldMap     the configuration map for validation, the first level is the "field_map" of the processor.
+     * @param  maxDepth     the maximum allowed depth for recursion, the index.mapping.depth.limit of the index
+     * @param  allowEmpty   flag to allow empty values in map type validation.
+     */
+    public static void validateMapTypeValue(
+        final String sourceKey,
+        final Map<String, Object> sourceValue,
+        final Object fieldMap,
+        final long maxDepth,
+        final boolean allowEmpty
+    ) {
+        validateMapTypeValue(sourceKey, sourceValue, fieldMap, 1, maxDepth, allowEmpty);
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -54,15 +78,13 @@ public class ProcessorDocumentUtils {
         final Map<String, Object> sourceValue,
         final Object fieldMap,
         final long depth,
-        final String indexName,
-        final ClusterService clusterService,
-        final Environment environment,
+        final long maxDepth,
         final boolean allowEmpty
     ) {
         if (Objects.isNull(sourceValue)) { // allow map type value to be null.
             return;
         }
-        validateDepth(sourceKey, depth, indexName, clusterService, environment);
+        validateDepth(sourceKey, depth, maxDepth);
         if (!(fieldMap instanceof Map)) { // source value is map type means configuration has to be map type
             throw new IllegalArgumentException(
                 String.format(
@@ -84,9 +106,7 @@ public class ProcessorDocumentUtils {
                         (List) nextSourceValue,
                         fieldMap,
                         depth + 1,
-                        indexName,
-                        clusterService,
-                        environment,
+                        maxDepth,
                         allowEmpty
                     );
                 } else if (nextSourceValue instanceof Map) {
@@ -95,9 +115,7 @@ public class ProcessorDocumentUtils {
                         (Map<String, Object>) nextSourceValue,
                         nextFieldMap,
                         depth + 1,
-                        indexName,
-                        clusterService,
-                        environment,
+                        maxDepth,
                         allowEmpty
                     );
                 } else if (!(nextSourceValue instanceof String)) {
@@ -119,12 +137,10 @@ public class ProcessorDocumentUtils {
         final List sourceValue,
         final Object fieldMap,
         final long depth,
-        final String indexName,
-        final ClusterService clusterService,
-        final Environment environment,
+        final long maxDepth,
         final boolean allowEmpty
     ) {
-        validateDepth(sourceKey, depth, indexName, clusterService, environment);
+        validateDepth(sourceKey, depth, maxDepth);
         if (CollectionUtils.isEmpty(sourceValue)) {
             return;
         }
@@ -144,9 +160,7 @@ public class ProcessorDocumentUtils {
                     (Map<String, Object>) element,
                     ((Map) fieldMap).get(sourceKey),
                     depth + 1,
-                    indexName,
-                    clusterService,
-                    environment,
+                    maxDepth,
                     allowEmpty
                 );
             } else if (!(element instanceof String)) {
@@ -161,17 +175,7 @@ public class ProcessorDocumentUtils {
         }
     }
 
-    private static void validateDepth(
-        String sourceKey,
-        long depth,
-        String indexName,
-        ClusterService clusterService,
-        Environment environment
-    ) {
-        Settings settings = Optional.ofNullable(clusterService.state().metadata().index(indexName))
-            .map(IndexMetadata::getSettings)
-            .orElse(environment.settings());
-        long maxDepth = MapperService.INDEX_MAPPING_DEPTH_LIMIT_SETTING.get(settings);
+    private static void validateDepth(String sourceKey, long depth, long maxDepth) {
         if (depth > maxDepth) {
             throw new IllegalArgumentException(
                 String.format(Locale.ROOT, "map type field [%s] reaches max depth limit, cannot process it", sourceKey)
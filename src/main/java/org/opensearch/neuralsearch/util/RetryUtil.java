@@ -5,13 +5,23 @@
 package org.opensearch.neuralsearch.util;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Random;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.opensearch.common.Randomness;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.NodeDisconnectedException;
 import org.opensearch.transport.NodeNotConnectedException;
 
 import com.google.common.collect.ImmutableList;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
 public class RetryUtil {
 
     private static final int MAX_RETRY = 3;
@@ -21,6 +31,22 @@ public class RetryUtil {
         NodeDisconnectedException.class
     );
 
+    /**
+     * Number of retries and delays between them, delays grow exponentially from the initial delay up to the max delay
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class BackoffPolicy {
+        /**
+         * Retries right away up to {@link #MAX_RETRY} times
+         */
+        public static final BackoffPolicy NO_BACKOFF = new BackoffPolicy(MAX_RETRY, TimeValue.ZERO, TimeValue.ZERO);
+
+        private final int maxRetries;
+        private final TimeValue initialDelay;
+        private final TimeValue maxDelay;
+    }
+
     /**
      *
      * @param e {@link Exception} which is the exception received to check if retryable.
@@ -28,8 +54,79 @@ public class RetryUtil {
      * @return {@link boolean} which is the result of if current exception needs retry or not.
      */
     public static boolean shouldRetry(final Exception e, int retryTime) {
+        return shouldRetry(e, retryTime, MAX_RETRY);
+    }
+
+    /**
+     *
+     * @param e {@link Exception} which is the exception received to check if retryable.
+     * @param retryTime {@link int} which is the current retried times.
+     * @param maxRetries {@link int} which is the maximum number of retries.
+     * @return {@link boolean} which is the result of if current exception needs retry or not.
+     */
+    public static boolean shouldRetry(final Exception e, int retryTime, int maxRetries) {
         boolean hasRetryException = RETRYABLE_EXCEPTIONS.stream().anyMatch(x -> ExceptionUtils.indexOfThrowable(e, x) != -1);
-        return hasRetryException && retryTime < MAX_RETRY;
+        return hasRetryException && retryTime < maxRetries;
+    }
+
+    /**
+     * Computes delay before the retry with "equal jitter": the delay is a random value between half and the whole of the
+     * exponential backoff, so retries of requests that failed at the same time don't hit the model again at the same time.
+     *
+     * @param policy backoff policy
+     * @param retryTime number of retries done before this one
+     * @param random source of the jitter
+     * @return delay in milliseconds
+     */
+    public static long computeBackoffDelayMillis(final BackoffPolicy policy, final int retryTime, final Random random) {
+        long initialDelay = policy.getInitialDelay().millis();
+        if (initialDelay <= 0) {
+            return 0;
+        }
+        long maxDelay = Math.max(initialDelay, policy.getMaxDelay().millis());
+        // shift is capped so the delay doesn't overflow, it reaches the max delay long before that anyway
+        long backoff = Math.min(maxDelay, initialDelay << Math.min(retryTime, 30));
+        long halfBackoff = backoff / 2;
+        return backoff - halfBackoff + (long) (random.nextDouble() * (halfBackoff + 1));
     }
 
+    /**
+     * Runs the retry after the backoff delay on the generic thread pool, so the retry neither blocks nor recurses in the
+     * thread that received the failure. Retry is run right away if there is no delay or no thread pool to schedule it on.
+     *
+     * @param threadPool thread pool to schedule the retry on, may be null
+     * @param policy backoff policy
+     * @param retryTime number of retries done before this one
+     * @param retry sends the request again
+     * @param listener receives failure if the retry cannot be run
+     */
+    public static void scheduleRetry(
+        final ThreadPool threadPool,
+        final BackoffPolicy policy,
+        final int retryTime,
+        final Runnable retry,
+        final ActionListener<?> listener
+    ) {
+        long delay = computeBackoffDelayMillis(policy, retryTime, Randomness.get());
+        if (Objects.isNull(threadPool) || delay == 0) {
+            retry.run();
+            return;
+        }
+        AbstractRunnable retryRunnable = new AbstractRunnable() {
+            @Override
+            public void onFailure(Exception e) {
+                listener.onFailure(e);
+            }
+
+            @Override
+            protected void doRun() {
+                retry.run();
+            }
+        };
+        try {
+            threadPool.schedule(retryRunnable, TimeValue.timeValueMillis(delay), ThreadPool.Names.GENERIC);
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
 }
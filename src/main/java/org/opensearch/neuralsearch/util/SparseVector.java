@@ -0,0 +1,248 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.lucene.util.InPlaceMergeSorter;
+import org.apache.lucene.util.RamUsageEstimator;
+
+/**
+ * Compact immutable representation of a sparse vector produced by sparse encoding models. Tokens are kept sorted in a
+ * String array with the weights in a parallel float array, so no boxed values or hash table entries are retained.
+ * Inference results are converted to sparse vectors once, when the model output is parsed, and handed to queries and the
+ * query token cache as read-only {@link TokenWeightMap} views. Ingest processors write modifiable copies to documents, see
+ * {@link #toMap()}, as later processors and scripts may change the written field.
+ */
+public final class SparseVector {
+    private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(SparseVector.class);
+
+    private final String[] tokens;
+    private final float[] weights;
+
+    private SparseVector(final String[] tokens, final float[] weights) {
+        this.tokens = tokens;
+        this.weights = weights;
+    }
+
+    /**
+     * Builds sparse vector from (token, weight) map
+     *
+     * @param tokenWeights map of token to its weight
+     * @return sparse vector with tokens in sorted order
+     */
+    public static SparseVector fromMap(final Map<String, Float> tokenWeights) {
+        Objects.requireNonNull(tokenWeights, "token weights cannot be null");
+        String[] tokens = tokenWeights.keySet().toArray(new String[0]);
+        Arrays.sort(tokens);
+        float[] weights = new float[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            weights[i] = tokenWeights.get(tokens[i]);
+        }
+        return new SparseVector(tokens, weights);
+    }
+
+    /**
+     * Builds sparse vector from a (token, weight) object of the model output, without copying it into an intermediate map
+     *
+     * @param tokenWeights map of token to its weight, tokens must be strings and weights numbers
+     * @return sparse vector with tokens in sorted order
+     */
+    public static SparseVector fromModelOutput(final Object tokenWeights) {
+        if (tokenWeights instanceof TokenWeightMap) {
+            // output split per input by the accessor is already parsed
+            return ((TokenWeightMap) tokenWeights).getSparseVector();
+        }
+        if (!(tokenWeights instanceof Map)) {
+            throw new IllegalArgumentException("The expected inference result is a Map with String keys and Float values.");
+        }
+        Map<?, ?> tokenWeightMap = (Map<?, ?>) tokenWeights;
+        String[] tokens = new String[tokenWeightMap.size()];
+        float[] weights = new float[tokens.length];
+        int index = 0;
+        for (Map.Entry<?, ?> entry : tokenWeightMap.entrySet()) {
+            if (!(entry.getKey() instanceof String) || !(entry.getValue() instanceof Number)) {
+                throw new IllegalArgumentException("The expected inference result is a Map with String keys and Float values.");
+            }
+            tokens[index] = (String) entry.getKey();
+            weights[index] = ((Number) entry.getValue()).floatValue();
+            index++;
+        }
+        // sort tokens and weights together, tokens of a map are distinct
+        new InPlaceMergeSorter() {
+            @Override
+            protected int compare(final int i, final int j) {
+                return tokens[i].compareTo(tokens[j]);
+            }
+
+            @Override
+            protected void swap(final int i, final int j) {
+                String token = tokens[i];
+                tokens[i] = tokens[j];
+                tokens[j] = token;
+                float weight = weights[i];
+                weights[i] = weights[j];
+                weights[j] = weight;
+            }
+        }.sort(0, tokens.length);
+        return new SparseVector(tokens, weights);
+    }
+
+    public int size() {
+        return tokens.length;
+    }
+
+    public String getToken(final int index) {
+        return tokens[index];
+    }
+
+    public float getWeight(final int index) {
+        return weights[index];
+    }
+
+    /**
+     * @return index of the token or a negative value if token is not present
+     */
+    public int indexOf(final String token) {
+        return Arrays.binarySearch(tokens, token);
+    }
+
+    /**
+     * Returns vector with the features of this vector whose keep flag is set, tokens stay in sorted order
+     *
+     * @param keep flag for every feature of this vector, in the order of the features
+     * @return this vector if all features are kept, otherwise a new vector with the kept features
+     */
+    public SparseVector retain(final boolean[] keep) {
+        if (keep.length != tokens.length) {
+            throw new IllegalArgumentException("number of keep flags must match the number of features");
+        }
+        int keptCount = 0;
+        for (boolean kept : keep) {
+            if (kept) {
+                keptCount++;
+            }
+        }
+        if (keptCount == tokens.length) {
+            return this;
+        }
+        String[] keptTokens = new String[keptCount];
+        float[] keptWeights = new float[keptCount];
+        int keptIndex = 0;
+        for (int i = 0; i < tokens.length; i++) {
+            if (keep[i]) {
+                keptTokens[keptIndex] = tokens[i];
+                keptWeights[keptIndex] = weights[i];
+                keptIndex++;
+            }
+        }
+        return new SparseVector(keptTokens, keptWeights);
+    }
+
+    /**
+     * Returns read-only {@link Map} view of this vector, the view is backed by the arrays of this vector and doesn't copy data
+     *
+     * @return map of token to its weight
+     */
+    public TokenWeightMap asMap() {
+        return new TokenWeightMap();
+    }
+
+    /**
+     * Returns modifiable copy of this vector
+     *
+     * @return new map of token to its weight
+     */
+    public Map<String, Float> toMap() {
+        Map<String, Float> tokenWeights = new HashMap<>(tokens.length * 4 / 3 + 1);
+        for (int i = 0; i < tokens.length; i++) {
+            tokenWeights.put(tokens[i], weights[i]);
+        }
+        return tokenWeights;
+    }
+
+    public long ramBytesUsed() {
+        long size = SHALLOW_SIZE + RamUsageEstimator.shallowSizeOf(tokens) + RamUsageEstimator.sizeOf(weights);
+        for (String token : tokens) {
+            size += RamUsageEstimator.sizeOf(token);
+        }
+        return size;
+    }
+
+    /**
+     * Read-only map view of a sparse vector. It can be shared between documents and queries, and callers that know the view
+     * can read tokens and weights from the vector without boxing.
+     */
+    public final class TokenWeightMap extends AbstractMap<String, Float> {
+
+        private TokenWeightMap() {}
+
+        /**
+         * @return the sparse vector backing this view
+         */
+        public SparseVector getSparseVector() {
+            return SparseVector.this;
+        }
+
+        @Override
+        public Float get(final Object key) {
+            if (!(key instanceof String)) {
+                return null;
+            }
+            int index = indexOf((String) key);
+            return index < 0 ? null : weights[index];
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return key instanceof String && indexOf((String) key) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return tokens.length;
+        }
+
+        @Override
+        public Set<Entry<String, Float>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Float>> iterator() {
+                    return new Iterator<>() {
+                        private int index = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < tokens.length;
+                        }
+
+                        @Override
+                        public Entry<String, Float> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<String, Float> entry = new SimpleImmutableEntry<>(tokens[index], weights[index]);
+                            index++;
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return tokens.length;
+                }
+            };
+        }
+    }
+}
@@ -5,10 +5,8 @@
 package org.opensearch.neuralsearch.util;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Utility class for working with sparse_encoding queries and ingest processor.
@@ -45,6 +43,36 @@ public class TokenWeightUtil {
      * @param mapResultList {@link Map} which is the response from {@link org.opensearch.neuralsearch.ml.MLCommonsClientAccessor}
      */
     public static List<Map<String, Float>> fetchListOfTokenWeightMap(List<Map<String, ?>> mapResultList) {
+        List<SparseVector> sparseVectors = fetchListOfSparseVectors(mapResultList);
+        List<Map<String, Float>> tokenWeightMaps = new ArrayList<>(sparseVectors.size());
+        for (SparseVector sparseVector : sparseVectors) {
+            tokenWeightMaps.add(sparseVector.asMap());
+        }
+        return tokenWeightMaps;
+    }
+
+    /**
+     * Same as {@link #fetchListOfTokenWeightMap(List)}, but every input gets a modifiable copy of its token weights instead of
+     * a read-only view, for results written to ingest documents
+     *
+     * @param mapResultList {@link Map} which is the response from {@link org.opensearch.neuralsearch.ml.MLCommonsClientAccessor}
+     */
+    public static List<Map<String, Float>> fetchListOfModifiableTokenWeightMap(List<Map<String, ?>> mapResultList) {
+        List<SparseVector> sparseVectors = fetchListOfSparseVectors(mapResultList);
+        List<Map<String, Float>> tokenWeightMaps = new ArrayList<>(sparseVectors.size());
+        for (SparseVector sparseVector : sparseVectors) {
+            tokenWeightMaps.add(sparseVector.toMap());
+        }
+        return tokenWeightMaps;
+    }
+
+    /**
+     * Same as {@link #fetchListOfTokenWeightMap(List)}, the token weights of every input are parsed into a {@link SparseVector}
+     * directly from the model output, without copying them into a map of boxed weights first
+     *
+     * @param mapResultList {@link Map} which is the response from {@link org.opensearch.neuralsearch.ml.MLCommonsClientAccessor}
+     */
+    public static List<SparseVector> fetchListOfSparseVectors(List<Map<String, ?>> mapResultList) {
         if (null == mapResultList || mapResultList.isEmpty()) {
             throw new IllegalArgumentException("The inference result can not be null or empty.");
         }
@@ -58,20 +86,10 @@ public class TokenWeightUtil {
             }
             results.addAll((List<?>) map.get("response"));
         }
-        return results.stream().map(TokenWeightUtil::buildTokenWeightMap).collect(Collectors.toList());
-    }
-
-    private static Map<String, Float> buildTokenWeightMap(Object uncastedMap) {
-        if (!Map.class.isAssignableFrom(uncastedMap.getClass())) {
-            throw new IllegalArgumentException("The expected inference result is a Map with String keys and Float values.");
-        }
-        Map<String, Float> result = new HashMap<>();
-        for (Map.Entry<?, ?> entry : ((Map<?, ?>) uncastedMap).entrySet()) {
-            if (!String.class.isAssignableFrom(entry.getKey().getClass()) || !Number.class.isAssignableFrom(entry.getValue().getClass())) {
-                throw new IllegalArgumentException("The expected inference result is a Map with String keys and Float values.");
-            }
-            result.put((String) entry.getKey(), ((Number) entry.getValue()).floatValue());
+        List<SparseVector> sparseVectors = new ArrayList<>(results.size());
+        for (Object result : results) {
+            sparseVectors.add(SparseVector.fromModelOutput(result));
         }
-        return result;
+        return sparseVectors;
     }
 }
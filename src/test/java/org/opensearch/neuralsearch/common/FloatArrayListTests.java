@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class FloatArrayListTests extends OpenSearchTestCase {
+
+    public void testGet_whenIndexOutOfRange_thenFail() {
+        FloatArrayList list = new FloatArrayList(new float[] { 1.0f, 2.0f });
+
+        assertEquals(2, list.size());
+        assertEquals(2.0f, list.get(1), 0.0f);
+        expectThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        expectThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    public void testModify_whenSetAddAndRemove_thenBehavesLikeArrayList() {
+        FloatArrayList list = new FloatArrayList(new float[] { 1.0f, 2.0f, 3.0f });
+        List<Float> expected = new ArrayList<>(List.of(1.0f, 2.0f, 3.0f));
+
+        assertEquals(expected.set(1, 5.0f), list.set(1, 5.0f));
+        expected.add(4.0f);
+        list.add(4.0f);
+        expected.add(0, 0.5f);
+        list.add(0, 0.5f);
+        assertEquals(expected.remove(2), list.remove(2));
+        expected.addAll(List.of(6.0f, 7.0f, 8.0f, 9.0f, 10.0f));
+        list.addAll(List.of(6.0f, 7.0f, 8.0f, 9.0f, 10.0f));
+
+        assertEquals(expected, list);
+        assertEquals(expected.hashCode(), list.hashCode());
+        assertArrayEquals(VectorUtil.vectorAsListToArray(expected), list.toFloatArray(), 0.0f);
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.toFloatArray().length);
+    }
+
+    public void testModify_whenNullElement_thenFail() {
+        FloatArrayList list = new FloatArrayList(new float[] { 1.0f });
+
+        expectThrows(NullPointerException.class, () -> list.set(0, null));
+        expectThrows(NullPointerException.class, () -> list.add(null));
+        assertEquals(List.of(1.0f), list);
+    }
+
+    public void testToFloatArray_whenListModified_thenReturnsCopy() {
+        FloatArrayList list = new FloatArrayList(new float[] { 1.0f, 2.0f });
+
+        float[] copy = list.toFloatArray();
+        list.set(0, 3.0f);
+
+        assertArrayEquals(new float[] { 1.0f, 2.0f }, copy, 0.0f);
+        assertArrayEquals(new float[] { 3.0f, 2.0f }, list.toFloatArray(), 0.0f);
+    }
+}
@@ -25,4 +25,29 @@ public class VectorUtilTests extends OpenSearchTestCase {
         assertEquals(0, vectorAsArray_withNoElements.length);
     }
 
+    public void testVectorAsArrayBackedList() {
+        float[] vector = new float[] { 1.3f, 2.5f, 3.5f };
+        List<Float> vectorAsList = VectorUtil.vectorAsArrayBackedList(vector);
+
+        assertEquals(List.of(1.3f, 2.5f, 3.5f), vectorAsList);
+        assertEquals(List.of(1.3f, 2.5f, 3.5f).hashCode(), vectorAsList.hashCode());
+
+        float[] vectorAsArray = VectorUtil.vectorAsListToArray(vectorAsList);
+        assertArrayEquals(vector, vectorAsArray, 0.0f);
+        assertNotSame(vector, vectorAsArray);
+    }
+
+    public void testCopyOfVector() {
+        List<Float> boxedVector = List.of(1.3f, 2.5f);
+        List<Float> boxedCopy = VectorUtil.copyOfVector(boxedVector);
+        assertEquals(boxedVector, boxedCopy);
+        assertTrue(boxedCopy instanceof FloatArrayList);
+
+        float[] vector = new float[] { 1.3f, 2.5f };
+        List<Float> vectorAsList = VectorUtil.vectorAsArrayBackedList(vector);
+        List<Float> copy = VectorUtil.copyOfVector(vectorAsList);
+        copy.set(0, 4.0f);
+        assertEquals(List.of(1.3f, 2.5f), vectorAsList);
+        assertEquals(List.of(4.0f, 2.5f), copy);
+    }
 }
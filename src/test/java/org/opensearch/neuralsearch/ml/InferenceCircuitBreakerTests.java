@@ -0,0 +1,144 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.neuralsearch.ml.InferenceCircuitBreaker.State;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class InferenceCircuitBreakerTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "model_id";
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final InferenceCircuitBreaker circuitBreaker = new InferenceCircuitBreaker(
+        2,
+        TimeValue.timeValueSeconds(10),
+        1,
+        nanoTime::get
+    );
+
+    public void testSubmit_whenConsecutiveFailuresReachThreshold_thenOpen() {
+        recordFailure(MODEL_ID);
+        recordSuccess(MODEL_ID);
+        recordFailure(MODEL_ID);
+        assertEquals(State.CLOSED, circuitBreaker.getState(MODEL_ID));
+        recordFailure(MODEL_ID);
+        assertEquals(State.OPEN, circuitBreaker.getState(MODEL_ID));
+        assertEquals(1, circuitBreaker.getOpenedCount());
+
+        List<ActionListener<String>> sentRequests = new ArrayList<>();
+        ActionListener<String> listener = mock(ActionListener.class);
+        circuitBreaker.submit(MODEL_ID, sentRequests::add, listener);
+        assertTrue(sentRequests.isEmpty());
+        verify(listener).onFailure(isA(OpenSearchRejectedExecutionException.class));
+        assertEquals(1, circuitBreaker.getFastFailedCount());
+        assertEquals(State.CLOSED, circuitBreaker.getState("other_model_id"));
+    }
+
+    public void testSubmit_whenClientSideFailure_thenNotCounted() {
+        for (int i = 0; i < 5; i++) {
+            circuitBreaker.<String>submit(
+                MODEL_ID,
+                listener -> listener.onFailure(new IllegalArgumentException()),
+                mock(ActionListener.class)
+            );
+        }
+        assertEquals(State.CLOSED, circuitBreaker.getState(MODEL_ID));
+    }
+
+    public void testSubmit_whenOpenDurationPassed_thenSingleProbeClosesOnSuccess() {
+        recordFailure(MODEL_ID);
+        recordFailure(MODEL_ID);
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        List<ActionListener<String>> sentRequests = new ArrayList<>();
+        circuitBreaker.submit(MODEL_ID, sentRequests::add, mock(ActionListener.class));
+        ActionListener<String> rejectedListener = mock(ActionListener.class);
+        circuitBreaker.submit(MODEL_ID, sentRequests::add, rejectedListener);
+        assertEquals(1, sentRequests.size());
+        assertEquals(State.HALF_OPEN, circuitBreaker.getState(MODEL_ID));
+        verify(rejectedListener).onFailure(isA(OpenSearchRejectedExecutionException.class));
+
+        sentRequests.get(0).onResponse("result");
+        assertEquals(State.CLOSED, circuitBreaker.getState(MODEL_ID));
+        assertEquals(State.CLOSED, circuitBreaker.getStates().get(MODEL_ID));
+    }
+
+    public void testSubmit_whenProbeFails_thenOpenAgain() {
+        recordFailure(MODEL_ID);
+        recordFailure(MODEL_ID);
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        recordFailure(MODEL_ID);
+        assertEquals(State.OPEN, circuitBreaker.getState(MODEL_ID));
+        assertEquals(2, circuitBreaker.getOpenedCount());
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        ActionListener<String> listener = mock(ActionListener.class);
+        circuitBreaker.submit(MODEL_ID, requestListener -> fail("request must not be sent"), listener);
+        verify(listener).onFailure(isA(OpenSearchRejectedExecutionException.class));
+    }
+
+    public void testSubmit_whenListenerThrowsOnResponse_thenRecordedAsSuccessOnly() {
+        ActionListener<String> throwingListener = ActionListener.wrap(r -> {
+            throw new IllegalStateException("listener failure");
+        }, e -> {});
+        circuitBreaker.<String>submit(MODEL_ID, listener -> listener.onResponse("result"), throwingListener);
+
+        // a failure recorded after the success would make this the second consecutive failure
+        recordFailure(MODEL_ID);
+        assertEquals(State.CLOSED, circuitBreaker.getState(MODEL_ID));
+        assertEquals(0, circuitBreaker.getOpenedCount());
+    }
+
+    public void testSubmit_whenProbeListenerThrowsOnResponse_thenClosed() {
+        recordFailure(MODEL_ID);
+        recordFailure(MODEL_ID);
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        ActionListener<String> throwingListener = ActionListener.wrap(r -> {
+            throw new IllegalStateException("listener failure");
+        }, e -> {});
+        circuitBreaker.<String>submit(MODEL_ID, listener -> listener.onResponse("result"), throwingListener);
+        assertEquals(State.CLOSED, circuitBreaker.getState(MODEL_ID));
+
+        recordFailure(MODEL_ID);
+        assertEquals(State.CLOSED, circuitBreaker.getState(MODEL_ID));
+        assertEquals(1, circuitBreaker.getOpenedCount());
+    }
+
+    public void testSubmit_whenRequestThrowsAfterCompletingListener_thenRecordedOnce() {
+        circuitBreaker.<String>submit(MODEL_ID, listener -> {
+            listener.onResponse("result");
+            throw new IllegalStateException("request failure");
+        }, mock(ActionListener.class));
+
+        recordFailure(MODEL_ID);
+        assertEquals(State.CLOSED, circuitBreaker.getState(MODEL_ID));
+    }
+
+    public void testConstructor_whenInvalidArguments_thenFail() {
+        expectThrows(IllegalArgumentException.class, () -> new InferenceCircuitBreaker(0, TimeValue.timeValueSeconds(1), 1));
+        expectThrows(IllegalArgumentException.class, () -> new InferenceCircuitBreaker(1, TimeValue.timeValueSeconds(1), 0));
+    }
+
+    private void recordFailure(final String modelId) {
+        circuitBreaker.<String>submit(modelId, listener -> listener.onFailure(new IllegalStateException()), mock(ActionListener.class));
+    }
+
+    private void recordSuccess(final String modelId) {
+        circuitBreaker.<String>submit(modelId, listener -> listener.onResponse("result"), mock(ActionListener.class));
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.SneakyThrows;
+
+public class InferenceRequestCoalescerTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "model_id";
+    private static final InferenceRequestLimiter.RequestType REQUEST_TYPE = InferenceRequestLimiter.RequestType.INGEST;
+    private static final String BATCH_TYPE = "text_embedding";
+
+    private ThreadPool threadPool;
+
+    @Before
+    public void setup() {
+        threadPool = new TestThreadPool(InferenceRequestCoalescerTests.class.getName());
+    }
+
+    @After
+    public void cleanup() {
+        terminate(threadPool);
+    }
+
+    public void testIsEnabled_whenModelConfigured_thenTrue() {
+        InferenceRequestCoalescer coalescer = new InferenceRequestCoalescer(threadPool, TimeValue.timeValueMillis(1), 2, Set.of(MODEL_ID));
+
+        assertTrue(coalescer.isEnabled(MODEL_ID));
+        assertFalse(coalescer.isEnabled("other_model_id"));
+    }
+
+    public void testCreate_whenMaxBatchSizeInvalid_thenFail() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new InferenceRequestCoalescer(threadPool, TimeValue.timeValueMillis(1), 0, Set.of())
+        );
+    }
+
+    @SneakyThrows
+    public void testSubmit_whenBatchFull_thenSentWithoutWaitingForWindow() {
+        InferenceRequestCoalescer coalescer = new InferenceRequestCoalescer(threadPool, TimeValue.timeValueHours(1), 3, Set.of(MODEL_ID));
+        List<List<String>> executedBatches = new CopyOnWriteArrayList<>();
+        InferenceRequestCoalescer.BatchExecutor<String> batchExecutor = (inputs, listener) -> {
+            executedBatches.add(new ArrayList<>(inputs));
+            listener.onResponse(inputs.stream().map(input -> "result of " + input).collect(Collectors.toList()));
+        };
+
+        List<String> results = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            coalescer.submit(
+                MODEL_ID,
+                REQUEST_TYPE,
+                BATCH_TYPE,
+                "text " + i,
+                batchExecutor,
+                ActionListener.wrap(results::add, e -> fail(e.getMessage()))
+            );
+        }
+
+        assertEquals(1, executedBatches.size());
+        assertEquals(List.of("text 0", "text 1", "text 2"), executedBatches.get(0));
+        assertEquals(List.of("result of text 0", "result of text 1", "result of text 2"), results);
+    }
+
+    @SneakyThrows
+    public void testSubmit_whenWindowElapsed_thenPartialBatchSent() {
+        InferenceRequestCoalescer coalescer = new InferenceRequestCoalescer(threadPool, TimeValue.timeValueMillis(5), 10, Set.of(MODEL_ID));
+        List<List<String>> executedBatches = new CopyOnWriteArrayList<>();
+        InferenceRequestCoalescer.BatchExecutor<String> batchExecutor = (inputs, listener) -> {
+            executedBatches.add(new ArrayList<>(inputs));
+            listener.onResponse(inputs.stream().map(input -> "result of " + input).collect(Collectors.toList()));
+        };
+
+        CountDownLatch latch = new CountDownLatch(2);
+        List<String> results = new CopyOnWriteArrayList<>();
+        ActionListener<String> listener = ActionListener.wrap(result -> {
+            results.add(result);
+            latch.countDown();
+        }, e -> fail(e.getMessage()));
+        coalescer.submit(MODEL_ID, REQUEST_TYPE, BATCH_TYPE, "text 0", batchExecutor, listener);
+        coalescer.submit(MODEL_ID, REQUEST_TYPE, BATCH_TYPE, "text 1", batchExecutor, listener);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, executedBatches.size());
+        assertEquals(List.of("text 0", "text 1"), executedBatches.get(0));
+        assertEquals(List.of("result of text 0", "result of text 1"), results);
+    }
+
+    public void testSubmit_whenDifferentBatchTypes_thenSeparateBatches() {
+        InferenceRequestCoalescer coalescer = new InferenceRequestCoalescer(threadPool, TimeValue.timeValueHours(1), 1, Set.of(MODEL_ID));
+        List<List<String>> executedBatches = new CopyOnWriteArrayList<>();
+        InferenceRequestCoalescer.BatchExecutor<String> batchExecutor = (inputs, listener) -> {
+            executedBatches.add(new ArrayList<>(inputs));
+            listener.onResponse(new ArrayList<>(inputs));
+        };
+
+        ActionListener<String> listener = ActionListener.wrap(r -> {}, e -> fail(e.getMessage()));
+        coalescer.submit(MODEL_ID, REQUEST_TYPE, BATCH_TYPE, "text 0", batchExecutor, listener);
+        coalescer.submit(MODEL_ID, REQUEST_TYPE, "sparse_encoding", "text 1", batchExecutor, listener);
+
+        assertEquals(List.of(List.of("text 0"), List.of("text 1")), executedBatches);
+    }
+
+    public void testSubmit_whenDifferentRequestTypes_thenSeparateBatches() {
+        InferenceRequestCoalescer coalescer = new InferenceRequestCoalescer(threadPool, TimeValue.timeValueHours(1), 2, Set.of(MODEL_ID));
+        List<List<String>> executedBatches = new CopyOnWriteArrayList<>();
+        InferenceRequestCoalescer.BatchExecutor<String> batchExecutor = (inputs, listener) -> {
+            executedBatches.add(new ArrayList<>(inputs));
+            listener.onResponse(new ArrayList<>(inputs));
+        };
+        ActionListener<String> listener = ActionListener.wrap(r -> {}, e -> fail(e.getMessage()));
+
+        coalescer.submit(MODEL_ID, InferenceRequestLimiter.RequestType.INGEST, BATCH_TYPE, "ingest 0", batchExecutor, listener);
+        coalescer.submit(MODEL_ID, InferenceRequestLimiter.RequestType.SEARCH, BATCH_TYPE, "search 0", batchExecutor, listener);
+        assertTrue(executedBatches.isEmpty());
+
+        coalescer.submit(MODEL_ID, InferenceRequestLimiter.RequestType.SEARCH, BATCH_TYPE, "search 1", batchExecutor, listener);
+        coalescer.submit(MODEL_ID, InferenceRequestLimiter.RequestType.INGEST, BATCH_TYPE, "ingest 1", batchExecutor, listener);
+
+        assertEquals(List.of(List.of("search 0", "search 1"), List.of("ingest 0", "ingest 1")), executedBatches);
+    }
+
+    public void testSubmit_whenResultCountMismatch_thenAllRequestsFail() {
+        InferenceRequestCoalescer coalescer = new InferenceRequestCoalescer(threadPool, TimeValue.timeValueHours(1), 2, Set.of(MODEL_ID));
+        InferenceRequestCoalescer.BatchExecutor<String> batchExecutor = (inputs, listener) -> listener.onResponse(List.of("single"));
+
+        List<Exception> failures = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            coalescer.submit(
+                MODEL_ID,
+                REQUEST_TYPE,
+                BATCH_TYPE,
+                "text " + i,
+                batchExecutor,
+                ActionListener.wrap(r -> fail("expected failure"), failures::add)
+            );
+        }
+
+        assertEquals(2, failures.size());
+        assertTrue(failures.stream().allMatch(e -> e instanceof IllegalStateException));
+    }
+
+    public void testSubmit_whenBatchFails_thenAllRequestsFail() {
+        InferenceRequestCoalescer coalescer = new InferenceRequestCoalescer(threadPool, TimeValue.timeValueHours(1), 2, Set.of(MODEL_ID));
+        RuntimeException exception = new RuntimeException("model failure");
+        InferenceRequestCoalescer.BatchExecutor<String> batchExecutor = (inputs, listener) -> listener.onFailure(exception);
+
+        List<Exception> failures = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 2; i++) {
+            coalescer.submit(
+                MODEL_ID,
+                REQUEST_TYPE,
+                BATCH_TYPE,
+                "text " + i,
+                batchExecutor,
+                ActionListener.wrap(r -> fail("expected failure"), failures::add)
+            );
+        }
+
+        assertEquals(List.of(exception, exception), failures);
+    }
+
+    public void testSubmit_whenListenerThrows_thenOtherRequestsGetResult() {
+        InferenceRequestCoalescer coalescer = new InferenceRequestCoalescer(threadPool, TimeValue.timeValueHours(1), 2, Set.of(MODEL_ID));
+        InferenceRequestCoalescer.BatchExecutor<String> batchExecutor = (inputs, listener) -> listener.onResponse(new ArrayList<>(inputs));
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        AtomicReference<String> result = new AtomicReference<>();
+        coalescer.submit(MODEL_ID, REQUEST_TYPE, BATCH_TYPE, "text 0", batchExecutor, ActionListener.wrap(r -> {
+            throw new IllegalStateException("listener failure");
+        }, failure::set));
+        coalescer.submit(
+            MODEL_ID,
+            REQUEST_TYPE,
+            BATCH_TYPE,
+            "text 1",
+            batchExecutor,
+            ActionListener.wrap(result::set, e -> fail(e.getMessage()))
+        );
+
+        assertTrue(failure.get() instanceof IllegalStateException);
+        assertEquals("text 1", result.get());
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.neuralsearch.ml.InferenceRequestLimiter.Limits;
+import org.opensearch.neuralsearch.ml.InferenceRequestLimiter.RequestType;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.SneakyThrows;
+
+public class InferenceRequestLimiterTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "model_id";
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+    public void testSubmit_whenUnlimited_thenSentRightAway() {
+        InferenceRequestLimiter limiter = new InferenceRequestLimiter(new Limits(0, 0), new Limits(0, 0), DIRECT_EXECUTOR);
+        List<ActionListener<String>> sentRequests = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            limiter.submit(MODEL_ID, RequestType.INGEST, sentRequests::add, mock(ActionListener.class));
+        }
+        assertEquals(10, sentRequests.size());
+        assertEquals(0, limiter.getInFlightCount(MODEL_ID, RequestType.INGEST));
+    }
+
+    public void testSubmit_whenLimitReached_thenQueuedAndSentOnCompletion() {
+        InferenceRequestLimiter limiter = new InferenceRequestLimiter(new Limits(2, 1), new Limits(0, 0), DIRECT_EXECUTOR);
+        List<ActionListener<String>> sentRequests = new ArrayList<>();
+        ActionListener<String> queuedListener = mock(ActionListener.class);
+        limiter.submit(MODEL_ID, RequestType.INGEST, sentRequests::add, mock(ActionListener.class));
+        limiter.submit(MODEL_ID, RequestType.INGEST, sentRequests::add, mock(ActionListener.class));
+        limiter.submit(MODEL_ID, RequestType.INGEST, sentRequests::add, queuedListener);
+
+        assertEquals(2, sentRequests.size());
+        assertEquals(2, limiter.getInFlightCount(MODEL_ID, RequestType.INGEST));
+        assertEquals(1, limiter.getQueuedCount(MODEL_ID, RequestType.INGEST));
+
+        sentRequests.get(0).onResponse("result");
+        assertEquals(3, sentRequests.size());
+        assertEquals(2, limiter.getInFlightCount(MODEL_ID, RequestType.INGEST));
+        assertEquals(0, limiter.getQueuedCount(MODEL_ID, RequestType.INGEST));
+
+        sentRequests.get(2).onResponse("queued result");
+        verify(queuedListener).onResponse("queued result");
+        sentRequests.get(1).onFailure(new RuntimeException());
+        assertEquals(0, limiter.getInFlightCount(MODEL_ID, RequestType.INGEST));
+    }
+
+    public void testSubmit_whenQueueFull_thenRejected() {
+        InferenceRequestLimiter limiter = new InferenceRequestLimiter(new Limits(1, 1), new Limits(0, 0), DIRECT_EXECUTOR);
+        List<ActionListener<String>> sentRequests = new ArrayList<>();
+        limiter.submit(MODEL_ID, RequestType.INGEST, sentRequests::add, mock(ActionListener.class));
+        limiter.submit(MODEL_ID, RequestType.INGEST, sentRequests::add, mock(ActionListener.class));
+        ActionListener<String> rejectedListener = mock(ActionListener.class);
+        limiter.submit(MODEL_ID, RequestType.INGEST, sentRequests::add, rejectedListener);
+
+        assertEquals(1, sentRequests.size());
+        verify(rejectedListener).onFailure(isA(OpenSearchRejectedExecutionException.class));
+        verify(rejectedListener, never()).onResponse(any());
+        assertEquals(1, limiter.getRejectedCount(RequestType.INGEST));
+        assertEquals(0, limiter.getRejectedCount(RequestType.SEARCH));
+    }
+
+    public void testSubmit_whenIngestLimitReached_thenSearchAndOtherModelsNotAffected() {
+        InferenceRequestLimiter limiter = new InferenceRequestLimiter(new Limits(1, 0), new Limits(1, 0), DIRECT_EXECUTOR);
+        List<ActionListener<String>> sentRequests = new ArrayList<>();
+        limiter.submit(MODEL_ID, RequestType.INGEST, sentRequests::add, mock(ActionListener.class));
+        limiter.submit(MODEL_ID, RequestType.INGEST, sentRequests::add, mock(ActionListener.class));
+        limiter.submit(MODEL_ID, RequestType.SEARCH, sentRequests::add, mock(ActionListener.class));
+        limiter.submit("other_model_id", RequestType.INGEST, sentRequests::add, mock(ActionListener.class));
+
+        assertEquals(3, sentRequests.size());
+        assertEquals(1, limiter.getRejectedCount(RequestType.INGEST));
+        assertEquals(1, limiter.getInFlightCount(MODEL_ID, RequestType.SEARCH));
+    }
+
+    public void testSubmit_whenRequestThrows_thenPermitReleased() {
+        InferenceRequestLimiter limiter = new InferenceRequestLimiter(new Limits(1, 0), new Limits(0, 0), DIRECT_EXECUTOR);
+        ActionListener<String> listener = mock(ActionListener.class);
+        limiter.submit(MODEL_ID, RequestType.INGEST, requestListener -> { throw new IllegalStateException(); }, listener);
+
+        verify(listener).onFailure(isA(IllegalStateException.class));
+        assertEquals(0, limiter.getInFlightCount(MODEL_ID, RequestType.INGEST));
+    }
+
+    public void testSubmit_whenSharedLimitReached_thenQueuedSearchRequestsSentFirstByWeight() {
+        InferenceRequestLimiter limiter = new InferenceRequestLimiter(new Limits(0, 10, 1), new Limits(0, 10, 2), 1, DIRECT_EXECUTOR);
+        List<String> sentOrder = new ArrayList<>();
+        List<ActionListener<String>> sentRequests = new ArrayList<>();
+        limiter.submit(MODEL_ID, RequestType.INGEST, listener -> {
+            sentOrder.add("ingest");
+            sentRequests.add(listener);
+        }, mock(ActionListener.class));
+        for (int i = 0; i < 3; i++) {
+            limiter.submit(MODEL_ID, RequestType.INGEST, listener -> {
+                sentOrder.add("ingest");
+                sentRequests.add(listener);
+            }, mock(ActionListener.class));
+            limiter.submit(MODEL_ID, RequestType.SEARCH, listener -> {
+                sentOrder.add("search");
+                sentRequests.add(listener);
+            }, mock(ActionListener.class));
+        }
+        assertEquals(1, sentRequests.size());
+        assertEquals(3, limiter.getQueuedCount(MODEL_ID, RequestType.INGEST));
+        assertEquals(3, limiter.getQueuedCount(MODEL_ID, RequestType.SEARCH));
+
+        for (int i = 0; i < 6; i++) {
+            sentRequests.get(i).onResponse("result");
+        }
+        assertEquals(List.of("ingest", "search", "ingest", "search", "search", "ingest", "ingest"), sentOrder);
+        assertEquals(0, limiter.getInFlightCount(MODEL_ID, RequestType.SEARCH));
+        assertEquals(1, limiter.getInFlightCount(MODEL_ID, RequestType.INGEST));
+    }
+
+    public void testSubmit_whenSearchIdle_thenIngestTakesWholeSharedCapacity() {
+        InferenceRequestLimiter limiter = new InferenceRequestLimiter(new Limits(0, 10, 1), new Limits(0, 10, 4), 3, DIRECT_EXECUTOR);
+        List<ActionListener<String>> sentRequests = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            limiter.submit(MODEL_ID, RequestType.INGEST, sentRequests::add, mock(ActionListener.class));
+        }
+        assertEquals(3, sentRequests.size());
+        assertEquals(3, limiter.getInFlightCount(MODEL_ID, RequestType.INGEST));
+
+        sentRequests.get(0).onResponse("result");
+        assertEquals(4, sentRequests.size());
+        assertEquals(3, limiter.getInFlightCount(MODEL_ID, RequestType.INGEST));
+        assertEquals(1, limiter.getQueuedCount(MODEL_ID, RequestType.INGEST));
+    }
+
+    public void testSubmit_whenTypeLimitLowerThanSharedLimit_thenOtherTypeUsesFreedCapacity() {
+        InferenceRequestLimiter limiter = new InferenceRequestLimiter(new Limits(1, 10, 1), new Limits(0, 10, 4), 2, DIRECT_EXECUTOR);
+        List<ActionListener<String>> sentRequests = new ArrayList<>();
+        limiter.submit(MODEL_ID, RequestType.INGEST, sentRequests::add, mock(ActionListener.class));
+        limiter.submit(MODEL_ID, RequestType.INGEST, sentRequests::add, mock(ActionListener.class));
+        limiter.submit(MODEL_ID, RequestType.SEARCH, sentRequests::add, mock(ActionListener.class));
+        limiter.submit(MODEL_ID, RequestType.SEARCH, sentRequests::add, mock(ActionListener.class));
+
+        assertEquals(2, sentRequests.size());
+        assertEquals(1, limiter.getInFlightCount(MODEL_ID, RequestType.INGEST));
+        assertEquals(1, limiter.getInFlightCount(MODEL_ID, RequestType.SEARCH));
+
+        sentRequests.get(1).onResponse("result");
+        assertEquals(3, sentRequests.size());
+        assertEquals(1, limiter.getInFlightCount(MODEL_ID, RequestType.SEARCH));
+        assertEquals(1, limiter.getQueuedCount(MODEL_ID, RequestType.INGEST));
+        assertEquals(0, limiter.getQueuedCount(MODEL_ID, RequestType.SEARCH));
+    }
+
+    @SneakyThrows
+    public void testSubmit_whenLongQueueDrained_thenQueuedRequestsSentOnExecutor() {
+        int requestCount = 10_000;
+        ThreadPool threadPool = new TestThreadPool(InferenceRequestLimiterTests.class.getName());
+        try {
+            InferenceRequestLimiter limiter = new InferenceRequestLimiter(
+                new Limits(1, requestCount),
+                new Limits(0, 0),
+                threadPool.executor(ThreadPool.Names.GENERIC)
+            );
+            Thread callingThread = Thread.currentThread();
+            Set<Thread> sendingThreads = ConcurrentHashMap.newKeySet();
+            AtomicInteger maxStackDepth = new AtomicInteger();
+            CountDownLatch completed = new CountDownLatch(requestCount);
+            List<ActionListener<String>> firstRequest = new ArrayList<>();
+            limiter.submit(MODEL_ID, RequestType.INGEST, firstRequest::add, ActionListener.wrap(r -> completed.countDown(), e -> {}));
+            for (int i = 1; i < requestCount; i++) {
+                // queued requests complete right away on the thread sending them
+                limiter.submit(MODEL_ID, RequestType.INGEST, listener -> {
+                    sendingThreads.add(Thread.currentThread());
+                    maxStackDepth.accumulateAndGet(Thread.currentThread().getStackTrace().length, Math::max);
+                    listener.onResponse("result");
+                }, ActionListener.wrap(r -> completed.countDown(), e -> fail(e.getMessage())));
+            }
+            assertEquals(requestCount - 1, limiter.getQueuedCount(MODEL_ID, RequestType.INGEST));
+
+            firstRequest.get(0).onResponse("result");
+
+            assertTrue(completed.await(30, TimeUnit.SECONDS));
+            assertFalse(sendingThreads.contains(callingThread));
+            // every queued request is forked, so the stack doesn't grow with the number of queued requests
+            assertTrue(maxStackDepth.get() < 200);
+            assertBusy(() -> assertEquals(0, limiter.getInFlightCount(MODEL_ID, RequestType.INGEST)));
+            assertEquals(0, limiter.getQueuedCount(MODEL_ID, RequestType.INGEST));
+        } finally {
+            terminate(threadPool);
+        }
+    }
+
+    public void testSubmit_whenExecutorRejects_thenQueuedRequestFailsAndPermitReleased() {
+        InferenceRequestLimiter limiter = new InferenceRequestLimiter(new Limits(1, 1), new Limits(0, 0), task -> {
+            throw new OpenSearchRejectedExecutionException("rejected");
+        });
+        List<ActionListener<String>> sentRequests = new ArrayList<>();
+        ActionListener<String> queuedListener = mock(ActionListener.class);
+        limiter.submit(MODEL_ID, RequestType.INGEST, sentRequests::add, mock(ActionListener.class));
+        limiter.submit(MODEL_ID, RequestType.INGEST, sentRequests::add, queuedListener);
+
+        sentRequests.get(0).onResponse("result");
+
+        assertEquals(1, sentRequests.size());
+        verify(queuedListener).onFailure(isA(OpenSearchRejectedExecutionException.class));
+        assertEquals(0, limiter.getInFlightCount(MODEL_ID, RequestType.INGEST));
+    }
+
+    public void testConstructor_whenWeightNotPositive_thenFail() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new InferenceRequestLimiter(new Limits(0, 0, 0), new Limits(0, 0), 1, DIRECT_EXECUTOR)
+        );
+    }
+}
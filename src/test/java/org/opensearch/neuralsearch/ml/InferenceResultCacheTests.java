@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class InferenceResultCacheTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "model_id";
+    private static final String OTHER_MODEL_ID = "other_model_id";
+    private static final String QUERY_TEXT = "hello world";
+    private static final String QUERY_IMAGE = "aW1hZ2U=";
+
+    public void testGet_whenEntryPresent_thenHit() {
+        InferenceResultCache<float[]> cache = createCache(ByteSizeValue.parseBytesSizeValue("1mb", "test"));
+        float[] vector = new float[] { 1.0f, 2.0f, 3.0f };
+        cache.put(MODEL_ID, QUERY_TEXT, QUERY_IMAGE, vector);
+
+        assertArrayEquals(vector, cache.get(MODEL_ID, QUERY_TEXT, QUERY_IMAGE), 0.0f);
+        assertNull(cache.get(MODEL_ID, QUERY_TEXT, null));
+        assertNull(cache.get(OTHER_MODEL_ID, QUERY_TEXT, QUERY_IMAGE));
+        assertEquals(1, cache.stats().getHits());
+        assertEquals(2, cache.stats().getMisses());
+    }
+
+    public void testPut_whenModelIdNull_thenNotCached() {
+        InferenceResultCache<float[]> cache = createCache(ByteSizeValue.parseBytesSizeValue("1mb", "test"));
+        cache.put(null, QUERY_TEXT, null, new float[] { 1.0f });
+
+        assertEquals(0, cache.count());
+    }
+
+    public void testInvalidateModel_whenCalled_thenOnlyEntriesOfModelRemoved() {
+        InferenceResultCache<float[]> cache = createCache(ByteSizeValue.parseBytesSizeValue("1mb", "test"));
+        cache.put(MODEL_ID, QUERY_TEXT, null, new float[] { 1.0f });
+        cache.put(MODEL_ID, "another text", null, new float[] { 2.0f });
+        cache.put(OTHER_MODEL_ID, QUERY_TEXT, null, new float[] { 3.0f });
+
+        cache.invalidateModel(MODEL_ID);
+
+        assertEquals(1, cache.count());
+        assertNull(cache.get(MODEL_ID, QUERY_TEXT, null));
+        assertNotNull(cache.get(OTHER_MODEL_ID, QUERY_TEXT, null));
+    }
+
+    public void testPut_whenMaxWeightExceeded_thenEvicted() {
+        float[] vector = new float[256];
+        long entryWeight = InferenceResultCache.Key.of(MODEL_ID, "text 0", null).ramBytesUsed() + RamUsageEstimator.sizeOf(vector);
+        InferenceResultCache<float[]> cache = createCache(new ByteSizeValue(entryWeight * 2));
+        for (int i = 0; i < 10; i++) {
+            cache.put(MODEL_ID, "text " + i, null, vector);
+        }
+
+        assertTrue(cache.count() <= 2);
+        assertTrue(cache.weight() <= entryWeight * 2);
+        assertTrue(cache.stats().getEvictions() >= 8);
+    }
+
+    private InferenceResultCache<float[]> createCache(ByteSizeValue maxSize) {
+        return new InferenceResultCache<float[]>(maxSize, TimeValue.timeValueMinutes(1), RamUsageEstimator::sizeOf);
+    }
+}
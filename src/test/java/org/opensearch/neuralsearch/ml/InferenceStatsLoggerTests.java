@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.ml;
+
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.neuralsearch.processor.SparsePruningStats;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class InferenceStatsLoggerTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "model_id";
+    private static final String QUERY_TEXT = "hello world";
+
+    public void testLogStats_whenCachesEnabled_thenCacheCountersRead() {
+        InferenceResultCache<float[]> queryEmbeddingCache = spy(createCache());
+        InferenceResultCache<float[]> queryTokenCache = spy(createCache());
+        queryEmbeddingCache.put(MODEL_ID, QUERY_TEXT, null, new float[] { 1.0f });
+        queryEmbeddingCache.get(MODEL_ID, QUERY_TEXT, null);
+        queryTokenCache.get(MODEL_ID, QUERY_TEXT, null);
+
+        new InferenceStatsLogger(queryEmbeddingCache, queryTokenCache, null, null, null).logStats();
+
+        verify(queryEmbeddingCache).stats();
+        verify(queryEmbeddingCache).count();
+        verify(queryTokenCache).stats();
+        verify(queryTokenCache).count();
+    }
+
+    public void testLogStats_whenRequestLimiterEnabled_thenRejectedCountsRead() {
+        InferenceRequestLimiter requestLimiter = spy(
+            new InferenceRequestLimiter(new InferenceRequestLimiter.Limits(1, 0), new InferenceRequestLimiter.Limits(1, 0), Runnable::run)
+        );
+
+        new InferenceStatsLogger(null, null, requestLimiter, null, null).logStats();
+
+        verify(requestLimiter).getRejectedCount(InferenceRequestLimiter.RequestType.INGEST);
+        verify(requestLimiter).getRejectedCount(InferenceRequestLimiter.RequestType.SEARCH);
+    }
+
+    public void testLogStats_whenCircuitBreakerEnabled_thenBreakerCountersRead() {
+        InferenceCircuitBreaker circuitBreaker = spy(new InferenceCircuitBreaker(1, TimeValue.timeValueSeconds(10), 1));
+
+        new InferenceStatsLogger(null, null, null, circuitBreaker, null).logStats();
+
+        verify(circuitBreaker).getOpenedCount();
+        verify(circuitBreaker).getFastFailedCount();
+        verify(circuitBreaker).getStates();
+    }
+
+    public void testLogStats_whenSparsePruningStatsSet_thenFeatureCountersRead() {
+        SparsePruningStats sparsePruningStats = spy(new SparsePruningStats());
+        sparsePruningStats.add(3, 2);
+
+        new InferenceStatsLogger(null, null, null, null, sparsePruningStats).logStats();
+
+        verify(sparsePruningStats).getPrunedFeatureCount();
+        verify(sparsePruningStats).getTotalFeatureCount();
+    }
+
+    public void testLogStats_whenComponentsDisabled_thenNoFailure() {
+        new InferenceStatsLogger(null, null, null, null, null).logStats();
+    }
+
+    private InferenceResultCache<float[]> createCache() {
+        return new InferenceResultCache<>(
+            ByteSizeValue.parseBytesSizeValue("1mb", "test"),
+            TimeValue.timeValueMinutes(10),
+            RamUsageEstimator::sizeOf
+        );
+    }
+}
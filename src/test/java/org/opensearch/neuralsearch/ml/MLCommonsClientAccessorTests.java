@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
@@ -21,6 +22,8 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.ml.common.input.MLInput;
@@ -30,7 +33,9 @@ import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.neuralsearch.constants.TestCommonConstants;
+import org.opensearch.neuralsearch.util.RetryUtil;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.NodeNotConnectedException;
 
 public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
@@ -390,6 +395,129 @@ public class MLCommonsClientAccessorTests extends OpenSearchTestCase {
         Mockito.verify(singleSentenceResultListener).onFailure(nodeNodeConnectedException);
     }
 
+    public void testInferenceSentence_whenRequestCoalescingEnabled_thenSingleBatchedPredict() {
+        accessor.setRequestCoalescer(
+            new InferenceRequestCoalescer(mock(ThreadPool.class), TimeValue.timeValueHours(1), 2, Set.of(TestCommonConstants.MODEL_ID))
+        );
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(createManyModelTensorOutputs(new Float[] { 1.0f, 2.0f }));
+            return null;
+        }).when(client).predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        final ActionListener<List<Float>> secondResultListener = mock(ActionListener.class);
+
+        accessor.inferenceSentence(TestCommonConstants.MODEL_ID, "first sentence", singleSentenceResultListener);
+        Mockito.verifyNoInteractions(client);
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, Map.of("inputText", "second sentence"), secondResultListener);
+
+        Mockito.verify(client, times(1))
+            .predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        Mockito.verify(singleSentenceResultListener).onResponse(List.of(1.0f));
+        Mockito.verify(secondResultListener).onResponse(List.of(2.0f));
+        Mockito.verifyNoMoreInteractions(singleSentenceResultListener, secondResultListener);
+    }
+
+    public void testInferenceSentence_whenRequestCoalescingEnabled_thenIngestAndSearchNotBatchedTogether() {
+        accessor.setRequestCoalescer(
+            new InferenceRequestCoalescer(mock(ThreadPool.class), TimeValue.timeValueHours(1), 2, Set.of(TestCommonConstants.MODEL_ID))
+        );
+        final MLCommonsClientAccessor searchAccessor = accessor.forRequestType(InferenceRequestLimiter.RequestType.SEARCH);
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(createManyModelTensorOutputs(new Float[] { 1.0f, 2.0f }));
+            return null;
+        }).when(client).predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        final ActionListener<List<Float>> ingestResultListener = mock(ActionListener.class);
+        final ActionListener<List<Float>> secondSearchResultListener = mock(ActionListener.class);
+
+        accessor.inferenceSentence(TestCommonConstants.MODEL_ID, "ingest sentence", ingestResultListener);
+        searchAccessor.inferenceSentence(TestCommonConstants.MODEL_ID, "first search sentence", singleSentenceResultListener);
+        Mockito.verifyNoInteractions(client);
+        searchAccessor.inferenceSentence(TestCommonConstants.MODEL_ID, "second search sentence", secondSearchResultListener);
+
+        Mockito.verify(client, times(1))
+            .predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        Mockito.verify(singleSentenceResultListener).onResponse(List.of(1.0f));
+        Mockito.verify(secondSearchResultListener).onResponse(List.of(2.0f));
+        Mockito.verifyNoInteractions(ingestResultListener);
+    }
+
+    public void testInferenceSentences_whenSearchLimitReached_thenSearchRequestRejected() {
+        accessor.setRequestLimiter(
+            new InferenceRequestLimiter(new InferenceRequestLimiter.Limits(0, 0), new InferenceRequestLimiter.Limits(1, 0), Runnable::run)
+        );
+        final MLCommonsClientAccessor searchAccessor = accessor.forRequestType(InferenceRequestLimiter.RequestType.SEARCH);
+        assertEquals(InferenceRequestLimiter.RequestType.INGEST, accessor.getRequestType());
+        assertEquals(InferenceRequestLimiter.RequestType.SEARCH, searchAccessor.getRequestType());
+        final ActionListener<List<List<Float>>> rejectedListener = mock(ActionListener.class);
+
+        // predict never completes, so the first search request keeps its permit
+        searchAccessor.inferenceSentences(TestCommonConstants.MODEL_ID, TestCommonConstants.SENTENCES_LIST, resultListener);
+        searchAccessor.inferenceSentences(TestCommonConstants.MODEL_ID, TestCommonConstants.SENTENCES_LIST, rejectedListener);
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, TestCommonConstants.SENTENCES_LIST, resultListener);
+
+        Mockito.verify(client, times(2))
+            .predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        Mockito.verify(rejectedListener).onFailure(Mockito.isA(OpenSearchRejectedExecutionException.class));
+        Mockito.verifyNoInteractions(resultListener);
+    }
+
+    public void testInferenceSentences_whenRetryBackoffSet_thenRetryScheduledOnThreadPool() {
+        final NodeNotConnectedException nodeNotConnectedException = new NodeNotConnectedException(
+            mock(DiscoveryNode.class),
+            "Node not connected"
+        );
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onFailure(nodeNotConnectedException);
+            return null;
+        }).when(client).predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        final ThreadPool threadPool = mock(ThreadPool.class);
+        accessor.setRetryBackoff(
+            threadPool,
+            new RetryUtil.BackoffPolicy(1, TimeValue.timeValueMillis(100), TimeValue.timeValueMillis(1000))
+        );
+
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, TestCommonConstants.SENTENCES_LIST, resultListener);
+
+        final ArgumentCaptor<Runnable> retryCaptor = ArgumentCaptor.forClass(Runnable.class);
+        final ArgumentCaptor<TimeValue> delayCaptor = ArgumentCaptor.forClass(TimeValue.class);
+        Mockito.verify(threadPool).schedule(retryCaptor.capture(), delayCaptor.capture(), Mockito.eq(ThreadPool.Names.GENERIC));
+        assertTrue(delayCaptor.getValue().millis() >= 50 && delayCaptor.getValue().millis() <= 100);
+        Mockito.verify(client, times(1))
+            .predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        Mockito.verifyNoInteractions(resultListener);
+
+        retryCaptor.getValue().run();
+        Mockito.verify(client, times(2))
+            .predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        Mockito.verify(resultListener).onFailure(nodeNotConnectedException);
+    }
+
+    public void testInferenceSentences_whenCircuitBreakerOpen_thenFailFast() {
+        final IllegalStateException exception = new IllegalStateException("model failed");
+        Mockito.doAnswer(invocation -> {
+            final ActionListener<MLOutput> actionListener = invocation.getArgument(2);
+            actionListener.onFailure(exception);
+            return null;
+        }).when(client).predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        final InferenceCircuitBreaker circuitBreaker = new InferenceCircuitBreaker(2, TimeValue.timeValueMinutes(1), 1);
+        accessor.setCircuitBreaker(circuitBreaker);
+        final ActionListener<List<List<Float>>> fastFailedListener = mock(ActionListener.class);
+
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, TestCommonConstants.SENTENCES_LIST, resultListener);
+        accessor.inferenceSentences(TestCommonConstants.MODEL_ID, TestCommonConstants.SENTENCES_LIST, resultListener);
+        accessor.forRequestType(InferenceRequestLimiter.RequestType.SEARCH)
+            .inferenceSentences(TestCommonConstants.MODEL_ID, TestCommonConstants.SENTENCES_LIST, fastFailedListener);
+
+        Mockito.verify(client, times(2))
+            .predict(Mockito.eq(TestCommonConstants.MODEL_ID), Mockito.isA(MLInput.class), Mockito.isA(ActionListener.class));
+        Mockito.verify(resultListener, times(2)).onFailure(exception);
+        Mockito.verify(fastFailedListener).onFailure(Mockito.isA(OpenSearchRejectedExecutionException.class));
+        assertEquals(InferenceCircuitBreaker.State.OPEN, accessor.getCircuitBreaker().getState(TestCommonConstants.MODEL_ID));
+        assertEquals(1, circuitBreaker.getFastFailedCount());
+    }
+
     private ModelTensorOutput createModelTensorOutput(final Float[] output) {
         final List<ModelTensors> tensorsList = new ArrayList<>();
         final List<ModelTensor> mlModelTensorList = new ArrayList<>();
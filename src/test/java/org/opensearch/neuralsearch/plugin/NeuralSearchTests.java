@@ -4,9 +4,14 @@
  */
 package org.opensearch.neuralsearch.plugin;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.neuralsearch.settings.NeuralSearchSettings.INFERENCE_STATS_LOG_INTERVAL;
 
 import java.util.Collection;
 import java.util.List;
@@ -19,6 +24,7 @@ import org.mockito.MockitoAnnotations;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.env.Environment;
 import org.opensearch.indices.IndicesService;
@@ -72,6 +78,7 @@ public class NeuralSearchTests extends OpenSearchQueryTestCase {
         searchParameters = new SearchPipelinePlugin.Parameters(null, null, null, null, null, null, searchPipelineService, null, null, null);
         ingestParameters = new Processor.Parameters(null, null, null, null, null, null, ingestService, null, null, null);
         when(threadPool.executor(anyString())).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        when(clusterService.getSettings()).thenReturn(Settings.EMPTY);
     }
 
     public void testCreateComponents() {
@@ -94,6 +101,23 @@ public class NeuralSearchTests extends OpenSearchQueryTestCase {
         assertEquals(1, components.size());
     }
 
+    public void testCreateComponents_whenStatsLogIntervalSet_thenStatsLoggingScheduled() {
+        when(clusterService.getSettings()).thenReturn(
+            Settings.builder().put(INFERENCE_STATS_LOG_INTERVAL.getKey(), TimeValue.timeValueMinutes(1)).build()
+        );
+        plugin.getProcessors(ingestParameters);
+        plugin.createComponents(null, clusterService, threadPool, null, null, null, null, null, null, null, null);
+
+        verify(threadPool).scheduleWithFixedDelay(any(Runnable.class), eq(TimeValue.timeValueMinutes(1)), eq(ThreadPool.Names.GENERIC));
+    }
+
+    public void testCreateComponents_whenStatsLogIntervalNotSet_thenStatsLoggingNotScheduled() {
+        plugin.getProcessors(ingestParameters);
+        plugin.createComponents(null, clusterService, threadPool, null, null, null, null, null, null, null, null);
+
+        verify(threadPool, never()).scheduleWithFixedDelay(any(Runnable.class), any(TimeValue.class), anyString());
+    }
+
     public void testQuerySpecs() {
         List<SearchPlugin.QuerySpec<?>> querySpecs = plugin.getQueries();
 
@@ -154,7 +178,7 @@ public class NeuralSearchTests extends OpenSearchQueryTestCase {
     public void testGetSettings() {
         List<Setting<?>> settings = plugin.getSettings();
 
-        assertEquals(2, settings.size());
+        assertEquals(26, settings.size());
     }
 
     public void testRequestProcessors() {
@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mockito.ArgumentCaptor;
+import org.opensearch.OpenSearchParseException;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.get.MultiGetItemResponse;
+import org.opensearch.action.get.MultiGetRequest;
+import org.opensearch.action.get.MultiGetResponse;
+import org.opensearch.client.Client;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.index.mapper.IndexFieldMapper;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ExistingEmbeddingLookupTests extends OpenSearchTestCase {
+    private static final String TYPE = "text_embedding";
+    private static final String TAG = "tag";
+    private static final String INDEX = "my_index";
+
+    public void testHash() {
+        String hash = ExistingEmbeddingLookup.hash("model_id", "hello world");
+        assertEquals(32, hash.length());
+        assertEquals(hash, ExistingEmbeddingLookup.hash("model_id", "hello world"));
+        assertNotEquals(hash, ExistingEmbeddingLookup.hash("model_id", "hello world!"));
+        assertNotEquals(hash, ExistingEmbeddingLookup.hash("other_model_id", "hello world"));
+    }
+
+    public void testSourceHashField() {
+        assertEquals("passage_embedding_source_hash", ExistingEmbeddingLookup.sourceHashField("passage_embedding"));
+    }
+
+    public void testReadFromConfig() {
+        assertNull(ExistingEmbeddingLookup.readFromConfig(TYPE, TAG, new HashMap<>(), mock(Client.class)));
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(ExistingEmbeddingLookup.REUSE_UNCHANGED_EMBEDDINGS_FIELD, true);
+        assertNotNull(ExistingEmbeddingLookup.readFromConfig(TYPE, TAG, config, mock(Client.class)));
+        assertTrue(config.isEmpty());
+
+        Map<String, Object> configWithoutClient = new HashMap<>();
+        configWithoutClient.put(ExistingEmbeddingLookup.REUSE_UNCHANGED_EMBEDDINGS_FIELD, true);
+        expectThrows(OpenSearchParseException.class, () -> ExistingEmbeddingLookup.readFromConfig(TYPE, TAG, configWithoutClient, null));
+    }
+
+    public void testFetchExistingSources_whenDocumentsHaveIds_thenSingleMultiGet() {
+        Client client = mock(Client.class);
+        doAnswer(invocation -> {
+            MultiGetRequest request = invocation.getArgument(0);
+            assertEquals(2, request.getItems().size());
+            assertEquals("1", request.getItems().get(0).id());
+            assertArrayEquals(
+                new String[] { "embedding", "embedding_source_hash" },
+                request.getItems().get(0).fetchSourceContext().includes()
+            );
+            ActionListener<MultiGetResponse> listener = invocation.getArgument(1);
+            GetResult existing = new GetResult(
+                INDEX,
+                "1",
+                0,
+                1,
+                1,
+                true,
+                new BytesArray("{\"embedding\":[1.0,2.0],\"embedding_source_hash\":\"abc\"}"),
+                Collections.emptyMap(),
+                Collections.emptyMap()
+            );
+            GetResult missing = new GetResult(INDEX, "3", -2, 0, -1, false, null, Collections.emptyMap(), Collections.emptyMap());
+            listener.onResponse(
+                new MultiGetResponse(
+                    new MultiGetItemResponse[] {
+                        new MultiGetItemResponse(new GetResponse(existing), null),
+                        new MultiGetItemResponse(new GetResponse(missing), null) }
+                )
+            );
+            return null;
+        }).when(client).multiGet(any(MultiGetRequest.class), any());
+
+        ExistingEmbeddingLookup lookup = new ExistingEmbeddingLookup(client);
+        ActionListener<List<Map<String, Object>>> listener = mock(ActionListener.class);
+        lookup.fetchExistingSources(
+            List.of(createIngestDocument("1"), createIngestDocument(null), createIngestDocument("3")),
+            List.of("embedding", "embedding_source_hash"),
+            listener
+        );
+
+        ArgumentCaptor<List<Map<String, Object>>> captor = ArgumentCaptor.forClass(List.class);
+        verify(listener).onResponse(captor.capture());
+        List<Map<String, Object>> existingSources = captor.getValue();
+        assertEquals(3, existingSources.size());
+        assertEquals("abc", existingSources.get(0).get("embedding_source_hash"));
+        assertNull(existingSources.get(1));
+        assertNull(existingSources.get(2));
+    }
+
+    public void testFetchExistingSources_whenNoDocumentHasId_thenNoRequest() {
+        Client client = mock(Client.class);
+        ExistingEmbeddingLookup lookup = new ExistingEmbeddingLookup(client);
+        ActionListener<List<Map<String, Object>>> listener = mock(ActionListener.class);
+        lookup.fetchExistingSources(List.of(createIngestDocument(null)), List.of("embedding"), listener);
+
+        verify(client, never()).multiGet(any(MultiGetRequest.class), any());
+        ArgumentCaptor<List<Map<String, Object>>> captor = ArgumentCaptor.forClass(List.class);
+        verify(listener).onResponse(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertNull(captor.getValue().get(0));
+    }
+
+    private IngestDocument createIngestDocument(String id) {
+        Map<String, Object> sourceAndMetadata = new HashMap<>();
+        sourceAndMetadata.put(IndexFieldMapper.NAME, INDEX);
+        if (id != null) {
+            sourceAndMetadata.put(IdFieldMapper.NAME, id);
+        }
+        sourceAndMetadata.put("text", "hello world");
+        return new IngestDocument(sourceAndMetadata, new HashMap<>());
+    }
+}
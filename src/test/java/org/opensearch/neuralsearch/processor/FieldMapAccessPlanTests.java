@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class FieldMapAccessPlanTests extends OpenSearchTestCase {
+
+    public void testExtract_whenPlainFields_thenKeyedByTargetFields() {
+        FieldMapAccessPlan plan = FieldMapAccessPlan.compile(Map.of("title", "title_embedding"));
+
+        Map<String, Object> result = plan.extract(Map.of("title", "hello", "other", "world"));
+
+        assertEquals(Map.of("title_embedding", "hello"), result);
+    }
+
+    public void testExtract_whenSourceFieldMissing_thenNullValue() {
+        FieldMapAccessPlan plan = FieldMapAccessPlan.compile(Map.of("title", "title_embedding"));
+
+        Map<String, Object> result = plan.extract(Map.of("other", "world"));
+
+        assertTrue(result.containsKey("title_embedding"));
+        assertNull(result.get("title_embedding"));
+    }
+
+    public void testExtract_whenDottedKey_thenSameAsNestedFieldMap() {
+        Map<String, Object> source = Map.of("a", Map.of("b", Map.of("c", "hello")));
+        FieldMapAccessPlan dottedPlan = FieldMapAccessPlan.compile(Map.of("a.b.c", "c_embedding"));
+        FieldMapAccessPlan nestedPlan = FieldMapAccessPlan.compile(Map.of("a", Map.of("b", Map.of("c", "c_embedding"))));
+
+        Map<String, Object> expected = Map.of("a", Map.of("b", Map.of("c_embedding", "hello")));
+        assertEquals(expected, dottedPlan.extract(source));
+        assertEquals(expected, nestedPlan.extract(source));
+    }
+
+    public void testExtract_whenNestedKeysShareFirstSegment_thenMerged() {
+        Map<String, Object> nestedFieldMap = new LinkedHashMap<>();
+        nestedFieldMap.put("b.c", "c_embedding");
+        nestedFieldMap.put("b.d", "d_embedding");
+        FieldMapAccessPlan plan = FieldMapAccessPlan.compile(Map.of("a", nestedFieldMap));
+
+        Map<String, Object> result = plan.extract(Map.of("a", Map.of("b", Map.of("c", "hello", "d", "world"))));
+
+        assertEquals(Map.of("a", Map.of("b", Map.of("c_embedding", "hello", "d_embedding", "world"))), result);
+    }
+
+    public void testExtract_whenListOfNestedObjects_thenValuesOfEveryElement() {
+        FieldMapAccessPlan plan = FieldMapAccessPlan.compile(Map.of("passages", Map.of("text", "embedding")));
+        Map<String, Object> source = new HashMap<>();
+        source.put("passages", List.of(Map.of("text", "first"), Map.of("other", "value"), Map.of("text", "third")));
+
+        Map<String, Object> result = plan.extract(source);
+
+        Map<String, Object> nested = (Map<String, Object>) result.get("passages");
+        assertEquals(1, nested.size());
+        assertEquals(Arrays.asList("first", null, "third"), nested.get("embedding"));
+    }
+
+    public void testExtract_whenNestedSourceIsNotObject_thenEmptyMap() {
+        FieldMapAccessPlan plan = FieldMapAccessPlan.compile(Map.of("a", Map.of("b", "b_embedding")));
+
+        assertEquals(Map.of("a", Map.of()), plan.extract(Map.of("a", "hello")));
+        assertEquals(Map.of("a", Map.of()), plan.extract(Map.of()));
+    }
+
+    public void testExtract_whenCalledForManyDocuments_thenPlanReused() {
+        FieldMapAccessPlan plan = FieldMapAccessPlan.compile(Map.of("a.b", "b_embedding"));
+
+        assertEquals(Map.of("a", Map.of("b_embedding", "first")), plan.extract(Map.of("a", Map.of("b", "first"))));
+        assertEquals(Map.of("a", Map.of("b_embedding", "second")), plan.extract(Map.of("a", Map.of("b", "second"))));
+    }
+}
@@ -19,15 +19,19 @@ import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -221,6 +225,215 @@ public class InferenceProcessorTests extends InferenceProcessorTestCase {
         assertEquals(List.of("value4"), processor.getAllInferenceInputs().get(2));
     }
 
+    public void test_batchExecute_splitByMaxTexts() {
+        final int docCount = 2;
+        List<List<Float>> inferenceResults = createMockVectorWithLength(100);
+        TestInferenceProcessor processor = new TestInferenceProcessor(inferenceResults, BATCH_SIZE, null, new SubBatchOptions(2, 0, 1));
+        List<IngestDocumentWrapper> wrapperList = createIngestDocumentWrappers(docCount);
+        wrapperList.get(0).getIngestDocument().setFieldValue("key1", Arrays.asList("aaaaa", "bbb"));
+        wrapperList.get(1).getIngestDocument().setFieldValue("key1", Arrays.asList("cc", "ddd"));
+        Consumer resultHandler = mock(Consumer.class);
+        processor.batchExecute(wrapperList, resultHandler);
+        ArgumentCaptor<List<IngestDocumentWrapper>> captor = ArgumentCaptor.forClass(List.class);
+        verify(resultHandler).accept(captor.capture());
+        assertEquals(docCount, captor.getValue().size());
+        for (int i = 0; i < docCount; ++i) {
+            assertNull(captor.getValue().get(i).getException());
+        }
+        assertEquals(2, processor.getAllInferenceInputs().size());
+        assertEquals(List.of("cc", "bbb"), processor.getAllInferenceInputs().get(0));
+        assertEquals(List.of("ddd", "aaaaa"), processor.getAllInferenceInputs().get(1));
+
+        List<?> doc1Embeddings = (List) (captor.getValue().get(0).getIngestDocument().getFieldValue("embedding_key1", List.class));
+        List<?> doc2Embeddings = (List) (captor.getValue().get(1).getIngestDocument().getFieldValue("embedding_key1", List.class));
+        // every sub batch gets results from the start of inferenceResults
+        assertEquals(inferenceResults.get(1), ((Map) doc1Embeddings.get(0)).get("map_key"));
+        assertEquals(inferenceResults.get(1), ((Map) doc1Embeddings.get(1)).get("map_key"));
+        assertEquals(inferenceResults.get(0), ((Map) doc2Embeddings.get(0)).get("map_key"));
+        assertEquals(inferenceResults.get(0), ((Map) doc2Embeddings.get(1)).get("map_key"));
+    }
+
+    public void test_batchExecute_splitByMaxTokens() {
+        final int docCount = 2;
+        List<List<Float>> inferenceResults = createMockVectorWithLength(100);
+        TestInferenceProcessor processor = new TestInferenceProcessor(inferenceResults, BATCH_SIZE, null, new SubBatchOptions(0, 2, 2));
+        List<IngestDocumentWrapper> wrapperList = createIngestDocumentWrappers(docCount);
+        wrapperList.get(0).getIngestDocument().setFieldValue("key1", Arrays.asList("aaaaaaaaaaaa", "bbb"));
+        wrapperList.get(1).getIngestDocument().setFieldValue("key1", Arrays.asList("cc", "ddd"));
+        Consumer resultHandler = mock(Consumer.class);
+        processor.batchExecute(wrapperList, resultHandler);
+        ArgumentCaptor<List<IngestDocumentWrapper>> captor = ArgumentCaptor.forClass(List.class);
+        verify(resultHandler).accept(captor.capture());
+        for (int i = 0; i < docCount; ++i) {
+            assertNull(captor.getValue().get(i).getException());
+        }
+        // text exceeding the token budget is sent alone
+        assertEquals(3, processor.getAllInferenceInputs().size());
+        assertEquals(List.of("cc", "bbb"), processor.getAllInferenceInputs().get(0));
+        assertEquals(List.of("ddd"), processor.getAllInferenceInputs().get(1));
+        assertEquals(List.of("aaaaaaaaaaaa"), processor.getAllInferenceInputs().get(2));
+    }
+
+    public void test_batchExecute_whenSubBatchFails_thenOnlyOwningDocumentsFail() {
+        final int docCount = 3;
+        List<List<Float>> inferenceResults = createMockVectorWithLength(100);
+        TestInferenceProcessor processor = new TestInferenceProcessor(inferenceResults, BATCH_SIZE, null, new SubBatchOptions(1, 0, 2));
+        processor.failingInputs = inputs -> inputs.contains("bb");
+        List<IngestDocumentWrapper> wrapperList = createIngestDocumentWrappers(docCount);
+        wrapperList.get(0).getIngestDocument().setFieldValue("key1", "a");
+        wrapperList.get(1).getIngestDocument().setFieldValue("key1", "bb");
+        wrapperList.get(2).getIngestDocument().setFieldValue("key1", "ccc");
+        Consumer resultHandler = mock(Consumer.class);
+        processor.batchExecute(wrapperList, resultHandler);
+        ArgumentCaptor<List<IngestDocumentWrapper>> captor = ArgumentCaptor.forClass(List.class);
+        verify(resultHandler).accept(captor.capture());
+        assertEquals(docCount, captor.getValue().size());
+        assertEquals(3, processor.getAllInferenceInputs().size());
+        assertNull(captor.getValue().get(0).getException());
+        assertEquals("sub batch failed", captor.getValue().get(1).getException().getMessage());
+        assertNull(captor.getValue().get(2).getException());
+        assertEquals(inferenceResults.get(0), captor.getValue().get(0).getIngestDocument().getFieldValue("embedding_key1", List.class));
+        assertFalse(captor.getValue().get(1).getIngestDocument().hasField("embedding_key1"));
+        assertEquals(inferenceResults.get(0), captor.getValue().get(2).getIngestDocument().getFieldValue("embedding_key1", List.class));
+    }
+
+    public void test_batchExecute_whenDuplicatedTexts_thenInferenceOncePerText() {
+        final int docCount = 3;
+        List<List<Float>> inferenceResults = createMockVectorWithLength(2);
+        TestInferenceProcessor processor = new TestInferenceProcessor(inferenceResults, BATCH_SIZE, null);
+        List<IngestDocumentWrapper> wrapperList = createIngestDocumentWrappers(docCount);
+        wrapperList.get(0).getIngestDocument().setFieldValue("key1", Arrays.asList("title", "body1"));
+        wrapperList.get(1).getIngestDocument().setFieldValue("key1", Arrays.asList("title", "title"));
+        wrapperList.get(2).getIngestDocument().setFieldValue("key1", Arrays.asList("body1", "title"));
+        Consumer resultHandler = mock(Consumer.class);
+        processor.batchExecute(wrapperList, resultHandler);
+        ArgumentCaptor<List<IngestDocumentWrapper>> captor = ArgumentCaptor.forClass(List.class);
+        verify(resultHandler).accept(captor.capture());
+        for (int i = 0; i < docCount; ++i) {
+            assertNull(captor.getValue().get(i).getException());
+        }
+        assertEquals(1, processor.getAllInferenceInputs().size());
+        assertEquals(List.of("title", "body1"), processor.getAllInferenceInputs().get(0));
+        assertEquals(6, processor.getInferenceTextCount());
+        assertEquals(4, processor.getDeduplicatedInferenceTextCount());
+
+        List<?> doc1Embeddings = (List) (captor.getValue().get(0).getIngestDocument().getFieldValue("embedding_key1", List.class));
+        List<?> doc2Embeddings = (List) (captor.getValue().get(1).getIngestDocument().getFieldValue("embedding_key1", List.class));
+        List<?> doc3Embeddings = (List) (captor.getValue().get(2).getIngestDocument().getFieldValue("embedding_key1", List.class));
+        assertEquals(inferenceResults.get(0), ((Map) doc1Embeddings.get(0)).get("map_key"));
+        assertEquals(inferenceResults.get(1), ((Map) doc1Embeddings.get(1)).get("map_key"));
+        assertEquals(inferenceResults.get(0), ((Map) doc2Embeddings.get(0)).get("map_key"));
+        assertEquals(inferenceResults.get(0), ((Map) doc2Embeddings.get(1)).get("map_key"));
+        assertEquals(inferenceResults.get(1), ((Map) doc3Embeddings.get(0)).get("map_key"));
+        assertEquals(inferenceResults.get(0), ((Map) doc3Embeddings.get(1)).get("map_key"));
+        // documents don't share mutable results
+        assertNotSame(((Map) doc1Embeddings.get(0)).get("map_key"), ((Map) doc2Embeddings.get(0)).get("map_key"));
+    }
+
+    public void test_batchExecute_whenDuplicatedTextFailsInSubBatch_thenAllOwningDocumentsFail() {
+        final int docCount = 3;
+        List<List<Float>> inferenceResults = createMockVectorWithLength(100);
+        TestInferenceProcessor processor = new TestInferenceProcessor(inferenceResults, BATCH_SIZE, null, new SubBatchOptions(1, 0, 1));
+        processor.failingInputs = inputs -> inputs.contains("bb");
+        List<IngestDocumentWrapper> wrapperList = createIngestDocumentWrappers(docCount);
+        wrapperList.get(0).getIngestDocument().setFieldValue("key1", "bb");
+        wrapperList.get(1).getIngestDocument().setFieldValue("key1", "a");
+        wrapperList.get(2).getIngestDocument().setFieldValue("key1", "bb");
+        Consumer resultHandler = mock(Consumer.class);
+        processor.batchExecute(wrapperList, resultHandler);
+        ArgumentCaptor<List<IngestDocumentWrapper>> captor = ArgumentCaptor.forClass(List.class);
+        verify(resultHandler).accept(captor.capture());
+        assertEquals(2, processor.getAllInferenceInputs().size());
+        assertNotNull(captor.getValue().get(0).getException());
+        assertNull(captor.getValue().get(1).getException());
+        assertNotNull(captor.getValue().get(2).getException());
+    }
+
+    public void test_batchExecute_whenSourceTextUnchanged_thenExistingEmbeddingReused() {
+        final int docCount = 2;
+        List<List<Float>> inferenceResults = createMockVectorWithLength(100);
+        ExistingEmbeddingLookup existingEmbeddingLookup = mock(ExistingEmbeddingLookup.class);
+        List<Double> existingEmbedding = List.of(0.5d, 0.25d);
+        doAnswer(invocation -> {
+            List<IngestDocument> ingestDocuments = invocation.getArgument(0);
+            assertEquals(docCount, ingestDocuments.size());
+            assertEquals(
+                Set.of("embedding_key1", "embedding_key1_source_hash", "embedding_key2", "embedding_key2_source_hash"),
+                new HashSet<>(invocation.getArgument(1))
+            );
+            ActionListener<List<Map<String, Object>>> listener = invocation.getArgument(2);
+            Map<String, Object> unchangedSource = Map.of(
+                "embedding_key1",
+                existingEmbedding,
+                "embedding_key1_source_hash",
+                ExistingEmbeddingLookup.hash(MODEL_ID, "unchanged text")
+            );
+            listener.onResponse(Arrays.asList(unchangedSource, null));
+            return null;
+        }).when(existingEmbeddingLookup).fetchExistingSources(anyList(), anyList(), any());
+        TestInferenceProcessor processor = new TestInferenceProcessor(
+            inferenceResults,
+            BATCH_SIZE,
+            null,
+            SubBatchOptions.DEFAULT,
+            existingEmbeddingLookup
+        );
+        List<IngestDocumentWrapper> wrapperList = createIngestDocumentWrappers(docCount);
+        wrapperList.get(0).getIngestDocument().setFieldValue("key1", "unchanged text");
+        wrapperList.get(0).getIngestDocument().setFieldValue("key2", "changed text");
+        wrapperList.get(1).getIngestDocument().setFieldValue("key1", "unchanged text");
+        Consumer resultHandler = mock(Consumer.class);
+        processor.batchExecute(wrapperList, resultHandler);
+        ArgumentCaptor<List<IngestDocumentWrapper>> captor = ArgumentCaptor.forClass(List.class);
+        verify(resultHandler).accept(captor.capture());
+
+        // second document isn't indexed yet, so its text is still sent for inference
+        assertEquals(1, processor.getAllInferenceInputs().size());
+        assertEquals(List.of("changed text", "unchanged text"), processor.getAllInferenceInputs().get(0));
+        assertEquals(1, processor.getReusedInferenceResultCount());
+        IngestDocument firstDocument = captor.getValue().get(0).getIngestDocument();
+        assertEquals(existingEmbedding, firstDocument.getFieldValue("embedding_key1", List.class));
+        assertEquals(inferenceResults.get(0), firstDocument.getFieldValue("embedding_key2", List.class));
+        assertEquals(
+            ExistingEmbeddingLookup.hash(MODEL_ID, "changed text"),
+            firstDocument.getFieldValue("embedding_key2_source_hash", String.class)
+        );
+        IngestDocument secondDocument = captor.getValue().get(1).getIngestDocument();
+        assertEquals(inferenceResults.get(1), secondDocument.getFieldValue("embedding_key1", List.class));
+        assertEquals(
+            ExistingEmbeddingLookup.hash(MODEL_ID, "unchanged text"),
+            secondDocument.getFieldValue("embedding_key1_source_hash", String.class)
+        );
+    }
+
+    public void test_batchExecute_whenExistingDocumentsLookupFails_thenAllTextsInferred() {
+        final int docCount = 2;
+        List<List<Float>> inferenceResults = createMockVectorWithLength(100);
+        ExistingEmbeddingLookup existingEmbeddingLookup = mock(ExistingEmbeddingLookup.class);
+        doAnswer(invocation -> {
+            ActionListener<List<Map<String, Object>>> listener = invocation.getArgument(2);
+            listener.onFailure(new RuntimeException("index not found"));
+            return null;
+        }).when(existingEmbeddingLookup).fetchExistingSources(anyList(), anyList(), any());
+        TestInferenceProcessor processor = new TestInferenceProcessor(
+            inferenceResults,
+            BATCH_SIZE,
+            null,
+            SubBatchOptions.DEFAULT,
+            existingEmbeddingLookup
+        );
+        List<IngestDocumentWrapper> wrapperList = createIngestDocumentWrappers(docCount);
+        Consumer resultHandler = mock(Consumer.class);
+        processor.batchExecute(wrapperList, resultHandler);
+        ArgumentCaptor<List<IngestDocumentWrapper>> captor = ArgumentCaptor.forClass(List.class);
+        verify(resultHandler).accept(captor.capture());
+        for (int i = 0; i < docCount; ++i) {
+            assertNull(captor.getValue().get(i).getException());
+        }
+        assertEquals(1, processor.getAllInferenceInputs().size());
+        assertEquals(0, processor.getReusedInferenceResultCount());
+    }
+
     private class TestInferenceProcessor extends InferenceProcessor {
         List<?> vectors;
         Exception exception;
@@ -228,8 +441,37 @@ public class InferenceProcessorTests extends InferenceProcessorTestCase {
         @Getter
         List<List<String>> allInferenceInputs = new ArrayList<>();
 
+        Predicate<List<String>> failingInputs = inputs -> false;
+
         public TestInferenceProcessor(List<?> vectors, int batchSize, Exception exception) {
-            super(TAG, DESCRIPTION, batchSize, TYPE, MAP_KEY, MODEL_ID, FIELD_MAP, clientAccessor, environment, clusterService);
+            this(vectors, batchSize, exception, SubBatchOptions.DEFAULT);
+        }
+
+        public TestInferenceProcessor(List<?> vectors, int batchSize, Exception exception, SubBatchOptions subBatchOptions) {
+            this(vectors, batchSize, exception, subBatchOptions, null);
+        }
+
+        public TestInferenceProcessor(
+            List<?> vectors,
+            int batchSize,
+            Exception exception,
+            SubBatchOptions subBatchOptions,
+            ExistingEmbeddingLookup existingEmbeddingLookup
+        ) {
+            super(
+                TAG,
+                DESCRIPTION,
+                batchSize,
+                TYPE,
+                MAP_KEY,
+                MODEL_ID,
+                FIELD_MAP,
+                clientAccessor,
+                environment,
+                clusterService,
+                subBatchOptions,
+                existingEmbeddingLookup
+            );
             this.vectors = vectors;
             this.exception = exception;
         }
@@ -249,6 +491,8 @@ public class InferenceProcessorTests extends InferenceProcessorTestCase {
             allInferenceInputs.add(inferenceList);
             if (this.exception != null) {
                 onException.accept(this.exception);
+            } else if (failingInputs.test(inferenceList)) {
+                onException.accept(new RuntimeException("sub batch failed"));
             } else {
                 handler.accept(this.vectors);
             }
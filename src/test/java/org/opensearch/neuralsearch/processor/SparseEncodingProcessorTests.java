@@ -33,6 +33,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.opensearch.OpenSearchParseException;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
@@ -59,6 +61,9 @@ public class SparseEncodingProcessorTests extends InferenceProcessorTestCase {
 
     private ClusterService clusterService = mock(ClusterService.class, RETURNS_DEEP_STUBS);
 
+    @Spy
+    private SparsePruningStats sparsePruningStats = new SparsePruningStats();
+
     @InjectMocks
     private SparseEncodingProcessorFactory sparseEncodingProcessorFactory;
     private static final String PROCESSOR_TAG = "mockTag";
@@ -239,6 +244,31 @@ public class SparseEncodingProcessorTests extends InferenceProcessorTestCase {
         }
     }
 
+    public void testExecute_whenFieldWritten_thenLaterProcessorCanRemoveToken() {
+        Map<String, Object> sourceAndMetadata = new HashMap<>();
+        sourceAndMetadata.put(IndexFieldMapper.NAME, "my_index");
+        sourceAndMetadata.put("key1", "value1");
+        sourceAndMetadata.put("key2", "value2");
+        IngestDocument ingestDocument = new IngestDocument(sourceAndMetadata, new HashMap<>());
+        SparseEncodingProcessor processor = createInstance();
+        List<Map<String, ?>> dataAsMapList = Collections.singletonList(
+            Map.of("response", List.of(Map.of("hello", 1.0f, "world", 0.1f), Map.of("hello", 1.0f, "world", 0.1f)))
+        );
+        doAnswer(invocation -> {
+            ActionListener<List<Map<String, ?>>> listener = invocation.getArgument(2);
+            listener.onResponse(dataAsMapList);
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentencesWithMapResult(anyString(), anyList(), isA(ActionListener.class));
+
+        BiConsumer handler = mock(BiConsumer.class);
+        processor.execute(ingestDocument, handler);
+
+        verify(handler).accept(any(IngestDocument.class), isNull());
+        ingestDocument.removeField("key1Mapped.world");
+        assertEquals(Map.of("hello", 1.0f), ingestDocument.getSourceAndMetadata().get("key1Mapped"));
+        assertEquals(Map.of("hello", 1.0f, "world", 0.1f), ingestDocument.getSourceAndMetadata().get("key2Mapped"));
+    }
+
     public void test_batchExecute_exception() {
         final int docCount = 5;
         List<IngestDocumentWrapper> ingestDocumentWrappers = createIngestDocumentWrappers(docCount);
@@ -260,6 +290,56 @@ public class SparseEncodingProcessorTests extends InferenceProcessorTestCase {
         }
     }
 
+    @SneakyThrows
+    public void testExecute_withPruneType_thenFeaturesPrunedAndCounted() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(SparseEncodingProcessor.MODEL_ID_FIELD, "mockModelId");
+        config.put(SparseEncodingProcessor.FIELD_MAP_FIELD, ImmutableMap.of("key1", "key1Mapped"));
+        config.put(SparsePruningOptions.PRUNE_TYPE_FIELD, "top_k");
+        config.put(SparsePruningOptions.PRUNE_RATIO_FIELD, 1);
+        SparseEncodingProcessor processor = (SparseEncodingProcessor) sparseEncodingProcessorFactory.create(
+            new HashMap<>(),
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            config
+        );
+        Map<String, Object> sourceAndMetadata = new HashMap<>();
+        sourceAndMetadata.put(IndexFieldMapper.NAME, "my_index");
+        sourceAndMetadata.put("key1", "value1");
+        IngestDocument ingestDocument = new IngestDocument(sourceAndMetadata, new HashMap<>());
+        List<Map<String, ?>> dataAsMapList = Collections.singletonList(
+            Map.of("response", List.of(Map.of("hello", 1.0f, "world", 0.1f, "foo", 0.01f)))
+        );
+        doAnswer(invocation -> {
+            ActionListener<List<Map<String, ?>>> listener = invocation.getArgument(2);
+            listener.onResponse(dataAsMapList);
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentencesWithMapResult(anyString(), anyList(), isA(ActionListener.class));
+
+        BiConsumer handler = mock(BiConsumer.class);
+        processor.execute(ingestDocument, handler);
+
+        verify(handler).accept(any(IngestDocument.class), isNull());
+        assertEquals(Map.of("hello", 1.0f), ingestDocument.getSourceAndMetadata().get("key1Mapped"));
+        // a later processor can change the written field
+        ingestDocument.setFieldValue("key1Mapped.world", 0.5f);
+        assertEquals(Map.of("hello", 1.0f, "world", 0.5f), ingestDocument.getSourceAndMetadata().get("key1Mapped"));
+        assertEquals(3, sparsePruningStats.getTotalFeatureCount());
+        assertEquals(2, sparsePruningStats.getPrunedFeatureCount());
+    }
+
+    public void testCreate_withPruneRatioWithoutPruneType_thenFail() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(SparseEncodingProcessor.MODEL_ID_FIELD, "mockModelId");
+        config.put(SparseEncodingProcessor.FIELD_MAP_FIELD, ImmutableMap.of("key1", "key1Mapped"));
+        config.put(SparsePruningOptions.PRUNE_RATIO_FIELD, 0.1);
+
+        expectThrows(
+            OpenSearchParseException.class,
+            () -> sparseEncodingProcessorFactory.create(new HashMap<>(), PROCESSOR_TAG, DESCRIPTION, config)
+        );
+    }
+
     private List<Map<String, ?>> createMockMapResult(int number) {
         List<Map<String, Float>> mockSparseEncodingResult = new ArrayList<>();
         IntStream.range(0, number).forEachOrdered(x -> mockSparseEncodingResult.add(ImmutableMap.of("hello", 1.0f)));
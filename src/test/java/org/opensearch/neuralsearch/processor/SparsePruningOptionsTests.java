@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.OpenSearchParseException;
+import org.opensearch.neuralsearch.util.SparseVector;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SparsePruningOptionsTests extends OpenSearchTestCase {
+
+    private static final String PROCESSOR_TYPE = SparseEncodingProcessor.TYPE;
+    private static final String PROCESSOR_TAG = "mockTag";
+    private static final SparseVector SPARSE_VECTOR = SparseVector.fromMap(Map.of("a", 4.0f, "b", 3.0f, "c", 2.0f, "d", 1.0f));
+
+    public void testReadFromConfig_whenPruneTypeMissing_thenNone() {
+        SparsePruningOptions options = SparsePruningOptions.readFromConfig(PROCESSOR_TYPE, PROCESSOR_TAG, new HashMap<>());
+
+        assertFalse(options.isEnabled());
+        assertSame(SPARSE_VECTOR, options.prune(SPARSE_VECTOR));
+    }
+
+    public void testReadFromConfig_whenPruneTypeUnknown_thenFail() {
+        Map<String, Object> config = createConfig("unknown", 0.1);
+
+        OpenSearchParseException exception = expectThrows(
+            OpenSearchParseException.class,
+            () -> SparsePruningOptions.readFromConfig(PROCESSOR_TYPE, PROCESSOR_TAG, config)
+        );
+
+        assertTrue(exception.getMessage().contains("Unknown prune type [unknown]"));
+    }
+
+    public void testReadFromConfig_whenPruneRatioInvalid_thenFail() {
+        List<Map<String, Object>> configs = List.of(
+            createConfig("top_k", 0),
+            createConfig("top_k", 1.5),
+            createConfig("max_ratio", 1),
+            createConfig("alpha_mass", -0.1),
+            createConfig("abs_value", -1)
+        );
+        for (Map<String, Object> config : configs) {
+            expectThrows(OpenSearchParseException.class, () -> SparsePruningOptions.readFromConfig(PROCESSOR_TYPE, PROCESSOR_TAG, config));
+        }
+    }
+
+    public void testReadFromConfig_whenPruneRatioMissing_thenFail() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(SparsePruningOptions.PRUNE_TYPE_FIELD, "top_k");
+
+        expectThrows(OpenSearchParseException.class, () -> SparsePruningOptions.readFromConfig(PROCESSOR_TYPE, PROCESSOR_TAG, config));
+    }
+
+    public void testPrune_whenTopK_thenHighestWeightsKept() {
+        SparsePruningOptions options = SparsePruningOptions.readFromConfig(PROCESSOR_TYPE, PROCESSOR_TAG, createConfig("top_k", 2));
+
+        assertEquals(Map.of("a", 4.0f, "b", 3.0f), options.prune(SPARSE_VECTOR).asMap());
+    }
+
+    public void testPrune_whenMaxRatio_thenWeightsAboveRatioOfMaxKept() {
+        SparsePruningOptions options = SparsePruningOptions.readFromConfig(PROCESSOR_TYPE, PROCESSOR_TAG, createConfig("max_ratio", 0.5));
+
+        assertEquals(Map.of("a", 4.0f, "b", 3.0f, "c", 2.0f), options.prune(SPARSE_VECTOR).asMap());
+    }
+
+    public void testPrune_whenMaxRatio_thenSameTokensAsTwoPhaseHighScoreTokens() {
+        SparsePruningOptions options = SparsePruningOptions.readFromConfig(PROCESSOR_TYPE, PROCESSOR_TAG, createConfig("max_ratio", 0.4));
+        Map<String, Float> queryTokens = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            queryTokens.put(String.valueOf(i), (float) i);
+        }
+
+        Map<String, Float> highScoreTokens = NeuralSparseTwoPhaseProcessor.splitQueryTokensByRatioedMaxScoreAsThreshold(queryTokens, 0.4f)
+            .v1();
+
+        assertEquals(highScoreTokens, options.prune(SparseVector.fromMap(queryTokens)).asMap());
+    }
+
+    public void testPrune_whenAbsValue_thenWeightsAboveThresholdKept() {
+        SparsePruningOptions options = SparsePruningOptions.readFromConfig(PROCESSOR_TYPE, PROCESSOR_TAG, createConfig("abs_value", 2.5));
+
+        assertEquals(Map.of("a", 4.0f, "b", 3.0f), options.prune(SPARSE_VECTOR).asMap());
+    }
+
+    public void testPrune_whenAlphaMass_thenHighestWeightsUpToMassKept() {
+        SparsePruningOptions options = SparsePruningOptions.readFromConfig(PROCESSOR_TYPE, PROCESSOR_TAG, createConfig("alpha_mass", 0.6));
+
+        // total weight is 10, a and b reach 7 >= 6
+        assertEquals(Map.of("a", 4.0f, "b", 3.0f), options.prune(SPARSE_VECTOR).asMap());
+    }
+
+    public void testPrune_whenTopKTiesWithKthWeight_thenExactlyKKept() {
+        SparsePruningOptions options = SparsePruningOptions.readFromConfig(PROCESSOR_TYPE, PROCESSOR_TAG, createConfig("top_k", 2));
+        SparseVector sparseVector = SparseVector.fromMap(Map.of("a", 1.0f, "b", 2.0f, "c", 2.0f, "d", 2.0f));
+
+        // ties with the k-th highest weight are kept in token order
+        assertEquals(Map.of("b", 2.0f, "c", 2.0f), options.prune(sparseVector).asMap());
+    }
+
+    public void testPrune_whenAllFeaturesKept_thenSameVector() {
+        SparsePruningOptions options = SparsePruningOptions.readFromConfig(PROCESSOR_TYPE, PROCESSOR_TAG, createConfig("top_k", 4));
+
+        assertSame(SPARSE_VECTOR, options.prune(SPARSE_VECTOR));
+    }
+
+    private static Map<String, Object> createConfig(final String pruneType, final Number pruneRatio) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(SparsePruningOptions.PRUNE_TYPE_FIELD, pruneType);
+        config.put(SparsePruningOptions.PRUNE_RATIO_FIELD, pruneRatio);
+        return config;
+    }
+}
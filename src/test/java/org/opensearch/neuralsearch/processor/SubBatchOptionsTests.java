@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.opensearch.OpenSearchParseException;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SubBatchOptionsTests extends OpenSearchTestCase {
+    private static final String TYPE = "text_embedding";
+    private static final String TAG = "tag";
+
+    public void testReadFromConfig_whenOptionsMissing_thenDefaults() {
+        SubBatchOptions options = SubBatchOptions.readFromConfig(TYPE, TAG, new HashMap<>());
+        assertEquals(0, options.getMaxTexts());
+        assertEquals(0, options.getMaxTokens());
+        assertEquals(1, options.getMaxConcurrency());
+    }
+
+    public void testReadFromConfig_whenOptionsSet_thenParsed() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(SubBatchOptions.MAX_TEXTS_FIELD, 16);
+        config.put(SubBatchOptions.MAX_TOKENS_FIELD, "4096");
+        config.put(SubBatchOptions.MAX_CONCURRENCY_FIELD, 4);
+        SubBatchOptions options = SubBatchOptions.readFromConfig(TYPE, TAG, config);
+        assertEquals(16, options.getMaxTexts());
+        assertEquals(4096, options.getMaxTokens());
+        assertEquals(4, options.getMaxConcurrency());
+        assertTrue(config.isEmpty());
+    }
+
+    public void testReadFromConfig_whenInvalidValues_thenFail() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(SubBatchOptions.MAX_TEXTS_FIELD, -1);
+        expectThrows(OpenSearchParseException.class, () -> SubBatchOptions.readFromConfig(TYPE, TAG, config));
+
+        Map<String, Object> concurrencyConfig = new HashMap<>();
+        concurrencyConfig.put(SubBatchOptions.MAX_CONCURRENCY_FIELD, 0);
+        expectThrows(OpenSearchParseException.class, () -> SubBatchOptions.readFromConfig(TYPE, TAG, concurrencyConfig));
+    }
+
+    public void testFits() {
+        SubBatchOptions options = new SubBatchOptions(2, 10, 1);
+        assertTrue(options.fits(0, 0, 100));
+        assertTrue(options.fits(1, 5, 5));
+        assertFalse(options.fits(1, 5, 6));
+        assertFalse(options.fits(2, 2, 1));
+        assertTrue(SubBatchOptions.DEFAULT.fits(1000, 100000, 1000));
+    }
+
+    public void testEstimateTokenCount() {
+        assertEquals(1, SubBatchOptions.estimateTokenCount(""));
+        assertEquals(1, SubBatchOptions.estimateTokenCount("abcd"));
+        assertEquals(2, SubBatchOptions.estimateTokenCount("abcde"));
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.env.Environment;
+import org.opensearch.index.mapper.IndexFieldMapper;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.processor.chunker.DelimiterChunker;
+import org.opensearch.neuralsearch.processor.factory.TextChunkingEmbeddingProcessorFactory;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TextChunkingEmbeddingProcessorTests extends OpenSearchTestCase {
+
+    private static final String MODEL_ID = "mockModelId";
+    private static final String INPUT_FIELD = "body";
+    private static final String OUTPUT_FIELD = "body_chunk";
+    private static final String INDEX_NAME = "_index";
+
+    private MLCommonsClientAccessor mlCommonsClientAccessor;
+    private TextChunkingEmbeddingProcessorFactory factory;
+
+    @Before
+    public void setup() {
+        mlCommonsClientAccessor = mock(MLCommonsClientAccessor.class);
+        Environment environment = mock(Environment.class);
+        when(environment.settings()).thenReturn(Settings.builder().put("index.analyze.max_token_count", 10000).build());
+        ClusterService clusterService = mock(ClusterService.class);
+        ClusterState clusterState = mock(ClusterState.class);
+        Metadata metadata = mock(Metadata.class);
+        when(metadata.index(anyString())).thenReturn(null);
+        when(clusterState.metadata()).thenReturn(metadata);
+        when(clusterService.state()).thenReturn(clusterState);
+        factory = new TextChunkingEmbeddingProcessorFactory(mlCommonsClientAccessor, environment, clusterService, null);
+    }
+
+    public void testCreate_whenInferenceBatchSizeNotPositive_thenFail() {
+        Map<String, Object> config = createConfig(0);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> factory.create(null, "tag", null, config));
+
+        assertEquals("Parameter [inference_batch_size] must be a positive integer", exception.getMessage());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenPassagesExceedBatchSize_thenBatchesSentWhileChunkingAndEmbeddingsWritten() throws Exception {
+        TextChunkingEmbeddingProcessor processor = factory.create(null, "tag", null, createConfig(2));
+        IngestDocument ingestDocument = createIngestDocument("a.b.c.d.e.");
+        BiConsumer<IngestDocument, Exception> handler = mock(BiConsumer.class);
+
+        processor.execute(ingestDocument, handler);
+
+        ArgumentCaptor<List<String>> passagesCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<ActionListener<List<List<Float>>>> listenerCaptor = ArgumentCaptor.forClass(ActionListener.class);
+        verify(mlCommonsClientAccessor, times(3)).inferenceSentences(eq(MODEL_ID), passagesCaptor.capture(), listenerCaptor.capture());
+        assertEquals(List.of(List.of("a.", "b."), List.of("c.", "d."), List.of("e.")), passagesCaptor.getAllValues());
+
+        List<ActionListener<List<List<Float>>>> listeners = listenerCaptor.getAllValues();
+        listeners.get(0).onResponse(List.of(List.of(1.0f), List.of(2.0f)));
+        listeners.get(2).onResponse(List.of(List.of(5.0f)));
+        verify(handler, never()).accept(isA(IngestDocument.class), eq(null));
+        listeners.get(1).onResponse(List.of(List.of(3.0f), List.of(4.0f)));
+
+        verify(handler).accept(ingestDocument, null);
+        List<Map<String, Object>> chunks = (List<Map<String, Object>>) ingestDocument.getSourceAndMetadata().get(OUTPUT_FIELD);
+        assertEquals(5, chunks.size());
+        assertEquals(Map.of("text", "a.", "knn", List.of(1.0f)), chunks.get(0));
+        assertEquals(Map.of("text", "e.", "knn", List.of(5.0f)), chunks.get(4));
+    }
+
+    public void testCreate_whenMaxConcurrentBatchesNotPositive_thenFail() {
+        Map<String, Object> config = createConfig(2);
+        config.put(TextChunkingEmbeddingProcessor.MAX_CONCURRENT_BATCHES_FIELD, 0);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> factory.create(null, "tag", null, config));
+
+        assertEquals("Parameter [max_concurrent_batches] must be a positive integer", exception.getMessage());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenMaxConcurrentBatchesReached_thenNextBatchSentWhenOneCompletes() throws Exception {
+        Map<String, Object> config = createConfig(1);
+        config.put(TextChunkingEmbeddingProcessor.MAX_CONCURRENT_BATCHES_FIELD, 2);
+        TextChunkingEmbeddingProcessor processor = factory.create(null, "tag", null, config);
+        IngestDocument ingestDocument = createIngestDocument("a.b.c.d.");
+        BiConsumer<IngestDocument, Exception> handler = mock(BiConsumer.class);
+        List<List<String>> sentPassages = new ArrayList<>();
+        List<ActionListener<List<List<Float>>>> listeners = new ArrayList<>();
+        doAnswer(invocation -> {
+            sentPassages.add(invocation.getArgument(1));
+            listeners.add(invocation.getArgument(2));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+
+        processor.execute(ingestDocument, handler);
+
+        assertEquals(List.of(List.of("a."), List.of("b.")), sentPassages);
+        listeners.get(1).onResponse(List.of(List.of(2.0f)));
+        assertEquals(List.of(List.of("a."), List.of("b."), List.of("c.")), sentPassages);
+        listeners.get(0).onResponse(List.of(List.of(1.0f)));
+        assertEquals(4, sentPassages.size());
+        listeners.get(2).onResponse(List.of(List.of(3.0f)));
+        assertEquals(4, sentPassages.size());
+        verify(handler, never()).accept(isA(IngestDocument.class), eq(null));
+        listeners.get(3).onResponse(List.of(List.of(4.0f)));
+
+        verify(handler).accept(ingestDocument, null);
+        List<Map<String, Object>> chunks = (List<Map<String, Object>>) ingestDocument.getSourceAndMetadata().get(OUTPUT_FIELD);
+        assertEquals(Map.of("text", "d.", "knn", List.of(4.0f)), chunks.get(3));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenBatchFailsWithQueuedBatches_thenQueuedBatchesNotSent() throws Exception {
+        Map<String, Object> config = createConfig(1);
+        config.put(TextChunkingEmbeddingProcessor.MAX_CONCURRENT_BATCHES_FIELD, 1);
+        TextChunkingEmbeddingProcessor processor = factory.create(null, "tag", null, config);
+        IngestDocument ingestDocument = createIngestDocument("a.b.c.");
+        BiConsumer<IngestDocument, Exception> handler = mock(BiConsumer.class);
+
+        processor.execute(ingestDocument, handler);
+
+        ArgumentCaptor<ActionListener<List<List<Float>>>> listenerCaptor = ArgumentCaptor.forClass(ActionListener.class);
+        verify(mlCommonsClientAccessor, times(1)).inferenceSentences(eq(MODEL_ID), anyList(), listenerCaptor.capture());
+        RuntimeException exception = new RuntimeException("inference failed");
+        listenerCaptor.getValue().onFailure(exception);
+
+        verify(handler, times(1)).accept(null, exception);
+        verify(mlCommonsClientAccessor, times(1)).inferenceSentences(eq(MODEL_ID), anyList(), isA(ActionListener.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenSourceFieldMissing_thenEmptyChunksWithoutInference() throws Exception {
+        TextChunkingEmbeddingProcessor processor = factory.create(null, "tag", null, createConfig(2));
+        Map<String, Object> sourceAndMetadata = new HashMap<>();
+        sourceAndMetadata.put(IndexFieldMapper.NAME, INDEX_NAME);
+        IngestDocument ingestDocument = new IngestDocument(sourceAndMetadata, new HashMap<>());
+        BiConsumer<IngestDocument, Exception> handler = mock(BiConsumer.class);
+
+        processor.execute(ingestDocument, handler);
+
+        verify(mlCommonsClientAccessor, never()).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+        verify(handler).accept(ingestDocument, null);
+        assertEquals(List.of(), ingestDocument.getSourceAndMetadata().get(OUTPUT_FIELD));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenSourceFieldInvalid_thenFail() throws Exception {
+        TextChunkingEmbeddingProcessor processor = factory.create(null, "tag", null, createConfig(2));
+        Map<String, Object> sourceAndMetadata = new HashMap<>();
+        sourceAndMetadata.put(IndexFieldMapper.NAME, INDEX_NAME);
+        sourceAndMetadata.put(INPUT_FIELD, Map.of("key", "value"));
+        IngestDocument ingestDocument = new IngestDocument(sourceAndMetadata, new HashMap<>());
+        BiConsumer<IngestDocument, Exception> handler = mock(BiConsumer.class);
+
+        processor.execute(ingestDocument, handler);
+
+        verify(mlCommonsClientAccessor, never()).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+        verify(handler).accept(eq(null), isA(IllegalArgumentException.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testExecute_whenSeveralBatchesFail_thenHandlerCalledOnce() throws Exception {
+        TextChunkingEmbeddingProcessor processor = factory.create(null, "tag", null, createConfig(1));
+        IngestDocument ingestDocument = createIngestDocument("a.b.");
+        BiConsumer<IngestDocument, Exception> handler = mock(BiConsumer.class);
+
+        processor.execute(ingestDocument, handler);
+
+        ArgumentCaptor<ActionListener<List<List<Float>>>> listenerCaptor = ArgumentCaptor.forClass(ActionListener.class);
+        verify(mlCommonsClientAccessor, times(2)).inferenceSentences(eq(MODEL_ID), anyList(), listenerCaptor.capture());
+        RuntimeException exception = new RuntimeException("inference failed");
+        for (ActionListener<List<List<Float>>> listener : listenerCaptor.getAllValues()) {
+            listener.onFailure(exception);
+        }
+
+        verify(handler, times(1)).accept(null, exception);
+        verify(handler, never()).accept(isA(IngestDocument.class), eq(null));
+    }
+
+    private Map<String, Object> createConfig(final int inferenceBatchSize) {
+        Map<String, Object> delimiterParameters = new HashMap<>();
+        delimiterParameters.put(DelimiterChunker.DELIMITER_FIELD, ".");
+        Map<String, Object> algorithmMap = new HashMap<>();
+        algorithmMap.put(DelimiterChunker.ALGORITHM_NAME, delimiterParameters);
+        Map<String, Object> config = new HashMap<>();
+        config.put(TextChunkingEmbeddingProcessor.MODEL_ID_FIELD, MODEL_ID);
+        config.put(TextChunkingEmbeddingProcessor.FIELD_MAP_FIELD, new HashMap<>(Map.of(INPUT_FIELD, OUTPUT_FIELD)));
+        config.put(TextChunkingEmbeddingProcessor.ALGORITHM_FIELD, algorithmMap);
+        config.put(TextChunkingEmbeddingProcessor.INFERENCE_BATCH_SIZE_FIELD, inferenceBatchSize);
+        return config;
+    }
+
+    private IngestDocument createIngestDocument(final String content) {
+        Map<String, Object> sourceAndMetadata = new HashMap<>();
+        sourceAndMetadata.put(IndexFieldMapper.NAME, INDEX_NAME);
+        sourceAndMetadata.put(INPUT_FIELD, new ArrayList<>(List.of(content)));
+        return new IngestDocument(sourceAndMetadata, new HashMap<>());
+    }
+}
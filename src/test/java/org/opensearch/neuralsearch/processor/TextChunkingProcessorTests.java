@@ -14,12 +14,15 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.cluster.ClusterState;
@@ -32,7 +35,9 @@ import org.opensearch.index.analysis.AnalysisRegistry;
 import org.opensearch.index.analysis.TokenizerFactory;
 import org.opensearch.index.mapper.IndexFieldMapper;
 import org.opensearch.indices.analysis.AnalysisModule;
+import org.opensearch.ingest.AbstractBatchingProcessor;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 import org.opensearch.neuralsearch.processor.chunker.DelimiterChunker;
 import org.opensearch.neuralsearch.processor.chunker.FixedTokenLengthChunker;
@@ -43,11 +48,14 @@ import static org.opensearch.neuralsearch.processor.TextChunkingProcessor.TYPE;
 import static org.opensearch.neuralsearch.processor.TextChunkingProcessor.FIELD_MAP_FIELD;
 import static org.opensearch.neuralsearch.processor.TextChunkingProcessor.ALGORITHM_FIELD;
 import static org.opensearch.neuralsearch.processor.TextChunkingProcessor.IGNORE_MISSING;
+import static org.opensearch.neuralsearch.processor.TextChunkingProcessor.MAX_CONCURRENT_DOCUMENTS_FIELD;
 import static org.opensearch.neuralsearch.processor.chunker.Chunker.MAX_CHUNK_LIMIT_FIELD;
 
 public class TextChunkingProcessorTests extends OpenSearchTestCase {
 
     private TextChunkingProcessorFactory textChunkingProcessorFactory;
+    private Environment environment;
+    private ClusterService clusterService;
 
     private static final String PROCESSOR_TAG = "mockTag";
     private static final String DESCRIPTION = "mockDescription";
@@ -79,7 +87,7 @@ public class TextChunkingProcessorTests extends OpenSearchTestCase {
     @Before
     public void setup() {
         Metadata metadata = mock(Metadata.class);
-        Environment environment = mock(Environment.class);
+        environment = mock(Environment.class);
         Settings settings = Settings.builder()
             .put("index.mapping.depth.limit", 20)
             .put("index.analyze.max_token_count", 10000)
@@ -87,7 +95,7 @@ public class TextChunkingProcessorTests extends OpenSearchTestCase {
             .build();
         when(environment.settings()).thenReturn(settings);
         ClusterState clusterState = mock(ClusterState.class);
-        ClusterService clusterService = mock(ClusterService.class);
+        clusterService = mock(ClusterService.class);
         when(metadata.index(anyString())).thenReturn(null);
         when(clusterState.metadata()).thenReturn(metadata);
         when(clusterService.state()).thenReturn(clusterState);
@@ -972,4 +980,84 @@ public class TextChunkingProcessorTests extends OpenSearchTestCase {
         IngestDocument document = processor.execute(ingestDocument);
         assertFalse(document.getSourceAndMetadata().containsKey(OUTPUT_FIELD));
     }
+
+    @SneakyThrows
+    private TextChunkingProcessor createParallelInstance(Consumer<Runnable> executor, int maxConcurrentDocuments) {
+        Map<String, Object> config = new HashMap<>();
+        Map<String, Object> algorithmMap = new HashMap<>();
+        algorithmMap.put(FixedTokenLengthChunker.ALGORITHM_NAME, createFixedTokenLengthParameters());
+        config.put(FIELD_MAP_FIELD, createStringFieldMap());
+        config.put(ALGORITHM_FIELD, algorithmMap);
+        config.put(MAX_CONCURRENT_DOCUMENTS_FIELD, maxConcurrentDocuments);
+        config.put(AbstractBatchingProcessor.BATCH_SIZE_FIELD, 10);
+        TextChunkingProcessorFactory factory = new TextChunkingProcessorFactory(
+            environment,
+            clusterService,
+            getAnalysisRegistry(),
+            executor
+        );
+        return factory.create(new HashMap<>(), PROCESSOR_TAG, DESCRIPTION, config);
+    }
+
+    public void testCreate_whenMaxConcurrentDocumentsInvalidValue_thenFail() {
+        IllegalArgumentException illegalArgumentException = assertThrows(
+            IllegalArgumentException.class,
+            () -> createParallelInstance(Runnable::run, 0)
+        );
+        assertEquals(
+            String.format(Locale.ROOT, "Parameter [%s] must be a positive integer", MAX_CONCURRENT_DOCUMENTS_FIELD),
+            illegalArgumentException.getMessage()
+        );
+    }
+
+    @SneakyThrows
+    public void testBatchExecute_whenParallel_thenAllDocumentsChunkedBeforeHandler() {
+        List<Runnable> scheduledWorkers = new ArrayList<>();
+        TextChunkingProcessor processor = createParallelInstance(scheduledWorkers::add, 3);
+        List<IngestDocumentWrapper> ingestDocumentWrappers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ingestDocumentWrappers.add(new IngestDocumentWrapper(i, createIngestDocumentWithSourceData(createSourceDataString()), null));
+        }
+        Consumer<List<IngestDocumentWrapper>> handler = mock(Consumer.class);
+
+        processor.batchExecute(ingestDocumentWrappers, handler);
+
+        // the calling thread chunked all documents, handler waits for the workers scheduled on the executor
+        assertEquals(2, scheduledWorkers.size());
+        verify(handler, never()).accept(ingestDocumentWrappers);
+        scheduledWorkers.forEach(Runnable::run);
+        verify(handler).accept(ingestDocumentWrappers);
+        List<String> expectedPassages = List.of(
+            "This is an example document to be chunked. The document ",
+            "contains a single paragraph, two sentences and 24 tokens by ",
+            "standard tokenizer in OpenSearch."
+        );
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            assertNull(ingestDocumentWrapper.getException());
+            assertEquals(expectedPassages, ingestDocumentWrapper.getIngestDocument().getSourceAndMetadata().get(OUTPUT_FIELD));
+        }
+    }
+
+    @SneakyThrows
+    public void testBatchExecute_whenDocumentInvalid_thenOnlyThatDocumentFails() {
+        TextChunkingProcessor processor = createParallelInstance(Runnable::run, 2);
+        Map<String, Object> invalidSource = new HashMap<>();
+        invalidSource.put(INPUT_FIELD, 1);
+        invalidSource.put(IndexFieldMapper.NAME, INDEX_NAME);
+        List<IngestDocumentWrapper> ingestDocumentWrappers = List.of(
+            new IngestDocumentWrapper(0, createIngestDocumentWithSourceData(createSourceDataString()), null),
+            new IngestDocumentWrapper(1, new IngestDocument(invalidSource, new HashMap<>()), null),
+            new IngestDocumentWrapper(2, createIngestDocumentWithSourceData(createSourceDataString()), null)
+        );
+        Consumer<List<IngestDocumentWrapper>> handler = mock(Consumer.class);
+
+        processor.batchExecute(ingestDocumentWrappers, handler);
+
+        verify(handler).accept(ingestDocumentWrappers);
+        assertNull(ingestDocumentWrappers.get(0).getException());
+        assertTrue(ingestDocumentWrappers.get(0).getIngestDocument().getSourceAndMetadata().containsKey(OUTPUT_FIELD));
+        assertTrue(ingestDocumentWrappers.get(1).getException() instanceof IllegalArgumentException);
+        assertNull(ingestDocumentWrappers.get(2).getException());
+        assertTrue(ingestDocumentWrappers.get(2).getIngestDocument().getSourceAndMetadata().containsKey(OUTPUT_FIELD));
+    }
 }
@@ -0,0 +1,229 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.env.Environment;
+import org.opensearch.index.mapper.IndexFieldMapper;
+import org.opensearch.ingest.AbstractBatchingProcessor;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
+import org.opensearch.ingest.Processor;
+import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
+import org.opensearch.neuralsearch.processor.factory.TextDenseSparseEmbeddingProcessorFactory;
+
+import com.google.common.collect.ImmutableMap;
+
+import lombok.SneakyThrows;
+
+public class TextDenseSparseEmbeddingProcessorTests extends InferenceProcessorTestCase {
+    private static final String DENSE_MODEL_ID = "denseModelId";
+    private static final String SPARSE_MODEL_ID = "sparseModelId";
+    private static final String PROCESSOR_TAG = "mockTag";
+    private static final String DESCRIPTION = "mockDescription";
+
+    @Mock
+    private MLCommonsClientAccessor mlCommonsClientAccessor;
+
+    @Mock
+    private Environment environment;
+
+    private ClusterService clusterService = mock(ClusterService.class, RETURNS_DEEP_STUBS);
+
+    @InjectMocks
+    private TextDenseSparseEmbeddingProcessorFactory textDenseSparseEmbeddingProcessorFactory;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        Settings settings = Settings.builder().put("index.mapping.depth.limit", 20).build();
+        when(clusterService.state().metadata().index(anyString()).getSettings()).thenReturn(settings);
+    }
+
+    @SneakyThrows
+    private TextDenseSparseEmbeddingProcessor createInstance(int batchSize, Map<String, Object> sparseFieldMap) {
+        Map<String, Processor.Factory> registry = new HashMap<>();
+        Map<String, Object> config = new HashMap<>();
+        config.put(TextDenseSparseEmbeddingProcessor.DENSE_MODEL_ID_FIELD, DENSE_MODEL_ID);
+        config.put(TextDenseSparseEmbeddingProcessor.SPARSE_MODEL_ID_FIELD, SPARSE_MODEL_ID);
+        config.put(TextDenseSparseEmbeddingProcessor.FIELD_MAP_FIELD, ImmutableMap.of("key1", "key1Dense", "key2", "key2Dense"));
+        config.put(TextDenseSparseEmbeddingProcessor.SPARSE_FIELD_MAP_FIELD, sparseFieldMap);
+        config.put(AbstractBatchingProcessor.BATCH_SIZE_FIELD, batchSize);
+        return (TextDenseSparseEmbeddingProcessor) textDenseSparseEmbeddingProcessorFactory.create(
+            registry,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            config
+        );
+    }
+
+    private TextDenseSparseEmbeddingProcessor createInstance(int batchSize) {
+        // sparse field map lists the fields in a different order than field_map, results must still go to the right fields
+        return createInstance(batchSize, ImmutableMap.of("key2", "key2Sparse", "key1", "key1Sparse"));
+    }
+
+    public void testCreate_whenSparseFieldMapHasDifferentFields_thenFail() {
+        IllegalArgumentException exception = expectThrows(
+            IllegalArgumentException.class,
+            () -> createInstance(1, ImmutableMap.of("key1", "key1Sparse", "key3", "key3Sparse"))
+        );
+        assertEquals("Unable to create the processor as sparse_field_map must map the same fields as field_map", exception.getMessage());
+    }
+
+    public void testExecute_whenBothModelsRespond_thenDenseAndSparseResultsWritten() {
+        Map<String, Object> sourceAndMetadata = new HashMap<>();
+        sourceAndMetadata.put(IndexFieldMapper.NAME, "my_index");
+        sourceAndMetadata.put("key1", "value1");
+        sourceAndMetadata.put("key2", List.of("value2", "value3"));
+        IngestDocument ingestDocument = new IngestDocument(sourceAndMetadata, new HashMap<>());
+        TextDenseSparseEmbeddingProcessor processor = createInstance(1);
+        mockDenseModel();
+        mockSparseModel();
+
+        BiConsumer handler = mock(BiConsumer.class);
+        processor.execute(ingestDocument, handler);
+
+        verify(handler).accept(any(IngestDocument.class), isNull());
+        assertEquals(List.of(1.0f, 1.0f), ingestDocument.getSourceAndMetadata().get("key1Dense"));
+        assertEquals(Map.of("value1", 1.0f), ingestDocument.getSourceAndMetadata().get("key1Sparse"));
+        assertEquals(
+            List.of(Map.of("knn", List.of(2.0f, 2.0f)), Map.of("knn", List.of(3.0f, 3.0f))),
+            ingestDocument.getSourceAndMetadata().get("key2Dense")
+        );
+        assertEquals(
+            List.of(Map.of("sparse_encoding", Map.of("value2", 1.0f)), Map.of("sparse_encoding", Map.of("value3", 1.0f))),
+            ingestDocument.getSourceAndMetadata().get("key2Sparse")
+        );
+    }
+
+    public void testExecute_whenDenseModelPending_thenSparseModelAlreadyCalled() {
+        Map<String, Object> sourceAndMetadata = new HashMap<>();
+        sourceAndMetadata.put(IndexFieldMapper.NAME, "my_index");
+        sourceAndMetadata.put("key1", "value1");
+        IngestDocument ingestDocument = new IngestDocument(sourceAndMetadata, new HashMap<>());
+        TextDenseSparseEmbeddingProcessor processor = createInstance(1);
+        mockSparseModel();
+
+        BiConsumer handler = mock(BiConsumer.class);
+        processor.execute(ingestDocument, handler);
+
+        ArgumentCaptor<ActionListener<List<List<Float>>>> denseListener = ArgumentCaptor.forClass(ActionListener.class);
+        verify(mlCommonsClientAccessor).inferenceSentences(eq(DENSE_MODEL_ID), eq(List.of("value1")), denseListener.capture());
+        verify(mlCommonsClientAccessor).inferenceSentencesWithMapResult(eq(SPARSE_MODEL_ID), eq(List.of("value1")), any());
+        verify(handler, never()).accept(any(), any());
+
+        denseListener.getValue().onResponse(List.of(List.of(1.0f)));
+        verify(handler).accept(any(IngestDocument.class), isNull());
+    }
+
+    public void testBatchExecute_whenDuplicateTexts_thenEachDocumentGetsOwnResults() {
+        List<IngestDocumentWrapper> ingestDocumentWrappers = createIngestDocumentWrappers(3);
+        TextDenseSparseEmbeddingProcessor processor = createInstance(10);
+        mockDenseModel();
+        mockSparseModel();
+
+        Consumer<List<IngestDocumentWrapper>> resultHandler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, resultHandler);
+
+        verify(resultHandler).accept(ingestDocumentWrappers);
+        verify(mlCommonsClientAccessor).inferenceSentences(eq(DENSE_MODEL_ID), eq(List.of("value1")), isA(ActionListener.class));
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            assertNull(ingestDocumentWrapper.getException());
+            Map<String, Object> source = ingestDocumentWrapper.getIngestDocument().getSourceAndMetadata();
+            assertEquals(List.of(1.0f, 1.0f), source.get("key1Dense"));
+            assertEquals(Map.of("value1", 1.0f), source.get("key1Sparse"));
+        }
+        // results are modifiable, every document gets its own copy
+        assertNotSame(
+            ingestDocumentWrappers.get(0).getIngestDocument().getSourceAndMetadata().get("key1Sparse"),
+            ingestDocumentWrappers.get(1).getIngestDocument().getSourceAndMetadata().get("key1Sparse")
+        );
+        assertNotSame(
+            ingestDocumentWrappers.get(0).getIngestDocument().getSourceAndMetadata().get("key1Dense"),
+            ingestDocumentWrappers.get(1).getIngestDocument().getSourceAndMetadata().get("key1Dense")
+        );
+        // a later remove processor changes only its own document
+        ingestDocumentWrappers.get(0).getIngestDocument().removeField("key1Sparse.value1");
+        assertEquals(Map.of(), ingestDocumentWrappers.get(0).getIngestDocument().getSourceAndMetadata().get("key1Sparse"));
+        assertEquals(Map.of("value1", 1.0f), ingestDocumentWrappers.get(1).getIngestDocument().getSourceAndMetadata().get("key1Sparse"));
+    }
+
+    public void testBatchExecute_whenSparseModelFails_thenAllDocumentsFail() {
+        List<IngestDocumentWrapper> ingestDocumentWrappers = createIngestDocumentWrappers(2);
+        TextDenseSparseEmbeddingProcessor processor = createInstance(10);
+        mockDenseModel();
+        doAnswer(invocation -> {
+            ActionListener<List<Map<String, ?>>> listener = invocation.getArgument(2);
+            listener.onFailure(new IllegalStateException("sparse model failed"));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentencesWithMapResult(anyString(), anyList(), isA(ActionListener.class));
+
+        Consumer<List<IngestDocumentWrapper>> resultHandler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, resultHandler);
+
+        verify(resultHandler).accept(ingestDocumentWrappers);
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            assertEquals("sparse model failed", ingestDocumentWrapper.getException().getMessage());
+            assertNull(ingestDocumentWrapper.getIngestDocument().getSourceAndMetadata().get("key1Dense"));
+        }
+    }
+
+    /**
+     * Dense model returns vector [n, n] for text "value{n}"
+     */
+    private void mockDenseModel() {
+        doAnswer(invocation -> {
+            List<String> texts = invocation.getArgument(1);
+            ActionListener<List<List<Float>>> listener = invocation.getArgument(2);
+            listener.onResponse(texts.stream().map(text -> {
+                float value = Float.parseFloat(text.substring("value".length()));
+                return List.of(value, value);
+            }).collect(Collectors.toList()));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+    }
+
+    /**
+     * Sparse model returns token weights {text: 1.0} for every text
+     */
+    private void mockSparseModel() {
+        doAnswer(invocation -> {
+            List<String> texts = invocation.getArgument(1);
+            ActionListener<List<Map<String, ?>>> listener = invocation.getArgument(2);
+            List<Map<String, Float>> tokenWeights = new ArrayList<>();
+            texts.forEach(text -> tokenWeights.add(Map.of(text, 1.0f)));
+            listener.onResponse(List.of(Map.of("response", tokenWeights)));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentencesWithMapResult(anyString(), anyList(), isA(ActionListener.class));
+    }
+}
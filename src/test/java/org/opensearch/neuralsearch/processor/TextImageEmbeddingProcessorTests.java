@@ -4,6 +4,7 @@
  */
 package org.opensearch.neuralsearch.processor;
 
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.any;
@@ -12,6 +13,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.isA;
 import static org.mockito.Mockito.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.neuralsearch.processor.TextImageEmbeddingProcessor.IMAGE_FIELD_NAME;
@@ -22,6 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.junit.Before;
@@ -38,7 +41,10 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.env.Environment;
 import org.opensearch.index.mapper.IndexFieldMapper;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
+import org.opensearch.neuralsearch.common.FloatArrayList;
+import org.opensearch.neuralsearch.common.VectorUtil;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.processor.factory.TextImageEmbeddingProcessorFactory;
 import org.opensearch.test.OpenSearchTestCase;
@@ -79,10 +85,22 @@ public class TextImageEmbeddingProcessorTests extends OpenSearchTestCase {
         when(indexMetadata.getSettings()).thenReturn(settings);
     }
 
-    @SneakyThrows
     private TextImageEmbeddingProcessor createInstance() {
+        return createInstance(1);
+    }
+
+    private TextImageEmbeddingProcessor createInstance(int batchSize) {
+        return createInstance(batchSize, null);
+    }
+
+    @SneakyThrows
+    private TextImageEmbeddingProcessor createInstance(int batchSize, Integer maxConcurrentRequests) {
         Map<String, Processor.Factory> registry = new HashMap<>();
         Map<String, Object> config = new HashMap<>();
+        config.put("batch_size", batchSize);
+        if (maxConcurrentRequests != null) {
+            config.put(SubBatchOptions.MAX_CONCURRENCY_FIELD, maxConcurrentRequests);
+        }
         config.put(TextImageEmbeddingProcessor.MODEL_ID_FIELD, "mockModelId");
         config.put(TextImageEmbeddingProcessor.EMBEDDING_FIELD, "my_embedding_field");
         config.put(
@@ -116,12 +134,14 @@ public class TextImageEmbeddingProcessorTests extends OpenSearchTestCase {
             () -> new TextImageEmbeddingProcessor(
                 PROCESSOR_TAG,
                 DESCRIPTION,
+                1,
                 modelId,
                 embeddingField,
                 null,
                 mlCommonsClientAccessor,
                 env,
-                clusterService
+                clusterService,
+                1
             )
         );
         assertEquals("Unable to create the TextImageEmbedding processor as field_map has invalid key or value", exception.getMessage());
@@ -132,12 +152,14 @@ public class TextImageEmbeddingProcessorTests extends OpenSearchTestCase {
             () -> new TextImageEmbeddingProcessor(
                 PROCESSOR_TAG,
                 DESCRIPTION,
+                1,
                 modelId,
                 embeddingField,
                 Map.of("", "my_field"),
                 mlCommonsClientAccessor,
                 env,
-                clusterService
+                clusterService,
+                1
             )
         );
         assertEquals("Unable to create the TextImageEmbedding processor as field_map has invalid key or value", exception.getMessage());
@@ -152,12 +174,14 @@ public class TextImageEmbeddingProcessorTests extends OpenSearchTestCase {
             () -> new TextImageEmbeddingProcessor(
                 PROCESSOR_TAG,
                 DESCRIPTION,
+                1,
                 modelId,
                 embeddingField,
                 typeMapping,
                 mlCommonsClientAccessor,
                 env,
-                clusterService
+                clusterService,
+                1
             )
         );
         assertEquals("Unable to create the TextImageEmbedding processor as field_map has invalid key or value", exception.getMessage());
@@ -346,6 +370,232 @@ public class TextImageEmbeddingProcessorTests extends OpenSearchTestCase {
         verify(handler).accept(any(IngestDocument.class), isNull());
     }
 
+    public void testBatchExecute_whenDocumentsShareInput_thenSingleRequestPerDistinctInput() {
+        TextImageEmbeddingProcessor processor = createInstance(10);
+        List<IngestDocumentWrapper> ingestDocumentWrappers = new ArrayList<>();
+        ingestDocumentWrappers.add(createIngestDocumentWrapper(0, "value1", "image1"));
+        ingestDocumentWrappers.add(createIngestDocumentWrapper(1, "value2", "image2"));
+        ingestDocumentWrappers.add(createIngestDocumentWrapper(2, "value1", "image1"));
+        ingestDocumentWrappers.add(createIngestDocumentWrapper(3, "value3", null));
+
+        List<Map<String, String>> inferenceInputs = new ArrayList<>();
+        doAnswer(invocation -> {
+            Map<String, String> inferenceMap = invocation.getArgument(1);
+            inferenceInputs.add(inferenceMap);
+            ActionListener<List<Float>> listener = invocation.getArgument(2);
+            if ("value2".equals(inferenceMap.get(TextImageEmbeddingProcessor.INPUT_TEXT))) {
+                listener.onFailure(new IllegalArgumentException("illegal argument"));
+            } else {
+                listener.onResponse(List.of(1.234f, 2.354f));
+            }
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyMap(), isA(ActionListener.class));
+
+        Consumer<List<IngestDocumentWrapper>> handler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, handler);
+
+        verify(handler).accept(ingestDocumentWrappers);
+        assertEquals(3, inferenceInputs.size());
+        // the only text only input is sent first, on its own
+        assertEquals(Map.of(TextImageEmbeddingProcessor.INPUT_TEXT, "value3"), inferenceInputs.get(0));
+        assertNull(ingestDocumentWrappers.get(0).getException());
+        assertEquals(List.of(1.234f, 2.354f), getEmbedding(ingestDocumentWrappers.get(0)));
+        assertTrue(ingestDocumentWrappers.get(1).getException() instanceof IllegalArgumentException);
+        assertNull(ingestDocumentWrappers.get(2).getException());
+        assertEquals(List.of(1.234f, 2.354f), getEmbedding(ingestDocumentWrappers.get(2)));
+        assertNull(ingestDocumentWrappers.get(3).getException());
+    }
+
+    public void testBatchExecute_whenDocumentsShareInput_thenEachDocumentGetsPrimitiveCopy() {
+        TextImageEmbeddingProcessor processor = createInstance(10);
+        List<IngestDocumentWrapper> ingestDocumentWrappers = new ArrayList<>();
+        ingestDocumentWrappers.add(createIngestDocumentWrapper(0, "value1", "image1"));
+        ingestDocumentWrappers.add(createIngestDocumentWrapper(1, "value1", "image1"));
+
+        doAnswer(invocation -> {
+            ActionListener<List<Float>> listener = invocation.getArgument(2);
+            listener.onResponse(VectorUtil.vectorAsArrayBackedList(new float[] { 1.234f, 2.354f }));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyMap(), isA(ActionListener.class));
+
+        Consumer<List<IngestDocumentWrapper>> handler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, handler);
+
+        verify(handler).accept(ingestDocumentWrappers);
+        Object firstEmbedding = getEmbedding(ingestDocumentWrappers.get(0));
+        Object secondEmbedding = getEmbedding(ingestDocumentWrappers.get(1));
+        assertEquals(firstEmbedding, secondEmbedding);
+        assertNotSame(firstEmbedding, secondEmbedding);
+        assertTrue(secondEmbedding instanceof FloatArrayList);
+    }
+
+    public void testBatchExecute_whenMaxConcurrentRequestsSet_thenRequestsInFlightBounded() {
+        TextImageEmbeddingProcessor processor = createInstance(10, 2);
+        List<IngestDocumentWrapper> ingestDocumentWrappers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ingestDocumentWrappers.add(createIngestDocumentWrapper(i, "value" + i, "image" + i));
+        }
+
+        List<ActionListener<List<Float>>> sentRequests = new ArrayList<>();
+        doAnswer(invocation -> {
+            sentRequests.add(invocation.getArgument(2));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyMap(), isA(ActionListener.class));
+
+        Consumer<List<IngestDocumentWrapper>> handler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, handler);
+        assertEquals(2, sentRequests.size());
+
+        sentRequests.get(0).onResponse(List.of(1.234f, 2.354f));
+        assertEquals(3, sentRequests.size());
+        for (int i = 1; i < 5; i++) {
+            sentRequests.get(i).onResponse(List.of(1.234f, 2.354f));
+        }
+
+        assertEquals(5, sentRequests.size());
+        verify(handler).accept(ingestDocumentWrappers);
+        for (IngestDocumentWrapper ingestDocumentWrapper : ingestDocumentWrappers) {
+            assertNull(ingestDocumentWrapper.getException());
+            assertEquals(List.of(1.234f, 2.354f), getEmbedding(ingestDocumentWrapper));
+        }
+    }
+
+    public void testBatchExecute_whenMaxConcurrentRequestsNotSet_thenAllRequestsSentConcurrently() {
+        TextImageEmbeddingProcessor processor = createInstance(10, null);
+        List<IngestDocumentWrapper> ingestDocumentWrappers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ingestDocumentWrappers.add(createIngestDocumentWrapper(i, "value" + i, "image" + i));
+        }
+
+        List<ActionListener<List<Float>>> sentRequests = new ArrayList<>();
+        doAnswer(invocation -> {
+            sentRequests.add(invocation.getArgument(2));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyMap(), isA(ActionListener.class));
+
+        Consumer<List<IngestDocumentWrapper>> handler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, handler);
+
+        // no request completed yet, all of them are in flight
+        assertEquals(5, sentRequests.size());
+        verify(handler, never()).accept(any());
+        sentRequests.forEach(listener -> listener.onResponse(List.of(1.234f, 2.354f)));
+        verify(handler).accept(ingestDocumentWrappers);
+    }
+
+    public void testBatchExecute_whenTextOnlyInputs_thenSentInOneRequest() {
+        TextImageEmbeddingProcessor processor = createInstance(10);
+        List<IngestDocumentWrapper> ingestDocumentWrappers = new ArrayList<>();
+        ingestDocumentWrappers.add(createIngestDocumentWrapper(0, "value1", null));
+        ingestDocumentWrappers.add(createIngestDocumentWrapper(1, "value2", null));
+        ingestDocumentWrappers.add(createIngestDocumentWrapper(2, "value1", null));
+        ingestDocumentWrappers.add(createIngestDocumentWrapper(3, "value1", "image1"));
+
+        List<List<String>> textRequests = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<String> texts = invocation.getArgument(1);
+            textRequests.add(texts);
+            ActionListener<List<List<Float>>> listener = invocation.getArgument(2);
+            listener.onResponse(List.of(List.of(1.0f, 1.0f), List.of(2.0f, 2.0f)));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+        doAnswer(invocation -> {
+            ActionListener<List<Float>> listener = invocation.getArgument(2);
+            listener.onResponse(List.of(3.0f, 3.0f));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyMap(), isA(ActionListener.class));
+
+        Consumer<List<IngestDocumentWrapper>> handler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, handler);
+
+        verify(handler).accept(ingestDocumentWrappers);
+        assertEquals(List.of(List.of("value1", "value2")), textRequests);
+        verify(mlCommonsClientAccessor).inferenceSentences(anyString(), anyMap(), isA(ActionListener.class));
+        assertEquals(List.of(1.0f, 1.0f), getEmbedding(ingestDocumentWrappers.get(0)));
+        assertEquals(List.of(2.0f, 2.0f), getEmbedding(ingestDocumentWrappers.get(1)));
+        assertEquals(List.of(1.0f, 1.0f), getEmbedding(ingestDocumentWrappers.get(2)));
+        assertEquals(List.of(3.0f, 3.0f), getEmbedding(ingestDocumentWrappers.get(3)));
+    }
+
+    public void testBatchExecute_whenModelReturnsSingleVectorForTexts_thenTextsSentOneByOne() {
+        TextImageEmbeddingProcessor processor = createInstance(10);
+        List<IngestDocumentWrapper> ingestDocumentWrappers = new ArrayList<>();
+        ingestDocumentWrappers.add(createIngestDocumentWrapper(0, "value1", null));
+        ingestDocumentWrappers.add(createIngestDocumentWrapper(1, "value2", null));
+
+        doAnswer(invocation -> {
+            ActionListener<List<List<Float>>> listener = invocation.getArgument(2);
+            listener.onResponse(List.of(List.of(1.0f, 1.0f)));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+        List<Map<String, String>> inferenceInputs = new ArrayList<>();
+        doAnswer(invocation -> {
+            Map<String, String> inferenceMap = invocation.getArgument(1);
+            inferenceInputs.add(inferenceMap);
+            ActionListener<List<Float>> listener = invocation.getArgument(2);
+            listener.onResponse(List.of(2.0f, 2.0f));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyMap(), isA(ActionListener.class));
+
+        Consumer<List<IngestDocumentWrapper>> handler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, handler);
+
+        verify(handler).accept(ingestDocumentWrappers);
+        assertEquals(
+            List.of(Map.of(TextImageEmbeddingProcessor.INPUT_TEXT, "value1"), Map.of(TextImageEmbeddingProcessor.INPUT_TEXT, "value2")),
+            inferenceInputs
+        );
+        assertEquals(List.of(2.0f, 2.0f), getEmbedding(ingestDocumentWrappers.get(0)));
+        assertEquals(List.of(2.0f, 2.0f), getEmbedding(ingestDocumentWrappers.get(1)));
+
+        // texts of later batches aren't combined anymore
+        processor.batchExecute(
+            List.of(createIngestDocumentWrapper(0, "value3", null), createIngestDocumentWrapper(1, "value4", null)),
+            mock(Consumer.class)
+        );
+        verify(mlCommonsClientAccessor).inferenceSentences(anyString(), anyList(), isA(ActionListener.class));
+        assertEquals(4, inferenceInputs.size());
+    }
+
+    public void testBatchExecute_whenDocumentInvalid_thenOnlyThatDocumentFails() {
+        TextImageEmbeddingProcessor processor = createInstance(10);
+        List<IngestDocumentWrapper> ingestDocumentWrappers = new ArrayList<>();
+        ingestDocumentWrappers.add(createIngestDocumentWrapper(0, "value1", "image1"));
+        IngestDocumentWrapper invalidDocument = createIngestDocumentWrapper(1, null, null);
+        invalidDocument.getIngestDocument().setFieldValue("my_text_field", List.of("not a string"));
+        ingestDocumentWrappers.add(invalidDocument);
+
+        doAnswer(invocation -> {
+            ActionListener<List<Float>> listener = invocation.getArgument(2);
+            listener.onResponse(List.of(1.234f, 2.354f));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentences(anyString(), anyMap(), isA(ActionListener.class));
+
+        Consumer<List<IngestDocumentWrapper>> handler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, handler);
+
+        verify(handler).accept(ingestDocumentWrappers);
+        verify(mlCommonsClientAccessor).inferenceSentences(anyString(), anyMap(), isA(ActionListener.class));
+        assertNull(ingestDocumentWrappers.get(0).getException());
+        assertTrue(ingestDocumentWrappers.get(1).getException() instanceof IllegalArgumentException);
+    }
+
+    private Object getEmbedding(IngestDocumentWrapper ingestDocumentWrapper) {
+        return ingestDocumentWrapper.getIngestDocument().getSourceAndMetadata().get("my_embedding_field");
+    }
+
+    private IngestDocumentWrapper createIngestDocumentWrapper(int slot, String text, String image) {
+        Map<String, Object> sourceAndMetadata = new HashMap<>();
+        sourceAndMetadata.put(IndexFieldMapper.NAME, "my_index");
+        if (text != null) {
+            sourceAndMetadata.put("my_text_field", text);
+        }
+        if (image != null) {
+            sourceAndMetadata.put("image_field", image);
+        }
+        return new IngestDocumentWrapper(slot, new IngestDocument(sourceAndMetadata, new HashMap<>()), null);
+    }
+
     private List<List<Float>> createMockVectorResult() {
         List<List<Float>> modelTensorList = new ArrayList<>();
         List<Float> number1 = ImmutableList.of(1.234f, 2.354f);
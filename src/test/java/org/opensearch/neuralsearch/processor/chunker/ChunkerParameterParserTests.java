@@ -297,4 +297,25 @@ public class ChunkerParameterParserTests extends OpenSearchTestCase {
         Double parsedDoubleValue = ChunkerParameterParser.parseDoubleWithDefault(parameters, fieldName, defaultDouble);
         assertEquals(defaultDouble, parsedDoubleValue);
     }
+
+    public void testParseBooleanWithDefault_withFieldValueNotBoolean_thenFail() {
+        Map<String, Object> parameters = Map.of(fieldName, "yes");
+        IllegalArgumentException illegalArgumentException = assertThrows(
+            IllegalArgumentException.class,
+            () -> ChunkerParameterParser.parseBooleanWithDefault(parameters, fieldName, true)
+        );
+        Assert.assertEquals(
+            String.format(Locale.ROOT, "Parameter [%s] must be of %s type", fieldName, Boolean.class.getName()),
+            illegalArgumentException.getMessage()
+        );
+    }
+
+    public void testParseBooleanWithDefault_withFieldValueValidBoolean_thenSucceed() {
+        assertFalse(ChunkerParameterParser.parseBooleanWithDefault(Map.of(fieldName, false), fieldName, true));
+        assertFalse(ChunkerParameterParser.parseBooleanWithDefault(Map.of(fieldName, "false"), fieldName, true));
+    }
+
+    public void testParseBooleanWithDefault_withFieldValueMissing_thenSucceed() {
+        assertTrue(ChunkerParameterParser.parseBooleanWithDefault(Map.of(), fieldName, true));
+    }
 }
@@ -109,4 +109,14 @@ public class DelimiterChunkerTests extends OpenSearchTestCase {
         List<String> expectedPassages = List.of("\n\na\n\n\n");
         assertEquals(expectedPassages, passages);
     }
+
+    public void testChunk_withPassageConsumer_thenSamePassagesAsList() {
+        DelimiterChunker chunker = new DelimiterChunker(Map.of(DELIMITER_FIELD, "."));
+        String content = "a.b.c";
+        List<String> consumedPassages = new ArrayList<>();
+        int chunkCount = chunker.chunk(content, runtimeParameters, consumedPassages::add);
+        assertEquals(3, chunkCount);
+        assertEquals(chunker.chunk(content, runtimeParameters), consumedPassages);
+        assertEquals(List.of("a.", "b.", "c"), consumedPassages);
+    }
 }
@@ -23,6 +23,12 @@ import java.util.Locale;
 import java.util.Map;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.opensearch.neuralsearch.processor.chunker.Chunker.MAX_CHUNK_LIMIT_FIELD;
 import static org.opensearch.neuralsearch.processor.chunker.Chunker.CHUNK_STRING_COUNT_FIELD;
 import static org.opensearch.neuralsearch.processor.chunker.FixedTokenLengthChunker.ALGORITHM_NAME;
@@ -50,9 +56,14 @@ public class FixedTokenLengthChunkerTests extends OpenSearchTestCase {
         fixedTokenLengthChunker = createFixedTokenLengthChunker(Map.of());
     }
 
-    @SneakyThrows
     public FixedTokenLengthChunker createFixedTokenLengthChunker(Map<String, Object> parameters) {
         Map<String, Object> nonRuntimeParameters = new HashMap<>(parameters);
+        nonRuntimeParameters.put(ANALYSIS_REGISTRY_FIELD, createAnalysisRegistry());
+        return new FixedTokenLengthChunker(nonRuntimeParameters);
+    }
+
+    @SneakyThrows
+    private AnalysisRegistry createAnalysisRegistry() {
         Settings settings = Settings.builder().put(Environment.PATH_HOME_SETTING.getKey(), createTempDir().toString()).build();
         Environment environment = TestEnvironment.newEnvironment(settings);
         AnalysisPlugin plugin = new AnalysisPlugin() {
@@ -68,9 +79,7 @@ public class FixedTokenLengthChunkerTests extends OpenSearchTestCase {
                 );
             }
         };
-        AnalysisRegistry analysisRegistry = new AnalysisModule(environment, singletonList(plugin)).getAnalysisRegistry();
-        nonRuntimeParameters.put(ANALYSIS_REGISTRY_FIELD, analysisRegistry);
-        return new FixedTokenLengthChunker(nonRuntimeParameters);
+        return new AnalysisModule(environment, singletonList(plugin)).getAnalysisRegistry();
     }
 
     public void testParseParameters_whenNoParams_thenSuccessful() {
@@ -309,4 +318,56 @@ public class FixedTokenLengthChunkerTests extends OpenSearchTestCase {
         );
         assertEquals(expectedPassages, passages);
     }
+
+    public void testChunk_whenExceedMaxTokenCount_thenFail() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(TOKEN_LIMIT_FIELD, 10);
+        parameters.put(TOKENIZER_FIELD, "standard");
+        FixedTokenLengthChunker fixedTokenLengthChunker = createFixedTokenLengthChunker(parameters);
+        Map<String, Object> runtimeParameters = new HashMap<>(this.runtimeParameters);
+        runtimeParameters.put(MAX_TOKEN_COUNT_FIELD, 20);
+        String content =
+            "This is an example document to be chunked. The document contains a single paragraph, two sentences and 24 tokens by standard tokenizer in OpenSearch.";
+        IllegalStateException illegalStateException = assertThrows(
+            IllegalStateException.class,
+            () -> fixedTokenLengthChunker.chunk(content, runtimeParameters)
+        );
+        assert (illegalStateException.getMessage()
+            .contains("The number of tokens produced by calling _analyze has exceeded the allowed maximum of [20]."));
+    }
+
+    public void testChunk_whenChunkedRepeatedly_thenSameResult() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(TOKEN_LIMIT_FIELD, 10);
+        parameters.put(TOKENIZER_FIELD, "standard");
+        FixedTokenLengthChunker fixedTokenLengthChunker = createFixedTokenLengthChunker(parameters);
+        String content =
+            "This is an example document to be chunked. The document contains a single paragraph, two sentences and 24 tokens by standard tokenizer in OpenSearch.";
+        List<String> expectedPassages = List.of(
+            "This is an example document to be chunked. The document ",
+            "contains a single paragraph, two sentences and 24 tokens by ",
+            "standard tokenizer in OpenSearch."
+        );
+        for (int i = 0; i < 3; i++) {
+            assertEquals(expectedPassages, fixedTokenLengthChunker.chunk(content, runtimeParameters));
+        }
+        assertEquals(List.of("short text"), fixedTokenLengthChunker.chunk("short text", runtimeParameters));
+    }
+
+    @SneakyThrows
+    public void testChunk_whenChunkedRepeatedly_thenTokenizerResolvedOnceWithoutBuildingAnalyzer() {
+        AnalysisRegistry analysisRegistry = spy(createAnalysisRegistry());
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(TOKEN_LIMIT_FIELD, 10);
+        parameters.put(TOKENIZER_FIELD, "standard");
+        parameters.put(ANALYSIS_REGISTRY_FIELD, analysisRegistry);
+        FixedTokenLengthChunker fixedTokenLengthChunker = new FixedTokenLengthChunker(parameters);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(List.of("short text"), fixedTokenLengthChunker.chunk("short text", runtimeParameters));
+        }
+
+        // the registry owns the tokenizer factory, no analyzer is left behind when the chunker is dropped
+        verify(analysisRegistry, times(1)).getTokenizerProvider("standard");
+        verify(analysisRegistry, never()).buildCustomAnalyzer(any(), anyBoolean(), any(), any(), any());
+    }
 }
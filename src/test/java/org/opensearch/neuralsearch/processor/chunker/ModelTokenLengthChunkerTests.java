@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.processor.chunker;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.neuralsearch.processor.chunker.Chunker.CHUNK_STRING_COUNT_FIELD;
+import static org.opensearch.neuralsearch.processor.chunker.Chunker.MAX_CHUNK_LIMIT_FIELD;
+import static org.opensearch.neuralsearch.processor.chunker.ModelTokenLengthChunker.ENVIRONMENT_FIELD;
+import static org.opensearch.neuralsearch.processor.chunker.ModelTokenLengthChunker.MAX_SEQUENCE_LENGTH_FIELD;
+import static org.opensearch.neuralsearch.processor.chunker.ModelTokenLengthChunker.MAX_TOKEN_COUNT_FIELD;
+import static org.opensearch.neuralsearch.processor.chunker.ModelTokenLengthChunker.OVERLAP_RATE_FIELD;
+import static org.opensearch.neuralsearch.processor.chunker.ModelTokenLengthChunker.SPECIAL_TOKEN_COUNT_FIELD;
+import static org.opensearch.neuralsearch.processor.chunker.ModelTokenLengthChunker.VOCABULARY_FILE_FIELD;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.opensearch.env.Environment;
+import org.opensearch.test.OpenSearchTestCase;
+
+import lombok.SneakyThrows;
+
+public class ModelTokenLengthChunkerTests extends OpenSearchTestCase {
+
+    private static final String VOCABULARY_FILE = "vocab.txt";
+    private static final String CONTENT = "The quick brown fox jumps over the lazy dog.";
+
+    private Environment environment;
+
+    @Before
+    @SneakyThrows
+    public void setup() {
+        Path configDir = createTempDir();
+        Files.write(
+            configDir.resolve(VOCABULARY_FILE),
+            List.of("[UNK]", "the", "quick", "brown", "fox", "jump", "##s", "over", "lazy", "dog", "."),
+            StandardCharsets.UTF_8
+        );
+        environment = mock(Environment.class);
+        when(environment.configDir()).thenReturn(configDir);
+    }
+
+    public void testCreate_whenVocabularyFileOutsideConfigDir_thenFail() {
+        Map<String, Object> parameters = createParameters(6);
+        parameters.put(VOCABULARY_FILE_FIELD, "../" + VOCABULARY_FILE);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new ModelTokenLengthChunker(parameters));
+
+        assertEquals("Parameter [vocabulary_file] must be an existing file in the config directory", exception.getMessage());
+    }
+
+    public void testCreate_whenSpecialTokenCountNotLessThanMaxSequenceLength_thenFail() {
+        Map<String, Object> parameters = createParameters(2);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new ModelTokenLengthChunker(parameters));
+
+        assertEquals("Parameter [special_token_count] must be non-negative and less than [max_sequence_length]", exception.getMessage());
+    }
+
+    public void testChunk_whenContentLongerThanSequence_thenPassagesPackedToWordBoundaries() {
+        ModelTokenLengthChunker chunker = new ModelTokenLengthChunker(createParameters(6));
+
+        List<String> passages = chunker.chunk(CONTENT, createRuntimeParameters(100));
+
+        // 4 word pieces per passage, "jumps" is two pieces and isn't split
+        assertEquals(List.of("The quick brown fox ", "jumps over the ", "lazy dog."), passages);
+    }
+
+    public void testChunk_whenWordLongerThanSequence_thenWordSplitIntoPieces() {
+        ModelTokenLengthChunker chunker = new ModelTokenLengthChunker(createParameters(3));
+
+        List<String> passages = chunker.chunk("Fóx jumps", createRuntimeParameters(100));
+
+        // accents are stripped for lookup, offsets still point into the original content
+        assertEquals(List.of("Fóx ", "jump", "s"), passages);
+    }
+
+    public void testChunk_whenOverlapRate_thenPassagesOverlapByWholeWords() {
+        Map<String, Object> parameters = createParameters(6);
+        parameters.put(OVERLAP_RATE_FIELD, 0.5);
+        ModelTokenLengthChunker chunker = new ModelTokenLengthChunker(parameters);
+
+        List<String> passages = chunker.chunk(CONTENT, createRuntimeParameters(100));
+
+        assertEquals(
+            List.of("The quick brown fox ", "brown fox jumps ", "jumps over the ", "over the lazy dog", "lazy dog."),
+            passages
+        );
+    }
+
+    public void testChunk_whenExceedMaxChunkLimit_thenLastPassageGetConcatenated() {
+        ModelTokenLengthChunker chunker = new ModelTokenLengthChunker(createParameters(6));
+
+        List<String> passages = chunker.chunk(CONTENT, createRuntimeParameters(2));
+
+        assertEquals(List.of("The quick brown fox ", "jumps over the lazy dog."), passages);
+    }
+
+    public void testChunk_whenExceedMaxTokenCount_thenFail() {
+        ModelTokenLengthChunker chunker = new ModelTokenLengthChunker(createParameters(6));
+        Map<String, Object> runtimeParameters = createRuntimeParameters(100);
+        runtimeParameters.put(MAX_TOKEN_COUNT_FIELD, 5);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> chunker.chunk(CONTENT, runtimeParameters));
+
+        assertTrue(exception.getMessage().contains("has exceeded the allowed maximum of [5]"));
+    }
+
+    private Map<String, Object> createParameters(final int maxSequenceLength) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(ENVIRONMENT_FIELD, environment);
+        parameters.put(VOCABULARY_FILE_FIELD, VOCABULARY_FILE);
+        parameters.put(MAX_SEQUENCE_LENGTH_FIELD, maxSequenceLength);
+        parameters.put(SPECIAL_TOKEN_COUNT_FIELD, 2);
+        return parameters;
+    }
+
+    private Map<String, Object> createRuntimeParameters(final int maxChunkLimit) {
+        Map<String, Object> runtimeParameters = new HashMap<>();
+        runtimeParameters.put(MAX_TOKEN_COUNT_FIELD, 10000);
+        runtimeParameters.put(MAX_CHUNK_LIMIT_FIELD, maxChunkLimit);
+        runtimeParameters.put(CHUNK_STRING_COUNT_FIELD, 1);
+        return runtimeParameters;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.neuralsearch.util.TestUtils.DELTA_FOR_SCORE_ASSERTION;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+
+import com.carrotsearch.randomizedtesting.RandomizedTest;
+
+import lombok.SneakyThrows;
+
+public class HybridBulkScorerTests extends OpenSearchQueryTestCase {
+
+    private static final int MAX_DOC_ID = HybridBulkScorer.WINDOW_SIZE * 5;
+
+    @SneakyThrows
+    public void testScore_whenMultipleWindows_thenCollectAllDocsWithScoresPerSubQuery() {
+        Pair<int[], float[]> docsAndScores1 = generateDocuments(MAX_DOC_ID);
+        Pair<int[], float[]> docsAndScores2 = generateDocuments(MAX_DOC_ID);
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(
+            Arrays.asList(
+                scorer(docsAndScores1.getLeft(), docsAndScores1.getRight(), fakeWeight(new MatchAllDocsQuery())),
+                null,
+                scorer(docsAndScores2.getLeft(), docsAndScores2.getRight(), fakeWeight(new MatchAllDocsQuery()))
+            ),
+            ScoreMode.TOP_SCORES
+        );
+        Map<Integer, float[]> expected = expectedScores(3, null, Pair.of(0, docsAndScores1), Pair.of(2, docsAndScores2));
+
+        RecordingLeafCollector collector = new RecordingLeafCollector();
+        int next = bulkScorer.score(collector, null, 0, NO_MORE_DOCS);
+
+        assertEquals(NO_MORE_DOCS, next);
+        assertCollected(expected, collector);
+    }
+
+    @SneakyThrows
+    public void testScore_whenDocRangesAndAcceptDocs_thenCollectAcceptedDocsInRange() {
+        Pair<int[], float[]> docsAndScores1 = generateDocuments(MAX_DOC_ID);
+        Pair<int[], float[]> docsAndScores2 = generateDocuments(MAX_DOC_ID);
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(
+            Arrays.asList(
+                scorer(docsAndScores1.getLeft(), docsAndScores1.getRight(), fakeWeight(new MatchAllDocsQuery())),
+                scorer(docsAndScores2.getLeft(), docsAndScores2.getRight(), fakeWeight(new MatchAllDocsQuery()))
+            ),
+            ScoreMode.COMPLETE
+        );
+        FixedBitSet acceptDocs = new FixedBitSet(MAX_DOC_ID);
+        for (int doc = 0; doc < MAX_DOC_ID; doc += 2) {
+            acceptDocs.set(doc);
+        }
+        Map<Integer, float[]> expected = expectedScores(2, acceptDocs, Pair.of(0, docsAndScores1), Pair.of(1, docsAndScores2));
+
+        RecordingLeafCollector collector = new RecordingLeafCollector();
+        int split = RandomizedTest.randomIntBetween(1, MAX_DOC_ID - 1);
+        int next = bulkScorer.score(collector, acceptDocs, 0, split);
+        assertTrue(next >= split);
+        assertTrue(collector.collected.keySet().stream().allMatch(doc -> doc < split));
+        next = bulkScorer.score(collector, acceptDocs, next, NO_MORE_DOCS);
+
+        assertEquals(NO_MORE_DOCS, next);
+        assertCollected(expected, collector);
+    }
+
+    @SneakyThrows
+    public void testScore_whenNoMatchesInRange_thenReturnNextMatch() {
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(
+            Arrays.asList(
+                scorer(new int[] { 10, 5000 }, new float[] { 0.1f, 0.2f }, fakeWeight(new MatchAllDocsQuery())),
+                scorer(new int[] { 7000 }, new float[] { 0.3f }, fakeWeight(new MatchAllDocsQuery()))
+            ),
+            ScoreMode.TOP_SCORES
+        );
+
+        RecordingLeafCollector collector = new RecordingLeafCollector();
+        assertEquals(5000, bulkScorer.score(collector, null, 11, 4000));
+        assertTrue(collector.collected.isEmpty());
+        assertEquals(NO_MORE_DOCS, bulkScorer.score(collector, null, 4000, NO_MORE_DOCS));
+        assertEquals(Set.of(5000, 7000), collector.collected.keySet());
+        assertEquals(3, bulkScorer.cost());
+    }
+
+    @SneakyThrows
+    public void testSetSubQueryMinCompetitiveScore_whenTopScores_thenSetOnSubScorer() {
+        Scorer scorer = mock(Scorer.class);
+        when(scorer.iterator()).thenReturn(mock(DocIdSetIterator.class));
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(Arrays.asList(null, scorer), ScoreMode.TOP_SCORES);
+        RecordingLeafCollector collector = new RecordingLeafCollector();
+        bulkScorer.score(collector, null, 0, 0);
+
+        collector.scorable.setSubQueryMinCompetitiveScore(1, 0.5f);
+        // sub-query without matches on this segment is ignored
+        collector.scorable.setSubQueryMinCompetitiveScore(0, 0.7f);
+
+        verify(scorer).setMinCompetitiveScore(0.5f);
+    }
+
+    @SneakyThrows
+    public void testSetSubQueryMinCompetitiveScore_whenCompleteScoreMode_thenIgnored() {
+        Scorer scorer = mock(Scorer.class);
+        when(scorer.iterator()).thenReturn(mock(DocIdSetIterator.class));
+        HybridBulkScorer bulkScorer = new HybridBulkScorer(List.of(scorer), ScoreMode.COMPLETE);
+        RecordingLeafCollector collector = new RecordingLeafCollector();
+        bulkScorer.score(collector, null, 0, 0);
+
+        collector.scorable.setSubQueryMinCompetitiveScore(0, 0.5f);
+
+        verify(scorer, never()).setMinCompetitiveScore(anyFloat());
+    }
+
+    private Pair<int[], float[]> generateDocuments(int maxDocId) {
+        final int numDocs = RandomizedTest.randomIntBetween(1, maxDocId / 2);
+        final Set<Integer> uniqueDocs = new HashSet<>();
+        while (uniqueDocs.size() < numDocs) {
+            uniqueDocs.add(random().nextInt(maxDocId));
+        }
+        final int[] docs = uniqueDocs.stream().mapToInt(Integer::intValue).sorted().toArray();
+        final float[] scores = new float[numDocs];
+        for (int j = 0; j < numDocs; ++j) {
+            scores[j] = random().nextFloat();
+        }
+        return new ImmutablePair<>(docs, scores);
+    }
+
+    @SafeVarargs
+    private Map<Integer, float[]> expectedScores(
+        final int numOfSubQueries,
+        final Bits acceptDocs,
+        final Pair<Integer, Pair<int[], float[]>>... docsAndScoresBySubQuery
+    ) {
+        Map<Integer, float[]> expected = new TreeMap<>();
+        for (Pair<Integer, Pair<int[], float[]>> subQuery : docsAndScoresBySubQuery) {
+            int[] docs = subQuery.getRight().getLeft();
+            float[] scores = subQuery.getRight().getRight();
+            for (int i = 0; i < docs.length; i++) {
+                if (acceptDocs == null || acceptDocs.get(docs[i])) {
+                    expected.computeIfAbsent(docs[i], doc -> new float[numOfSubQueries])[subQuery.getLeft()] = scores[i];
+                }
+            }
+        }
+        return expected;
+    }
+
+    private void assertCollected(final Map<Integer, float[]> expected, final RecordingLeafCollector collector) {
+        assertEquals(expected.keySet(), collector.collected.keySet());
+        for (Map.Entry<Integer, float[]> entry : expected.entrySet()) {
+            float[] actualScores = collector.collected.get(entry.getKey());
+            assertArrayEquals(entry.getValue(), actualScores, DELTA_FOR_SCORE_ASSERTION);
+            float expectedTotal = 0.0f;
+            for (float score : entry.getValue()) {
+                expectedTotal += score;
+            }
+            assertEquals(expectedTotal, collector.totalScores.get(entry.getKey()), DELTA_FOR_SCORE_ASSERTION);
+        }
+    }
+
+    /**
+     * Collects scores of every sub-query and the total score by doc id, checking that docs are collected in order
+     */
+    private static class RecordingLeafCollector implements LeafCollector {
+        private final Map<Integer, float[]> collected = new TreeMap<>();
+        private final Map<Integer, Float> totalScores = new TreeMap<>();
+        private HybridScorable scorable;
+        private int lastDoc = -1;
+
+        @Override
+        public void setScorer(Scorable scorer) {
+            assertTrue(scorer instanceof HybridScorable);
+            scorable = (HybridScorable) scorer;
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            assertTrue(doc > lastDoc);
+            assertEquals(doc, ((Scorable) scorable).docID());
+            lastDoc = doc;
+            collected.put(doc, scorable.hybridScores());
+            totalScores.put(doc, ((Scorable) scorable).score());
+        }
+    }
+}
@@ -5,6 +5,7 @@
 package org.opensearch.neuralsearch.query;
 
 import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
+import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -705,6 +706,62 @@ public class HybridQueryScorerTests extends OpenSearchQueryTestCase {
         };
     }
 
+    @SneakyThrows
+    public void testSetSubQueryMinCompetitiveScore_whenTopScores_thenSetOnlyForThatSubQuery() {
+        Weight weight = mock(Weight.class);
+        Scorer scorer1 = mock(Scorer.class);
+        when(scorer1.iterator()).thenReturn(mock(DocIdSetIterator.class));
+        Scorer scorer2 = mock(Scorer.class);
+        when(scorer2.iterator()).thenReturn(mock(DocIdSetIterator.class));
+
+        HybridQueryScorer hybridScorer = new HybridQueryScorer(weight, Arrays.asList(scorer1, null, scorer2), ScoreMode.TOP_SCORES);
+
+        hybridScorer.setSubQueryMinCompetitiveScore(2, 0.5f);
+        // sub-query without matches on this segment is ignored
+        hybridScorer.setSubQueryMinCompetitiveScore(1, 0.7f);
+
+        verify(scorer2).setMinCompetitiveScore(0.5f);
+        verify(scorer1, never()).setMinCompetitiveScore(anyFloat());
+    }
+
+    @SneakyThrows
+    public void testSetSubQueryMinCompetitiveScore_whenCompleteScoreMode_thenIgnored() {
+        Weight weight = mock(Weight.class);
+        Scorer scorer = mock(Scorer.class);
+        when(scorer.iterator()).thenReturn(mock(DocIdSetIterator.class));
+
+        HybridQueryScorer hybridScorer = new HybridQueryScorer(weight, Collections.singletonList(scorer), ScoreMode.COMPLETE);
+
+        hybridScorer.setSubQueryMinCompetitiveScore(0, 0.5f);
+
+        verify(scorer, never()).setMinCompetitiveScore(anyFloat());
+    }
+
+    @SneakyThrows
+    public void testHybridScores_whenReuseArray_thenFillSameArray() {
+        Weight weight = mock(Weight.class);
+        HybridQueryScorer hybridQueryScorer = new HybridQueryScorer(
+            weight,
+            Arrays.asList(
+                scorer(new int[] { 1, 2 }, new float[] { 0.5f, 0.6f }, fakeWeight(new MatchAllDocsQuery())),
+                scorer(new int[] { 1 }, new float[] { 0.7f }, fakeWeight(new MatchAllDocsQuery()))
+            )
+        );
+        DocIdSetIterator iterator = hybridQueryScorer.iterator();
+
+        assertEquals(1, iterator.nextDoc());
+        float[] reuse = new float[2];
+        float[] scores = hybridQueryScorer.hybridScores(reuse);
+        assertSame(reuse, scores);
+        assertArrayEquals(new float[] { 0.5f, 0.7f }, scores, DELTA_FOR_SCORE_ASSERTION);
+
+        // scores of sub-queries that don't match the next doc are reset
+        assertEquals(2, iterator.nextDoc());
+        scores = hybridQueryScorer.hybridScores(reuse);
+        assertSame(reuse, scores);
+        assertArrayEquals(new float[] { 0.6f, 0.0f }, scores, DELTA_FOR_SCORE_ASSERTION);
+    }
+
     private Pair<int[], float[]> generateDocuments(int maxDocId) {
         final int numDocs = RandomizedTest.randomIntBetween(1, maxDocId / 2);
         final int[] docs = new int[numDocs];
@@ -9,6 +9,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.opensearch.neuralsearch.query.HybridQueryBuilderTests.TEXT_FIELD_NAME;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.lucene.document.FieldType;
@@ -18,10 +20,13 @@ import org.apache.lucene.index.IndexOptions;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.BulkScorer;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Matches;
 import org.apache.lucene.search.MatchesIterator;
+import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.Weight;
@@ -145,6 +150,73 @@ public class HybridQueryWeightTests extends OpenSearchQueryTestCase {
         directory.close();
     }
 
+    @SneakyThrows
+    public void testBulkScorer_whenMultipleSubQueriesMatch_thenWindowBulkScorer() {
+        QueryShardContext mockQueryShardContext = mock(QueryShardContext.class);
+        TextFieldMapper.TextFieldType fieldType = (TextFieldMapper.TextFieldType) createMapperService().fieldType(TEXT_FIELD_NAME);
+        when(mockQueryShardContext.fieldMapper(eq(TEXT_FIELD_NAME))).thenReturn(fieldType);
+
+        Directory directory = newDirectory();
+        final IndexWriter w = new IndexWriter(directory, newIndexWriterConfig(new MockAnalyzer(random())));
+        FieldType ft = new FieldType(TextField.TYPE_NOT_STORED);
+        ft.setIndexOptions(random().nextBoolean() ? IndexOptions.DOCS : IndexOptions.DOCS_AND_FREQS);
+        ft.setOmitNorms(random().nextBoolean());
+        ft.freeze();
+        int docId = RandomizedTest.randomInt();
+        w.addDocument(getDocument(TEXT_FIELD_NAME, docId, TERM_QUERY_TEXT, ft));
+        w.commit();
+
+        IndexReader reader = DirectoryReader.open(w);
+        IndexSearcher searcher = newSearcher(reader);
+        LeafReaderContext leafReaderContext = searcher.getIndexReader().leaves().get(0);
+        HybridQuery hybridQueryWithTwoTerms = new HybridQuery(
+            List.of(
+                QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_QUERY_TEXT).toQuery(mockQueryShardContext),
+                QueryBuilders.rangeQuery(RANGE_FIELD)
+                    .from(FROM_TEXT)
+                    .to(TO_TEXT)
+                    .rewrite(mockQueryShardContext)
+                    .rewrite(mockQueryShardContext)
+                    .toQuery(mockQueryShardContext),
+                QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_QUERY_TEXT).toQuery(mockQueryShardContext)
+            )
+        );
+        Weight weight = hybridQueryWithTwoTerms.createWeight(searcher, ScoreMode.TOP_SCORES, 1.0f);
+
+        BulkScorer bulkScorer = weight.bulkScorer(leafReaderContext);
+        assertTrue(bulkScorer instanceof HybridBulkScorer);
+        List<float[]> collectedScores = new ArrayList<>();
+        bulkScorer.score(new LeafCollector() {
+            HybridScorable scorer;
+
+            @Override
+            public void setScorer(Scorable scorer) {
+                this.scorer = (HybridScorable) scorer;
+            }
+
+            @Override
+            public void collect(int doc) throws IOException {
+                collectedScores.add(scorer.hybridScores());
+            }
+        }, null);
+        assertEquals(1, collectedScores.size());
+        float[] scores = collectedScores.get(0);
+        assertEquals(3, scores.length);
+        assertTrue(scores[0] > 0);
+        assertEquals(0.0f, scores[1], 0.0f);
+        assertEquals(scores[0], scores[2], 0.0f);
+
+        HybridQuery hybridQueryWithOneTerm = new HybridQuery(
+            List.of(QueryBuilders.termQuery(TEXT_FIELD_NAME, TERM_QUERY_TEXT).toQuery(mockQueryShardContext))
+        );
+        weight = hybridQueryWithOneTerm.createWeight(searcher, ScoreMode.TOP_SCORES, 1.0f);
+        assertFalse(weight.bulkScorer(leafReaderContext) instanceof HybridBulkScorer);
+
+        w.close();
+        reader.close();
+        directory.close();
+    }
+
     @SneakyThrows
     public void testExplain_whenCallExplain_thenFail() {
         QueryShardContext mockQueryShardContext = mock(QueryShardContext.class);
@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.query;
+
+import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.lucene.search.DisiWrapper;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.opensearch.neuralsearch.search.HybridDisiWrapper;
+
+import com.carrotsearch.randomizedtesting.RandomizedTest;
+
+import lombok.SneakyThrows;
+
+public class HybridSubScorersQueueTests extends OpenSearchQueryTestCase {
+
+    private static final int MAX_DOC_ID = 10_000;
+
+    public void testCreate_whenUpToMaxNumberOfSubQueries_thenArrayQueue() {
+        int maxNumberOfSubQueries = HybridQueryBuilder.MAX_NUMBER_OF_SUB_QUERIES;
+        assertTrue(HybridSubScorersQueue.create(wrappers(generateDocs(2))) instanceof HybridSubScorersQueue.ArrayQueue);
+        assertTrue(HybridSubScorersQueue.create(wrappers(generateDocs(maxNumberOfSubQueries))) instanceof HybridSubScorersQueue.ArrayQueue);
+        HybridSubScorersQueue queue = HybridSubScorersQueue.create(wrappers(generateDocs(maxNumberOfSubQueries + 1)));
+        assertTrue(queue instanceof HybridSubScorersQueue.HeapQueue);
+    }
+
+    @SneakyThrows
+    public void testNextDocAndAdvance_whenRandomSubScorers_thenArrayQueueSameAsHeapQueue() {
+        List<int[]> docs = generateDocs(RandomizedTest.randomIntBetween(1, HybridQueryBuilder.MAX_NUMBER_OF_SUB_QUERIES));
+        HybridSubScorersQueue arrayQueue = new HybridSubScorersQueue.ArrayQueue(wrappers(docs));
+        HybridSubScorersQueue heapQueue = new HybridSubScorersQueue.HeapQueue(wrappers(docs));
+        assertEquals(heapQueue.size(), arrayQueue.size());
+        assertEquals(heapQueue.cost(), arrayQueue.cost());
+        assertEquals(heapQueue.docID(), arrayQueue.docID());
+
+        int doc = -1;
+        while (doc != NO_MORE_DOCS) {
+            if (random().nextInt(10) == 0) {
+                int target = doc + 1 + random().nextInt(MAX_DOC_ID / 10);
+                doc = arrayQueue.advance(target);
+                assertEquals(heapQueue.advance(target), doc);
+            } else {
+                doc = arrayQueue.nextDoc();
+                assertEquals(heapQueue.nextDoc(), doc);
+            }
+            assertEquals(heapQueue.docID(), arrayQueue.docID());
+            if (doc != NO_MORE_DOCS) {
+                assertEquals(subQueryIndexes(heapQueue.topList()), subQueryIndexes(arrayQueue.topList()));
+            }
+        }
+    }
+
+    private List<int[]> generateDocs(final int numOfSubQueries) {
+        List<int[]> docs = new ArrayList<>();
+        for (int i = 0; i < numOfSubQueries; i++) {
+            Set<Integer> uniqueDocs = new HashSet<>();
+            int numDocs = RandomizedTest.randomIntBetween(1, MAX_DOC_ID / 10);
+            while (uniqueDocs.size() < numDocs) {
+                uniqueDocs.add(random().nextInt(MAX_DOC_ID));
+            }
+            docs.add(uniqueDocs.stream().mapToInt(Integer::intValue).sorted().toArray());
+        }
+        return docs;
+    }
+
+    private List<HybridDisiWrapper> wrappers(final List<int[]> docs) {
+        List<HybridDisiWrapper> wrappers = new ArrayList<>();
+        for (int i = 0; i < docs.size(); i++) {
+            int[] subQueryDocs = docs.get(i);
+            wrappers.add(
+                new HybridDisiWrapper(scorer(subQueryDocs, new float[subQueryDocs.length], fakeWeight(new MatchAllDocsQuery())), i)
+            );
+        }
+        return wrappers;
+    }
+
+    private Set<Integer> subQueryIndexes(final DisiWrapper topList) {
+        Set<Integer> subQueryIndexes = new HashSet<>();
+        for (DisiWrapper wrapper = topList; wrapper != null; wrapper = wrapper.next) {
+            subQueryIndexes.add(((HybridDisiWrapper) wrapper).getSubQueryIndex());
+        }
+        return subQueryIndexes;
+    }
+}
@@ -7,6 +7,8 @@ package org.opensearch.neuralsearch.query;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.opensearch.index.query.AbstractQueryBuilder.BOOST_FIELD;
 import static org.opensearch.index.query.AbstractQueryBuilder.NAME_FIELD;
 import static org.opensearch.neuralsearch.util.TestUtils.xContentBuilderToMap;
@@ -35,12 +37,14 @@ import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.ParsingException;
 import org.opensearch.core.common.io.stream.FilterStreamInput;
 import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
@@ -49,9 +53,11 @@ import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.neuralsearch.ml.InferenceResultCache;
 import org.opensearch.neuralsearch.ml.MLCommonsClientAccessor;
 import org.opensearch.neuralsearch.util.NeuralSearchClusterTestUtils;
 import org.opensearch.neuralsearch.util.NeuralSearchClusterUtil;
+import org.opensearch.neuralsearch.util.SparseVector;
 import org.opensearch.test.OpenSearchTestCase;
 
 import lombok.SneakyThrows;
@@ -649,6 +655,49 @@ public class NeuralSparseQueryBuilderTests extends OpenSearchTestCase {
         assertEquals(expectedMap, queryBuilder.queryTokensSupplier().get());
     }
 
+    @SneakyThrows
+    public void testRewrite_whenQueryTokenCacheEnabled_thenInferenceSkippedOnCacheHit() {
+        Map<String, Float> expectedMap = Map.of("1", 1f, "2", 2f);
+        MLCommonsClientAccessor mlCommonsClientAccessor = mock(MLCommonsClientAccessor.class);
+        doAnswer(invocation -> {
+            ActionListener<List<Map<String, ?>>> listener = invocation.getArgument(2);
+            listener.onResponse(List.of(Map.of("response", List.of(expectedMap))));
+            return null;
+        }).when(mlCommonsClientAccessor).inferenceSentencesWithMapResult(any(), any(), any());
+        InferenceResultCache<SparseVector> queryTokenCache = new InferenceResultCache<>(
+            ByteSizeValue.parseBytesSizeValue("1mb", "test"),
+            TimeValue.timeValueMinutes(1),
+            SparseVector::ramBytesUsed
+        );
+        NeuralSparseQueryBuilder.initialize(mlCommonsClientAccessor, queryTokenCache);
+
+        QueryRewriteContext queryRewriteContext = mock(QueryRewriteContext.class);
+        doAnswer(invocation -> {
+            BiConsumer<Client, ActionListener<?>> biConsumer = invocation.getArgument(0);
+            biConsumer.accept(
+                null,
+                ActionListener.wrap(response -> {}, err -> fail("Failed to set query tokens supplier: " + err.getMessage()))
+            );
+            return null;
+        }).when(queryRewriteContext).registerAsyncAction(any());
+
+        NeuralSparseQueryBuilder firstQueryBuilder = (NeuralSparseQueryBuilder) new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .doRewrite(queryRewriteContext);
+        NeuralSparseQueryBuilder secondQueryBuilder = (NeuralSparseQueryBuilder) new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
+            .queryText(QUERY_TEXT)
+            .modelId(MODEL_ID)
+            .doRewrite(queryRewriteContext);
+
+        verify(mlCommonsClientAccessor, times(1)).inferenceSentencesWithMapResult(any(), any(), any());
+        verify(queryRewriteContext, times(1)).registerAsyncAction(any());
+        assertEquals(expectedMap, firstQueryBuilder.queryTokensSupplier().get());
+        assertEquals(expectedMap, secondQueryBuilder.queryTokensSupplier().get());
+        assertEquals(1, queryTokenCache.stats().getHits());
+        NeuralSparseQueryBuilder.initialize(mlCommonsClientAccessor);
+    }
+
     @SneakyThrows
     public void testRewrite_whenQueryTokensSupplierSet_thenReturnSelf() {
         NeuralSparseQueryBuilder sparseEncodingQueryBuilder = new NeuralSparseQueryBuilder().fieldName(FIELD_NAME)
@@ -13,10 +13,16 @@ import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Weight;
 import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
+import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -565,4 +571,85 @@ public class HybridTopScoreDocCollectorTests extends OpenSearchQueryTestCase {
         reader.close();
         directory.close();
     }
+
+    @SneakyThrows
+    public void testMinCompetitiveScore_whenQueueOfSubQueryIsFull_thenSetPerSubQuery() {
+        final Directory directory = newDirectory();
+        final IndexWriter w = new IndexWriter(directory, newIndexWriterConfig(new MockAnalyzer(random())));
+        FieldType ft = new FieldType(TextField.TYPE_NOT_STORED);
+        ft.freeze();
+        w.addDocument(getDocument(TEXT_FIELD_NAME, DOC_ID_1, FIELD_1_VALUE, ft));
+        w.commit();
+        DirectoryReader reader = DirectoryReader.open(w);
+        LeafReaderContext leafReaderContext = reader.getContext().leaves().get(0);
+
+        HybridTopScoreDocCollector hybridTopScoreDocCollector = new HybridTopScoreDocCollector(NUM_HITS, new HitsThresholdChecker(0));
+        LeafCollector leafCollector = hybridTopScoreDocCollector.getLeafCollector(leafReaderContext);
+
+        Scorer subQueryScorer1 = spy(
+            scorer(new int[] { 1, 2, 3 }, new float[] { 0.5f, 0.9f, 0.3f }, fakeWeight(new MatchAllDocsQuery()))
+        );
+        Scorer subQueryScorer2 = spy(scorer(new int[] { 2, 4 }, new float[] { 0.4f, 0.8f }, fakeWeight(new MatchAllDocsQuery())));
+        HybridQueryScorer hybridQueryScorer = new HybridQueryScorer(mock(Weight.class), Arrays.asList(subQueryScorer1, subQueryScorer2));
+
+        leafCollector.setScorer(hybridQueryScorer);
+        DocIdSetIterator iterator = hybridQueryScorer.iterator();
+        for (int doc = iterator.nextDoc(); doc != NO_MORE_DOCS; doc = iterator.nextDoc()) {
+            leafCollector.collect(doc);
+        }
+
+        // every sub-query gets the bottom score of its own queue, and only when it goes up
+        verify(subQueryScorer1).setMinCompetitiveScore(Math.nextUp(0.5f));
+        verify(subQueryScorer1).setMinCompetitiveScore(Math.nextUp(0.9f));
+        verify(subQueryScorer1, times(2)).setMinCompetitiveScore(anyFloat());
+        verify(subQueryScorer2).setMinCompetitiveScore(Math.nextUp(0.4f));
+        verify(subQueryScorer2).setMinCompetitiveScore(Math.nextUp(0.8f));
+        verify(subQueryScorer2, times(2)).setMinCompetitiveScore(anyFloat());
+
+        List<TopDocs> topDocs = hybridTopScoreDocCollector.topDocs();
+        assertEquals(2, topDocs.size());
+        assertEquals(2, topDocs.get(0).scoreDocs[0].doc);
+        assertEquals(4, topDocs.get(1).scoreDocs[0].doc);
+        // documents may be skipped, hit count is a lower bound
+        assertEquals(TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO, topDocs.get(0).totalHits.relation);
+
+        w.close();
+        reader.close();
+        directory.close();
+    }
+
+    @SneakyThrows
+    public void testMinCompetitiveScore_whenTotalHitsThresholdNotReached_thenNotSet() {
+        final Directory directory = newDirectory();
+        final IndexWriter w = new IndexWriter(directory, newIndexWriterConfig(new MockAnalyzer(random())));
+        FieldType ft = new FieldType(TextField.TYPE_NOT_STORED);
+        ft.freeze();
+        w.addDocument(getDocument(TEXT_FIELD_NAME, DOC_ID_1, FIELD_1_VALUE, ft));
+        w.commit();
+        DirectoryReader reader = DirectoryReader.open(w);
+        LeafReaderContext leafReaderContext = reader.getContext().leaves().get(0);
+
+        HybridTopScoreDocCollector hybridTopScoreDocCollector = new HybridTopScoreDocCollector(
+            NUM_HITS,
+            new HitsThresholdChecker(Integer.MAX_VALUE)
+        );
+        LeafCollector leafCollector = hybridTopScoreDocCollector.getLeafCollector(leafReaderContext);
+
+        Scorer subQueryScorer = spy(scorer(new int[] { 1, 2, 3 }, new float[] { 0.5f, 0.9f, 0.3f }, fakeWeight(new MatchAllDocsQuery())));
+        HybridQueryScorer hybridQueryScorer = new HybridQueryScorer(mock(Weight.class), Arrays.asList(subQueryScorer));
+
+        leafCollector.setScorer(hybridQueryScorer);
+        DocIdSetIterator iterator = hybridQueryScorer.iterator();
+        for (int doc = iterator.nextDoc(); doc != NO_MORE_DOCS; doc = iterator.nextDoc()) {
+            leafCollector.collect(doc);
+        }
+
+        verify(subQueryScorer, never()).setMinCompetitiveScore(anyFloat());
+        List<TopDocs> topDocs = hybridTopScoreDocCollector.topDocs();
+        assertEquals(new TotalHits(3, TotalHits.Relation.EQUAL_TO), topDocs.get(0).totalHits);
+
+        w.close();
+        reader.close();
+        directory.close();
+    }
 }
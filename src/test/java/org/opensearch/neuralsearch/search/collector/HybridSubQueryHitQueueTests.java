@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.search.collector;
+
+import org.apache.lucene.search.HitQueue;
+import org.apache.lucene.search.ScoreDoc;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class HybridSubQueryHitQueueTests extends OpenSearchTestCase {
+
+    public void testInsertWithOverflow_whenRandomHits_thenSameTopHitsAsHitQueue() {
+        int maxSize = randomIntBetween(1, 50);
+        HybridSubQueryHitQueue queue = new HybridSubQueryHitQueue(maxSize);
+        HitQueue hitQueue = new HitQueue(maxSize, false);
+        int numHits = randomIntBetween(0, 500);
+        for (int doc = 0; doc < numHits; doc++) {
+            // few distinct scores to have ties
+            float score = randomIntBetween(1, 20) / 4.0f;
+            ScoreDoc evicted = hitQueue.insertWithOverflow(new ScoreDoc(doc, score));
+            boolean added = queue.insertWithOverflow(doc, score);
+            assertEquals(evicted == null || evicted.doc != doc, added);
+            assertEquals(hitQueue.size(), queue.size());
+            assertEquals(hitQueue.size() == maxSize, queue.isFull());
+            if (queue.size() > 0) {
+                assertEquals(hitQueue.top().score, queue.topScore(), 0.0f);
+            }
+        }
+        while (hitQueue.size() > 0) {
+            ScoreDoc expected = hitQueue.pop();
+            ScoreDoc actual = queue.pop();
+            assertEquals(expected.doc, actual.doc);
+            assertEquals(expected.score, actual.score, 0.0f);
+        }
+        assertEquals(0, queue.size());
+    }
+
+    public void testInsertWithOverflow_whenQueueFull_thenKeepHighestScores() {
+        HybridSubQueryHitQueue queue = new HybridSubQueryHitQueue(2);
+        assertFalse(queue.isFull());
+        assertTrue(queue.insertWithOverflow(1, 0.5f));
+        assertTrue(queue.insertWithOverflow(2, 0.9f));
+        assertTrue(queue.isFull());
+        assertFalse(queue.insertWithOverflow(3, 0.3f));
+        // on equal scores the lower doc id wins
+        assertFalse(queue.insertWithOverflow(4, 0.5f));
+        assertTrue(queue.insertWithOverflow(5, 0.7f));
+        assertEquals(0.7f, queue.topScore(), 0.0f);
+
+        ScoreDoc lowest = queue.pop();
+        assertEquals(5, lowest.doc);
+        assertEquals(0.7f, lowest.score, 0.0f);
+        ScoreDoc highest = queue.pop();
+        assertEquals(2, highest.doc);
+        assertEquals(0.9f, highest.score, 0.0f);
+        assertEquals(0, queue.size());
+    }
+
+    public void testInsertWithOverflow_whenZeroSize_thenNothingAdded() {
+        HybridSubQueryHitQueue queue = new HybridSubQueryHitQueue(0);
+        assertFalse(queue.insertWithOverflow(1, 0.5f));
+        assertEquals(0, queue.size());
+        assertFalse(queue.isFull());
+    }
+}
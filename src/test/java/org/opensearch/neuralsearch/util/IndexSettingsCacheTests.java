@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.util;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.env.Environment;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class IndexSettingsCacheTests extends OpenSearchTestCase {
+    private static final String INDEX_NAME = "my_index";
+
+    public void testGet_whenCalledForManyDocuments_thenClusterStateReadOnce() {
+        ClusterService clusterService = mock(ClusterService.class);
+        ClusterState clusterState = createClusterState(indexSettings(100, 5, 1));
+        when(clusterService.state()).thenReturn(clusterState);
+        IndexSettingsCache indexSettingsCache = new IndexSettingsCache(clusterService, mock(Environment.class));
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(100, indexSettingsCache.getMaxTokenCount(INDEX_NAME));
+            assertEquals(5, indexSettingsCache.getMappingDepthLimit(INDEX_NAME));
+        }
+        verify(clusterService, times(1)).state();
+    }
+
+    public void testGet_whenIndexMissing_thenNodeSettings() {
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.state()).thenReturn(createClusterState(indexSettings(100, 5, 1)));
+        Environment environment = mock(Environment.class);
+        when(environment.settings()).thenReturn(
+            Settings.builder().put("index.max_token_count", 200).put("index.mapping.depth.limit", 7).build()
+        );
+        IndexSettingsCache indexSettingsCache = new IndexSettingsCache(clusterService, environment);
+
+        assertEquals(200, indexSettingsCache.getMaxTokenCount("missing_index"));
+        assertEquals(7, indexSettingsCache.getMappingDepthLimit("missing_index"));
+    }
+
+    public void testGet_whenIndexSettingsChange_thenReloaded() {
+        ClusterService clusterService = mock(ClusterService.class);
+        ClusterState initialState = createClusterState(indexSettings(100, 5, 1));
+        ClusterState updatedState = createClusterState(indexSettings(300, 10, 2));
+        when(clusterService.state()).thenReturn(initialState);
+        IndexSettingsCache indexSettingsCache = new IndexSettingsCache(clusterService, mock(Environment.class));
+        assertEquals(100, indexSettingsCache.getMaxTokenCount(INDEX_NAME));
+
+        when(clusterService.state()).thenReturn(updatedState);
+        // still cached until the cluster state listener sees the settings change
+        assertEquals(100, indexSettingsCache.getMaxTokenCount(INDEX_NAME));
+        NeuralSearchClusterUtil.instance().clusterChanged(new ClusterChangedEvent("test", updatedState, initialState));
+
+        assertEquals(300, indexSettingsCache.getMaxTokenCount(INDEX_NAME));
+        assertEquals(10, indexSettingsCache.getMappingDepthLimit(INDEX_NAME));
+    }
+
+    private static IndexMetadata indexSettings(final int maxTokenCount, final int mappingDepthLimit, final long settingsVersion) {
+        return IndexMetadata.builder(INDEX_NAME)
+            .settings(
+                settings(Version.CURRENT).put(IndexMetadata.SETTING_INDEX_UUID, INDEX_NAME)
+                    .put("index.max_token_count", maxTokenCount)
+                    .put("index.mapping.depth.limit", mappingDepthLimit)
+            )
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .settingsVersion(settingsVersion)
+            .build();
+    }
+
+    private static ClusterState createClusterState(final IndexMetadata indexMetadata) {
+        return ClusterState.builder(ClusterName.DEFAULT).metadata(Metadata.builder().put(indexMetadata, false)).build();
+    }
+}
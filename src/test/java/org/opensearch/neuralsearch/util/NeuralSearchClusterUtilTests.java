@@ -7,6 +7,11 @@ package org.opensearch.neuralsearch.util;
 import static org.opensearch.neuralsearch.util.NeuralSearchClusterTestUtils.mockClusterService;
 
 import org.opensearch.Version;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -33,4 +38,47 @@ public class NeuralSearchClusterUtilTests extends OpenSearchTestCase {
 
         assertTrue(Version.V_2_3_0.equals(minVersion));
     }
+
+    public void testIndexSettingsGeneration_whenIndexSettingsChange_thenIncremented() {
+        final NeuralSearchClusterUtil neuralSearchClusterUtil = NeuralSearchClusterUtil.instance();
+        ClusterState initialState = createClusterState(indexMetadata("index-1", 1));
+        ClusterState settingsUpdatedState = createClusterState(indexMetadata("index-1", 2));
+        ClusterState indexCreatedState = createClusterState(indexMetadata("index-1", 2), indexMetadata("index-2", 1));
+
+        long generation = neuralSearchClusterUtil.getIndexSettingsGeneration();
+        neuralSearchClusterUtil.clusterChanged(new ClusterChangedEvent("test", settingsUpdatedState, initialState));
+        assertEquals(generation + 1, neuralSearchClusterUtil.getIndexSettingsGeneration());
+        neuralSearchClusterUtil.clusterChanged(new ClusterChangedEvent("test", indexCreatedState, settingsUpdatedState));
+        assertEquals(generation + 2, neuralSearchClusterUtil.getIndexSettingsGeneration());
+        neuralSearchClusterUtil.clusterChanged(new ClusterChangedEvent("test", settingsUpdatedState, indexCreatedState));
+        assertEquals(generation + 3, neuralSearchClusterUtil.getIndexSettingsGeneration());
+    }
+
+    public void testIndexSettingsGeneration_whenIndexSettingsUnchanged_thenNotIncremented() {
+        final NeuralSearchClusterUtil neuralSearchClusterUtil = NeuralSearchClusterUtil.instance();
+        ClusterState initialState = createClusterState(indexMetadata("index-1", 1));
+        ClusterState sameSettingsState = createClusterState(indexMetadata("index-1", 1));
+
+        long generation = neuralSearchClusterUtil.getIndexSettingsGeneration();
+        neuralSearchClusterUtil.clusterChanged(new ClusterChangedEvent("test", initialState, initialState));
+        neuralSearchClusterUtil.clusterChanged(new ClusterChangedEvent("test", sameSettingsState, initialState));
+        assertEquals(generation, neuralSearchClusterUtil.getIndexSettingsGeneration());
+    }
+
+    private static IndexMetadata indexMetadata(final String indexName, final long settingsVersion) {
+        return IndexMetadata.builder(indexName)
+            .settings(settings(Version.CURRENT).put(IndexMetadata.SETTING_INDEX_UUID, indexName))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .settingsVersion(settingsVersion)
+            .build();
+    }
+
+    private static ClusterState createClusterState(final IndexMetadata... indices) {
+        Metadata.Builder metadata = Metadata.builder();
+        for (IndexMetadata indexMetadata : indices) {
+            metadata.put(indexMetadata, false);
+        }
+        return ClusterState.builder(ClusterName.DEFAULT).metadata(metadata).build();
+    }
 }
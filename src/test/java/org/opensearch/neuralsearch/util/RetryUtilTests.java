@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.util;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.NodeNotConnectedException;
+
+public class RetryUtilTests extends OpenSearchTestCase {
+    private static final RetryUtil.BackoffPolicy POLICY = new RetryUtil.BackoffPolicy(
+        5,
+        TimeValue.timeValueMillis(100),
+        TimeValue.timeValueMillis(1000)
+    );
+
+    public void testShouldRetry() {
+        NodeNotConnectedException exception = new NodeNotConnectedException(mock(DiscoveryNode.class), "Node not connected");
+        assertTrue(RetryUtil.shouldRetry(exception, 2));
+        assertFalse(RetryUtil.shouldRetry(exception, 3));
+        assertTrue(RetryUtil.shouldRetry(exception, 4, 5));
+        assertFalse(RetryUtil.shouldRetry(new IllegalStateException(), 0, 5));
+    }
+
+    public void testComputeBackoffDelayMillis_whenRetried_thenGrowsExponentiallyWithJitter() {
+        for (int i = 0; i < 100; i++) {
+            long firstDelay = RetryUtil.computeBackoffDelayMillis(POLICY, 0, random());
+            assertTrue(firstDelay >= 50 && firstDelay <= 100);
+            long thirdDelay = RetryUtil.computeBackoffDelayMillis(POLICY, 2, random());
+            assertTrue(thirdDelay >= 200 && thirdDelay <= 400);
+            long cappedDelay = RetryUtil.computeBackoffDelayMillis(POLICY, 40, random());
+            assertTrue(cappedDelay >= 500 && cappedDelay <= 1000);
+        }
+        assertEquals(0, RetryUtil.computeBackoffDelayMillis(RetryUtil.BackoffPolicy.NO_BACKOFF, 2, random()));
+    }
+
+    public void testScheduleRetry_whenNoBackoff_thenRunRightAway() {
+        AtomicInteger retries = new AtomicInteger();
+        ThreadPool threadPool = mock(ThreadPool.class);
+        RetryUtil.scheduleRetry(threadPool, RetryUtil.BackoffPolicy.NO_BACKOFF, 0, retries::incrementAndGet, mock(ActionListener.class));
+        assertEquals(1, retries.get());
+    }
+
+    public void testScheduleRetry_whenSchedulingRejected_thenListenerFails() {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        OpenSearchRejectedExecutionException exception = new OpenSearchRejectedExecutionException("shutting down");
+        when(threadPool.schedule(any(Runnable.class), any(TimeValue.class), eq(ThreadPool.Names.GENERIC))).thenThrow(exception);
+        ActionListener<Object> listener = mock(ActionListener.class);
+        AtomicInteger retries = new AtomicInteger();
+        RetryUtil.scheduleRetry(threadPool, POLICY, 0, retries::incrementAndGet, listener);
+        verify(listener).onFailure(exception);
+        assertEquals(0, retries.get());
+    }
+}
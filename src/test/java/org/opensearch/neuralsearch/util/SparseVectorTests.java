@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.neuralsearch.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class SparseVectorTests extends OpenSearchTestCase {
+    private static final Map<String, Float> TOKEN_WEIGHTS = Map.of("world", 2.f, "hello", 1.f, "again", 0.5f);
+
+    public void testFromMap_whenBuilt_thenTokensSorted() {
+        SparseVector sparseVector = SparseVector.fromMap(TOKEN_WEIGHTS);
+
+        assertEquals(3, sparseVector.size());
+        assertEquals("again", sparseVector.getToken(0));
+        assertEquals(0.5f, sparseVector.getWeight(0), 0.0f);
+        assertEquals("hello", sparseVector.getToken(1));
+        assertEquals(1.f, sparseVector.getWeight(1), 0.0f);
+        assertEquals("world", sparseVector.getToken(2));
+        assertEquals(2.f, sparseVector.getWeight(2), 0.0f);
+        assertEquals(1, sparseVector.indexOf("hello"));
+        assertTrue(sparseVector.indexOf("missing") < 0);
+    }
+
+    public void testRetain_whenSomeFeaturesKept_thenNewVectorWithKeptFeatures() {
+        SparseVector sparseVector = SparseVector.fromMap(TOKEN_WEIGHTS);
+
+        SparseVector retained = sparseVector.retain(new boolean[] { true, false, true });
+
+        assertEquals(2, retained.size());
+        assertEquals(Map.of("again", 0.5f, "world", 2.f), retained.asMap());
+        assertEquals(1, retained.indexOf("world"));
+        assertEquals(3, sparseVector.size());
+        assertSame(sparseVector, sparseVector.retain(new boolean[] { true, true, true }));
+        expectThrows(IllegalArgumentException.class, () -> sparseVector.retain(new boolean[] { true }));
+    }
+
+    public void testAsMap_whenCompared_thenEqualToSourceMap() {
+        Map<String, Float> map = SparseVector.fromMap(TOKEN_WEIGHTS).asMap();
+
+        assertEquals(TOKEN_WEIGHTS, map);
+        assertEquals(new HashMap<>(TOKEN_WEIGHTS), map);
+        assertEquals(TOKEN_WEIGHTS.hashCode(), map.hashCode());
+        assertEquals(Float.valueOf(2.f), map.get("world"));
+        assertNull(map.get("missing"));
+        assertTrue(map.containsKey("again"));
+        assertFalse(map.containsKey(1));
+    }
+
+    public void testAsMap_whenModified_thenFail() {
+        Map<String, Float> map = SparseVector.fromMap(TOKEN_WEIGHTS).asMap();
+
+        expectThrows(UnsupportedOperationException.class, () -> map.put("new", 1.f));
+    }
+
+    public void testToMap_whenModified_thenVectorUnchanged() {
+        SparseVector sparseVector = SparseVector.fromMap(TOKEN_WEIGHTS);
+        Map<String, Float> map = sparseVector.toMap();
+
+        assertEquals(TOKEN_WEIGHTS, map);
+        map.put("new", 1.f);
+        map.remove("again");
+        assertEquals(TOKEN_WEIGHTS, sparseVector.asMap());
+    }
+
+    public void testFromMap_whenEmpty_thenEmptyVector() {
+        SparseVector sparseVector = SparseVector.fromMap(Map.of());
+
+        assertEquals(0, sparseVector.size());
+        assertTrue(sparseVector.asMap().isEmpty());
+        assertTrue(sparseVector.ramBytesUsed() > 0);
+    }
+
+    public void testFromModelOutput_whenNumbersOfAnyType_thenTokensSortedWithWeights() {
+        Map<String, Object> modelOutput = new HashMap<>();
+        modelOutput.put("world", 2.0d);
+        modelOutput.put("hello", 1);
+        modelOutput.put("again", 0.5f);
+
+        SparseVector sparseVector = SparseVector.fromModelOutput(modelOutput);
+
+        assertEquals(TOKEN_WEIGHTS, sparseVector.asMap());
+        assertEquals("again", sparseVector.getToken(0));
+        assertEquals(2.f, sparseVector.getWeight(2), 0.0f);
+    }
+
+    public void testFromModelOutput_whenParsedView_thenSameVector() {
+        SparseVector sparseVector = SparseVector.fromMap(TOKEN_WEIGHTS);
+
+        assertSame(sparseVector, SparseVector.fromModelOutput(sparseVector.asMap()));
+        assertSame(sparseVector, sparseVector.asMap().getSparseVector());
+    }
+
+    public void testFromModelOutput_whenInvalidTypes_thenFail() {
+        expectThrows(IllegalArgumentException.class, () -> SparseVector.fromModelOutput(List.of(1.0f)));
+        expectThrows(IllegalArgumentException.class, () -> SparseVector.fromModelOutput(Map.of("hello", "world")));
+        expectThrows(IllegalArgumentException.class, () -> SparseVector.fromModelOutput(Map.of(1, 1.0f)));
+    }
+}
@@ -104,4 +104,14 @@ public class TokenWeightUtilTests extends OpenSearchTestCase {
         List<Map<String, ?>> inputData = List.of(Map.of("response", List.of(mockData)));
         expectThrows(IllegalArgumentException.class, () -> TokenWeightUtil.fetchListOfTokenWeightMap(inputData));
     }
+
+    public void testFetchListOfSparseVectors_multipleObjectsInOneResponse() {
+        List<Map<String, ?>> inputData = List.of(Map.of("response", List.of(MOCK_DATA, Map.of("hello", 3.0d))));
+
+        List<SparseVector> sparseVectors = TokenWeightUtil.fetchListOfSparseVectors(inputData);
+
+        assertEquals(2, sparseVectors.size());
+        assertEquals(MOCK_DATA, sparseVectors.get(0).asMap());
+        assertEquals(Map.of("hello", 3.0f), sparseVectors.get(1).asMap());
+    }
 }